@@ -236,6 +236,18 @@ public interface PersonAttributeDao extends Comparable<PersonAttributeDao>, Orde
         return true;
     }
 
+    /**
+     * Whether this dao can be queried without the results of the daos that precede it,
+     * when aggregated with other daos. Only daos that opt into this may be queried
+     * concurrently with others; daos that inspect the results of previous daos
+     * must keep the default and are always queried in order.
+     *
+     * @return true/false
+     */
+    default boolean isIndependentQuery() {
+        return false;
+    }
+
     /**
      * Gets properties assigned to this repository.
      * Properties are arbitrary tags and labels assigned
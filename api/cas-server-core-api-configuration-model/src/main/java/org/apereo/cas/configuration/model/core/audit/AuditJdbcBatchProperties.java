@@ -0,0 +1,80 @@
+package org.apereo.cas.configuration.model.core.audit;
+
+import org.apereo.cas.configuration.support.DurationCapable;
+import org.apereo.cas.configuration.support.RequiresModule;
+
+import lombok.Getter;
+import lombok.Setter;
+import lombok.experimental.Accessors;
+
+import java.io.Serial;
+import java.io.Serializable;
+
+/**
+ * This is {@link AuditJdbcBatchProperties}.
+ *
+ * @author Misagh Moayyed
+ * @since 7.2.0
+ */
+@RequiresModule(name = "cas-server-support-audit-jdbc")
+@Getter
+@Setter
+@Accessors(chain = true)
+public class AuditJdbcBatchProperties implements Serializable {
+
+    @Serial
+    private static final long serialVersionUID = 6517830913052147062L;
+
+    /**
+     * Buffer audit records in memory and write them to the database
+     * in batches, instead of writing each record in its own transaction.
+     * When enabled, the asynchronous setting is ignored.
+     */
+    private boolean enabled;
+
+    /**
+     * Maximum number of audit records written to the database in a single batch.
+     */
+    private int batchSize = 500;
+
+    /**
+     * Maximum amount of time an audit record is kept in the buffer
+     * before it is written to the database, even if the batch is not full.
+     */
+    @DurationCapable
+    private String flushInterval = "PT1S";
+
+    /**
+     * Maximum number of audit records that can be buffered in memory.
+     */
+    private int queueCapacity = 10_000;
+
+    /**
+     * Decide what happens to new audit records when the buffer is full,
+     * typically because the database is unable to keep up.
+     */
+    private OverflowPolicies overflowPolicy = OverflowPolicies.BLOCK;
+
+    /**
+     * Maximum amount of time to wait for space in the buffer when
+     * the overflow policy is set to block. Records that cannot be buffered
+     * within this time are dropped.
+     */
+    @DurationCapable
+    private String maxBlockTime = "PT2S";
+
+    /**
+     * Overflow policies.
+     */
+    public enum OverflowPolicies {
+        /**
+         * Block the caller until space is available in the buffer,
+         * up to the maximum block time.
+         */
+        BLOCK,
+        /**
+         * Drop the audit record immediately.
+         */
+        DROP
+    }
+}
@@ -66,6 +66,12 @@ public class AuditJdbcProperties extends AbstractJpaProperties {
      */
     private String dateFormatterFunction;
     
+    /**
+     * Settings that control how audit records are buffered and written in batches.
+     */
+    @NestedConfigurationProperty
+    private AuditJdbcBatchProperties batch = new AuditJdbcBatchProperties();
+
     /**
      * Scheduler settings to indicate how often the cleaner is reloaded.
      */
@@ -1,5 +1,6 @@
 package org.apereo.cas.configuration.model.core.authentication;
 
+import org.apereo.cas.configuration.support.DurationCapable;
 import org.apereo.cas.configuration.support.RequiresModule;
 
 import lombok.Getter;
@@ -47,6 +48,26 @@ public class PrincipalAttributesCoreProperties implements Serializable {
      */
     private int maximumCacheSize = 10000;
 
+    /**
+     * Indicates the cache expiration period for queries that produce no results,
+     * i.e. when the user cannot be found in any attribute repository.
+     * Such results are kept separately from regular results so that lookups for unknown users
+     * do not contact the attribute repositories repeatedly, and so that users who are later
+     * provisioned are found again reasonably quickly. The value uses the same unit
+     * as the global expiration period. A zero or negative value indicates that
+     * queries that produce no results are not cached at all.
+     */
+    private int negativeExpirationTime;
+
+    /**
+     * Indicates the period after which cached attributes that are still in use are reloaded
+     * from the underlying attribute repositories in the background, before they expire.
+     * The stale attributes continue to be served while the reload is in progress.
+     * The value uses the same unit as the global expiration period, and should be smaller
+     * than the global expiration period. A zero or negative value disables background reloads.
+     */
+    private int refreshAheadTime;
+
     /**
      * Recover from LDAP exceptions and continue with partial results. Otherwise,
      * die and do not allow to log in.
@@ -84,6 +105,28 @@ public class PrincipalAttributesCoreProperties implements Serializable {
      */
     private boolean requireAllRepositorySources;
 
+    /**
+     * Query attribute repositories concurrently whenever they do not depend on each other's results.
+     * When {@link #aggregation} is set to {@link AggregationStrategyTypes#MERGE}, all attribute repositories
+     * are queried concurrently and their results are merged in the order in which repositories are defined.
+     * When {@link #aggregation} is set to {@link AggregationStrategyTypes#CASCADE}, attribute repositories
+     * are still queried in order since each repository depends on the results of the previous ones,
+     * and each repository is queried concurrently for every person found so far.
+     * Repositories that make use of the results of previous repositories, such as Groovy scripts,
+     * are always queried in order. Repositories are queried on virtual threads, and thread-bound state
+     * of the calling thread such as the current request context is not available to them.
+     */
+    private boolean parallelExecution;
+
+    /**
+     * Maximum amount of time to wait for each attribute repository when repositories are queried concurrently.
+     * An attribute repository that does not respond in time is treated as a failed repository, and is
+     * handled according to {@link #recoverExceptions} and {@link #requireAllRepositorySources}.
+     * A zero value waits indefinitely.
+     */
+    @DurationCapable
+    private String sourceTimeout = "PT10S";
+
     /**
      * CAS provides the ability to release a bundle of principal attributes to all services by default.
      * This bundle is not defined on a per-service basis and is always combined with attributes
@@ -5,6 +5,7 @@ import org.apereo.cas.configuration.support.RequiresModule;
 import lombok.Getter;
 import lombok.Setter;
 import lombok.experimental.Accessors;
+import org.springframework.boot.context.properties.NestedConfigurationProperty;
 import java.io.Serial;
 import java.io.Serializable;
 
@@ -34,4 +35,11 @@ public class RiskBasedAuthenticationCoreProperties implements Serializable {
      * in order to locate authentication events.
      */
     private long daysInRecentHistory = 30;
+
+    /**
+     * Control how the authentication history of a principal is summarized
+     * for risk calculations.
+     */
+    @NestedConfigurationProperty
+    private RiskBasedAuthenticationProfileProperties profile = new RiskBasedAuthenticationProfileProperties();
 }
@@ -0,0 +1,47 @@
+package org.apereo.cas.configuration.model.core.authentication.risk;
+
+import org.apereo.cas.configuration.support.DurationCapable;
+import org.apereo.cas.configuration.support.RequiresModule;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.experimental.Accessors;
+import java.io.Serial;
+import java.io.Serializable;
+
+/**
+ * This is {@link RiskBasedAuthenticationProfileProperties}.
+ *
+ * @author Misagh Moayyed
+ * @since 7.2.0
+ */
+@Getter
+@Setter
+@Accessors(chain = true)
+@RequiresModule(name = "cas-server-support-electrofence")
+public class RiskBasedAuthenticationProfileProperties implements Serializable {
+    @Serial
+    private static final long serialVersionUID = 2469127710285631873L;
+
+    /**
+     * Keep a precomputed risk profile for each principal in memory, with
+     * rolling daily aggregates of ip addresses, user agents, device fingerprints,
+     * locations and hours of authentication events, so that risk calculators
+     * do not need to examine the authentication history on every attempt.
+     * Profiles are updated as authentication events are recorded by this node,
+     * and are periodically reloaded from the events repository to pick up events
+     * recorded by other nodes.
+     */
+    private boolean enabled;
+
+    /**
+     * Maximum number of principal risk profiles to keep in memory.
+     */
+    private long maximumSize = 10_000;
+
+    /**
+     * Indicates how often a principal risk profile should be reloaded
+     * from the events repository.
+     */
+    @DurationCapable
+    private String refreshInterval = "PT10M";
+}
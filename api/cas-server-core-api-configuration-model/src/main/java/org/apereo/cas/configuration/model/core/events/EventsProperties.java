@@ -62,4 +62,10 @@ public class EventsProperties implements Serializable {
     @NestedConfigurationProperty
     private RedisEventsProperties redis = new RedisEventsProperties();
 
+    /**
+     * Track authentication events in memory.
+     */
+    @NestedConfigurationProperty
+    private InMemoryEventsProperties memory = new InMemoryEventsProperties();
+
 }
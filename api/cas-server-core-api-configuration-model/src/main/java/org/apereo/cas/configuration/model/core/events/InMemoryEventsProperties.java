@@ -0,0 +1,50 @@
+package org.apereo.cas.configuration.model.core.events;
+
+import org.apereo.cas.configuration.support.DurationCapable;
+import org.apereo.cas.configuration.support.RequiresModule;
+
+import lombok.Getter;
+import lombok.Setter;
+import lombok.experimental.Accessors;
+
+import java.io.Serial;
+import java.io.Serializable;
+
+/**
+ * This is {@link InMemoryEventsProperties}.
+ *
+ * @author Misagh Moayyed
+ * @since 7.2.0
+ */
+@RequiresModule(name = "cas-server-support-events-memory")
+@Getter
+@Setter
+@Accessors(chain = true)
+
+public class InMemoryEventsProperties implements Serializable {
+    @Serial
+    private static final long serialVersionUID = 3150383251672383126L;
+
+    /**
+     * Amount of time events are kept in memory.
+     * Events are grouped into time buckets, and expired events
+     * are removed one bucket at a time. Events may therefore be kept
+     * for slightly longer than this period, up to the bucket duration.
+     */
+    @DurationCapable
+    private String retentionPeriod = "PT2H";
+
+    /**
+     * The time span covered by each bucket of events.
+     * Smaller buckets release expired events sooner, while larger
+     * buckets reduce the bookkeeping overhead of each event.
+     */
+    @DurationCapable
+    private String bucketDuration = "PT5M";
+
+    /**
+     * Maximum number of events kept in memory.
+     * Once this limit is exceeded, the oldest bucket of events is removed.
+     */
+    private long maximumSize = 1_000_000;
+}
@@ -1,6 +1,7 @@
 package org.apereo.cas.configuration.model.core.events;
 
 import org.apereo.cas.configuration.model.support.redis.BaseRedisProperties;
+import org.apereo.cas.configuration.support.DurationCapable;
 import org.apereo.cas.configuration.support.RequiresModule;
 
 import lombok.Getter;
@@ -23,4 +24,23 @@ import java.io.Serial;
 public class RedisEventsProperties extends BaseRedisProperties {
     @Serial
     private static final long serialVersionUID = 9027696961101634818L;
+
+    /**
+     * Amount of time events are kept in Redis.
+     * Events are grouped into time buckets, and each bucket
+     * expires as a whole once all of its events are past this period.
+     * Events may therefore be kept for slightly longer than this period,
+     * up to the bucket duration. Leave blank or set to {@code INFINITE}
+     * to keep events indefinitely.
+     */
+    @DurationCapable
+    private String retentionPeriod = "INFINITE";
+
+    /**
+     * The time span covered by each bucket of events.
+     * Queries for events after a given date only examine buckets
+     * that overlap with the requested period.
+     */
+    @DurationCapable
+    private String bucketDuration = "P1D";
 }
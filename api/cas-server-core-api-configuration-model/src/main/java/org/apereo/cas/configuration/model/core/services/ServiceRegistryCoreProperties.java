@@ -64,4 +64,22 @@ public class ServiceRegistryCoreProperties implements Serializable {
      * The indexes allow CAS to execute a direct query on loaded service objects to find the relevant definition.
      */
     private boolean indexServices = true;
+
+    /**
+     * When set to true, CAS compiles loaded service definitions into an in-memory matching index
+     * that is rebuilt as services are loaded, saved or removed. The index pre-compiles service id patterns
+     * and organizes service definitions by the literal prefix of their service id, allowing CAS to locate
+     * a matching service definition for an incoming service request without having to evaluate every
+     * single definition, while preserving the evaluation order of all definitions.
+     */
+    private boolean indexServiceMatching = true;
+
+    /**
+     * When set to true, service registries that are able to track changes to service definitions,
+     * such as those backed by file-system resources, only report service definitions that are added, updated
+     * or removed since the last time services were loaded. CAS then applies those changes to the already-loaded
+     * service definitions in place, instead of reloading, processing and caching all definitions on every reload.
+     * Service registries that cannot track changes always load all service definitions.
+     */
+    private boolean incrementalLoading = true;
 }
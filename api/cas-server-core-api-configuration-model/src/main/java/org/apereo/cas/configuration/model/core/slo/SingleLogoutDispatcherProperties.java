@@ -0,0 +1,109 @@
+package org.apereo.cas.configuration.model.core.slo;
+
+import org.apereo.cas.configuration.model.support.quartz.ScheduledJobProperties;
+import org.apereo.cas.configuration.support.DurationCapable;
+import org.apereo.cas.configuration.support.RequiresModule;
+
+import lombok.Getter;
+import lombok.Setter;
+import lombok.experimental.Accessors;
+
+import java.io.Serial;
+
+/**
+ * This is {@link SingleLogoutDispatcherProperties}.
+ * Controls how back-channel logout messages are dispatched to applications,
+ * and how often messages that could not be delivered are redelivered from the outbox.
+ *
+ * @author Misagh Moayyed
+ * @since 7.2.0
+ */
+@RequiresModule(name = "cas-server-core-logout", automated = true)
+@Getter
+@Setter
+@Accessors(chain = true)
+public class SingleLogoutDispatcherProperties extends ScheduledJobProperties {
+    @Serial
+    private static final long serialVersionUID = -2915436409472163092L;
+
+    /**
+     * Whether back-channel logout messages should be handed off to the dispatcher.
+     * When disabled, messages are sent directly via the HTTP client one at a time.
+     */
+    private boolean enabled = true;
+
+    /**
+     * Maximum number of logout messages that can be in flight concurrently.
+     */
+    private int maxConcurrency = 32;
+
+    /**
+     * Maximum amount of time to wait for an application to respond
+     * to a single delivery attempt before the attempt is aborted.
+     */
+    @DurationCapable
+    private String timeout = "PT5S";
+
+    /**
+     * Maximum number of delivery attempts for a logout message
+     * before it is handed off to the outbox.
+     */
+    private int maxAttempts = 3;
+
+    /**
+     * Delay before the first retry of a failed delivery attempt.
+     */
+    @DurationCapable
+    private String retryDelay = "PT0.5S";
+
+    /**
+     * Multiplier applied to the retry delay after each failed delivery attempt.
+     */
+    private double retryMultiplier = 2.0;
+
+    /**
+     * Upper bound for the delay between delivery attempts.
+     */
+    @DurationCapable
+    private String maxRetryDelay = "PT10S";
+
+    /**
+     * Directory where logout messages that could not be delivered are stored,
+     * so they survive restarts and can be redelivered later. If undefined,
+     * messages are kept in memory.
+     */
+    private String outboxLocation;
+
+    /**
+     * Maximum number of times a message in the outbox is redelivered
+     * before it is discarded.
+     */
+    private int outboxMaxDeliveryAttempts = 10;
+
+    /**
+     * Maximum age of a message in the outbox, measured from the time it was first stored.
+     * Older messages are discarded without being redelivered, since the application
+     * session they refer to is likely gone by then.
+     */
+    @DurationCapable
+    private String outboxMessageTimeToLive = "PT8H";
+
+    /**
+     * Amount of time after which a message that was claimed for redelivery by a CAS node,
+     * and neither redelivered nor returned to the outbox, is made available to other nodes again.
+     * This allows messages to be recovered when a node stops while redelivering them.
+     * Only applies to the outbox stored in {@link #outboxLocation}.
+     */
+    @DurationCapable
+    private String outboxClaimTimeout = "PT10M";
+
+    /**
+     * Maximum number of messages that are picked up from the outbox
+     * each time the redelivery job runs.
+     */
+    private int outboxBatchSize = 100;
+
+    public SingleLogoutDispatcherProperties() {
+        getSchedule().setEnabled(true).setStartDelay("PT1M").setRepeatInterval("PT2M");
+    }
+}
@@ -43,6 +43,14 @@ public class InMemoryTicketRegistryProperties implements Serializable {
      */
     private int concurrency = 20;
 
+    /**
+     * Whether authentication attributes of ticket-granting tickets
+     * should be tracked in an inverted index, allowing sessions to be looked up by attributes
+     * without scanning and decoding every ticket in the registry. This trades
+     * additional memory and write overhead for faster attribute queries.
+     */
+    private boolean indexSessionAttributes;
+
     /**
      * Crypto settings for the registry.
      */
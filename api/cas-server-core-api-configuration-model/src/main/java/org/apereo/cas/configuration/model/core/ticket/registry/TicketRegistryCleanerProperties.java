@@ -0,0 +1,60 @@
+package org.apereo.cas.configuration.model.core.ticket.registry;
+
+import org.apereo.cas.configuration.model.support.quartz.ScheduledJobProperties;
+import org.apereo.cas.configuration.support.RequiresModule;
+
+import lombok.Getter;
+import lombok.Setter;
+import lombok.experimental.Accessors;
+
+import java.io.Serial;
+
+/**
+ * This is {@link TicketRegistryCleanerProperties}.
+ *
+ * @author Misagh Moayyed
+ * @since 7.2.0
+ */
+@RequiresModule(name = "cas-server-core-tickets", automated = true)
+@Getter
+@Setter
+@Accessors(chain = true)
+public class TicketRegistryCleanerProperties extends ScheduledJobProperties {
+    @Serial
+    private static final long serialVersionUID = 2536296546289484937L;
+
+    /**
+     * Indicate how the ticket registry cleaner should process expired tickets.
+     */
+    private CleanerModes mode = CleanerModes.DEFAULT;
+
+    /**
+     * Number of expired tickets that are collected from the ticket registry
+     * and removed together as a single batch. Only applicable in batch mode.
+     */
+    private int batchSize = 500;
+
+    /**
+     * Maximum number of single logout operations that can be carried out
+     * concurrently for expired ticket-granting tickets in a given batch.
+     * Only applicable in batch mode.
+     */
+    private int maxConcurrency = 16;
+
+    /**
+     * Cleaner modes.
+     */
+    public enum CleanerModes {
+        /**
+         * Stream through every ticket in the registry, and clean up
+         * expired tickets one at a time.
+         */
+        DEFAULT,
+        /**
+         * Ask the registry for expired tickets, allowing the registry to filter
+         * tickets in the underlying storage where possible, perform single logout operations
+         * concurrently and remove expired tickets in batches.
+         */
+        BATCH
+    }
+}
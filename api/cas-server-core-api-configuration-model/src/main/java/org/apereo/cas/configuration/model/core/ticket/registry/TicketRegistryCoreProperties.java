@@ -42,4 +42,34 @@ public class TicketRegistryCoreProperties implements Serializable {
      * and kept in memory.
      */
     private String queueIdentifier;
+
+    /**
+     * Format used to serialize tickets before they are handed off to
+     * the ticket registry storage. Tickets that are serialized in either
+     * format can always be read back, regardless of this setting, which allows
+     * switching formats while tickets from the previous format are still in storage.
+     */
+    private TicketSerializationFormats serializationFormat = TicketSerializationFormats.JSON;
+
+    /**
+     * Tickets serialized in the compact format whose size in bytes exceeds
+     * this threshold are compressed before they are stored.
+     */
+    private int compressionThreshold = 512;
+
+    /**
+     * Ticket serialization formats.
+     */
+    public enum TicketSerializationFormats {
+        /**
+         * Serialize tickets as JSON documents.
+         */
+        JSON,
+        /**
+         * Serialize tickets using a versioned binary format
+         * that is encoded as a string. The format shares repeated
+         * field names and values, and compresses large payloads.
+         */
+        COMPACT
+    }
 }
@@ -0,0 +1,35 @@
+package org.apereo.cas.configuration.model.core.ticket.registry;
+
+import org.apereo.cas.configuration.model.support.quartz.ScheduledJobProperties;
+import org.apereo.cas.configuration.support.RequiresModule;
+
+import lombok.Getter;
+import lombok.Setter;
+import lombok.experimental.Accessors;
+
+import java.io.Serial;
+
+/**
+ * This is {@link TicketRegistryCountersProperties}.
+ *
+ * @author Misagh Moayyed
+ * @since 7.2.0
+ */
+@RequiresModule(name = "cas-server-core-tickets", automated = true)
+@Getter
+@Setter
+@Accessors(chain = true)
+public class TicketRegistryCountersProperties extends ScheduledJobProperties {
+    @Serial
+    private static final long serialVersionUID = -3173829526405927611L;
+
+    /**
+     * Whether the ticket registry should maintain counters for tickets by type,
+     * principal and service as tickets are added and removed. When enabled, session and ticket counts
+     * are served from the counters instead of scanning the registry. Counters are periodically
+     * reconciled with the contents of the ticket registry, based on the schedule defined here,
+     * to correct drift caused by tickets that are expired and removed by the underlying storage.
+     * Support for this feature depends on the ticket registry implementation.
+     */
+    private boolean enabled;
+}
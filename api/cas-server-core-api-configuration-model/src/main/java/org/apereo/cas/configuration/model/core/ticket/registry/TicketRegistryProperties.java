@@ -10,7 +10,6 @@ import org.apereo.cas.configuration.model.support.jpa.ticketregistry.JpaTicketRe
 import org.apereo.cas.configuration.model.support.kafka.KafkaTicketRegistryProperties;
 import org.apereo.cas.configuration.model.support.memcached.MemcachedTicketRegistryProperties;
 import org.apereo.cas.configuration.model.support.mongo.ticketregistry.MongoDbTicketRegistryProperties;
-import org.apereo.cas.configuration.model.support.quartz.ScheduledJobProperties;
 import org.apereo.cas.configuration.model.support.redis.RedisTicketRegistryProperties;
 import org.apereo.cas.configuration.support.RequiresModule;
 
@@ -121,7 +120,13 @@ public class TicketRegistryProperties implements Serializable {
      * Ticket registry cleaner settings.
      */
     @NestedConfigurationProperty
-    private ScheduledJobProperties cleaner = new ScheduledJobProperties();
+    private TicketRegistryCleanerProperties cleaner = new TicketRegistryCleanerProperties();
+
+    /**
+     * Ticket registry counters settings.
+     */
+    @NestedConfigurationProperty
+    private TicketRegistryCountersProperties counters = new TicketRegistryCountersProperties();
 
     /**
      * Ticket registry core settings.
@@ -131,5 +136,6 @@ public class TicketRegistryProperties implements Serializable {
     
     public TicketRegistryProperties() {
         cleaner.getSchedule().setEnabled(true).setStartDelay("PT10S").setRepeatInterval("PT1M");
+        counters.getSchedule().setEnabled(true).setStartDelay("PT1M").setRepeatInterval("PT15M");
     }
 }
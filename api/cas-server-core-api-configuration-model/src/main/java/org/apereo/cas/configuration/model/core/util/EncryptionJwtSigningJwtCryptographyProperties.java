@@ -55,6 +55,9 @@ public class EncryptionJwtSigningJwtCryptographyProperties implements Serializab
      * <ul>
      *     <li>{@code ENCRYPT_AND_SIGN}: Encrypt the value first, and then sign.</li>
      *     <li>{@code SIGN_AND_ENCRYPT}: Sign the value first, and then encrypt.</li>
+     *     <li>{@code COMPACT}: Encrypt the value using AES-GCM and sign using HMAC-SHA512,
+     *     producing a compact value that is only meant to be consumed by CAS itself.
+     *     This requires symmetric keys, and falls back to {@code ENCRYPT_AND_SIGN} otherwise.</li>
      * </ul>
      */
     private String strategyType = "ENCRYPT_AND_SIGN";
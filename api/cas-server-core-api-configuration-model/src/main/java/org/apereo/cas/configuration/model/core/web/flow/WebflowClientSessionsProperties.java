@@ -0,0 +1,68 @@
+package org.apereo.cas.configuration.model.core.web.flow;
+
+import org.apereo.cas.configuration.support.RequiresModule;
+
+import lombok.Getter;
+import lombok.Setter;
+import lombok.experimental.Accessors;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * This is {@link WebflowClientSessionsProperties}.
+ *
+ * @author Misagh Moayyed
+ * @since 7.2.0
+ */
+@Getter
+@Setter
+@RequiresModule(name = "cas-server-core-webflow")
+@Accessors(chain = true)
+
+public class WebflowClientSessionsProperties implements Serializable {
+
+    @Serial
+    private static final long serialVersionUID = 3479028707118198914L;
+
+    /**
+     * Controls how webflow state is transformed into the encoded value
+     * that is kept on the client side.
+     * Only relevant if session storage is done on the client.
+     */
+    private TranscoderTypes transcoder = TranscoderTypes.ENCRYPTED;
+
+    /**
+     * Maximum number of bytes that serialized webflow state may occupy, before compression.
+     * Webflow state that exceeds this limit is rejected, both when it is produced and when it is received.
+     * Only relevant if session storage is done on the client,
+     * and the {@link TranscoderTypes#COMPACT} transcoder is used.
+     */
+    private long maximumSize = 262_144;
+
+    /**
+     * Fully-qualified class names of additional types that should be registered with the transcoder,
+     * which are then written as numeric identifiers instead of class names and field descriptions.
+     * All CAS server nodes must register the same types in the same order.
+     * Only relevant if session storage is done on the client,
+     * and the {@link TranscoderTypes#COMPACT} transcoder is used.
+     */
+    private List<String> registeredTypes = new ArrayList<>();
+
+    /**
+     * Transcoder types.
+     */
+    public enum TranscoderTypes {
+        /**
+         * Webflow state is serialized with Java serialization, compressed via GZIP and then encrypted.
+         */
+        ENCRYPTED,
+        /**
+         * Webflow state is serialized with compact descriptors for registered types,
+         * compressed via a preset dictionary and then encrypted.
+         */
+        COMPACT
+    }
+}
@@ -33,6 +33,12 @@ public class WebflowSessionManagementProperties implements Serializable {
     @NestedConfigurationProperty
     private WebflowServerSessionsProperties server = new WebflowServerSessionsProperties();
 
+    /**
+     * Control client-side session storage.
+     */
+    @NestedConfigurationProperty
+    private WebflowClientSessionsProperties client = new WebflowClientSessionsProperties();
+
     /**
      * Controls whether spring webflow sessions are to be stored server-side or client side.
      * By default state is managed on the client side, that is also signed and encrypted.
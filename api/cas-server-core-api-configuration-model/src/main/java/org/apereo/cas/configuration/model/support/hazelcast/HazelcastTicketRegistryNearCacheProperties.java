@@ -0,0 +1,47 @@
+package org.apereo.cas.configuration.model.support.hazelcast;
+
+import org.apereo.cas.configuration.support.DurationCapable;
+import org.apereo.cas.configuration.support.RequiresModule;
+
+import lombok.Getter;
+import lombok.Setter;
+import lombok.experimental.Accessors;
+
+import java.io.Serial;
+import java.io.Serializable;
+
+/**
+ * This is {@link HazelcastTicketRegistryNearCacheProperties}.
+ *
+ * @author Misagh Moayyed
+ * @since 7.2.0
+ */
+@RequiresModule(name = "cas-server-support-hazelcast-ticket-registry")
+@Getter
+@Setter
+@Accessors(chain = true)
+
+public class HazelcastTicketRegistryNearCacheProperties implements Serializable {
+    @Serial
+    private static final long serialVersionUID = 2836201953837462916L;
+
+    /**
+     * Whether ticket-granting tickets should be kept in a near cache
+     * on each member, allowing repeated reads of the same ticket to avoid a network hop.
+     * Entries in the near cache are invalidated by the cluster once the ticket is updated or removed.
+     */
+    private boolean enabled;
+
+    /**
+     * Maximum number of entries kept in the near cache
+     * before the least recently used entries are evicted.
+     */
+    private int maxSize = 10_000;
+
+    /**
+     * Maximum duration for which an entry is kept in the near cache,
+     * regardless of whether it was invalidated by the cluster.
+     */
+    @DurationCapable
+    private String timeToLive = "PT1M";
+}
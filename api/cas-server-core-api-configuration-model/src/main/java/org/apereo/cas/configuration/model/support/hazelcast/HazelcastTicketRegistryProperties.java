@@ -32,6 +32,12 @@ public class HazelcastTicketRegistryProperties extends BaseHazelcastProperties {
     @NestedConfigurationProperty
     private EncryptionRandomizedSigningJwtCryptographyProperties crypto = new EncryptionRandomizedSigningJwtCryptographyProperties();
 
+    /**
+     * Near cache settings for ticket-granting tickets.
+     */
+    @NestedConfigurationProperty
+    private HazelcastTicketRegistryNearCacheProperties nearCache = new HazelcastTicketRegistryNearCacheProperties();
+
     public HazelcastTicketRegistryProperties() {
         this.crypto.setEnabled(false);
     }
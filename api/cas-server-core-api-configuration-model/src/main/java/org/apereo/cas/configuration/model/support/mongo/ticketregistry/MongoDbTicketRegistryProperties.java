@@ -54,6 +54,7 @@ public class MongoDbTicketRegistryProperties extends BaseMongoDbProperties {
      *     <li>{@code IDX_JSON_TYPE_ID}: compound index for ticket body, type and id used for text queries.</li>
      *     <li>{@code IDX_PRINCIPAL}: index created for principal attached to the ticket.</li>
      *     <li>{@code IDX_EXPIRATION}: index created for ticket expiration date.</li>
+     *     <li>{@code IDX_ATTRIBUTES}: wildcard index created for authentication attributes attached to the ticket.</li>
      *</ul>
      */
     private List<String> indexes = new ArrayList<>();
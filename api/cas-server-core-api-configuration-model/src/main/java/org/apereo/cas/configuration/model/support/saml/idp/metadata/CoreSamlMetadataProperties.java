@@ -47,6 +47,17 @@ public class CoreSamlMetadataProperties implements Serializable {
     @DurationCapable
     private String cacheExpiration = "PT24H";
 
+    /**
+     * How long should cached metadata be used before it is refreshed.
+     * Once this period has passed, the next request for the metadata
+     * triggers a refresh in the background, and continues to use the cached metadata
+     * until the refresh completes. If the refresh fails, the cached metadata remains
+     * in use until it expires. This period should be shorter than the cache expiration
+     * for refreshes to take effect. A zero or negative value disables background refreshes.
+     */
+    @DurationCapable
+    private String cacheRefreshInterval = "PT12H";
+
     /**
      * Whether valid metadata is required.
      */
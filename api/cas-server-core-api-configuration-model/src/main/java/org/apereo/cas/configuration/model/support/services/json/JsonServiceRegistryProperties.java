@@ -44,6 +44,13 @@ public class JsonServiceRegistryProperties extends SpringResourceProperties {
      */
     private boolean watcherEnabled = true;
 
+    /**
+     * Maximum number of service definition files that are read and parsed concurrently
+     * when service definitions are loaded from the directory.
+     * Set to {@code 1} to read service definition files one at a time.
+     */
+    private int loadConcurrency = 4;
+
     public JsonServiceRegistryProperties() {
         setLocation(DEFAULT_LOCATION);
     }
@@ -39,6 +39,13 @@ public class YamlServiceRegistryProperties extends SpringResourceProperties {
      */
     private boolean watcherEnabled = true;
 
+    /**
+     * Maximum number of service definition files that are read and parsed concurrently
+     * when service definitions are loaded from the directory.
+     * Set to {@code 1} to read service definition files one at a time.
+     */
+    private int loadConcurrency = 4;
+
     public YamlServiceRegistryProperties() {
         setLocation(DEFAULT_LOCATION);
     }
@@ -50,4 +50,12 @@ public class JdbcThrottleProperties extends AbstractJpaProperties {
      */
     private String auditQuery = SQL_AUDIT_QUERY_BY_USER_AND_IP;
 
+    /**
+     * Audit query to execute against the database
+     * to locate all failure audit records based on the relevant audit action,
+     * an application code and date, when failures are tracked in a local sliding window.
+     * If undefined, the query is built for the table that is referenced by the audit query.
+     */
+    private String auditQueryAllFailures;
+
 }
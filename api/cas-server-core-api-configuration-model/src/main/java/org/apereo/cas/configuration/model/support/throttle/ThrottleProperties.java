@@ -63,6 +63,12 @@ public class ThrottleProperties implements Serializable {
     @NestedConfigurationProperty
     private ThrottleCoreProperties core = new ThrottleCoreProperties();
 
+    /**
+     * Settings related to tracking throttled failures in a local sliding window.
+     */
+    @NestedConfigurationProperty
+    private ThrottleWindowProperties window = new ThrottleWindowProperties();
+
     /**
      * Scheduler settings to clean up throttled attempts.
      */
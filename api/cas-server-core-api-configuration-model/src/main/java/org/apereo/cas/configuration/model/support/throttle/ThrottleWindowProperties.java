@@ -0,0 +1,42 @@
+package org.apereo.cas.configuration.model.support.throttle;
+
+import org.apereo.cas.configuration.support.RequiresModule;
+
+import lombok.Getter;
+import lombok.Setter;
+import lombok.experimental.Accessors;
+
+import java.io.Serial;
+import java.io.Serializable;
+
+/**
+ * This is {@link ThrottleWindowProperties}.
+ *
+ * @author Misagh Moayyed
+ * @since 7.2.0
+ */
+@RequiresModule(name = "cas-server-support-throttle")
+@Getter
+@Setter
+@Accessors(chain = true)
+public class ThrottleWindowProperties implements Serializable {
+
+    @Serial
+    private static final long serialVersionUID = 4218706377411513622L;
+
+    /**
+     * Keep track of authentication failures per client address and username in memory,
+     * and evaluate the failure threshold against this local sliding window instead of querying
+     * the audit log on every request. This applies to throttling strategies that are backed by audit records,
+     * such as JDBC and MongoDb. Failures recorded by other nodes are loaded from the audit log on startup
+     * and every time the throttling scheduler runs, so the throttling decision across the cluster
+     * may lag behind by up to the scheduler's repeat interval.
+     */
+    private boolean enabled;
+
+    /**
+     * Maximum number of client address and username combinations that are tracked in memory.
+     * When the limit is reached, the least recently used entries are evicted.
+     */
+    private long maximumKeys = 100_000;
+}
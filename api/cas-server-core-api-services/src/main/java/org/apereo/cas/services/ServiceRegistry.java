@@ -6,6 +6,7 @@ import org.apache.commons.lang3.StringUtils;
 
 import java.util.Collection;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.function.Consumer;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
@@ -85,6 +86,20 @@ public interface ServiceRegistry extends NamedObject {
      */
     Collection<RegisteredService> load();
 
+    /**
+     * Load the registered services that are added, updated or removed in the data store
+     * since the given version, which is the version of changes previously reported by this registry.
+     * If the version is unknown to the registry, changes are reported as complete and carry all services.
+     * Registries that are unable to track changes return an empty result,
+     * in which case services should be loaded via {@link #load()}.
+     *
+     * @param version the version
+     * @return the changes
+     */
+    default Optional<ServiceRegistryChanges> loadChanges(final long version) {
+        return Optional.empty();
+    }
+
     /**
      * Gets services stream.
      * <p>
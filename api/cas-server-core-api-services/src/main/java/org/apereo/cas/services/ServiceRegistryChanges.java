@@ -0,0 +1,47 @@
+package org.apereo.cas.services;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.util.ArrayList;
+import java.util.Collection;
+
+/**
+ * This is {@link ServiceRegistryChanges}, describing the registered services
+ * that are added, updated or removed in a service registry since a given version.
+ * The version is an opaque token produced by the service registry that should be handed back
+ * to the registry when changes are requested next. Changes that are marked as complete
+ * carry all registered services in the registry, and any service not listed is considered removed.
+ *
+ * @author Misagh Moayyed
+ * @since 7.2.0
+ */
+@Getter
+@Builder
+@ToString
+public class ServiceRegistryChanges {
+    /**
+     * Version that indicates no changes were previously loaded from the registry.
+     */
+    public static final long UNKNOWN_VERSION = -1;
+
+    private final long version;
+
+    private final boolean complete;
+
+    @Builder.Default
+    private final Collection<RegisteredService> savedServices = new ArrayList<>();
+
+    @Builder.Default
+    private final Collection<Long> deletedServices = new ArrayList<>();
+
+    /**
+     * Whether there are no changes to apply.
+     *
+     * @return true or false
+     */
+    public boolean isEmpty() {
+        return !complete && savedServices.isEmpty() && deletedServices.isEmpty();
+    }
+}
@@ -4,6 +4,7 @@ import org.apereo.cas.authentication.principal.Service;
 import org.apereo.cas.ticket.AuthenticationAwareTicket;
 import org.apereo.cas.ticket.Ticket;
 import org.apereo.cas.ticket.TicketGrantingTicket;
+import lombok.val;
 import org.jooq.lambda.Unchecked;
 import java.io.Serializable;
 import java.util.ArrayList;
@@ -99,6 +100,24 @@ public interface TicketRegistry {
      */
     int deleteTicket(Ticket ticketId) throws Exception;
 
+    /**
+     * Remove the given tickets from the registry in bulk.
+     * Unlike {@link #deleteTicket(Ticket)}, linked tickets are not traversed;
+     * callers are expected to provide the identifiers of all tickets that should be removed.
+     * Registries that are able to remove entries in a single round-trip should override this operation.
+     *
+     * @param ticketIds the ticket ids
+     * @return the number of tickets deleted.
+     * @throws Exception the exception
+     */
+    default int deleteTickets(final Collection<String> ticketIds) throws Exception {
+        var count = 0;
+        for (val ticketId : ticketIds) {
+            count += deleteTicket(ticketId);
+        }
+        return count;
+    }
+
     /**
      * Delete all tickets from the registry.
      *
@@ -130,6 +149,22 @@ public interface TicketRegistry {
         return stream().filter(predicate);
     }
 
+    /**
+     * Gets expired tickets as a stream, typically used by the registry cleaner.
+     * Registries that are able to filter tickets by their expiration time
+     * in the underlying storage should override this operation to avoid fetching
+     * and decoding every ticket. Tickets in the returned stream
+     * are candidates and may still need to be checked for expiration.
+     * <p>
+     * The returning stream may be bound to an IO channel (such as database connection),
+     * so it should be properly closed after usage.
+     *
+     * @return the expired tickets
+     */
+    default Stream<? extends Ticket> getExpiredTickets() {
+        return stream().filter(Objects::nonNull).filter(Ticket::isExpired);
+    }
+
     /**
      * Update the received ticket.
      *
@@ -0,0 +1,118 @@
+package org.apereo.cas.ticket.registry;
+
+import org.apereo.cas.ticket.Ticket;
+
+import java.util.stream.Stream;
+
+/**
+ * This is {@link TicketRegistryCounters}. Counters are maintained incrementally
+ * as tickets are added to and removed from the ticket registry, and allow
+ * session and ticket counts to be determined without scanning the registry.
+ * Counters may drift from the actual contents of the registry, i.e. when tickets
+ * are expired and removed by the underlying storage, and are expected to be periodically
+ * reconciled with the registry.
+ *
+ * @author Misagh Moayyed
+ * @since 7.2.0
+ */
+public interface TicketRegistryCounters {
+    /**
+     * The bean name.
+     */
+    String BEAN_NAME = "ticketRegistryCounters";
+
+    /**
+     * Record a ticket that is added to the registry.
+     *
+     * @param ticket the ticket
+     */
+    default void ticketAdded(final Ticket ticket) {
+    }
+
+    /**
+     * Record a ticket that is removed from the registry.
+     *
+     * @param ticket the ticket
+     */
+    default void ticketRemoved(final Ticket ticket) {
+    }
+
+    /**
+     * Count ticket-granting tickets.
+     *
+     * @return the count
+     */
+    default long countSessions() {
+        return 0;
+    }
+
+    /**
+     * Count service tickets.
+     *
+     * @return the count
+     */
+    default long countServiceTickets() {
+        return 0;
+    }
+
+    /**
+     * Count all tickets.
+     *
+     * @return the count
+     */
+    default long countTickets() {
+        return 0;
+    }
+
+    /**
+     * Count ticket-granting tickets for the given principal.
+     *
+     * @param principalId the principal id
+     * @return the count
+     */
+    default long countSessionsFor(final String principalId) {
+        return 0;
+    }
+
+    /**
+     * Count tickets issued for the given service.
+     *
+     * @param serviceId the service id
+     * @return the count
+     */
+    default long countTicketsFor(final String serviceId) {
+        return 0;
+    }
+
+    /**
+     * Reconcile counters with the given tickets, correcting drift
+     * without losing tickets that are recorded as added or removed in the meantime.
+     *
+     * @param tickets the tickets
+     */
+    default void reconcile(final Stream<? extends Ticket> tickets) {
+    }
+
+    /**
+     * Whether counters are maintained and can be used for counting.
+     *
+     * @return true/false
+     */
+    default boolean isEnabled() {
+        return true;
+    }
+
+    /**
+     * No op ticket registry counters.
+     *
+     * @return the ticket registry counters
+     */
+    static TicketRegistryCounters noOp() {
+        return new TicketRegistryCounters() {
+            @Override
+            public boolean isEnabled() {
+                return false;
+            }
+        };
+    }
+}
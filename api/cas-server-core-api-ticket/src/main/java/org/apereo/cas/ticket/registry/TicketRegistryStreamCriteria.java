@@ -34,4 +34,17 @@ public class TicketRegistryStreamCriteria implements Serializable {
 
     @Builder.Default
     private long count = Long.MAX_VALUE;
+
+    /**
+     * The ticket type prefix (i.e. {@code TGT}) to restrict the results to, if any.
+     * Ticket registries that are able to do so apply this filter in the storage backend.
+     */
+    private String type;
+
+    /**
+     * Skip tickets whose expiration time, as recorded by the storage backend, has passed.
+     * Recorded expiration times are estimates, and callers should still verify tickets
+     * are not expired before use.
+     */
+    private boolean excludeExpired;
 }
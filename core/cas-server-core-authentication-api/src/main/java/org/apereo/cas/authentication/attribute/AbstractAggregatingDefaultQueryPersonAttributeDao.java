@@ -11,12 +11,19 @@ import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
 import org.apache.commons.lang3.ArrayUtils;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 
 /**
@@ -28,6 +35,9 @@ import java.util.Set;
  */
 @Slf4j
 public abstract class AbstractAggregatingDefaultQueryPersonAttributeDao extends AbstractDefaultAttributePersonAttributeDao {
+    private static final ExecutorService QUERY_EXECUTOR = Executors.newThreadPerTaskExecutor(
+        Thread.ofVirtual().name("person-attribute-dao-", 0).factory());
+
     /**
      * A List of child {@link PersonAttributeDao} instances which we will poll in order.
      */
@@ -66,6 +76,28 @@ public abstract class AbstractAggregatingDefaultQueryPersonAttributeDao extends
     @Setter
     protected boolean requireAll;
 
+    /**
+     * Query child DAOs that do not depend on each other concurrently.
+     * Ignored when {@link #stopOnSuccess} is set, since child DAOs must then be polled in order,
+     * and whenever a child DAO does not report itself as {@link PersonAttributeDao#isIndependentQuery()},
+     * since it then expects the results of the DAOs that precede it.
+     * Child DAOs are queried on virtual threads; thread-bound state of the calling thread such as
+     * {@link ThreadLocal} values and the current request context is not carried over to them.
+     */
+    @Getter
+    @Setter
+    protected boolean parallelExecution;
+
+    /**
+     * Maximum amount of time to wait for each child DAO when queried concurrently.
+     * A DAO that does not respond in time is treated as a failed DAO and is
+     * handled according to {@link #recoverExceptions} and {@link #requireAll}.
+     * A zero or negative value waits indefinitely.
+     */
+    @Getter
+    @Setter
+    protected Duration sourceTimeout = Duration.ZERO;
+
     @Override
     public String[] getId() {
         val ids = new ArrayList<String>();
@@ -78,6 +110,16 @@ public abstract class AbstractAggregatingDefaultQueryPersonAttributeDao extends
     public Set<PersonAttributes> getPeopleWithMultivaluedAttributes(final Map<String, List<Object>> query,
                                                                     final PersonAttributeDaoFilter filter,
                                                                     final Set<PersonAttributes> resultPeople) {
+        if (parallelExecution && !stopOnSuccess && supportsParallelExecution()) {
+            val independentDaos = personAttributeDaos
+                .stream()
+                .filter(dao -> filter == null || filter.choosePersonAttributeDao(dao))
+                .allMatch(PersonAttributeDao::isIndependentQuery);
+            if (independentDaos) {
+                return getPeopleInParallel(query, filter);
+            }
+            LOGGER.debug("Attribute repositories depend on the results of previous repositories and will be queried in order");
+        }
         Set<PersonAttributes> results = null;
         var isFirstQuery = true;
         for (val currentlyConsidering : this.personAttributeDaos) {
@@ -124,6 +166,107 @@ public abstract class AbstractAggregatingDefaultQueryPersonAttributeDao extends
         return Set.copyOf(results);
     }
 
+    private Set<PersonAttributes> getPeopleInParallel(final Map<String, List<Object>> query,
+                                                      final PersonAttributeDaoFilter filter) {
+        val personAttributeDaos = this.personAttributeDaos
+            .stream()
+            .filter(dao -> filter == null || filter.choosePersonAttributeDao(dao))
+            .toList();
+        val queries = personAttributeDaos
+            .stream()
+            .map(dao -> (Callable<Set<PersonAttributes>>) () -> getAttributesFromDao(query, true, dao, null, filter))
+            .toList();
+        val queryResults = executeInParallel(personAttributeDaos, queries);
+
+        Set<PersonAttributes> results = null;
+        for (var i = 0; i < personAttributeDaos.size(); i++) {
+            val currentPeople = queryResults.get(i);
+            if (currentPeople != null) {
+                results = results == null ? new LinkedHashSet<>(currentPeople) : attributeMerger.mergeResults(results, currentPeople);
+            } else if (this.requireAll) {
+                LOGGER.debug("Attribute repository dao [{}] did not resolve a person "
+                    + "and configuration requires all sources to produce valid results. "
+                    + "Short-circuiting the execution and returning null instead", personAttributeDaos.get(i));
+                return null;
+            }
+        }
+        LOGGER.debug("Aggregated search results [{}] for query [{}] from [{}] concurrent queries", results, query, queries.size());
+        return results == null ? null : Set.copyOf(results);
+    }
+
+    /**
+     * Run the given queries concurrently, one per child DAO, and wait for all of them to complete
+     * or for {@link #sourceTimeout} to elapse. Queries that fail or time out are handled
+     * according to {@link #recoverExceptions} and produce {@code null}.
+     *
+     * @param personAttributeDaos the child DAOs, in the same order as the queries
+     * @param queries             the queries
+     * @return the results of each query, in the same order as the queries
+     */
+    protected List<Set<PersonAttributes>> executeInParallel(final List<PersonAttributeDao> personAttributeDaos,
+                                                            final List<Callable<Set<PersonAttributes>>> queries) {
+        val futures = queries.stream().map(QUERY_EXECUTOR::submit).toList();
+        val deadline = getQueryDeadline();
+        val results = new ArrayList<Set<PersonAttributes>>(futures.size());
+        try {
+            for (var i = 0; i < futures.size(); i++) {
+                val future = futures.get(i);
+                try {
+                    results.add(deadline == Long.MAX_VALUE
+                        ? future.get()
+                        : future.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS));
+                } catch (final ExecutionException e) {
+                    results.add(null);
+                    handleRuntimeException(personAttributeDaos.get(i), e.getCause() instanceof final Exception cause ? cause : e);
+                } catch (final TimeoutException e) {
+                    results.add(null);
+                    future.cancel(true);
+                    handleRuntimeException(personAttributeDaos.get(i),
+                        new TimeoutException("Attribute repository did not respond within " + sourceTimeout));
+                } catch (final InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IllegalStateException(e);
+                }
+            }
+        } finally {
+            futures.forEach(future -> future.cancel(true));
+        }
+        return results;
+    }
+
+    private long getQueryDeadline() {
+        if (sourceTimeout == null || !sourceTimeout.isPositive()) {
+            return Long.MAX_VALUE;
+        }
+        try {
+            return Math.addExact(System.nanoTime(), sourceTimeout.toNanos());
+        } catch (final ArithmeticException e) {
+            return Long.MAX_VALUE;
+        }
+    }
+
+    /**
+     * Whether child DAOs are queried with the same data rather than being seeded by
+     * each other's results, which allows them to be queried concurrently as long as
+     * each child DAO is {@link PersonAttributeDao#isIndependentQuery() independent}.
+     *
+     * @return true/false
+     */
+    protected boolean supportsParallelExecution() {
+        return false;
+    }
+
+    /**
+     * Aggregating DAOs only pass along the results of their own child DAOs,
+     * and never consume the results of DAOs that precede them.
+     *
+     * @return true
+     */
+    @Override
+    public boolean isIndependentQuery() {
+        return true;
+    }
+
     private boolean handleRuntimeException(final PersonAttributeDao currentlyConsidering, final Exception ex) {
         if (this.recoverExceptions) {
             LOGGER.warn("Recovering From Exception thrown by [{}]", currentlyConsidering, ex);
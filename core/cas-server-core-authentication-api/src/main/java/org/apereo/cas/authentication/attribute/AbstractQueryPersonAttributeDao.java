@@ -312,4 +312,9 @@ public abstract class AbstractQueryPersonAttributeDao<QB> extends AbstractDefaul
     public Set<String> getPossibleUserAttributeNames(final PersonAttributeDaoFilter filter) {
         return Set.copyOf(this.possibleUserAttributeNames);
     }
+
+    @Override
+    public boolean isIndependentQuery() {
+        return true;
+    }
 }
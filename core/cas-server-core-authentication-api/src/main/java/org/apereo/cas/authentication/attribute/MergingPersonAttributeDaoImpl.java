@@ -12,7 +12,9 @@ import java.util.Set;
  * A {@link PersonAttributeDao} implementation which iterates over child
  * {@link PersonAttributeDao} queries each with the same data and merges their
  * reported attributes in a configurable way. The default merger is
- * {@link MultivaluedAttributeMerger}.
+ * {@link MultivaluedAttributeMerger}. Since every child is queried with the same data,
+ * children that do not depend on the results of previous children may be queried concurrently
+ * when parallel execution is turned on; results are still merged in the order in which children are defined.
  *
  * @author andrew.petro@yale.edu
  * @author Eric Dalquist
@@ -30,4 +32,9 @@ public class MergingPersonAttributeDaoImpl extends AbstractAggregatingDefaultQue
                                                          final PersonAttributeDaoFilter filter) {
         return currentlyConsidering.getPeopleWithMultivaluedAttributes(seed, filter, resultPeople);
     }
+
+    @Override
+    protected boolean supportsParallelExecution() {
+        return true;
+    }
 }
@@ -74,4 +74,9 @@ public class StubPersonAttributeDao extends BasePersonAttributeDao {
     public Map<String, List<Object>> getBackingMap() {
         return new HashMap(this.backingPerson.getAttributes());
     }
+
+    @Override
+    public boolean isIndependentQuery() {
+        return true;
+    }
 }
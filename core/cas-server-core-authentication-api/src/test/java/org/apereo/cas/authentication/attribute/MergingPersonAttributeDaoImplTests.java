@@ -9,13 +9,17 @@ import lombok.val;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
 
 /**
  * Testcase for {@link StubPersonAttributeDao}.
@@ -228,4 +232,78 @@ class MergingPersonAttributeDaoImplTests {
 
         assertEquals(expectedHomeUsers, homeUsers);
     }
+
+    @Test
+    void verifyParallelExecution() {
+        val attributeSources = new ArrayList<PersonAttributeDao>();
+        attributeSources.add(sourceNull);
+        attributeSources.add(sourceOne);
+        attributeSources.add(sourceTwo);
+        attributeSources.add(collidesWithOne);
+
+        val impl = new MergingPersonAttributeDaoImpl();
+        impl.setPersonAttributeDaos(attributeSources);
+        impl.setParallelExecution(true);
+        impl.setSourceTimeout(Duration.ofSeconds(5));
+
+        val queryMap = new HashMap<String, List<Object>>();
+        queryMap.put(QUERY_ATTR, List.of("awp9"));
+
+        val result = impl.getPeopleWithMultivaluedAttributes(queryMap);
+        val attributes = new HashMap<>(oneAndTwoAndThree);
+        attributes.putAll(queryMap);
+        assertEquals(attributes, result.iterator().next().getAttributes());
+    }
+
+    @Test
+    void verifyParallelExecutionWithSlowSource() {
+        val slowSource = mock(PersonAttributeDao.class);
+        when(slowSource.isIndependentQuery()).thenReturn(Boolean.TRUE);
+        when(slowSource.getPeopleWithMultivaluedAttributes(anyMap(), any(), any())).thenAnswer(args -> {
+            Thread.sleep(Duration.ofSeconds(5));
+            return sourceTwo.getPeopleWithMultivaluedAttributes(args.getArgument(0), args.getArgument(1), args.getArgument(2));
+        });
+
+        val impl = new MergingPersonAttributeDaoImpl();
+        impl.setPersonAttributeDaos(List.of(sourceOne, slowSource));
+        impl.setParallelExecution(true);
+        impl.setSourceTimeout(Duration.ofMillis(200));
+
+        val queryMap = new HashMap<String, List<Object>>();
+        queryMap.put(QUERY_ATTR, List.of("awp9"));
+
+        val result = impl.getPeopleWithMultivaluedAttributes(queryMap);
+        val attributes = new HashMap<>(sourceOne.getBackingMap());
+        attributes.putAll(queryMap);
+        assertEquals(attributes, result.iterator().next().getAttributes());
+
+        impl.setRequireAll(true);
+        assertNull(impl.getPeopleWithMultivaluedAttributes(queryMap));
+
+        impl.setRequireAll(false);
+        impl.setRecoverExceptions(false);
+        assertThrows(RuntimeException.class, () -> impl.getPeopleWithMultivaluedAttributes(queryMap));
+    }
+
+    @Test
+    void verifyParallelExecutionWithDependentSource() {
+        val dependentSource = mock(PersonAttributeDao.class);
+        when(dependentSource.getPeopleWithMultivaluedAttributes(anyMap(), any(), any())).thenAnswer(args ->
+            sourceTwo.getPeopleWithMultivaluedAttributes(args.getArgument(0), args.getArgument(1), args.getArgument(2)));
+
+        val impl = new MergingPersonAttributeDaoImpl();
+        impl.setPersonAttributeDaos(List.of(sourceOne, dependentSource));
+        impl.setParallelExecution(true);
+        impl.setSourceTimeout(Duration.ofSeconds(5));
+
+        val queryMap = new HashMap<String, List<Object>>();
+        queryMap.put(QUERY_ATTR, List.of("awp9"));
+
+        val result = impl.getPeopleWithMultivaluedAttributes(queryMap);
+        val attributes = new HashMap<>(oneAndTwo);
+        attributes.putAll(queryMap);
+        assertEquals(attributes, result.iterator().next().getAttributes());
+        verify(dependentSource).getPeopleWithMultivaluedAttributes(anyMap(), any(),
+            argThat((Set<PersonAttributes> people) -> people != null && !people.isEmpty()));
+    }
 }
@@ -0,0 +1,41 @@
+package org.apereo.cas.benchmarks;
+
+import org.apereo.cas.authentication.Authentication;
+import org.apereo.cas.authentication.AuthenticationManager;
+import org.apereo.cas.authentication.AuthenticationTransactionFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+
+/**
+ * This is {@link AuthenticationManagerBenchmarks}, measuring how fast
+ * credentials are authenticated and principals are resolved by the authentication manager.
+ *
+ * @author Misagh Moayyed
+ * @since 7.2.0
+ */
+public class AuthenticationManagerBenchmarks extends BaseCasBenchmarks {
+    @Param({"100", "5000"})
+    private int serviceCount;
+
+    private AuthenticationManager authenticationManager;
+
+    private AuthenticationTransactionFactory authenticationTransactionFactory;
+
+    @Setup(Level.Trial)
+    public void setupAuthenticationManager() {
+        authenticationManager = applicationContext.getBean(AuthenticationManager.BEAN_NAME, AuthenticationManager.class);
+        authenticationTransactionFactory = authenticationSystemSupport.getAuthenticationTransactionFactory();
+    }
+
+    @Benchmark
+    public Authentication authenticate() throws Throwable {
+        return authenticationManager.authenticate(authenticationTransactionFactory.newTransaction(getRandomService(), getCredential()));
+    }
+
+    @Override
+    protected int getServiceCount() {
+        return serviceCount;
+    }
+}
@@ -0,0 +1,129 @@
+package org.apereo.cas.benchmarks;
+
+import org.apereo.cas.authentication.AuthenticationResult;
+import org.apereo.cas.authentication.AuthenticationSystemSupport;
+import org.apereo.cas.authentication.credential.UsernamePasswordCredential;
+import org.apereo.cas.authentication.principal.Service;
+import org.apereo.cas.authentication.principal.ServiceFactory;
+import org.apereo.cas.authentication.principal.WebApplicationService;
+import org.apereo.cas.services.ServicesManager;
+import org.apereo.cas.ticket.TicketFactory;
+import org.apereo.cas.ticket.TicketGrantingTicket;
+import org.apereo.cas.ticket.TicketGrantingTicketFactory;
+import org.apereo.cas.ticket.registry.TicketRegistry;
+import lombok.val;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * This is {@link BaseCasBenchmarks}, which starts the CAS application context
+ * once per trial and prepares the ticket registry and the service registry
+ * with the number of ticket-granting tickets and registered services requested by each benchmark.
+ *
+ * @author Misagh Moayyed
+ * @since 7.2.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 10)
+public abstract class BaseCasBenchmarks {
+    protected ConfigurableApplicationContext applicationContext;
+
+    protected TicketRegistry ticketRegistry;
+
+    protected ServicesManager servicesManager;
+
+    protected AuthenticationSystemSupport authenticationSystemSupport;
+
+    protected ServiceFactory<WebApplicationService> serviceFactory;
+
+    protected AuthenticationResult authenticationResult;
+
+    protected String[] ticketGrantingTicketIds;
+
+    @Setup(Level.Trial)
+    public void setupApplicationContext() throws Throwable {
+        applicationContext = CasBenchmarkApplicationContext.start(isCipherEnabled(), Map.of());
+        ticketRegistry = applicationContext.getBean(TicketRegistry.BEAN_NAME, TicketRegistry.class);
+        servicesManager = applicationContext.getBean(ServicesManager.BEAN_NAME, ServicesManager.class);
+        authenticationSystemSupport = applicationContext.getBean(AuthenticationSystemSupport.BEAN_NAME, AuthenticationSystemSupport.class);
+        serviceFactory = applicationContext.getBean(WebApplicationService.BEAN_NAME_FACTORY, ServiceFactory.class);
+
+        CasBenchmarkApplicationContext.registerServices(servicesManager, getServiceCount());
+        authenticationResult = authenticationSystemSupport.finalizeAuthenticationTransaction(
+            getRandomService(), getCredential());
+
+        val ticketFactory = applicationContext.getBean(TicketFactory.BEAN_NAME, TicketFactory.class);
+        val ticketGrantingTicketFactory = (TicketGrantingTicketFactory) ticketFactory.get(TicketGrantingTicket.class);
+        ticketGrantingTicketIds = new String[getRegistrySize()];
+        for (var i = 0; i < ticketGrantingTicketIds.length; i++) {
+            val ticketGrantingTicket = ticketGrantingTicketFactory.create(authenticationResult.getAuthentication(),
+                authenticationResult.getService(), TicketGrantingTicket.class);
+            ticketRegistry.addTicket(ticketGrantingTicket);
+            ticketGrantingTicketIds[i] = ticketGrantingTicket.getId();
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void shutdownApplicationContext() {
+        if (applicationContext != null) {
+            applicationContext.close();
+        }
+    }
+
+    /**
+     * Whether tickets are encrypted and signed in the ticket registry.
+     *
+     * @return true or false
+     */
+    protected boolean isCipherEnabled() {
+        return false;
+    }
+
+    /**
+     * Number of ticket-granting tickets stored in the ticket registry before measurements.
+     *
+     * @return the registry size
+     */
+    protected int getRegistrySize() {
+        return 0;
+    }
+
+    /**
+     * Number of services registered with the service registry.
+     *
+     * @return the service count
+     */
+    protected int getServiceCount() {
+        return 1;
+    }
+
+    protected Service getRandomService() {
+        val index = ThreadLocalRandom.current().nextInt(getServiceCount());
+        return serviceFactory.createService(CasBenchmarkApplicationContext.getServiceUrl(index));
+    }
+
+    protected String getRandomTicketGrantingTicketId() {
+        return ticketGrantingTicketIds[ThreadLocalRandom.current().nextInt(ticketGrantingTicketIds.length)];
+    }
+
+    protected static UsernamePasswordCredential getCredential() {
+        return new UsernamePasswordCredential(CasBenchmarkApplicationContext.USERNAME, CasBenchmarkApplicationContext.PASSWORD);
+    }
+}
@@ -0,0 +1,168 @@
+package org.apereo.cas.benchmarks;
+
+import org.apereo.cas.authentication.AuthenticationEventExecutionPlanConfigurer;
+import org.apereo.cas.authentication.AuthenticationHandler;
+import org.apereo.cas.authentication.principal.PrincipalResolver;
+import org.apereo.cas.config.CasCoreAuditAutoConfiguration;
+import org.apereo.cas.config.CasCoreAuthenticationAutoConfiguration;
+import org.apereo.cas.config.CasCoreAutoConfiguration;
+import org.apereo.cas.config.CasCoreCookieAutoConfiguration;
+import org.apereo.cas.config.CasCoreLogoutAutoConfiguration;
+import org.apereo.cas.config.CasCoreMultifactorAuthenticationAutoConfiguration;
+import org.apereo.cas.config.CasCoreMultifactorAuthenticationWebflowAutoConfiguration;
+import org.apereo.cas.config.CasCoreNotificationsAutoConfiguration;
+import org.apereo.cas.config.CasCoreScriptingAutoConfiguration;
+import org.apereo.cas.config.CasCoreServicesAutoConfiguration;
+import org.apereo.cas.config.CasCoreTicketsAutoConfiguration;
+import org.apereo.cas.config.CasCoreUtilAutoConfiguration;
+import org.apereo.cas.config.CasCoreValidationAutoConfiguration;
+import org.apereo.cas.config.CasCoreWebAutoConfiguration;
+import org.apereo.cas.config.CasCoreWebflowAutoConfiguration;
+import org.apereo.cas.config.CasPersonDirectoryAutoConfiguration;
+import org.apereo.cas.configuration.CasConfigurationProperties;
+import org.apereo.cas.services.CasRegisteredService;
+import org.apereo.cas.services.RegisteredService;
+import org.apereo.cas.services.ServicesManager;
+import lombok.experimental.UtilityClass;
+import lombok.val;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.ApplicationContextFactory;
+import org.springframework.boot.Banner;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.actuate.autoconfigure.metrics.CompositeMeterRegistryAutoConfiguration;
+import org.springframework.boot.actuate.autoconfigure.metrics.MetricsAutoConfiguration;
+import org.springframework.boot.actuate.autoconfigure.observation.ObservationAutoConfiguration;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.aop.AopAutoConfiguration;
+import org.springframework.boot.autoconfigure.integration.IntegrationAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.autoconfigure.transaction.TransactionAutoConfiguration;
+import org.springframework.boot.autoconfigure.web.servlet.WebMvcAutoConfiguration;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.servlet.context.AnnotationConfigServletWebApplicationContext;
+import org.springframework.cloud.autoconfigure.RefreshAutoConfiguration;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Bean;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.stream.LongStream;
+
+/**
+ * This is {@link CasBenchmarkApplicationContext}, which bootstraps the CAS core
+ * application context that is shared by benchmarks. The context is built without an embedded
+ * web server, and authenticates users via the static list of accepted users.
+ *
+ * @author Misagh Moayyed
+ * @since 7.2.0
+ */
+@UtilityClass
+public class CasBenchmarkApplicationContext {
+    /**
+     * Username that is accepted for authentication.
+     */
+    public static final String USERNAME = "casuser";
+
+    /**
+     * Password that is accepted for authentication.
+     */
+    public static final String PASSWORD = "Mellon";
+
+    /**
+     * Start the application context.
+     *
+     * @param cipherEnabled whether tickets should be encrypted and signed in the ticket registry
+     * @param properties    additional CAS settings
+     * @return the application context
+     */
+    public static ConfigurableApplicationContext start(final boolean cipherEnabled,
+                                                       final Map<String, Object> properties) {
+        val settings = new HashMap<String, Object>(properties);
+        settings.put("spring.main.allow-bean-definition-overriding", "true");
+        settings.put("cas.authn.accept.users", USERNAME + "::" + PASSWORD);
+        settings.put("cas.ticket.registry.in-memory.crypto.enabled", String.valueOf(cipherEnabled));
+        settings.put("cas.ticket.registry.cleaner.schedule.enabled", "false");
+        settings.put("cas.service-registry.core.init-from-json", "false");
+        settings.put("cas.service-registry.schedule.enabled", "false");
+        settings.put("cas.audit.engine.enabled", "false");
+        return new SpringApplicationBuilder(CasBenchmarkConfiguration.class)
+            .web(WebApplicationType.SERVLET)
+            .contextFactory(ApplicationContextFactory.of(AnnotationConfigServletWebApplicationContext::new))
+            .bannerMode(Banner.Mode.OFF)
+            .logStartupInfo(false)
+            .properties(settings)
+            .run();
+    }
+
+    /**
+     * Register the given number of services, each with its own service id pattern.
+     *
+     * @param servicesManager the services manager
+     * @param count           the number of services
+     */
+    public static void registerServices(final ServicesManager servicesManager, final int count) {
+        servicesManager.save(LongStream.range(0, count).mapToObj(CasBenchmarkApplicationContext::newRegisteredService));
+        servicesManager.load();
+    }
+
+    /**
+     * Build the service url that matches the registered service with the given index.
+     *
+     * @param index the index
+     * @return the service url
+     */
+    public static String getServiceUrl(final long index) {
+        return "https://app%s.example.org/cas/login".formatted(index);
+    }
+
+    private static RegisteredService newRegisteredService(final long index) {
+        val service = new CasRegisteredService();
+        service.setId(index + 1);
+        service.setName("Application-%s".formatted(index));
+        service.setServiceId("^https://app%s\\.example\\.org/.*".formatted(index));
+        service.setEvaluationOrder((int) index);
+        return service;
+    }
+
+    @SpringBootConfiguration(proxyBeanMethods = false)
+    @EnableConfigurationProperties(CasConfigurationProperties.class)
+    @ImportAutoConfiguration({
+        AopAutoConfiguration.class,
+        CompositeMeterRegistryAutoConfiguration.class,
+        IntegrationAutoConfiguration.class,
+        JacksonAutoConfiguration.class,
+        MetricsAutoConfiguration.class,
+        ObservationAutoConfiguration.class,
+        RefreshAutoConfiguration.class,
+        TransactionAutoConfiguration.class,
+        WebMvcAutoConfiguration.class,
+        CasCoreCookieAutoConfiguration.class,
+        CasCoreServicesAutoConfiguration.class,
+        CasCoreTicketsAutoConfiguration.class,
+        CasCoreUtilAutoConfiguration.class,
+        CasCoreScriptingAutoConfiguration.class,
+        CasCoreAuthenticationAutoConfiguration.class,
+        CasCoreWebAutoConfiguration.class,
+        CasCoreWebflowAutoConfiguration.class,
+        CasCoreLogoutAutoConfiguration.class,
+        CasCoreAuditAutoConfiguration.class,
+        CasCoreNotificationsAutoConfiguration.class,
+        CasCoreMultifactorAuthenticationAutoConfiguration.class,
+        CasCoreMultifactorAuthenticationWebflowAutoConfiguration.class,
+        CasCoreValidationAutoConfiguration.class,
+        CasPersonDirectoryAutoConfiguration.class,
+        CasCoreAutoConfiguration.class
+    })
+    static class CasBenchmarkConfiguration {
+        @Bean
+        public AuthenticationEventExecutionPlanConfigurer benchmarkAuthenticationEventExecutionPlanConfigurer(
+            @Qualifier("acceptUsersAuthenticationHandler")
+            final AuthenticationHandler acceptUsersAuthenticationHandler,
+            @Qualifier(PrincipalResolver.BEAN_NAME_PRINCIPAL_RESOLVER)
+            final PrincipalResolver defaultPrincipalResolver) {
+            return plan -> plan.registerAuthenticationHandlerWithPrincipalResolver(
+                acceptUsersAuthenticationHandler, defaultPrincipalResolver);
+        }
+    }
+}
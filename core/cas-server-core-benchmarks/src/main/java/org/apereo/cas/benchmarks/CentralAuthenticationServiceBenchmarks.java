@@ -0,0 +1,68 @@
+package org.apereo.cas.benchmarks;
+
+import org.apereo.cas.CentralAuthenticationService;
+import org.apereo.cas.ticket.Ticket;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * This is {@link CentralAuthenticationServiceBenchmarks}, measuring how fast
+ * service tickets are granted for an existing single sign-on session.
+ * A new ticket-granting ticket is created for every iteration and removed afterwards
+ * along with its service tickets, so the registry size remains stable across iterations.
+ *
+ * @author Misagh Moayyed
+ * @since 7.2.0
+ */
+public class CentralAuthenticationServiceBenchmarks extends BaseCasBenchmarks {
+    @Param({"false", "true"})
+    private boolean cipherEnabled;
+
+    @Param({"1000", "100000"})
+    private int registrySize;
+
+    @Param({"100", "5000"})
+    private int serviceCount;
+
+    private CentralAuthenticationService centralAuthenticationService;
+
+    private String ticketGrantingTicketId;
+
+    @Setup(Level.Trial)
+    public void setupCentralAuthenticationService() {
+        centralAuthenticationService = applicationContext.getBean(CentralAuthenticationService.BEAN_NAME, CentralAuthenticationService.class);
+    }
+
+    @Setup(Level.Iteration)
+    public void createTicketGrantingTicket() throws Throwable {
+        ticketGrantingTicketId = centralAuthenticationService.createTicketGrantingTicket(authenticationResult).getId();
+    }
+
+    @TearDown(Level.Iteration)
+    public void removeTicketGrantingTicket() throws Throwable {
+        ticketRegistry.deleteTicket(ticketGrantingTicketId);
+    }
+
+    @Benchmark
+    public Ticket grantServiceTicket() throws Throwable {
+        return centralAuthenticationService.grantServiceTicket(ticketGrantingTicketId, getRandomService(), authenticationResult);
+    }
+
+    @Override
+    protected boolean isCipherEnabled() {
+        return cipherEnabled;
+    }
+
+    @Override
+    protected int getRegistrySize() {
+        return registrySize;
+    }
+
+    @Override
+    protected int getServiceCount() {
+        return serviceCount;
+    }
+}
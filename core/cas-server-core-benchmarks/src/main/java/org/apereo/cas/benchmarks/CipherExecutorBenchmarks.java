@@ -0,0 +1,64 @@
+package org.apereo.cas.benchmarks;
+
+import org.apereo.cas.util.cipher.BaseStringCipherExecutor;
+import org.apereo.cas.util.cipher.TicketGrantingCookieCipherExecutor;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * This is {@link CipherExecutorBenchmarks}, measuring how fast ticket-granting cookie values
+ * are encoded and decoded for each cipher operations strategy, comparing compact JWE/JWS serializations
+ * with the compact AES-GCM/HMAC encoding. Unlike other benchmarks, this does not require
+ * the CAS application context.
+ *
+ * @author Misagh Moayyed
+ * @since 7.2.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 10)
+public class CipherExecutorBenchmarks {
+    private static final String ENCRYPTION_KEY = "1PbwSbnHeinpkZOSZjuSJ8yYpUrInm5aaV18J2Ar4rM";
+
+    private static final String SIGNING_KEY = "szxK-5_eJjs-aUj-64MpUZ-GPPzGLhYPLGl0wrYjYNVAGva2P0lLe6UGKGM7k8dWxsOVGutZWgvmY3l5oVPO3w";
+
+    private static final String VALUE = "TGT-1-jvx5Oq6HS8qXwGuVw8QLXq6JYpWSg7mVHzqkK1Yz4GZ3OmDgbCXVyPZHxmFq1kmUqV-cas.example.org";
+
+    @Param({"ENCRYPT_AND_SIGN", "SIGN_AND_ENCRYPT", "COMPACT"})
+    private String strategyType;
+
+    private TicketGrantingCookieCipherExecutor cipherExecutor;
+
+    private String encodedValue;
+
+    @Setup(Level.Trial)
+    public void setupCipherExecutor() {
+        cipherExecutor = new TicketGrantingCookieCipherExecutor(ENCRYPTION_KEY, SIGNING_KEY, 0, 0);
+        cipherExecutor.setStrategyType(BaseStringCipherExecutor.CipherOperationsStrategyType.valueOf(strategyType));
+        encodedValue = cipherExecutor.encode(VALUE);
+    }
+
+    @Benchmark
+    public String encode() {
+        return cipherExecutor.encode(VALUE);
+    }
+
+    @Benchmark
+    public String decode() {
+        return cipherExecutor.decode(encodedValue);
+    }
+}
@@ -0,0 +1,27 @@
+package org.apereo.cas.benchmarks;
+
+import org.apereo.cas.services.RegisteredService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+
+/**
+ * This is {@link ServicesManagerBenchmarks}, measuring how fast
+ * registered services are located for incoming service requests.
+ *
+ * @author Misagh Moayyed
+ * @since 7.2.0
+ */
+public class ServicesManagerBenchmarks extends BaseCasBenchmarks {
+    @Param({"100", "1000", "10000"})
+    private int serviceCount;
+
+    @Benchmark
+    public RegisteredService findServiceBy() {
+        return servicesManager.findServiceBy(getRandomService());
+    }
+
+    @Override
+    protected int getServiceCount() {
+        return serviceCount;
+    }
+}
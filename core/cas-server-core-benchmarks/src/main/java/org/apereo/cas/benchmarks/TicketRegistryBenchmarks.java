@@ -0,0 +1,74 @@
+package org.apereo.cas.benchmarks;
+
+import org.apereo.cas.ticket.Ticket;
+import org.apereo.cas.ticket.TicketFactory;
+import org.apereo.cas.ticket.TicketGrantingTicket;
+import org.apereo.cas.ticket.TicketGrantingTicketFactory;
+import lombok.val;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.TearDown;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * This is {@link TicketRegistryBenchmarks}, measuring how fast tickets
+ * can be added to and fetched from the default in-memory ticket registry.
+ *
+ * @author Misagh Moayyed
+ * @since 7.2.0
+ */
+public class TicketRegistryBenchmarks extends BaseCasBenchmarks {
+    @Param({"false", "true"})
+    private boolean cipherEnabled;
+
+    @Param({"1000", "100000"})
+    private int registrySize;
+
+    private TicketGrantingTicketFactory ticketGrantingTicketFactory;
+
+    private final Queue<String> addedTicketIds = new ConcurrentLinkedQueue<>();
+
+    @Setup(Level.Trial)
+    public void setupTicketFactory() {
+        val ticketFactory = applicationContext.getBean(TicketFactory.BEAN_NAME, TicketFactory.class);
+        ticketGrantingTicketFactory = (TicketGrantingTicketFactory) ticketFactory.get(TicketGrantingTicket.class);
+    }
+
+    /**
+     * Remove tickets added during the iteration, so the registry size remains stable across iterations.
+     *
+     * @throws Throwable the throwable
+     */
+    @TearDown(Level.Iteration)
+    public void removeAddedTickets() throws Throwable {
+        ticketRegistry.deleteTickets(addedTicketIds);
+        addedTicketIds.clear();
+    }
+
+    @Benchmark
+    public Ticket addTicket() throws Throwable {
+        val ticketGrantingTicket = ticketGrantingTicketFactory.create(authenticationResult.getAuthentication(),
+            authenticationResult.getService(), TicketGrantingTicket.class);
+        val result = ticketRegistry.addTicket(ticketGrantingTicket);
+        addedTicketIds.add(ticketGrantingTicket.getId());
+        return result;
+    }
+
+    @Benchmark
+    public Ticket getTicket() {
+        return ticketRegistry.getTicket(getRandomTicketGrantingTicketId());
+    }
+
+    @Override
+    protected boolean isCipherEnabled() {
+        return cipherEnabled;
+    }
+
+    @Override
+    protected int getRegistrySize() {
+        return registrySize;
+    }
+}
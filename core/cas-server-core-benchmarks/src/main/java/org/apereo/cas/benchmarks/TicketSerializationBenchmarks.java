@@ -0,0 +1,45 @@
+package org.apereo.cas.benchmarks;
+
+import org.apereo.cas.ticket.Ticket;
+import org.apereo.cas.ticket.TicketGrantingTicket;
+import org.apereo.cas.ticket.serialization.TicketSerializationManager;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Setup;
+
+/**
+ * This is {@link TicketSerializationBenchmarks}, measuring how fast
+ * ticket-granting tickets are serialized and deserialized by the ticket serialization manager.
+ *
+ * @author Misagh Moayyed
+ * @since 7.2.0
+ */
+public class TicketSerializationBenchmarks extends BaseCasBenchmarks {
+    private TicketSerializationManager ticketSerializationManager;
+
+    private TicketGrantingTicket ticketGrantingTicket;
+
+    private String serializedTicket;
+
+    @Setup(Level.Trial)
+    public void setupTicket() {
+        ticketSerializationManager = applicationContext.getBean(TicketSerializationManager.BEAN_NAME, TicketSerializationManager.class);
+        ticketGrantingTicket = (TicketGrantingTicket) ticketRegistry.getTicket(ticketGrantingTicketIds[0]);
+        serializedTicket = ticketSerializationManager.serializeTicket(ticketGrantingTicket);
+    }
+
+    @Benchmark
+    public String serializeTicket() {
+        return ticketSerializationManager.serializeTicket(ticketGrantingTicket);
+    }
+
+    @Benchmark
+    public Ticket deserializeTicket() {
+        return ticketSerializationManager.deserializeTicket(serializedTicket, ticketGrantingTicket.getClass());
+    }
+
+    @Override
+    protected int getRegistrySize() {
+        return 1;
+    }
+}
@@ -0,0 +1,91 @@
+package org.apereo.cas.benchmarks;
+
+import org.apereo.cas.authentication.credential.UsernamePasswordCredential;
+import org.apereo.cas.util.cipher.WebflowConversationStateCipherExecutor;
+import org.apereo.cas.web.flow.executor.CompactTranscoder;
+import org.apereo.cas.web.flow.executor.EncryptedTranscoder;
+import org.apereo.cas.web.flow.executor.Transcoder;
+import org.apereo.cas.web.flow.executor.WebflowCipherBean;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.webflow.core.collection.LocalAttributeMap;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * This is {@link WebflowTranscoderBenchmarks}, measuring how fast client-side webflow state
+ * is encoded and decoded for each transcoder. The size of the encoded state produced by each transcoder
+ * is logged once the benchmark is set up. Unlike other benchmarks, this does not require
+ * the CAS application context.
+ *
+ * @author Misagh Moayyed
+ * @since 7.2.0
+ */
+@Slf4j
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 10)
+public class WebflowTranscoderBenchmarks {
+    private static final String ENCRYPTION_KEY = "qLhvLuaobvfzMmbo9U_bYA";
+
+    private static final String SIGNING_KEY = "oZeAR5pEXsolruu4OQYsQKxf-FCvFzSsKlsVaKmfIl6pNzoPm6zPW94NRS1af7vT-0bb3DpPBeksvBXjloEsiA";
+
+    @Param({"ENCRYPTED", "COMPACT"})
+    private String transcoderType;
+
+    private Transcoder transcoder;
+
+    private LocalAttributeMap<Object> flowScope;
+
+    private byte[] encodedState;
+
+    @Setup(Level.Trial)
+    public void setupTranscoder() throws Exception {
+        val cipherExecutor = new WebflowConversationStateCipherExecutor(ENCRYPTION_KEY, SIGNING_KEY, "AES", 512, 16);
+        val cipherBean = new WebflowCipherBean(cipherExecutor);
+        transcoder = "COMPACT".equals(transcoderType)
+            ? new CompactTranscoder(cipherBean, 262_144)
+            : new EncryptedTranscoder(cipherBean);
+
+        flowScope = new LocalAttributeMap<>();
+        flowScope.put("credential", new UsernamePasswordCredential("casuser", "Mellon"));
+        flowScope.put("service", "https://apps.example.org/portal/login?redirect=%2Fdashboard");
+        flowScope.put("authenticationAttempts", 1);
+        flowScope.put("rememberMe", Boolean.FALSE);
+        flowScope.put("providers", new ArrayList<>(List.of("mfa-duo", "mfa-gauth", "mfa-webauthn")));
+        val attributes = new LinkedHashMap<String, Object>();
+        attributes.put("email", List.of("casuser@example.org"));
+        attributes.put("memberOf", List.of("staff", "faculty", "admins"));
+        flowScope.put("principalAttributes", attributes);
+
+        encodedState = transcoder.encode(flowScope);
+        LOGGER.info("Encoded state produced by [{}] is [{}] byte(s)", transcoderType, encodedState.length);
+    }
+
+    @Benchmark
+    public byte[] encode() throws Exception {
+        return transcoder.encode(flowScope);
+    }
+
+    @Benchmark
+    public Object decode() throws Exception {
+        return transcoder.decode(encodedState);
+    }
+}
@@ -0,0 +1,199 @@
+package org.apereo.cas.logout.slo;
+
+import org.apereo.cas.configuration.model.core.slo.SingleLogoutDispatcherProperties;
+import org.apereo.cas.configuration.support.Beans;
+import org.apereo.cas.util.LoggingUtils;
+import org.apereo.cas.util.http.HttpClient;
+import org.apereo.cas.util.http.HttpMessage;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import org.apache.hc.client5.http.classic.methods.HttpPost;
+import org.apache.hc.core5.http.ContentType;
+import org.apache.hc.core5.http.HttpStatus;
+import org.apache.hc.core5.http.io.HttpClientResponseHandler;
+import org.apache.hc.core5.http.io.entity.StringEntity;
+import org.springframework.beans.factory.DisposableBean;
+
+import java.time.Duration;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * This is {@link DefaultSingleLogoutMessageDispatcher}. Every logout message is delivered on its own
+ * virtual thread, so that a slow application does not hold up messages for other applications
+ * or the caller, and the number of messages in flight is bounded by a semaphore.
+ * Each delivery attempt is aborted once the configured timeout is reached, and failed attempts
+ * are retried with exponential backoff. Messages that cannot be delivered after all attempts
+ * are stored in the outbox, and picked up again by {@link #redeliver()}. Redelivery claims messages
+ * from the outbox so that nodes sharing the outbox do not deliver the same message twice, and discards
+ * messages that have exceeded their time-to-live or the maximum number of redelivery attempts.
+ * <p>
+ * Messages are posted via the underlying client directly rather than through
+ * {@link HttpClient#sendMessageToEndPoint(HttpMessage)}, whose executor is shared with other callers.
+ *
+ * @author Misagh Moayyed
+ * @since 7.2.0
+ */
+@Slf4j
+@Getter
+public class DefaultSingleLogoutMessageDispatcher implements SingleLogoutMessageDispatcher, DisposableBean {
+    private final HttpClient httpClient;
+
+    private final SingleLogoutMessageOutbox outbox;
+
+    private final SingleLogoutDispatcherProperties properties;
+
+    private final Semaphore permits;
+
+    private final Duration timeout;
+
+    private final Duration retryDelay;
+
+    private final Duration maxRetryDelay;
+
+    private final Duration messageTimeToLive;
+
+    private final ExecutorService executorService = Executors.newVirtualThreadPerTaskExecutor();
+
+    public DefaultSingleLogoutMessageDispatcher(final HttpClient httpClient,
+                                                final SingleLogoutMessageOutbox outbox,
+                                                final SingleLogoutDispatcherProperties properties) {
+        this.httpClient = httpClient;
+        this.outbox = outbox;
+        this.properties = properties;
+        this.permits = new Semaphore(Math.max(1, properties.getMaxConcurrency()));
+        this.timeout = Beans.newDuration(properties.getTimeout());
+        this.retryDelay = Beans.newDuration(properties.getRetryDelay());
+        this.maxRetryDelay = Beans.newDuration(properties.getMaxRetryDelay());
+        this.messageTimeToLive = Beans.newDuration(properties.getOutboxMessageTimeToLive());
+    }
+
+    @Override
+    public boolean dispatch(final HttpMessage message) {
+        val outboxMessage = SingleLogoutOutboxMessage.from(message);
+        val task = executorService.submit(() -> deliverOrStore(outboxMessage));
+        if (message.isAsynchronous()) {
+            LOGGER.trace("Dispatched logout message [{}] to [{}] asynchronously", outboxMessage.id(), outboxMessage.url());
+            return true;
+        }
+        try {
+            return task.get();
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        } catch (final ExecutionException e) {
+            LoggingUtils.error(LOGGER, e);
+            return false;
+        }
+    }
+
+    @Override
+    public int redeliver() {
+        val messages = outbox.claim(properties.getOutboxBatchSize());
+        if (messages.isEmpty()) {
+            return 0;
+        }
+        LOGGER.debug("Redelivering [{}] logout message(s) from the outbox", messages.size());
+        val delivered = new AtomicInteger();
+        try (val executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            messages.forEach(message -> executor.execute(() -> {
+                if (isExpired(message)) {
+                    LOGGER.warn("Discarding logout message [{}] to [{}] since it is older than [{}]",
+                        message.id(), message.url(), messageTimeToLive);
+                    outbox.remove(message);
+                } else if (deliver(message)) {
+                    outbox.remove(message);
+                    delivered.incrementAndGet();
+                } else if (message.deliveryAttempts() + 1 >= properties.getOutboxMaxDeliveryAttempts()) {
+                    LOGGER.warn("Discarding logout message [{}] to [{}] after [{}] redelivery attempt(s)",
+                        message.id(), message.url(), message.deliveryAttempts() + 1);
+                    outbox.remove(message);
+                } else {
+                    outbox.store(message.withNextDeliveryAttempt());
+                }
+            }));
+        }
+        return delivered.get();
+    }
+
+    @Override
+    public void destroy() {
+        executorService.shutdown();
+    }
+
+    protected boolean isExpired(final SingleLogoutOutboxMessage message) {
+        return messageTimeToLive.isPositive()
+            && System.currentTimeMillis() - message.createdAt() > messageTimeToLive.toMillis();
+    }
+
+    protected boolean deliverOrStore(final SingleLogoutOutboxMessage message) {
+        if (deliver(message)) {
+            return true;
+        }
+        LOGGER.warn("Unable to deliver logout message [{}] to [{}]; message is stored in the outbox for redelivery",
+            message.id(), message.url());
+        outbox.store(message);
+        return false;
+    }
+
+    protected boolean deliver(final SingleLogoutOutboxMessage message) {
+        var delay = retryDelay;
+        val maxAttempts = Math.max(1, properties.getMaxAttempts());
+        for (var attempt = 1; attempt <= maxAttempts; attempt++) {
+            if (attemptDelivery(message)) {
+                LOGGER.debug("Delivered logout message [{}] to [{}] on attempt [{}]", message.id(), message.url(), attempt);
+                return true;
+            }
+            if (attempt < maxAttempts) {
+                LOGGER.debug("Attempt [{}] to deliver logout message [{}] to [{}] has failed; retrying in [{}]",
+                    attempt, message.id(), message.url(), delay);
+                try {
+                    Thread.sleep(delay);
+                } catch (final InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return false;
+                }
+                val nextDelay = (long) (delay.toMillis() * properties.getRetryMultiplier());
+                delay = Duration.ofMillis(Math.min(nextDelay, maxRetryDelay.toMillis()));
+            }
+        }
+        return false;
+    }
+
+    protected boolean attemptDelivery(final SingleLogoutOutboxMessage message) {
+        try {
+            permits.acquire();
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+        val request = new HttpPost(message.url());
+        try {
+            request.addHeader("Content-Type", message.contentType());
+            request.setEntity(new StringEntity(message.message(), ContentType.create(message.contentType())));
+            val handler = (HttpClientResponseHandler<Boolean>) response -> response.getCode() == HttpStatus.SC_OK;
+            val task = executorService.submit(() -> httpClient.wrappedHttpClient().execute(request, handler));
+            return task.get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (final TimeoutException e) {
+            LOGGER.debug("Logout message [{}] to [{}] timed out after [{}]", message.id(), message.url(), timeout);
+            request.cancel();
+            return false;
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            request.cancel();
+            return false;
+        } catch (final Exception e) {
+            LOGGER.debug("Unable to send logout message [{}] to [{}]: [{}]", message.id(), message.url(), e.getMessage());
+            return false;
+        } finally {
+            permits.release();
+        }
+    }
+}
@@ -0,0 +1,184 @@
+package org.apereo.cas.logout.slo;
+
+import org.apereo.cas.util.LoggingUtils;
+import org.apereo.cas.util.function.FunctionUtils;
+import org.apereo.cas.util.serialization.JacksonObjectMapperFactory;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import org.apache.commons.lang3.StringUtils;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * This is {@link FileSystemSingleLogoutMessageOutbox}, which stores each logout message
+ * as a JSON document inside a directory, so that messages survive restarts. Documents are written
+ * to a temporary file first and then moved into place, so a crash never leaves a partial message behind.
+ * Messages are claimed in the order in which they were last written.
+ * <p>
+ * The directory may be shared by several CAS nodes. A message is claimed by atomically renaming
+ * its document, so only one node can claim it; others find the document gone and skip it.
+ * Claims that are neither removed nor stored again within the claim timeout,
+ * typically because the node stopped, are released back into the outbox.
+ *
+ * @author Misagh Moayyed
+ * @since 7.2.0
+ */
+@Slf4j
+public class FileSystemSingleLogoutMessageOutbox implements SingleLogoutMessageOutbox {
+    private static final String FILE_EXTENSION = ".json";
+
+    private static final String CLAIM_EXTENSION = ".claimed";
+
+    private static final ObjectMapper MAPPER = JacksonObjectMapperFactory.builder()
+        .defaultTypingEnabled(false).build().toObjectMapper();
+
+    private final Path directory;
+
+    private final Duration claimTimeout;
+
+    public FileSystemSingleLogoutMessageOutbox(final Path directory, final Duration claimTimeout) {
+        this.directory = directory;
+        this.claimTimeout = claimTimeout;
+        FunctionUtils.doUnchecked(__ -> Files.createDirectories(directory));
+    }
+
+    @Override
+    public void store(final SingleLogoutOutboxMessage message) {
+        FunctionUtils.doAndHandle(__ -> {
+            val temporaryFile = Files.createTempFile(directory, message.id(), ".tmp");
+            MAPPER.writeValue(temporaryFile.toFile(), message);
+            Files.move(temporaryFile, getMessageFile(message), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            Files.deleteIfExists(getClaimFile(message.id()));
+            LOGGER.trace("Stored logout message [{}] for [{}] in [{}]", message.id(), message.url(), directory);
+        });
+    }
+
+    @Override
+    public List<SingleLogoutOutboxMessage> claim(final int limit) {
+        releaseExpiredClaims();
+        try (val files = Files.list(directory)) {
+            val candidates = files
+                .filter(file -> file.getFileName().toString().endsWith(FILE_EXTENSION))
+                .map(file -> Map.entry(file, getLastModifiedTime(file)))
+                .sorted(Map.Entry.comparingByValue(Comparator.nullsLast(Comparator.naturalOrder())))
+                .map(Map.Entry::getKey)
+                .toList();
+            val claimed = new ArrayList<SingleLogoutOutboxMessage>();
+            for (val file : candidates) {
+                if (claimed.size() >= limit) {
+                    break;
+                }
+                val claimFile = claimFile(file);
+                if (claimFile != null) {
+                    val message = readMessage(claimFile);
+                    if (message == null) {
+                        FunctionUtils.doAndHandle(__ -> Files.deleteIfExists(claimFile));
+                    } else {
+                        claimed.add(message);
+                    }
+                }
+            }
+            return claimed;
+        } catch (final IOException e) {
+            LoggingUtils.error(LOGGER, e);
+            return List.of();
+        }
+    }
+
+    @Override
+    public void remove(final SingleLogoutOutboxMessage message) {
+        FunctionUtils.doAndHandle(__ -> {
+            Files.deleteIfExists(getClaimFile(message.id()));
+            Files.deleteIfExists(getMessageFile(message));
+        });
+    }
+
+    @Override
+    public long size() {
+        try (val files = Files.list(directory)) {
+            return files.filter(file -> file.getFileName().toString().endsWith(FILE_EXTENSION)).count();
+        } catch (final IOException e) {
+            LoggingUtils.error(LOGGER, e);
+            return 0;
+        }
+    }
+
+    private Path getMessageFile(final SingleLogoutOutboxMessage message) {
+        return directory.resolve(message.id() + FILE_EXTENSION);
+    }
+
+    private Path getClaimFile(final String id) {
+        return directory.resolve(id + CLAIM_EXTENSION);
+    }
+
+    private Path claimFile(final Path file) {
+        val id = StringUtils.removeEnd(file.getFileName().toString(), FILE_EXTENSION);
+        val claimFile = getClaimFile(id);
+        try {
+            Files.move(file, claimFile, StandardCopyOption.ATOMIC_MOVE);
+            Files.setLastModifiedTime(claimFile, FileTime.from(Instant.now()));
+            return claimFile;
+        } catch (final NoSuchFileException e) {
+            LOGGER.trace("Logout message [{}] is already claimed", id);
+            return null;
+        } catch (final IOException e) {
+            LOGGER.warn("Unable to claim logout message from [{}]: [{}]", file, e.getMessage());
+            return null;
+        }
+    }
+
+    private void releaseExpiredClaims() {
+        val expiration = FileTime.from(Instant.now().minus(claimTimeout));
+        try (val files = Files.list(directory)) {
+            files
+                .filter(file -> file.getFileName().toString().endsWith(CLAIM_EXTENSION))
+                .filter(file -> {
+                    val lastModifiedTime = getLastModifiedTime(file);
+                    return lastModifiedTime != null && lastModifiedTime.compareTo(expiration) < 0;
+                })
+                .forEach(file -> {
+                    val id = StringUtils.removeEnd(file.getFileName().toString(), CLAIM_EXTENSION);
+                    try {
+                        Files.move(file, directory.resolve(id + FILE_EXTENSION), StandardCopyOption.ATOMIC_MOVE);
+                        LOGGER.debug("Released expired claim on logout message [{}]", id);
+                    } catch (final NoSuchFileException e) {
+                        LOGGER.trace("Expired claim on logout message [{}] is already released", id);
+                    } catch (final IOException e) {
+                        LOGGER.warn("Unable to release claim on logout message from [{}]: [{}]", file, e.getMessage());
+                    }
+                });
+        } catch (final IOException e) {
+            LoggingUtils.error(LOGGER, e);
+        }
+    }
+
+    private static FileTime getLastModifiedTime(final Path file) {
+        try {
+            return Files.getLastModifiedTime(file);
+        } catch (final IOException e) {
+            return null;
+        }
+    }
+
+    private static SingleLogoutOutboxMessage readMessage(final Path file) {
+        try {
+            return MAPPER.readValue(file.toFile(), SingleLogoutOutboxMessage.class);
+        } catch (final IOException e) {
+            LOGGER.warn("Unable to read logout message from [{}]: [{}]", file, e.getMessage());
+            return null;
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package org.apereo.cas.logout.slo;
+
+import lombok.val;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * This is {@link InMemorySingleLogoutMessageOutbox}, which keeps
+ * logout messages in memory. Messages do not survive restarts.
+ * Claiming a message takes it out of the outbox until it is stored again.
+ *
+ * @author Misagh Moayyed
+ * @since 7.2.0
+ */
+public class InMemorySingleLogoutMessageOutbox implements SingleLogoutMessageOutbox {
+    private final Map<String, SingleLogoutOutboxMessage> messages = new ConcurrentHashMap<>();
+
+    @Override
+    public void store(final SingleLogoutOutboxMessage message) {
+        messages.put(message.id(), message);
+    }
+
+    @Override
+    public List<SingleLogoutOutboxMessage> claim(final int limit) {
+        val candidates = messages.values()
+            .stream()
+            .sorted(Comparator.comparingLong(SingleLogoutOutboxMessage::createdAt))
+            .toList();
+        val claimed = new ArrayList<SingleLogoutOutboxMessage>();
+        for (val message : candidates) {
+            if (claimed.size() >= limit) {
+                break;
+            }
+            if (messages.remove(message.id(), message)) {
+                claimed.add(message);
+            }
+        }
+        return claimed;
+    }
+
+    @Override
+    public void remove(final SingleLogoutOutboxMessage message) {
+        messages.remove(message.id());
+    }
+
+    @Override
+    public long size() {
+        return messages.size();
+    }
+}
@@ -0,0 +1,35 @@
+package org.apereo.cas.logout.slo;
+
+import org.apereo.cas.util.http.HttpMessage;
+
+/**
+ * This is {@link SingleLogoutMessageDispatcher}, which is responsible for delivering
+ * back-channel logout messages to applications. Messages that cannot be delivered
+ * are handed off to a {@link SingleLogoutMessageOutbox} for later redelivery.
+ *
+ * @author Misagh Moayyed
+ * @since 7.2.0
+ */
+public interface SingleLogoutMessageDispatcher {
+    /**
+     * Default bean name.
+     */
+    String BEAN_NAME = "singleLogoutMessageDispatcher";
+
+    /**
+     * Dispatch the logout message to its endpoint.
+     * Asynchronous messages are queued for delivery and the call returns immediately;
+     * otherwise, the caller waits for the outcome of the delivery, including retries.
+     *
+     * @param message the message
+     * @return true if the message was delivered, or queued for asynchronous delivery.
+     */
+    boolean dispatch(HttpMessage message);
+
+    /**
+     * Redeliver messages that are found in the outbox.
+     *
+     * @return the number of messages that were delivered
+     */
+    int redeliver();
+}
@@ -0,0 +1,49 @@
+package org.apereo.cas.logout.slo;
+
+import java.util.List;
+
+/**
+ * This is {@link SingleLogoutMessageOutbox}, which keeps track of
+ * back-channel logout messages that could not be delivered to applications.
+ *
+ * @author Misagh Moayyed
+ * @since 7.2.0
+ */
+public interface SingleLogoutMessageOutbox {
+    /**
+     * Default bean name.
+     */
+    String BEAN_NAME = "singleLogoutMessageOutbox";
+
+    /**
+     * Store the message, replacing any previous message with the same id
+     * and releasing any claim held on it.
+     *
+     * @param message the message
+     */
+    void store(SingleLogoutOutboxMessage message);
+
+    /**
+     * Claim messages for redelivery, oldest first. A claimed message is not handed out
+     * again by this or any other outbox that shares the same storage, until it is
+     * either stored again or removed.
+     *
+     * @param limit the maximum number of messages to claim
+     * @return the claimed messages
+     */
+    List<SingleLogoutOutboxMessage> claim(int limit);
+
+    /**
+     * Remove the message from the outbox, along with any claim held on it.
+     *
+     * @param message the message
+     */
+    void remove(SingleLogoutOutboxMessage message);
+
+    /**
+     * Number of messages in the outbox that are not claimed.
+     *
+     * @return the count
+     */
+    long size();
+}
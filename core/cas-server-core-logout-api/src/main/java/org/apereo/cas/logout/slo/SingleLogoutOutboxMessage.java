@@ -0,0 +1,46 @@
+package org.apereo.cas.logout.slo;
+
+import org.apereo.cas.util.http.HttpMessage;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.util.UUID;
+
+/**
+ * This is {@link SingleLogoutOutboxMessage}, which captures a logout message
+ * in its final, encoded form so that it can be redelivered as-is.
+ *
+ * @param id               the message id
+ * @param url              the endpoint url
+ * @param message          the encoded message body
+ * @param contentType      the content type
+ * @param deliveryAttempts the number of times redelivery was attempted
+ * @param createdAt        the time the message was added to the outbox, in milliseconds since epoch
+ * @author Misagh Moayyed
+ * @since 7.2.0
+ */
+public record SingleLogoutOutboxMessage(String id, String url, String message, String contentType,
+                                        int deliveryAttempts, long createdAt) implements Serializable {
+    @Serial
+    private static final long serialVersionUID = 3195328512843104372L;
+
+    /**
+     * Create an outbox message from the given http message.
+     *
+     * @param message the message
+     * @return the outbox message
+     */
+    public static SingleLogoutOutboxMessage from(final HttpMessage message) {
+        return new SingleLogoutOutboxMessage(UUID.randomUUID().toString(), message.getUrl().toExternalForm(),
+            message.getMessage(), message.getContentType(), 0, System.currentTimeMillis());
+    }
+
+    /**
+     * Copy of this message with the delivery attempts incremented.
+     *
+     * @return the outbox message
+     */
+    public SingleLogoutOutboxMessage withNextDeliveryAttempt() {
+        return new SingleLogoutOutboxMessage(id, url, message, contentType, deliveryAttempts + 1, createdAt);
+    }
+}
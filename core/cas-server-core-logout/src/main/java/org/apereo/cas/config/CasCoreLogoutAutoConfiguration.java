@@ -6,6 +6,7 @@ import org.apereo.cas.authentication.principal.ServiceFactoryConfigurer;
 import org.apereo.cas.authentication.principal.WebApplicationService;
 import org.apereo.cas.configuration.CasConfigurationProperties;
 import org.apereo.cas.configuration.features.CasFeatureModule;
+import org.apereo.cas.configuration.support.Beans;
 import org.apereo.cas.logout.DefaultLogoutExecutionPlan;
 import org.apereo.cas.logout.DefaultLogoutManager;
 import org.apereo.cas.logout.DefaultLogoutRedirectionStrategy;
@@ -18,10 +19,15 @@ import org.apereo.cas.logout.LogoutPostProcessor;
 import org.apereo.cas.logout.LogoutRedirectionStrategy;
 import org.apereo.cas.logout.LogoutWebApplicationServiceFactory;
 import org.apereo.cas.logout.slo.ChainingSingleLogoutServiceLogoutUrlBuilder;
+import org.apereo.cas.logout.slo.DefaultSingleLogoutMessageDispatcher;
 import org.apereo.cas.logout.slo.DefaultSingleLogoutRequestExecutor;
 import org.apereo.cas.logout.slo.DefaultSingleLogoutServiceLogoutUrlBuilder;
 import org.apereo.cas.logout.slo.DefaultSingleLogoutServiceMessageHandler;
+import org.apereo.cas.logout.slo.FileSystemSingleLogoutMessageOutbox;
+import org.apereo.cas.logout.slo.InMemorySingleLogoutMessageOutbox;
 import org.apereo.cas.logout.slo.SingleLogoutMessageCreator;
+import org.apereo.cas.logout.slo.SingleLogoutMessageDispatcher;
+import org.apereo.cas.logout.slo.SingleLogoutMessageOutbox;
 import org.apereo.cas.logout.slo.SingleLogoutRequestExecutor;
 import org.apereo.cas.logout.slo.SingleLogoutServiceLogoutUrlBuilder;
 import org.apereo.cas.logout.slo.SingleLogoutServiceLogoutUrlBuilderConfigurer;
@@ -30,15 +36,19 @@ import org.apereo.cas.services.ServicesManager;
 import org.apereo.cas.ticket.registry.TicketRegistry;
 import org.apereo.cas.ticket.tracking.TicketTrackingPolicy;
 import org.apereo.cas.util.CollectionUtils;
+import org.apereo.cas.util.function.FunctionUtils;
 import org.apereo.cas.util.http.HttpClient;
 import org.apereo.cas.util.spring.beans.BeanCondition;
 import org.apereo.cas.util.spring.beans.BeanSupplier;
 import org.apereo.cas.util.spring.boot.ConditionalOnFeatureEnabled;
+import org.apereo.cas.util.spring.boot.ConditionalOnMatchingHostname;
 import org.apereo.cas.web.UrlValidator;
 import org.apereo.cas.web.support.ArgumentExtractor;
 
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
+import org.apache.commons.lang3.StringUtils;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
 import org.springframework.boot.autoconfigure.AutoConfigureOrder;
@@ -48,9 +58,13 @@ import org.springframework.cloud.context.config.annotation.RefreshScope;
 import org.springframework.context.ConfigurableApplicationContext;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Lazy;
 import org.springframework.context.annotation.ScopedProxyMode;
 import org.springframework.core.Ordered;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.annotation.Scheduled;
 
+import java.nio.file.Path;
 import java.util.Comparator;
 import java.util.List;
 import java.util.stream.Collectors;
@@ -141,13 +155,17 @@ public class CasCoreLogoutAutoConfiguration {
             @Qualifier(HttpClient.BEAN_NAME_HTTPCLIENT_NO_REDIRECT)
             final HttpClient noRedirectHttpClient,
             @Qualifier("singleLogoutServiceLogoutUrlBuilder")
-            final SingleLogoutServiceLogoutUrlBuilder singleLogoutServiceLogoutUrlBuilder) {
-            return new DefaultSingleLogoutServiceMessageHandler(noRedirectHttpClient,
+            final SingleLogoutServiceLogoutUrlBuilder singleLogoutServiceLogoutUrlBuilder,
+            @Qualifier(SingleLogoutMessageDispatcher.BEAN_NAME)
+            final SingleLogoutMessageDispatcher singleLogoutMessageDispatcher) {
+            val handler = new DefaultSingleLogoutServiceMessageHandler(noRedirectHttpClient,
                 defaultSingleLogoutMessageCreator,
                 servicesManager,
                 singleLogoutServiceLogoutUrlBuilder,
                 casProperties.getSlo().isAsynchronous(),
                 authenticationServiceSelectionPlan);
+            BeanSupplier.ifNotProxy(singleLogoutMessageDispatcher, handler::setSingleLogoutMessageDispatcher);
+            return handler;
         }
 
         @ConditionalOnMissingBean(name = "defaultSingleLogoutMessageCreator")
@@ -158,6 +176,82 @@ public class CasCoreLogoutAutoConfiguration {
         }
     }
 
+    @Configuration(value = "CasCoreLogoutDispatcherConfiguration", proxyBeanMethods = false)
+    @EnableConfigurationProperties(CasConfigurationProperties.class)
+    @EnableScheduling
+    static class CasCoreLogoutDispatcherConfiguration {
+        private static final BeanCondition CONDITION = BeanCondition.on("cas.slo.dispatcher.enabled").isTrue().evenIfMissing();
+
+        @ConditionalOnMissingBean(name = SingleLogoutMessageOutbox.BEAN_NAME)
+        @Bean
+        @RefreshScope(proxyMode = ScopedProxyMode.DEFAULT)
+        public SingleLogoutMessageOutbox singleLogoutMessageOutbox(final CasConfigurationProperties casProperties) {
+            val dispatcher = casProperties.getSlo().getDispatcher();
+            if (StringUtils.isNotBlank(dispatcher.getOutboxLocation())) {
+                return new FileSystemSingleLogoutMessageOutbox(Path.of(dispatcher.getOutboxLocation()),
+                    Beans.newDuration(dispatcher.getOutboxClaimTimeout()));
+            }
+            return new InMemorySingleLogoutMessageOutbox();
+        }
+
+        @ConditionalOnMissingBean(name = SingleLogoutMessageDispatcher.BEAN_NAME)
+        @Bean
+        @RefreshScope(proxyMode = ScopedProxyMode.DEFAULT)
+        public SingleLogoutMessageDispatcher singleLogoutMessageDispatcher(
+            final ConfigurableApplicationContext applicationContext,
+            final CasConfigurationProperties casProperties,
+            @Qualifier(HttpClient.BEAN_NAME_HTTPCLIENT_NO_REDIRECT)
+            final HttpClient noRedirectHttpClient,
+            @Qualifier(SingleLogoutMessageOutbox.BEAN_NAME)
+            final SingleLogoutMessageOutbox singleLogoutMessageOutbox) {
+            return BeanSupplier.of(SingleLogoutMessageDispatcher.class)
+                .when(CONDITION.given(applicationContext.getEnvironment()))
+                .supply(() -> new DefaultSingleLogoutMessageDispatcher(noRedirectHttpClient,
+                    singleLogoutMessageOutbox, casProperties.getSlo().getDispatcher()))
+                .otherwiseProxy()
+                .get();
+        }
+
+        @ConditionalOnMissingBean(name = "singleLogoutMessageOutboxScheduler")
+        @ConditionalOnMatchingHostname(name = "cas.slo.dispatcher.schedule.enabled-on-host")
+        @Bean
+        @RefreshScope(proxyMode = ScopedProxyMode.DEFAULT)
+        @Lazy(false)
+        public Runnable singleLogoutMessageOutboxScheduler(
+            final ConfigurableApplicationContext applicationContext,
+            @Qualifier(SingleLogoutMessageDispatcher.BEAN_NAME)
+            final SingleLogoutMessageDispatcher singleLogoutMessageDispatcher) {
+            return BeanSupplier.of(Runnable.class)
+                .when(CONDITION.given(applicationContext.getEnvironment()))
+                .and(BeanCondition.on("cas.slo.dispatcher.schedule.enabled").isTrue()
+                    .evenIfMissing().given(applicationContext.getEnvironment()))
+                .supply(() -> new SingleLogoutMessageOutboxScheduler(singleLogoutMessageDispatcher))
+                .otherwiseProxy()
+                .get();
+        }
+
+        /**
+         * Periodically redelivers logout messages from the outbox.
+         */
+        @RequiredArgsConstructor
+        static class SingleLogoutMessageOutboxScheduler implements Runnable {
+            private final SingleLogoutMessageDispatcher singleLogoutMessageDispatcher;
+
+            @Scheduled(
+                cron = "${cas.slo.dispatcher.schedule.cron-expression:}",
+                zone = "${cas.slo.dispatcher.schedule.cron-time-zone:}",
+                initialDelayString = "${cas.slo.dispatcher.schedule.start-delay:PT1M}",
+                fixedDelayString = "${cas.slo.dispatcher.schedule.repeat-interval:PT2M}")
+            @Override
+            public void run() {
+                FunctionUtils.doAndHandle(__ -> {
+                    val delivered = singleLogoutMessageDispatcher.redeliver();
+                    LOGGER.debug("Redelivered [{}] logout message(s) from the outbox", delivered);
+                });
+            }
+        }
+    }
+
     @Configuration(value = "CasCoreLogoutManagementConfiguration", proxyBeanMethods = false)
     @EnableConfigurationProperties(CasConfigurationProperties.class)
     static class CasCoreLogoutManagementConfiguration {
@@ -0,0 +1,152 @@
+package org.apereo.cas.logout;
+
+import org.apereo.cas.configuration.model.core.slo.SingleLogoutDispatcherProperties;
+import org.apereo.cas.logout.slo.DefaultSingleLogoutMessageDispatcher;
+import org.apereo.cas.logout.slo.FileSystemSingleLogoutMessageOutbox;
+import org.apereo.cas.logout.slo.InMemorySingleLogoutMessageOutbox;
+import org.apereo.cas.logout.slo.SingleLogoutOutboxMessage;
+import org.apereo.cas.util.MockWebServer;
+import org.apereo.cas.util.http.SimpleHttpClientFactoryBean;
+
+import lombok.val;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.http.HttpStatus;
+
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
+
+import static org.awaitility.Awaitility.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * This is {@link DefaultSingleLogoutMessageDispatcherTests}.
+ *
+ * @author Misagh Moayyed
+ * @since 7.2.0
+ */
+@Tag("Logout")
+class DefaultSingleLogoutMessageDispatcherTests {
+    private static SingleLogoutDispatcherProperties getProperties() {
+        return new SingleLogoutDispatcherProperties()
+            .setMaxAttempts(2)
+            .setRetryDelay("PT0.01S")
+            .setTimeout("PT2S");
+    }
+
+    private static LogoutHttpMessage getMessage(final int port, final boolean asynchronous) throws Exception {
+        return new LogoutHttpMessage(new URI("http://localhost:%s/logout".formatted(port)).toURL(), "<logoutRequest/>", asynchronous);
+    }
+
+    @Test
+    void verifySynchronousDelivery() throws Throwable {
+        try (val webServer = new MockWebServer(HttpStatus.OK)) {
+            webServer.start();
+            val outbox = new InMemorySingleLogoutMessageOutbox();
+            val dispatcher = new DefaultSingleLogoutMessageDispatcher(
+                new SimpleHttpClientFactoryBean().getObject(), outbox, getProperties());
+            assertTrue(dispatcher.dispatch(getMessage(webServer.getPort(), false)));
+            assertEquals(0, outbox.size());
+            dispatcher.destroy();
+        }
+    }
+
+    @Test
+    void verifyAsynchronousDelivery() throws Throwable {
+        try (val webServer = new MockWebServer(HttpStatus.INTERNAL_SERVER_ERROR)) {
+            webServer.start();
+            val outbox = new InMemorySingleLogoutMessageOutbox();
+            val dispatcher = new DefaultSingleLogoutMessageDispatcher(
+                new SimpleHttpClientFactoryBean().getObject(), outbox, getProperties());
+            assertTrue(dispatcher.dispatch(getMessage(webServer.getPort(), true)));
+            await().untilAsserted(() -> assertEquals(1, outbox.size()));
+            dispatcher.destroy();
+        }
+    }
+
+    @Test
+    void verifyRedeliveryFromOutbox(@TempDir final Path directory) throws Throwable {
+        try (val webServer = new MockWebServer(HttpStatus.INTERNAL_SERVER_ERROR)) {
+            webServer.start();
+            val outbox = new FileSystemSingleLogoutMessageOutbox(directory, Duration.ofMinutes(10));
+            val properties = getProperties().setOutboxMaxDeliveryAttempts(2);
+            val dispatcher = new DefaultSingleLogoutMessageDispatcher(
+                new SimpleHttpClientFactoryBean().getObject(), outbox, properties);
+            assertFalse(dispatcher.dispatch(getMessage(webServer.getPort(), false)));
+            assertEquals(1, outbox.size());
+            assertEquals(0, dispatcher.redeliver());
+            val claimed = outbox.claim(10);
+            assertEquals(1, claimed.getFirst().deliveryAttempts());
+            outbox.store(claimed.getFirst());
+
+            webServer.responseStatus(HttpStatus.OK);
+            assertEquals(1, dispatcher.redeliver());
+            assertEquals(0, outbox.size());
+            dispatcher.destroy();
+        }
+    }
+
+    @Test
+    void verifyDiscardAfterMaxDeliveryAttempts() throws Throwable {
+        try (val webServer = new MockWebServer(HttpStatus.INTERNAL_SERVER_ERROR)) {
+            webServer.start();
+            val outbox = new InMemorySingleLogoutMessageOutbox();
+            val properties = getProperties().setOutboxMaxDeliveryAttempts(1);
+            val dispatcher = new DefaultSingleLogoutMessageDispatcher(
+                new SimpleHttpClientFactoryBean().getObject(), outbox, properties);
+            assertFalse(dispatcher.dispatch(getMessage(webServer.getPort(), false)));
+            assertEquals(0, dispatcher.redeliver());
+            assertEquals(0, outbox.size());
+            dispatcher.destroy();
+        }
+    }
+
+    @Test
+    void verifyDiscardExpiredMessages() throws Throwable {
+        try (val webServer = new MockWebServer(HttpStatus.OK)) {
+            webServer.start();
+            val outbox = new InMemorySingleLogoutMessageOutbox();
+            val properties = getProperties().setOutboxMessageTimeToLive("PT1H");
+            val dispatcher = new DefaultSingleLogoutMessageDispatcher(
+                new SimpleHttpClientFactoryBean().getObject(), outbox, properties);
+            val message = SingleLogoutOutboxMessage.from(getMessage(webServer.getPort(), false));
+            outbox.store(new SingleLogoutOutboxMessage(message.id(), message.url(), message.message(),
+                message.contentType(), 0, System.currentTimeMillis() - Duration.ofHours(2).toMillis()));
+            assertEquals(0, dispatcher.redeliver());
+            assertEquals(0, outbox.size());
+            assertTrue(outbox.claim(10).isEmpty());
+            dispatcher.destroy();
+        }
+    }
+
+    @Test
+    void verifyClaimsAcrossSharedOutbox(@TempDir final Path directory) throws Throwable {
+        val outbox1 = new FileSystemSingleLogoutMessageOutbox(directory, Duration.ofMinutes(10));
+        val outbox2 = new FileSystemSingleLogoutMessageOutbox(directory, Duration.ofMinutes(10));
+        val message = SingleLogoutOutboxMessage.from(getMessage(8080, false));
+        outbox1.store(message);
+
+        assertEquals(1, outbox1.claim(10).size());
+        assertTrue(outbox2.claim(10).isEmpty());
+        assertEquals(0, outbox2.size());
+
+        outbox1.store(message.withNextDeliveryAttempt());
+        val claimed = outbox2.claim(10);
+        assertEquals(1, claimed.size());
+        assertEquals(1, claimed.getFirst().deliveryAttempts());
+
+        Files.setLastModifiedTime(directory.resolve(message.id() + ".claimed"),
+            FileTime.from(Instant.now().minus(Duration.ofHours(1))));
+        assertEquals(1, outbox1.claim(10).size());
+        outbox1.remove(message);
+        assertTrue(outbox2.claim(10).isEmpty());
+        try (val files = Files.list(directory)) {
+            assertEquals(0, files.count());
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package org.apereo.cas.services;
 
+import org.apereo.cas.util.concurrent.CasReentrantLock;
 import com.google.common.base.Predicates;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
@@ -9,9 +10,12 @@ import org.springframework.context.ConfigurableApplicationContext;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Collectors;
 
 /**
@@ -25,6 +29,14 @@ import java.util.stream.Collectors;
 public class DefaultChainingServiceRegistry extends AbstractServiceRegistry implements ChainingServiceRegistry {
     private final List<ServiceRegistry> serviceRegistries;
 
+    private final CasReentrantLock lock = new CasReentrantLock();
+
+    private final Map<ServiceRegistry, Long> serviceRegistryVersions = new IdentityHashMap<>();
+
+    private final AtomicLong version = new AtomicLong();
+
+    private boolean changesTracked;
+
     public DefaultChainingServiceRegistry(final ConfigurableApplicationContext applicationContext) {
         this(applicationContext, new ArrayList<>(0));
     }
@@ -64,6 +76,44 @@ public class DefaultChainingServiceRegistry extends AbstractServiceRegistry impl
             .collect(Collectors.toList());
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Changes are loaded from each registry in the chain, using the version last reported by that registry.
+     * If any registry in the chain is unable to track changes or reports all of its services,
+     * all services are loaded from every registry in the chain and changes are reported as complete.
+     */
+    @Override
+    public Optional<ServiceRegistryChanges> loadChanges(final long sinceVersion) {
+        return Optional.ofNullable(lock.tryLock(() -> {
+            val incremental = changesTracked && sinceVersion != ServiceRegistryChanges.UNKNOWN_VERSION && sinceVersion == version.get();
+            val changes = serviceRegistries
+                .stream()
+                .map(registry -> loadChanges(registry, incremental
+                    ? serviceRegistryVersions.getOrDefault(registry, ServiceRegistryChanges.UNKNOWN_VERSION)
+                    : ServiceRegistryChanges.UNKNOWN_VERSION))
+                .collect(Collectors.toCollection(ArrayList::new));
+            if (changes.stream().anyMatch(ServiceRegistryChanges::isComplete) && !changes.stream().allMatch(ServiceRegistryChanges::isComplete)) {
+                for (var i = 0; i < changes.size(); i++) {
+                    if (!changes.get(i).isComplete()) {
+                        changes.set(i, loadChanges(serviceRegistries.get(i), ServiceRegistryChanges.UNKNOWN_VERSION));
+                    }
+                }
+            }
+            serviceRegistryVersions.clear();
+            for (var i = 0; i < changes.size(); i++) {
+                serviceRegistryVersions.put(serviceRegistries.get(i), changes.get(i).getVersion());
+            }
+            changesTracked = !serviceRegistryVersions.containsValue(ServiceRegistryChanges.UNKNOWN_VERSION);
+            return ServiceRegistryChanges.builder()
+                .version(version.incrementAndGet())
+                .complete(changes.stream().allMatch(ServiceRegistryChanges::isComplete))
+                .savedServices(changes.stream().flatMap(result -> result.getSavedServices().stream()).collect(Collectors.toList()))
+                .deletedServices(changes.stream().flatMap(result -> result.getDeletedServices().stream()).collect(Collectors.toList()))
+                .build();
+        }));
+    }
+
     @Override
     public RegisteredService findServiceById(final long id) {
         return serviceRegistries.stream()
@@ -120,6 +170,14 @@ public class DefaultChainingServiceRegistry extends AbstractServiceRegistry impl
         return StringUtils.defaultIfBlank(name, getClass().getSimpleName());
     }
 
+    private static ServiceRegistryChanges loadChanges(final ServiceRegistry registry, final long sinceVersion) {
+        return registry.loadChanges(sinceVersion).orElseGet(() -> ServiceRegistryChanges.builder()
+            .version(ServiceRegistryChanges.UNKNOWN_VERSION)
+            .complete(true)
+            .savedServices(Optional.ofNullable(registry.load()).orElseGet(ArrayList::new))
+            .build());
+    }
+
     @Override
     public long countServiceRegistries() {
         return this.serviceRegistries.size();
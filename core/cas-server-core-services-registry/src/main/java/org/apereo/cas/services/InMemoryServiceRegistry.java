@@ -9,6 +9,8 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Stream;
 
 /**
@@ -22,6 +24,8 @@ public class InMemoryServiceRegistry extends AbstractServiceRegistry {
 
     private final List<RegisteredService> registeredServices;
 
+    private final AtomicLong version = new AtomicLong();
+
     public InMemoryServiceRegistry(final ConfigurableApplicationContext applicationContext) {
         this(applicationContext, new ArrayList<>(0), new ArrayList<>(0));
     }
@@ -42,11 +46,13 @@ public class InMemoryServiceRegistry extends AbstractServiceRegistry {
             registeredServices.remove(svc);
         }
         registeredServices.add(registeredService);
+        version.incrementAndGet();
         return registeredService;
     }
 
     @Override
     public boolean delete(final RegisteredService registeredService) {
+        version.incrementAndGet();
         return !registeredServices.contains(registeredService)
             || registeredServices.removeIf(rs -> rs.getId() == registeredService.getId());
     }
@@ -54,6 +60,20 @@ public class InMemoryServiceRegistry extends AbstractServiceRegistry {
     @Override
     public void deleteAll() {
         this.registeredServices.clear();
+        version.incrementAndGet();
+    }
+
+    @Override
+    public Optional<ServiceRegistryChanges> loadChanges(final long sinceVersion) {
+        val currentVersion = version.get();
+        if (sinceVersion == currentVersion) {
+            return Optional.of(ServiceRegistryChanges.builder().version(currentVersion).build());
+        }
+        return Optional.of(ServiceRegistryChanges.builder()
+            .version(currentVersion)
+            .complete(true)
+            .savedServices(load())
+            .build());
     }
 
     @Override
@@ -4,6 +4,7 @@ import org.apereo.cas.authentication.principal.Service;
 import org.apereo.cas.services.IndexableServicesManager;
 import org.apereo.cas.services.RegisteredService;
 import org.apereo.cas.services.RegisteredServiceAccessStrategyUtils;
+import org.apereo.cas.services.ServiceRegistryChanges;
 import org.apereo.cas.services.ServicesManagerConfigurationContext;
 import org.apereo.cas.services.query.RegisteredServiceQuery;
 import org.apereo.cas.services.query.RegisteredServiceQueryAttribute;
@@ -33,6 +34,9 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Predicate;
@@ -55,6 +59,12 @@ public abstract class AbstractServicesManager implements IndexableServicesManage
 
     private final IndexedCollection<RegisteredService> indexedRegisteredServices;
 
+    private final AtomicLong serviceRegistryVersion = new AtomicLong(ServiceRegistryChanges.UNKNOWN_VERSION);
+
+    private final AtomicReference<Map<Long, RegisteredService>> loadedServices = new AtomicReference<>(new ConcurrentHashMap<>());
+
+    private final AtomicLong servicesCacheVersion = new AtomicLong();
+
     protected AbstractServicesManager(final ServicesManagerConfigurationContext configurationContext) {
         this.configurationContext = configurationContext;
         this.indexedRegisteredServices = new ConcurrentIndexedCollection<>();
@@ -142,6 +152,7 @@ public abstract class AbstractServicesManager implements IndexableServicesManage
         lock.tryLock(__ -> {
             configurationContext.getServicesCache().asMap().forEach((k, v) -> delete(v));
             configurationContext.getServicesCache().invalidateAll();
+            servicesCacheVersion.incrementAndGet();
             val clientInfo = ClientInfoHolder.getClientInfo();
             publishEvent(new CasRegisteredServicesDeletedEvent(this, clientInfo));
         });
@@ -163,6 +174,8 @@ public abstract class AbstractServicesManager implements IndexableServicesManage
                 publishEvent(new CasRegisteredServicePreDeleteEvent(this, service, clientInfo));
                 configurationContext.getServiceRegistry().delete(service);
                 configurationContext.getServicesCache().invalidate(service.getId());
+                servicesCacheVersion.incrementAndGet();
+                loadedServices.get().remove(service.getId());
                 deleteInternal(service);
                 publishEvent(new CasRegisteredServiceDeletedEvent(this, service, clientInfo));
             }
@@ -217,7 +230,7 @@ public abstract class AbstractServicesManager implements IndexableServicesManage
             .sorted()
             .peek(RegisteredService::initialize)
             .collect(Collectors.toMap(RegisteredService::getId, Function.identity(), (r, s) -> s));
-        configurationContext.getServicesCache().putAll(results);
+        results.values().forEach(this::putCachedRegisteredService);
         return results.values();
     }
 
@@ -235,8 +248,10 @@ public abstract class AbstractServicesManager implements IndexableServicesManage
 
     @Override
     public RegisteredService findServiceBy(final long id) {
-        val result = configurationContext.getServicesCache().get(id,
-            __ -> configurationContext.getServiceRegistry().findServiceById(id));
+        val result = configurationContext.getServicesCache().get(id, __ -> {
+            servicesCacheVersion.incrementAndGet();
+            return configurationContext.getServiceRegistry().findServiceById(id);
+        });
         return validateRegisteredService(result);
     }
 
@@ -248,8 +263,10 @@ public abstract class AbstractServicesManager implements IndexableServicesManage
         }
         LOGGER.trace("The service with id [{}] and type [{}] is not found in the cache; trying to find it from [{}]",
             id, clazz, configurationContext.getServiceRegistry().getName());
-        service = configurationContext.getServicesCache().get(id,
-            __ -> configurationContext.getServiceRegistry().findServiceById(id, clazz));
+        service = configurationContext.getServicesCache().get(id, __ -> {
+            servicesCacheVersion.incrementAndGet();
+            return configurationContext.getServiceRegistry().findServiceById(id, clazz);
+        });
         return (T) validateRegisteredService(service);
     }
 
@@ -332,51 +349,119 @@ public abstract class AbstractServicesManager implements IndexableServicesManage
     /**
      * For the duration of the read, the cache store should not remain empty.
      * Otherwise, lookup operations during that loading time window might produce
-     * unauthorized failure errors. Invalidation attempts must happen after the load
-     * to minimize chances of failures.
+     * unauthorized failure errors. Loaded services are put into the cache first,
+     * and only then are stale entries removed from the cache to minimize chances of failures.
+     * If the service registry is able to report changes since the last load, only services
+     * that are added, updated or removed are processed and applied to the cache.
      */
     @Override
     public Collection<RegisteredService> load() {
         return lock.tryLock(() -> {
-            LOGGER.trace("Loading services from [{}]", configurationContext.getServiceRegistry().getName());
-            val servicesMap = configurationContext.getServiceRegistry()
-                .load()
-                .stream()
-                .filter(this::supports)
-                .filter(this::validateAndFilterServiceByEnvironment)
-                .peek(this::loadInternal)
-                .filter(Objects::nonNull)
-                .map(this::applyTemplate)
-                .filter(service -> Objects.nonNull(service)
-                    && StringUtils.isNotBlank(service.getName())
-                    && StringUtils.isNotBlank(service.getServiceId()))
-                .collect(Collectors.toMap(service -> {
-                    LOGGER.trace("Adding registered service [{}] with name [{}] and internal identifier [{}]",
-                        service.getServiceId(), service.getName(), service.getId());
-                    return service.getId();
-                }, Function.identity(), (__, service) -> service));
-            cacheRegisteredServices(servicesMap);
-            loadInternal();
-            val clientInfo = ClientInfoHolder.getClientInfo();
-            publishEvent(new CasRegisteredServicesLoadedEvent(this, getAllServices(), clientInfo));
+            val serviceRegistry = configurationContext.getServiceRegistry();
+            LOGGER.trace("Loading services from [{}]", serviceRegistry.getName());
+            val changes = isIncrementalLoadingEnabled()
+                ? serviceRegistry.loadChanges(serviceRegistryVersion.get())
+                : Optional.<ServiceRegistryChanges>empty();
+            serviceRegistryVersion.set(changes.map(ServiceRegistryChanges::getVersion).orElse(ServiceRegistryChanges.UNKNOWN_VERSION));
+
+            if (changes.isPresent() && !changes.get().isComplete()) {
+                applyServiceRegistryChanges(changes.get());
+            } else {
+                val registeredServices = changes.map(ServiceRegistryChanges::getSavedServices).orElseGet(serviceRegistry::load);
+                val servicesMap = prepareLoadedServices(registeredServices.stream());
+                cacheRegisteredServices(servicesMap);
+                loadInternal();
+                val clientInfo = ClientInfoHolder.getClientInfo();
+                publishEvent(new CasRegisteredServicesLoadedEvent(this, getAllServices(), clientInfo));
+            }
             evaluateExpiredServiceDefinitions();
 
             val results = configurationContext.getServicesCache().asMap();
-            LOGGER.info("Loaded [{}] service(s) from [{}].", results.size(),
-                configurationContext.getServiceRegistry().getName());
+            LOGGER.info("Loaded [{}] service(s) from [{}].", results.size(), serviceRegistry.getName());
             return results.values();
         });
     }
 
-    private Map<Long, RegisteredService> cacheRegisteredServices(final Map<Long, RegisteredService> servicesMap) {
+    private Map<Long, RegisteredService> prepareLoadedServices(final Stream<RegisteredService> registeredServices) {
+        return registeredServices
+            .filter(this::supports)
+            .filter(this::validateAndFilterServiceByEnvironment)
+            .peek(this::loadInternal)
+            .filter(Objects::nonNull)
+            .map(this::applyTemplate)
+            .filter(service -> Objects.nonNull(service)
+                && StringUtils.isNotBlank(service.getName())
+                && StringUtils.isNotBlank(service.getServiceId()))
+            .collect(Collectors.toMap(service -> {
+                LOGGER.trace("Adding registered service [{}] with name [{}] and internal identifier [{}]",
+                    service.getServiceId(), service.getName(), service.getId());
+                return service.getId();
+            }, Function.identity(), (__, service) -> service));
+    }
+
+    private void applyServiceRegistryChanges(final ServiceRegistryChanges changes) {
+        LOGGER.debug("Applying [{}] saved and [{}] deleted service(s) from [{}]", changes.getSavedServices().size(),
+            changes.getDeletedServices().size(), configurationContext.getServiceRegistry().getName());
+        val services = new ConcurrentHashMap<>(loadedServices.get());
+        changes.getDeletedServices().forEach(id -> {
+            services.remove(id);
+            removeCachedRegisteredService(id);
+        });
+        val savedServices = prepareLoadedServices(changes.getSavedServices().stream());
+        changes.getSavedServices()
+            .stream()
+            .filter(Objects::nonNull)
+            .map(RegisteredService::getId)
+            .filter(id -> !savedServices.containsKey(id))
+            .forEach(id -> {
+                services.remove(id);
+                removeCachedRegisteredService(id);
+            });
+        savedServices.values().forEach(service -> {
+            services.put(service.getId(), service);
+            cacheRegisteredService(service);
+        });
+        loadedServices.set(services);
+
+        val servicesCache = configurationContext.getServicesCache().asMap();
+        val restoredServices = services.values()
+            .stream()
+            .filter(service -> servicesCache.putIfAbsent(service.getId(), service) == null)
+            .count();
+        if (restoredServices > 0) {
+            servicesCacheVersion.incrementAndGet();
+        }
+        LOGGER.trace("Restored [{}] service(s) that were removed from the cache", restoredServices);
+        if (!changes.isEmpty() || restoredServices > 0) {
+            loadInternal();
+            val clientInfo = ClientInfoHolder.getClientInfo();
+            publishEvent(new CasRegisteredServicesLoadedEvent(this, getAllServices(), clientInfo));
+        }
+    }
+
+    private void cacheRegisteredServices(final Map<Long, RegisteredService> servicesMap) {
         val servicesCache = configurationContext.getServicesCache();
-        servicesCache.invalidateAll();
         servicesCache.putAll(servicesMap);
+        val staleServices = servicesCache.asMap().keySet()
+            .stream()
+            .filter(id -> !servicesMap.containsKey(id))
+            .toList();
+        servicesCache.invalidateAll(staleServices);
+        servicesCacheVersion.incrementAndGet();
+        loadedServices.set(new ConcurrentHashMap<>(servicesMap));
+
         if (configurationContext.getCasProperties().getServiceRegistry().getCore().isIndexServices()) {
-            indexedRegisteredServices.clear();
-            indexedRegisteredServices.addAll(servicesMap.values());
+            val staleIndexedServices = indexedRegisteredServices
+                .stream()
+                .filter(service -> !service.equals(servicesMap.get(service.getId())))
+                .toList();
+            val newIndexedServices = servicesMap.values()
+                .stream()
+                .filter(service -> !indexedRegisteredServices.contains(service))
+                .toList();
+            indexedRegisteredServices.addAll(newIndexedServices);
+            indexedRegisteredServices.removeAll(staleIndexedServices);
         }
-        return servicesCache.asMap();
     }
 
     @Override
@@ -425,6 +510,17 @@ public abstract class AbstractServicesManager implements IndexableServicesManage
         return this.configurationContext.getRegisteredServicesTemplatesManager().apply(service);
     }
 
+    /**
+     * Gets the version of the services cache, which changes
+     * whenever entries are added to, replaced in or removed from the cache by this manager.
+     * Entries that expire from the cache are not tracked.
+     *
+     * @return the services cache version
+     */
+    protected long getServicesCacheVersion() {
+        return servicesCacheVersion.get();
+    }
+
     protected Supplier<Stream<RegisteredService>> getCacheableServicesStream() {
         configurationContext.getServicesCache().cleanUp();
         val size = configurationContext.getServicesCache().estimatedSize();
@@ -435,13 +531,32 @@ public abstract class AbstractServicesManager implements IndexableServicesManage
     }
 
     private void cacheRegisteredService(final RegisteredService service) {
-        configurationContext.getServicesCache().put(service.getId(), service);
+        putCachedRegisteredService(service);
         if (configurationContext.getCasProperties().getServiceRegistry().getCore().isIndexServices()) {
             indexedRegisteredServices.removeIf(registeredService -> registeredService.getId() == service.getId());
             indexedRegisteredServices.add(service);
         }
     }
 
+    private void putCachedRegisteredService(final RegisteredService service) {
+        val previous = configurationContext.getServicesCache().asMap().put(service.getId(), service);
+        if (previous != service) {
+            servicesCacheVersion.incrementAndGet();
+        }
+    }
+
+    private void removeCachedRegisteredService(final long id) {
+        configurationContext.getServicesCache().invalidate(id);
+        servicesCacheVersion.incrementAndGet();
+        if (configurationContext.getCasProperties().getServiceRegistry().getCore().isIndexServices()) {
+            indexedRegisteredServices.removeIf(registeredService -> registeredService.getId() == id);
+        }
+    }
+
+    private boolean isIncrementalLoadingEnabled() {
+        return configurationContext.getCasProperties().getServiceRegistry().getCore().isIncrementalLoading();
+    }
+
     private void evaluateExpiredServiceDefinitions() {
         getCacheableServicesStream()
             .get()
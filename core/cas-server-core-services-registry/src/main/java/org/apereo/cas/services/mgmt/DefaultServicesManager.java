@@ -4,9 +4,11 @@ import org.apereo.cas.monitor.Monitorable;
 import org.apereo.cas.services.RegisteredService;
 import org.apereo.cas.services.ServicesManager;
 import org.apereo.cas.services.ServicesManagerConfigurationContext;
-
+import org.apereo.cas.util.concurrent.CasReentrantLock;
+import lombok.val;
 import java.util.Collection;
 import java.util.Comparator;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Collectors;
 
 /**
@@ -18,6 +20,10 @@ import java.util.stream.Collectors;
 @Monitorable
 public class DefaultServicesManager extends AbstractServicesManager {
 
+    private final AtomicReference<VersionedServiceMatchingIndex> matchingIndex = new AtomicReference<>();
+
+    private final CasReentrantLock matchingIndexLock = new CasReentrantLock();
+
     public DefaultServicesManager(final ServicesManagerConfigurationContext context) {
         super(context);
     }
@@ -32,9 +38,80 @@ public class DefaultServicesManager extends AbstractServicesManager {
 
     @Override
     protected Collection<RegisteredService> getCandidateServicesToMatch(final String serviceId) {
+        if (isServiceMatchingIndexEnabled()) {
+            val servicesCache = configurationContext.getServicesCache();
+            servicesCache.cleanUp();
+            val cachedServices = servicesCache.estimatedSize();
+            if (cachedServices > 0) {
+                var index = matchingIndex.get();
+                if (!isCurrent(index, cachedServices)) {
+                    index = getOrRebuildServiceMatchingIndex(cachedServices);
+                }
+                if (index != null) {
+                    return index.index().findCandidates(serviceId);
+                }
+            }
+        }
         return getCacheableServicesStream()
             .get()
             .sorted(Comparator.naturalOrder())
             .collect(Collectors.toList());
     }
+
+    @Override
+    protected void loadInternal() {
+        if (isServiceMatchingIndexEnabled()) {
+            matchingIndexLock.tryLock(__ -> rebuildServiceMatchingIndex());
+        }
+    }
+
+    @Override
+    protected void saveInternal(final RegisteredService service) {
+        matchingIndex.set(null);
+    }
+
+    @Override
+    protected void deleteInternal(final RegisteredService service) {
+        matchingIndex.set(null);
+    }
+
+    private boolean isCurrent(final VersionedServiceMatchingIndex index, final long cachedServices) {
+        return index != null && index.version() == getServicesCacheVersion() && index.index().size() == cachedServices;
+    }
+
+    /**
+     * Rebuild the matching index such that only one rebuild runs at a time.
+     * Callers that wait for an ongoing rebuild reuse its result if it is still current.
+     * If the lock cannot be obtained in time, the previous index, if any, is used instead.
+     *
+     * @param cachedServices the number of cached services
+     * @return the matching index, or null if none is available
+     */
+    private VersionedServiceMatchingIndex getOrRebuildServiceMatchingIndex(final long cachedServices) {
+        val index = matchingIndexLock.tryLock(() -> {
+            val current = matchingIndex.get();
+            return isCurrent(current, cachedServices) ? current : rebuildServiceMatchingIndex();
+        });
+        return index == null ? matchingIndex.get() : index;
+    }
+
+    private VersionedServiceMatchingIndex rebuildServiceMatchingIndex() {
+        val version = getServicesCacheVersion();
+        val index = new VersionedServiceMatchingIndex(
+            new RegisteredServiceMatchingIndex(configurationContext.getServicesCache().asMap().values()), version);
+        matchingIndex.set(index);
+        return index;
+    }
+
+    private boolean isServiceMatchingIndexEnabled() {
+        return configurationContext.getCasProperties().getServiceRegistry().getCore().isIndexServiceMatching();
+    }
+
+    /**
+     * The matching index along with the version of the services cache it was built from.
+     * Since the version is read before the index is built, changes to the cache while
+     * the index is being built cause it to be rebuilt on next use.
+     */
+    private record VersionedServiceMatchingIndex(RegisteredServiceMatchingIndex index, long version) {
+    }
 }
@@ -0,0 +1,249 @@
+package org.apereo.cas.services.mgmt;
+
+import org.apereo.cas.services.BaseRegisteredService;
+import org.apereo.cas.services.CasRegisteredService;
+import org.apereo.cas.services.FullRegexRegisteredServiceMatchingStrategy;
+import org.apereo.cas.services.LiteralRegisteredServiceMatchingStrategy;
+import org.apereo.cas.services.PartialRegexRegisteredServiceMatchingStrategy;
+import org.apereo.cas.services.RegisteredService;
+import org.apereo.cas.util.RegexUtils;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import org.apache.commons.lang3.StringUtils;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+
+/**
+ * This is {@link RegisteredServiceMatchingIndex}, a precompiled and immutable
+ * index of registered services that narrows down the candidates for a given service id.
+ * <p>
+ * Registered services are sorted once by their natural order when the index is built, and each service
+ * is assigned a fixed evaluation position. Services that are matched by the default
+ * {@link CasRegisteredService} matching strategies (literal, full and partial regex) are placed
+ * into a case-insensitive trie keyed by the literal prefix of their service id, with their
+ * pattern compiled ahead of time. All other services cannot be reasoned about here, and are always
+ * considered candidates. Looking up a service id walks the trie once, verifies the precompiled
+ * patterns of the services found along the way and merges the results by evaluation position, so
+ * that the order of candidates and the first-match semantics of the registered service locators remain intact.
+ *
+ * @author Misagh Moayyed
+ * @since 7.2.0
+ */
+@Slf4j
+public class RegisteredServiceMatchingIndex {
+    private static final String REGEX_METACHARACTERS = ".[]()*+?{}|^$\\";
+
+    private static final String REGEX_QUANTIFIERS = "?*+{";
+
+    private final RegisteredService[] services;
+
+    private final int[] unindexedPositions;
+
+    private final TrieNode root = new TrieNode();
+
+    @Getter
+    private final int indexedCount;
+
+    public RegisteredServiceMatchingIndex(final Collection<? extends RegisteredService> registeredServices) {
+        this.services = registeredServices.stream().sorted().toArray(RegisteredService[]::new);
+        val unindexed = new ArrayList<Integer>();
+        var indexed = 0;
+        for (var position = 0; position < services.length; position++) {
+            val registeredService = services[position];
+            val entry = buildIndexEntry(registeredService, position);
+            if (entry == null) {
+                unindexed.add(position);
+            } else {
+                root.insert(entry.prefix(), entry);
+                indexed++;
+            }
+        }
+        this.indexedCount = indexed;
+        this.unindexedPositions = unindexed.stream().mapToInt(Integer::intValue).toArray();
+        LOGGER.debug("Indexed [{}] registered service(s) by service id; [{}] registered service(s) will always be evaluated",
+            indexedCount, unindexedPositions.length);
+    }
+
+    /**
+     * Empty index with no registered services.
+     *
+     * @return the registered service matching index
+     */
+    public static RegisteredServiceMatchingIndex empty() {
+        return new RegisteredServiceMatchingIndex(List.of());
+    }
+
+    /**
+     * Total number of registered services tracked by this index.
+     *
+     * @return the count
+     */
+    public int size() {
+        return services.length;
+    }
+
+    /**
+     * Find candidate registered services that may match the given service id.
+     * The result is sorted by the evaluation order of the registered services,
+     * and contains every indexed service whose service id matches the given service id
+     * along with all services that cannot be indexed.
+     *
+     * @param serviceId the service id
+     * @return the candidates
+     */
+    public List<RegisteredService> findCandidates(final String serviceId) {
+        if (StringUtils.isBlank(serviceId) || !StringUtils.isAsciiPrintable(serviceId)) {
+            return Arrays.asList(services);
+        }
+        val matched = new ArrayList<Integer>();
+        var node = root;
+        var index = 0;
+        while (node != null) {
+            for (val entry : node.entries) {
+                if (entry.matcher().test(serviceId)) {
+                    matched.add(entry.position());
+                }
+            }
+            node = index < serviceId.length() ? node.children.get(toLowerCase(serviceId.charAt(index++))) : null;
+        }
+        matched.sort(Integer::compareTo);
+        return mergeByPosition(matched);
+    }
+
+    private List<RegisteredService> mergeByPosition(final List<Integer> matched) {
+        val results = new ArrayList<RegisteredService>(matched.size() + unindexedPositions.length);
+        var i = 0;
+        var j = 0;
+        while (i < matched.size() || j < unindexedPositions.length) {
+            if (j >= unindexedPositions.length || (i < matched.size() && matched.get(i) < unindexedPositions[j])) {
+                results.add(services[matched.get(i++)]);
+            } else {
+                results.add(services[unindexedPositions[j++]]);
+            }
+        }
+        return results;
+    }
+
+    private static IndexEntry buildIndexEntry(final RegisteredService registeredService, final int position) {
+        if (registeredService.getClass() != CasRegisteredService.class || StringUtils.isBlank(registeredService.getServiceId())) {
+            return null;
+        }
+        val assignedServiceId = registeredService.getServiceId();
+        val strategy = ((BaseRegisteredService) registeredService).getMatchingStrategy();
+        if (strategy == null || strategy.getClass() == FullRegexRegisteredServiceMatchingStrategy.class) {
+            val pattern = RegexUtils.createPattern(assignedServiceId);
+            return new IndexEntry(position, getLiteralPrefix(assignedServiceId, true),
+                value -> pattern.matcher(value).matches());
+        }
+        if (strategy.getClass() == PartialRegexRegisteredServiceMatchingStrategy.class) {
+            val pattern = RegexUtils.createPattern(assignedServiceId);
+            return new IndexEntry(position, getLiteralPrefix(assignedServiceId, false),
+                value -> pattern.matcher(value).find());
+        }
+        if (strategy.getClass() == LiteralRegisteredServiceMatchingStrategy.class) {
+            val literal = (LiteralRegisteredServiceMatchingStrategy) strategy;
+            val trimmedServiceId = assignedServiceId.trim();
+            val prefix = StringUtils.isAsciiPrintable(trimmedServiceId) ? trimmedServiceId : StringUtils.EMPTY;
+            return new IndexEntry(position, prefix, literal.isCaseInsensitive()
+                ? trimmedServiceId::equalsIgnoreCase
+                : trimmedServiceId::equals);
+        }
+        return null;
+    }
+
+    /**
+     * Extract the literal prefix that any string matched by the given pattern
+     * must start with. The extraction is conservative: any construct that cannot be safely reasoned about
+     * terminates the prefix, and an empty prefix is returned if the pattern is unanchored
+     * or has alternations at the top level.
+     *
+     * @param pattern  the pattern
+     * @param anchored whether the pattern is anchored at the beginning of the input
+     * @return the literal prefix
+     */
+    static String getLiteralPrefix(final String pattern, final boolean anchored) {
+        var start = 0;
+        if (pattern.startsWith("^")) {
+            start = 1;
+        } else if (!anchored) {
+            return StringUtils.EMPTY;
+        }
+        if (hasTopLevelAlternation(pattern)) {
+            return StringUtils.EMPTY;
+        }
+        val prefix = new StringBuilder();
+        var i = start;
+        while (i < pattern.length()) {
+            var current = pattern.charAt(i);
+            var width = 1;
+            if (current == '\\') {
+                if (i + 1 >= pattern.length() || Character.isLetterOrDigit(pattern.charAt(i + 1))) {
+                    break;
+                }
+                current = pattern.charAt(i + 1);
+                width = 2;
+            } else if (REGEX_METACHARACTERS.indexOf(current) >= 0) {
+                break;
+            }
+            if (current > 127 || Character.isISOControl(current)) {
+                break;
+            }
+            val next = i + width;
+            if (next < pattern.length() && REGEX_QUANTIFIERS.indexOf(pattern.charAt(next)) >= 0) {
+                break;
+            }
+            prefix.append(current);
+            i = next;
+        }
+        return prefix.toString();
+    }
+
+    private static boolean hasTopLevelAlternation(final String pattern) {
+        var depth = 0;
+        var inCharacterClass = false;
+        for (var i = 0; i < pattern.length(); i++) {
+            val current = pattern.charAt(i);
+            if (current == '\\') {
+                i++;
+            } else if (inCharacterClass) {
+                inCharacterClass = current != ']';
+            } else if (current == '[') {
+                inCharacterClass = true;
+            } else if (current == '(') {
+                depth++;
+            } else if (current == ')') {
+                depth--;
+            } else if (current == '|' && depth <= 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static char toLowerCase(final char value) {
+        return value >= 'A' && value <= 'Z' ? (char) (value + ('a' - 'A')) : value;
+    }
+
+    private record IndexEntry(int position, String prefix, Predicate<String> matcher) {
+    }
+
+    private static final class TrieNode {
+        private final Map<Character, TrieNode> children = new HashMap<>();
+
+        private final List<IndexEntry> entries = new ArrayList<>();
+
+        void insert(final String prefix, final IndexEntry entry) {
+            var node = this;
+            for (var i = 0; i < prefix.length(); i++) {
+                node = node.children.computeIfAbsent(toLowerCase(prefix.charAt(i)), __ -> new TrieNode());
+            }
+            node.entries.add(entry);
+        }
+    }
+}
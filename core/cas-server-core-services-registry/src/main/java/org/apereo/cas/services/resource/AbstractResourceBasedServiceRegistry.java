@@ -4,6 +4,7 @@ import org.apereo.cas.configuration.api.CasConfigurationPropertiesSourceLocator;
 import org.apereo.cas.services.AbstractServiceRegistry;
 import org.apereo.cas.services.RegisteredService;
 import org.apereo.cas.services.ResourceBasedServiceRegistry;
+import org.apereo.cas.services.ServiceRegistryChanges;
 import org.apereo.cas.services.ServiceRegistryListener;
 import org.apereo.cas.services.replication.NoOpRegisteredServiceReplicationStrategy;
 import org.apereo.cas.services.replication.RegisteredServiceReplicationStrategy;
@@ -48,7 +49,10 @@ import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Function;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
@@ -90,6 +94,18 @@ public abstract class AbstractResourceBasedServiceRegistry extends AbstractServi
 
     private Pattern serviceFileNamePattern;
 
+    private final AtomicLong version = new AtomicLong();
+
+    /**
+     * Maximum number of service definition files that are read and parsed concurrently.
+     */
+    @Setter
+    private int loadConcurrency = 1;
+
+    private Map<File, ServiceResourceSnapshot> resourceSnapshots = new LinkedHashMap<>();
+
+    private Map<Long, RegisteredService> loadedServices = new LinkedHashMap<>();
+
     protected AbstractResourceBasedServiceRegistry(final Resource configDirectory,
                                                    final Collection<StringSerializer<RegisteredService>> serializers,
                                                    final ConfigurableApplicationContext applicationContext,
@@ -246,26 +262,13 @@ public abstract class AbstractResourceBasedServiceRegistry extends AbstractServi
     public Collection<RegisteredService> load() {
         return lock.tryLock(() -> {
             LOGGER.trace("Loading files from [{}]", this.serviceRegistryDirectory);
-            val serviceRegistryDirectoryFile = serviceRegistryDirectory.toFile();
-            val files = serviceRegistryDirectoryFile.exists()
-                ? FileUtils.listFiles(serviceRegistryDirectoryFile, getExtensions(), true)
-                : List.<File>of();
-            
+            val files = listServiceResources();
             LOGGER.trace("Located [{}] files from [{}] are [{}]", getExtensions(), this.serviceRegistryDirectory, files);
             val clientInfo = ClientInfoHolder.getClientInfo();
 
-            this.services = files
-                .stream()
-                .map(this::load)
-                .filter(Objects::nonNull)
-                .flatMap(Collection::stream)
-                .filter(service -> StringUtils.isNotBlank(service.getServiceId()) && StringUtils.isNotBlank(service.getName()))
-                .sorted()
-                .collect(Collectors.toMap(RegisteredService::getId, Function.identity(),
-                    (s1, s2) -> {
-                        BaseResourceBasedRegisteredServiceWatcher.LOG_SERVICE_DUPLICATE.accept(s2);
-                        return s1;
-                    }, LinkedHashMap::new));
+            val snapshots = readServiceResources(files);
+            updateLoadedServices(snapshots);
+
             val listedServices = new ArrayList<>(this.services.values());
             val results = registeredServiceReplicationStrategy.updateLoadedRegisteredServicesFromCache(listedServices, this);
             results.forEach(service -> publishEvent(new CasRegisteredServiceLoadedEvent(this, service, clientInfo)));
@@ -273,6 +276,68 @@ public abstract class AbstractResourceBasedServiceRegistry extends AbstractServi
         });
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Changes are detected by comparing the last-modified timestamp and length of
+     * service definition files with those recorded when files were last read, and only files
+     * that are added or modified are read again. Changes cannot be tracked if service definitions are
+     * replicated across nodes, since replicated definitions do not originate from files.
+     */
+    @Override
+    public Optional<ServiceRegistryChanges> loadChanges(final long sinceVersion) {
+        if (!(registeredServiceReplicationStrategy instanceof NoOpRegisteredServiceReplicationStrategy)) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(lock.tryLock(() -> {
+            if (sinceVersion == ServiceRegistryChanges.UNKNOWN_VERSION || sinceVersion != version.get()) {
+                val results = load();
+                return ServiceRegistryChanges.builder()
+                    .version(version.get())
+                    .complete(true)
+                    .savedServices(results)
+                    .build();
+            }
+            val previousServices = this.loadedServices;
+            val clientInfo = ClientInfoHolder.getClientInfo();
+            val files = listServiceResources();
+            val snapshots = new LinkedHashMap<File, ServiceResourceSnapshot>(files.size());
+            val modifiedFiles = new ArrayList<File>();
+            for (val file : files) {
+                val snapshot = resourceSnapshots.get(file);
+                if (snapshot != null && snapshot.lastModified() == file.lastModified() && snapshot.length() == file.length()) {
+                    snapshots.put(file, snapshot);
+                } else {
+                    LOGGER.debug("Service definition file [{}] is added or modified", file);
+                    snapshots.put(file, null);
+                    modifiedFiles.add(file);
+                }
+            }
+            if (modifiedFiles.isEmpty() && files.size() == resourceSnapshots.size()) {
+                return ServiceRegistryChanges.builder().version(version.get()).build();
+            }
+            snapshots.putAll(readServiceResources(modifiedFiles));
+            updateLoadedServices(snapshots);
+
+            val savedServices = loadedServices.values()
+                .stream()
+                .filter(service -> previousServices.get(service.getId()) != service)
+                .peek(service -> publishEvent(new CasRegisteredServiceLoadedEvent(this, service, clientInfo)))
+                .toList();
+            val deletedServices = previousServices.keySet()
+                .stream()
+                .filter(id -> !loadedServices.containsKey(id))
+                .toList();
+            LOGGER.debug("Found [{}] saved and [{}] deleted service definition(s) in [{}]",
+                savedServices.size(), deletedServices.size(), serviceRegistryDirectory);
+            return ServiceRegistryChanges.builder()
+                .version(version.get())
+                .savedServices(savedServices)
+                .deletedServices(deletedServices)
+                .build();
+        }));
+    }
+
     @Override
     public Collection<RegisteredService> load(final File file) {
         val fileName = file.getName();
@@ -350,6 +415,59 @@ public abstract class AbstractResourceBasedServiceRegistry extends AbstractServi
         this.serviceRegistryWatcherService.close();
     }
 
+    private Collection<File> listServiceResources() {
+        val serviceRegistryDirectoryFile = serviceRegistryDirectory.toFile();
+        return serviceRegistryDirectoryFile.exists()
+            ? FileUtils.listFiles(serviceRegistryDirectoryFile, getExtensions(), true)
+            : List.of();
+    }
+
+    /**
+     * Read and parse the given service definition files, concurrently if allowed by
+     * the configured load concurrency. Results are kept in the order of the given files
+     * so that duplicate service definitions are resolved the same way regardless of concurrency.
+     */
+    private Map<File, ServiceResourceSnapshot> readServiceResources(final Collection<File> files) {
+        val snapshots = new LinkedHashMap<File, ServiceResourceSnapshot>(files.size());
+        if (loadConcurrency <= 1 || files.size() <= 1) {
+            files.forEach(file -> snapshots.put(file, readServiceResource(file)));
+            return snapshots;
+        }
+        val threadFactory = Thread.ofVirtual().name("service-registry-loader-", 0).factory();
+        try (val executor = Executors.newFixedThreadPool(Math.min(loadConcurrency, files.size()), threadFactory)) {
+            val results = files
+                .stream()
+                .collect(Collectors.toMap(Function.identity(), file -> executor.submit(() -> readServiceResource(file)),
+                    (first, second) -> first, LinkedHashMap::new));
+            results.forEach((file, result) -> snapshots.put(file, FunctionUtils.doUnchecked(() -> result.get())));
+        }
+        LOGGER.debug("Read [{}] service definition file(s) using [{}] concurrent loader(s)", files.size(), loadConcurrency);
+        return snapshots;
+    }
+
+    private ServiceResourceSnapshot readServiceResource(final File file) {
+        val lastModified = file.lastModified();
+        val length = file.length();
+        return new ServiceResourceSnapshot(lastModified, length, load(file));
+    }
+
+    private void updateLoadedServices(final Map<File, ServiceResourceSnapshot> snapshots) {
+        this.loadedServices = snapshots.values()
+            .stream()
+            .map(ServiceResourceSnapshot::services)
+            .flatMap(Collection::stream)
+            .filter(service -> StringUtils.isNotBlank(service.getServiceId()) && StringUtils.isNotBlank(service.getName()))
+            .sorted()
+            .collect(Collectors.toMap(RegisteredService::getId, Function.identity(),
+                (s1, s2) -> {
+                    BaseResourceBasedRegisteredServiceWatcher.LOG_SERVICE_DUPLICATE.accept(s2);
+                    return s1;
+                }, LinkedHashMap::new));
+        this.services = new LinkedHashMap<>(loadedServices);
+        this.resourceSnapshots = snapshots;
+        version.incrementAndGet();
+    }
+
     /**
      * Remove registered service.
      *
@@ -416,6 +534,9 @@ public abstract class AbstractResourceBasedServiceRegistry extends AbstractServi
      */
     protected abstract String[] getExtensions();
 
+    private record ServiceResourceSnapshot(long lastModified, long length, Collection<RegisteredService> services) {
+    }
+
     private void initializeRegistry(final Path configDirectory,
                                     final Collection<StringSerializer<RegisteredService>> serializers,
                                     final RegisteredServiceReplicationStrategy registeredServiceReplicationStrategy,
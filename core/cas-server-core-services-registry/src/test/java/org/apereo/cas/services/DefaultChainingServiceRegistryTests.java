@@ -5,6 +5,9 @@ import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
 import org.springframework.context.support.StaticApplicationContext;
 
+import java.util.Collection;
+import java.util.List;
+
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
@@ -62,4 +65,52 @@ class DefaultChainingServiceRegistryTests {
         assertNull(registry2.findServiceById(service.getId()));
     }
 
+    @Test
+    void verifyLoadChanges() throws Throwable {
+        val appCtx = new StaticApplicationContext();
+        appCtx.refresh();
+
+        val chain = new DefaultChainingServiceRegistry(appCtx);
+        val registry = new InMemoryServiceRegistry(appCtx);
+        chain.addServiceRegistry(registry);
+        val service = newService();
+        chain.save(service);
+
+        val initial = chain.loadChanges(ServiceRegistryChanges.UNKNOWN_VERSION).orElseThrow();
+        assertTrue(initial.isComplete());
+        assertEquals(1, initial.getSavedServices().size());
+        val unchanged = chain.loadChanges(initial.getVersion()).orElseThrow();
+        assertTrue(unchanged.isEmpty());
+
+        chain.addServiceRegistry(new ServiceRegistry() {
+            @Override
+            public RegisteredService save(final RegisteredService registeredService) {
+                return registeredService;
+            }
+
+            @Override
+            public boolean delete(final RegisteredService registeredService) {
+                return true;
+            }
+
+            @Override
+            public void deleteAll() {
+            }
+
+            @Override
+            public Collection<RegisteredService> load() {
+                return List.of();
+            }
+
+            @Override
+            public RegisteredService findServiceById(final long id) {
+                return null;
+            }
+        });
+        val complete = chain.loadChanges(unchanged.getVersion()).orElseThrow();
+        assertTrue(complete.isComplete());
+        assertEquals(1, complete.getSavedServices().size());
+        assertTrue(chain.loadChanges(complete.getVersion()).orElseThrow().isComplete());
+    }
+
 }
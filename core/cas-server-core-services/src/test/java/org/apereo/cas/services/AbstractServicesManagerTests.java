@@ -138,6 +138,24 @@ public abstract class AbstractServicesManagerTests{
         assertNull(servicesManager.findServiceBy(RegisteredServiceTestUtils.getService(registeredService.getServiceId())));
     }
 
+    @Test
+    void verifyLoadAppliesRegistryChanges() throws Throwable {
+        val service = new CasRegisteredService();
+        service.setId(RandomUtils.nextLong());
+        service.setName(UUID.randomUUID().toString());
+        service.setServiceId("https://changes.example.org/.*");
+        serviceRegistry.save(service);
+        servicesManager.load();
+        assertNotNull(servicesManager.findServiceBy(service.getId()));
+        servicesManager.load();
+        assertTrue(isServiceInCache(null, service.getId()));
+
+        serviceRegistry.delete(service);
+        servicesManager.load();
+        assertFalse(isServiceInCache(null, service.getId()));
+        assertNull(servicesManager.findServiceBy(RegisteredServiceTestUtils.getService("https://changes.example.org/app")));
+    }
+
     /**
      * Attempts to make sure service lookup operations
      * are valid based on the existing cache, specially if load
@@ -14,6 +14,7 @@ import org.springframework.core.io.ClassPathResource;
 import java.io.File;
 import java.io.OutputStream;
 import java.util.List;
+import java.util.stream.IntStream;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
@@ -67,6 +68,40 @@ public abstract class BaseResourceBasedServiceRegistryTests extends AbstractServ
         assertTrue(newServiceRegistry.load(file).isEmpty());
     }
 
+    @Test
+    void verifyLoadChanges() {
+        val initial = newServiceRegistry.loadChanges(ServiceRegistryChanges.UNKNOWN_VERSION).orElseThrow();
+        assertTrue(initial.isComplete());
+        val unchanged = newServiceRegistry.loadChanges(initial.getVersion()).orElseThrow();
+        assertTrue(unchanged.isEmpty());
+
+        val registeredService = buildRegisteredServiceInstance(RandomUtils.nextInt(), CasRegisteredService.class);
+        newServiceRegistry.save(registeredService);
+        val saved = newServiceRegistry.loadChanges(unchanged.getVersion()).orElseThrow();
+        assertFalse(saved.isComplete());
+        assertTrue(saved.getSavedServices().stream().anyMatch(service -> service.getId() == registeredService.getId()));
+        assertTrue(saved.getDeletedServices().isEmpty());
+
+        newServiceRegistry.delete(registeredService);
+        val deleted = newServiceRegistry.loadChanges(saved.getVersion()).orElseThrow();
+        assertFalse(deleted.isComplete());
+        assertTrue(deleted.getSavedServices().isEmpty());
+        assertTrue(deleted.getDeletedServices().contains(registeredService.getId()));
+        assertTrue(newServiceRegistry.loadChanges(initial.getVersion()).orElseThrow().isComplete());
+    }
+
+    @Test
+    void verifyConcurrentLoad() {
+        IntStream.range(0, 25).forEach(i -> newServiceRegistry.save(
+            buildRegisteredServiceInstance(RandomUtils.nextInt(), CasRegisteredService.class)));
+        val sequential = newServiceRegistry.load();
+        ((AbstractResourceBasedServiceRegistry) newServiceRegistry).setLoadConcurrency(8);
+        val concurrent = newServiceRegistry.load();
+        assertTrue(concurrent.size() >= 25);
+        assertEquals(sequential.stream().map(RegisteredService::getId).toList(),
+            concurrent.stream().map(RegisteredService::getId).toList());
+    }
+
     @Test
     void verify() {
         val applicationContext = new StaticApplicationContext();
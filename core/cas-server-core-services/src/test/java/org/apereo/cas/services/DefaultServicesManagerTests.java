@@ -18,6 +18,9 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.core.Ordered;
 import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executors;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -37,6 +40,18 @@ class DefaultServicesManagerTests {
     class NoIndexingTests extends AbstractServicesManagerTests {
     }
 
+    @Nested
+    @SpringBootTest(classes = BaseAutoConfigurationTests.SharedTestConfiguration.class,
+        properties = "cas.service-registry.core.index-service-matching=false")
+    class NoServiceMatchingIndexTests extends AbstractServicesManagerTests {
+    }
+
+    @Nested
+    @SpringBootTest(classes = BaseAutoConfigurationTests.SharedTestConfiguration.class,
+        properties = "cas.service-registry.core.incremental-loading=false")
+    class NoIncrementalLoadingTests extends AbstractServicesManagerTests {
+    }
+
     @Nested
     @SpringBootTest(classes = BaseAutoConfigurationTests.SharedTestConfiguration.class)
     class DefaultTests extends AbstractServicesManagerTests {
@@ -158,6 +173,48 @@ class DefaultServicesManagerTests {
             assertTrue(isServiceInCache(null, registeredService.getId()));
         }
 
+        @Test
+        void verifyMatchingIndexWithReplacedServices() throws Throwable {
+            val id = RandomUtils.nextLong();
+            val registeredService = new CasRegisteredService();
+            registeredService.setId(id);
+            registeredService.setName(UUID.randomUUID().toString());
+            registeredService.setServiceId("https://first.example.org/.*");
+            servicesManager.save(registeredService);
+            assertNotNull(servicesManager.findServiceBy(RegisteredServiceTestUtils.getService("https://first.example.org/app")));
+
+            val updatedService = new CasRegisteredService();
+            updatedService.setId(id);
+            updatedService.setName(registeredService.getName());
+            updatedService.setServiceId("https://second.example.org/.*");
+            serviceRegistry.save(updatedService);
+            assertEquals(1, servicesManager.findServiceBy(service -> service.getId() == id).size());
+
+            assertNull(servicesManager.findServiceBy(RegisteredServiceTestUtils.getService("https://first.example.org/app")));
+            assertNotNull(servicesManager.findServiceBy(RegisteredServiceTestUtils.getService("https://second.example.org/app")));
+        }
+
+        @Test
+        void verifyMatchingIndexWithConcurrentLookups() throws Throwable {
+            val id = RandomUtils.nextLong();
+            val registeredService = new CasRegisteredService();
+            registeredService.setId(id);
+            registeredService.setName(UUID.randomUUID().toString());
+            registeredService.setServiceId("https://concurrent.example.org/.*");
+            servicesManager.save(registeredService);
+            serviceRegistry.save(registeredService);
+
+            val service = RegisteredServiceTestUtils.getService("https://concurrent.example.org/app");
+            try (val executor = Executors.newVirtualThreadPerTaskExecutor()) {
+                val tasks = IntStream.range(0, 50)
+                    .mapToObj(i -> (Callable<RegisteredService>) () -> servicesManager.findServiceBy(service))
+                    .toList();
+                for (val result : executor.invokeAll(tasks)) {
+                    assertEquals(id, result.get().getId());
+                }
+            }
+        }
+
         @Test
         void verifyEmptyCacheFirst() throws Throwable {
             val registeredService = new CasRegisteredService();
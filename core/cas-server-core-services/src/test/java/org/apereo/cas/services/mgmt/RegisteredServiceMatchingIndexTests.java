@@ -0,0 +1,94 @@
+package org.apereo.cas.services.mgmt;
+
+import org.apereo.cas.services.CasRegisteredService;
+import org.apereo.cas.services.FullRegexRegisteredServiceMatchingStrategy;
+import org.apereo.cas.services.LiteralRegisteredServiceMatchingStrategy;
+import org.apereo.cas.services.PartialRegexRegisteredServiceMatchingStrategy;
+import org.apereo.cas.services.RegisteredService;
+import org.apereo.cas.services.RegisteredServiceMatchingStrategy;
+import lombok.val;
+import org.apache.commons.lang3.StringUtils;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import java.util.List;
+import java.util.stream.IntStream;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * This is {@link RegisteredServiceMatchingIndexTests}.
+ *
+ * @author Misagh Moayyed
+ * @since 7.2.0
+ */
+@Tag("RegisteredService")
+class RegisteredServiceMatchingIndexTests {
+
+    private static CasRegisteredService newService(final long id, final String serviceId,
+                                                   final int evaluationOrder,
+                                                   final RegisteredServiceMatchingStrategy strategy) {
+        val service = new CasRegisteredService();
+        service.setId(id);
+        service.setName("Service" + id);
+        service.setServiceId(serviceId);
+        service.setEvaluationOrder(evaluationOrder);
+        service.setMatchingStrategy(strategy);
+        return service;
+    }
+
+    @Test
+    void verifyLiteralPrefix() {
+        assertEquals("https://app.example.org/", RegisteredServiceMatchingIndex.getLiteralPrefix("^https://app\\.example\\.org/.*", true));
+        assertEquals("http", RegisteredServiceMatchingIndex.getLiteralPrefix("https?://.*", true));
+        assertEquals("https://", RegisteredServiceMatchingIndex.getLiteralPrefix("https://(a|b)\\.org", true));
+        assertEquals(StringUtils.EMPTY, RegisteredServiceMatchingIndex.getLiteralPrefix("https://a\\.org|https://b\\.org", true));
+        assertEquals(StringUtils.EMPTY, RegisteredServiceMatchingIndex.getLiteralPrefix("example\\.org", false));
+        assertEquals("example.org", RegisteredServiceMatchingIndex.getLiteralPrefix("^example\\.org", false));
+        assertEquals(StringUtils.EMPTY, RegisteredServiceMatchingIndex.getLiteralPrefix("(?i)https://.*", true));
+        assertEquals("https://", RegisteredServiceMatchingIndex.getLiteralPrefix("https://\\w+", true));
+    }
+
+    @Test
+    void verifyCandidatesKeepEvaluationOrder() {
+        val services = List.<RegisteredService>of(
+            newService(1, "^https://app1\\.example\\.org/.*", 10, null),
+            newService(2, "^https://app2\\.example\\.org/.*", 5, null),
+            newService(3, "^(https|imaps)://.*", 1000, null),
+            newService(4, "https://APP1.example.org/login", 1, new LiteralRegisteredServiceMatchingStrategy(true)),
+            newService(5, "example", 2, new PartialRegexRegisteredServiceMatchingStrategy()));
+        val index = new RegisteredServiceMatchingIndex(services);
+        assertEquals(5, index.size());
+        assertEquals(5, index.getIndexedCount());
+
+        val candidates = index.findCandidates("https://app1.example.org/login");
+        assertEquals(List.of(4L, 5L, 1L, 3L), candidates.stream().map(RegisteredService::getId).toList());
+
+        val otherCandidates = index.findCandidates("https://app2.example.org/");
+        assertEquals(List.of(5L, 2L, 3L), otherCandidates.stream().map(RegisteredService::getId).toList());
+
+        assertTrue(index.findCandidates("ftp://unknown.org").isEmpty());
+    }
+
+    @Test
+    void verifyUnindexedServicesAreAlwaysCandidates() {
+        val custom = newService(100, "^https://custom\\.example\\.org/.*", 1,
+            new FullRegexRegisteredServiceMatchingStrategy() {
+            });
+        val services = List.<RegisteredService>of(custom, newService(1, "^https://app\\.example\\.org/.*", 10, null));
+        val index = new RegisteredServiceMatchingIndex(services);
+        assertEquals(1, index.getIndexedCount());
+        val candidates = index.findCandidates("https://other.example.org");
+        assertEquals(List.of(100L), candidates.stream().map(RegisteredService::getId).toList());
+    }
+
+    @Test
+    void verifyNonAsciiServiceIdFallsBack() {
+        val services = IntStream.range(0, 10)
+            .mapToObj(i -> (RegisteredService) newService(i, "^https://app" + i + "\\.example\\.org/.*", i, null))
+            .toList();
+        val index = new RegisteredServiceMatchingIndex(services);
+        assertEquals(10, index.findCandidates("https://ünïcode.example.org").size());
+        assertEquals(10, index.findCandidates(StringUtils.EMPTY).size());
+        assertEquals(1, index.findCandidates("https://app7.example.org/path").size());
+        assertTrue(RegisteredServiceMatchingIndex.empty().findCandidates("https://app7.example.org/path").isEmpty());
+    }
+}
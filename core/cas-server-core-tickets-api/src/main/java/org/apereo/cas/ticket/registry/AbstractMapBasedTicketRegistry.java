@@ -3,6 +3,7 @@ package org.apereo.cas.ticket.registry;
 import org.apereo.cas.ticket.AuthenticationAwareTicket;
 import org.apereo.cas.ticket.Ticket;
 import org.apereo.cas.ticket.TicketCatalog;
+import org.apereo.cas.ticket.TicketGrantingTicket;
 import org.apereo.cas.ticket.registry.pubsub.QueueableTicketRegistry;
 import org.apereo.cas.ticket.registry.pubsub.commands.AddTicketMessageQueueCommand;
 import org.apereo.cas.ticket.registry.pubsub.commands.DeleteTicketMessageQueueCommand;
@@ -10,17 +11,26 @@ import org.apereo.cas.ticket.registry.pubsub.commands.DeleteTicketsMessageQueueC
 import org.apereo.cas.ticket.registry.pubsub.commands.UpdateTicketMessageQueueCommand;
 import org.apereo.cas.ticket.registry.pubsub.queue.QueueableTicketRegistryMessagePublisher;
 import org.apereo.cas.ticket.serialization.TicketSerializationManager;
+import org.apereo.cas.util.CollectionUtils;
 import org.apereo.cas.util.PublisherIdentifier;
 import org.apereo.cas.util.crypto.CipherExecutor;
+import lombok.Getter;
+import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
 import org.apache.commons.lang3.StringUtils;
 import java.io.Serializable;
 import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * This is {@link AbstractMapBasedTicketRegistry}.
@@ -35,6 +45,29 @@ public abstract class AbstractMapBasedTicketRegistry extends AbstractTicketRegis
 
     protected final PublisherIdentifier publisherIdentifier;
 
+    /**
+     * Index of ticket-granting ticket ids keyed by principal,
+     * where principal ids are lower-cased and digested if ticket encryption is enabled.
+     */
+    private final Map<String, Set<String>> principalIndex = new ConcurrentHashMap<>();
+
+    private final Map<String, String> indexedPrincipals = new ConcurrentHashMap<>();
+
+    /**
+     * Inverted index of ticket-granting ticket ids keyed by digested attribute names and values.
+     */
+    private final Map<AttributeIndexKey, Set<String>> attributeIndex = new ConcurrentHashMap<>();
+
+    private final Map<String, Set<AttributeIndexKey>> indexedAttributes = new ConcurrentHashMap<>();
+
+    /**
+     * Whether authentication attributes of ticket-granting tickets
+     * should be indexed to support session queries by attributes.
+     */
+    @Setter
+    @Getter
+    private boolean indexSessionAttributes;
+
     public AbstractMapBasedTicketRegistry(final CipherExecutor cipherExecutor,
                                           final TicketSerializationManager ticketSerializationManager,
                                           final TicketCatalog ticketCatalog,
@@ -117,7 +150,12 @@ public abstract class AbstractMapBasedTicketRegistry extends AbstractTicketRegis
     public void addTicketToQueue(final Ticket ticket) throws Exception {
         val encTicket = encodeTicket(ticket);
         LOGGER.debug("Putting ticket [{}] in registry.", ticket.getId());
-        getMapInstance().put(encTicket.getId(), encTicket);
+        val previous = getMapInstance().put(encTicket.getId(), encTicket);
+        if (previous == null) {
+            ticketRegistryCounters.ticketAdded(ticket);
+        }
+        indexPrincipal(encTicket.getId(), ticket);
+        indexAttributes(encTicket.getId(), ticket);
     }
 
     @Override
@@ -130,13 +168,26 @@ public abstract class AbstractMapBasedTicketRegistry extends AbstractTicketRegis
     @Override
     public long deleteTicketFromQueue(final String ticketId) {
         val encTicketId = digestIdentifier(ticketId);
-        return !StringUtils.isBlank(encTicketId) && getMapInstance().remove(encTicketId) != null ? 1 : 0;
+        val removed = StringUtils.isBlank(encTicketId) ? null : getMapInstance().remove(encTicketId);
+        if (removed != null) {
+            removePrincipalIndex(encTicketId);
+            removeAttributeIndex(encTicketId);
+            if (ticketRegistryCounters.isEnabled()) {
+                ticketRegistryCounters.ticketRemoved(decodeTicket(removed));
+            }
+        }
+        return removed != null ? 1 : 0;
     }
 
     @Override
     public long deleteAllFromQueue() {
         val size = getMapInstance().size();
         getMapInstance().clear();
+        principalIndex.clear();
+        indexedPrincipals.clear();
+        attributeIndex.clear();
+        indexedAttributes.clear();
+        ticketRegistryCounters.reconcile(Stream.empty());
         return size;
     }
 
@@ -155,6 +206,124 @@ public abstract class AbstractMapBasedTicketRegistry extends AbstractTicketRegis
             .collect(Collectors.toList());
     }
 
+    @Override
+    public Stream<? extends Ticket> getSessionsFor(final String principalId) {
+        return getIndexedTicketIdsFor(principalId)
+            .stream()
+            .map(getMapInstance()::get)
+            .filter(Objects::nonNull)
+            .map(this::decodeTicket)
+            .filter(ticket -> ticket instanceof TicketGrantingTicket
+                && !ticket.isExpired()
+                && getPrincipalIdFrom(ticket).equals(principalId));
+    }
+
+    @Override
+    public Stream<? extends Ticket> getSessionsWithAttributes(final Map<String, List<Object>> queryAttributes) {
+        if (!indexSessionAttributes) {
+            return super.getSessionsWithAttributes(queryAttributes);
+        }
+        val ticketIds = new HashSet<String>();
+        digestQueryAttributes(queryAttributes).forEach((name, values) -> values.forEach(value -> {
+            val indexed = attributeIndex.get(new AttributeIndexKey(name, value));
+            if (indexed != null) {
+                ticketIds.addAll(indexed);
+            }
+        }));
+        return ticketIds
+            .stream()
+            .map(getMapInstance()::get)
+            .filter(Objects::nonNull)
+            .map(this::decodeTicket)
+            .filter(ticket -> ticket instanceof TicketGrantingTicket && !ticket.isExpired());
+    }
+
+    @Override
+    public long countSessionsFor(final String principalId) {
+        return getIndexedTicketIdsFor(principalId)
+            .stream()
+            .filter(getMapInstance()::containsKey)
+            .count();
+    }
+
+    /**
+     * Build the key under which ticket-granting tickets
+     * are indexed for the given principal.
+     *
+     * @param principalId the principal id
+     * @return the index key
+     */
+    protected String getPrincipalIndexKey(final String principalId) {
+        return digestIdentifier(principalId.toLowerCase(Locale.ENGLISH));
+    }
+
+    private Set<String> getIndexedTicketIdsFor(final String principalId) {
+        if (StringUtils.isBlank(principalId)) {
+            return Set.of();
+        }
+        val ticketIds = principalIndex.get(getPrincipalIndexKey(principalId));
+        return ticketIds == null ? Set.of() : Set.copyOf(ticketIds);
+    }
+
+    private void indexPrincipal(final String ticketKey, final Ticket ticket) {
+        if (ticket instanceof TicketGrantingTicket) {
+            val principalId = getPrincipalIdFrom(ticket);
+            if (StringUtils.isNotBlank(principalId)) {
+                val principalKey = getPrincipalIndexKey(principalId);
+                val previousKey = indexedPrincipals.put(ticketKey, principalKey);
+                if (previousKey != null && !previousKey.equals(principalKey)) {
+                    removeFromIndex(principalIndex, previousKey, ticketKey);
+                }
+                addToIndex(principalIndex, principalKey, ticketKey);
+            }
+        }
+    }
+
+    private void indexAttributes(final String ticketKey, final Ticket ticket) {
+        if (indexSessionAttributes && ticket instanceof final TicketGrantingTicket tgt && tgt.getAuthentication() != null) {
+            val attributes = (Map<String, Object>) collectAndDigestTicketAttributes(ticket);
+            val currentKeys = new HashSet<AttributeIndexKey>();
+            attributes.forEach((name, values) -> CollectionUtils.toCollection(values)
+                .forEach(value -> currentKeys.add(new AttributeIndexKey(name, normalizeAttributeValue(value.toString())))));
+            val previousKeys = indexedAttributes.put(ticketKey, currentKeys);
+            if (previousKeys != null) {
+                previousKeys.stream()
+                    .filter(key -> !currentKeys.contains(key))
+                    .forEach(key -> removeFromIndex(attributeIndex, key, ticketKey));
+            }
+            currentKeys.forEach(key -> addToIndex(attributeIndex, key, ticketKey));
+        }
+    }
+
+    private void removeAttributeIndex(final String ticketKey) {
+        val attributeKeys = indexedAttributes.remove(ticketKey);
+        if (attributeKeys != null) {
+            attributeKeys.forEach(key -> removeFromIndex(attributeIndex, key, ticketKey));
+        }
+    }
+
+    private void removePrincipalIndex(final String ticketKey) {
+        val principalKey = indexedPrincipals.remove(ticketKey);
+        if (principalKey != null) {
+            removeFromIndex(principalIndex, principalKey, ticketKey);
+        }
+    }
+
+    private static <K> void addToIndex(final Map<K, Set<String>> index, final K indexKey, final String ticketKey) {
+        index.compute(indexKey, (key, ticketIds) -> {
+            val results = ticketIds == null ? ConcurrentHashMap.<String>newKeySet() : ticketIds;
+            results.add(ticketKey);
+            return results;
+        });
+    }
+
+    private static <K> void removeFromIndex(final Map<K, Set<String>> index, final K indexKey, final String ticketKey) {
+        index.computeIfPresent(indexKey, (key, ticketIds) -> {
+            ticketIds.remove(ticketKey);
+            return ticketIds.isEmpty() ? null : ticketIds;
+        });
+    }
+
     /**
      * Create map instance, which must ben created during initialization phases
      * and always be the same instance.
@@ -162,4 +331,7 @@ public abstract class AbstractMapBasedTicketRegistry extends AbstractTicketRegis
      * @return the map
      */
     public abstract Map<String, Ticket> getMapInstance();
+
+    private record AttributeIndexKey(String name, String value) {
+    }
 }
@@ -4,6 +4,7 @@ import org.apereo.cas.authentication.CoreAuthenticationUtils;
 import org.apereo.cas.authentication.principal.Service;
 import org.apereo.cas.ticket.AuthenticationAwareTicket;
 import org.apereo.cas.ticket.EncodedTicket;
+import org.apereo.cas.ticket.IdleExpirationPolicy;
 import org.apereo.cas.ticket.InvalidTicketException;
 import org.apereo.cas.ticket.ServiceAwareTicket;
 import org.apereo.cas.ticket.ServiceTicket;
@@ -18,18 +19,20 @@ import org.apereo.cas.util.crypto.CipherExecutor;
 import org.apereo.cas.util.function.FunctionUtils;
 import org.apereo.cas.util.serialization.SerializationUtils;
 import com.google.common.io.ByteSource;
-import lombok.AllArgsConstructor;
+import lombok.Getter;
 import lombok.NonNull;
 import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
 import org.apache.commons.lang3.StringUtils;
 import org.jooq.lambda.Unchecked;
+import java.time.Clock;
 import java.time.ZonedDateTime;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
@@ -46,7 +49,6 @@ import java.util.stream.Stream;
  * @since 3.0.0
  */
 @Slf4j
-@AllArgsConstructor
 public abstract class AbstractTicketRegistry implements TicketRegistry {
 
     private static final String TICKET_ENCRYPTION_LOG_MESSAGE = "Ticket encryption is not enabled. Falling back to default behavior";
@@ -58,6 +60,18 @@ public abstract class AbstractTicketRegistry implements TicketRegistry {
 
     protected final TicketCatalog ticketCatalog;
 
+    @Setter
+    @Getter
+    protected TicketRegistryCounters ticketRegistryCounters = TicketRegistryCounters.noOp();
+
+    protected AbstractTicketRegistry(final CipherExecutor cipherExecutor,
+                                     final TicketSerializationManager ticketSerializationManager,
+                                     final TicketCatalog ticketCatalog) {
+        this.cipherExecutor = cipherExecutor;
+        this.ticketSerializationManager = ticketSerializationManager;
+        this.ticketCatalog = ticketCatalog;
+    }
+
     protected static String getPrincipalIdFrom(final Ticket ticket) {
         return ticket instanceof AuthenticationAwareTicket
             ? Optional.ofNullable(((AuthenticationAwareTicket) ticket).getAuthentication())
@@ -65,6 +79,39 @@ public abstract class AbstractTicketRegistry implements TicketRegistry {
             : StringUtils.EMPTY;
     }
 
+    /**
+     * Calculate the earliest time at which the ticket expires. This is the earlier of
+     * the maximum expiration time of the ticket and, for idle expiration policies, the time at which
+     * the ticket expires if left unused. If the expiration policy does not define a maximum expiration
+     * time, the time-to-live of the policy is counted from now. The value changes every time the ticket is used,
+     * and must be recalculated every time the ticket is stored.
+     *
+     * @param ticket the ticket
+     * @return the expiration time, or {@code null} if the expiration policy does not define one.
+     */
+    protected static ZonedDateTime getTicketExpirationTime(final Ticket ticket) {
+        val now = ZonedDateTime.now(Clock.systemUTC());
+        val expirationPolicy = ticket.getExpirationPolicy();
+        if (ticket.isExpired()) {
+            return now;
+        }
+        if (expirationPolicy == null) {
+            return null;
+        }
+        var expirationTime = expirationPolicy.toMaximumExpirationTime(ticket);
+        if (expirationTime == null) {
+            val ttl = expirationPolicy.getTimeToLive(ticket);
+            expirationTime = ttl == null || ttl < 1 || ttl == Long.MAX_VALUE ? null : now.plusSeconds(ttl);
+        }
+        if (expirationPolicy instanceof final IdleExpirationPolicy iep) {
+            val idleExpirationTime = iep.getIdleExpirationTime(ticket);
+            if (idleExpirationTime != null && (expirationTime == null || idleExpirationTime.isBefore(expirationTime))) {
+                expirationTime = idleExpirationTime;
+            }
+        }
+        return expirationTime;
+    }
+
     protected Map collectAndDigestTicketAttributes(final Ticket ticket) {
         val currentAttributes = getCombinedTicketAttributes(ticket);
         if (isCipherExecutorEnabled()) {
@@ -158,8 +205,25 @@ public abstract class AbstractTicketRegistry implements TicketRegistry {
         return count.intValue();
     }
 
+    @Override
+    public int deleteTickets(final Collection<String> ticketIds) throws Exception {
+        return ticketIds
+            .stream()
+            .filter(StringUtils::isNotBlank)
+            .map(ticketId -> getTicket(ticketId, ticket -> true))
+            .filter(Objects::nonNull)
+            .mapToInt(ticket -> {
+                LOGGER.debug("Removing ticket [{}] from the registry.", ticket.getId());
+                return Long.valueOf(deleteSingleTicket(ticket)).intValue();
+            })
+            .sum();
+    }
+
     @Override
     public long sessionCount() {
+        if (ticketRegistryCounters.isEnabled()) {
+            return ticketRegistryCounters.countSessions();
+        }
         try (val tgtStream = stream().filter(TicketGrantingTicket.class::isInstance)) {
             return tgtStream.count();
         } catch (final Exception t) {
@@ -171,6 +235,9 @@ public abstract class AbstractTicketRegistry implements TicketRegistry {
 
     @Override
     public long serviceTicketCount() {
+        if (ticketRegistryCounters.isEnabled()) {
+            return ticketRegistryCounters.countServiceTickets();
+        }
         try (val stStream = stream().filter(ServiceTicket.class::isInstance)) {
             return stStream.count();
         } catch (final Exception t) {
@@ -182,6 +249,9 @@ public abstract class AbstractTicketRegistry implements TicketRegistry {
 
     @Override
     public long countSessionsFor(final String principalId) {
+        if (ticketRegistryCounters.isEnabled()) {
+            return ticketRegistryCounters.countSessionsFor(principalId);
+        }
         val ticketPredicate = (Predicate<Ticket>) t -> {
             if (t instanceof final TicketGrantingTicket ticket) {
                 return ticket.getAuthentication().getPrincipal().getId().equalsIgnoreCase(principalId);
@@ -191,6 +261,13 @@ public abstract class AbstractTicketRegistry implements TicketRegistry {
         return getTickets(ticketPredicate).count();
     }
 
+    @Override
+    public long countTickets() {
+        return ticketRegistryCounters.isEnabled()
+            ? ticketRegistryCounters.countTickets()
+            : TicketRegistry.super.countTickets();
+    }
+
     @Override
     public String digestIdentifier(final String identifier) {
         if (StringUtils.isBlank(identifier)) {
@@ -215,6 +292,9 @@ public abstract class AbstractTicketRegistry implements TicketRegistry {
 
     @Override
     public long countTicketsFor(final Service service) {
+        if (ticketRegistryCounters.isEnabled()) {
+            return ticketRegistryCounters.countTicketsFor(service.getId());
+        }
         return stream()
             .map(this::decodeTicket)
             .filter(ServiceAwareTicket.class::isInstance)
@@ -227,25 +307,18 @@ public abstract class AbstractTicketRegistry implements TicketRegistry {
 
     @Override
     public Stream<? extends Ticket> getSessionsWithAttributes(final Map<String, List<Object>> queryAttributes) {
+        val digestedQueryAttributes = digestQueryAttributes(queryAttributes);
         return getTickets(ticket -> {
             if (ticket instanceof final TicketGrantingTicket ticketGrantingTicket && !ticket.isExpired()
                 && ticketGrantingTicket.getAuthentication() != null) {
                 val attributes = collectAndDigestTicketAttributes(ticketGrantingTicket);
-
-                return queryAttributes.entrySet().stream().anyMatch(queryEntry -> {
-                    val attributeKey = digestIdentifier(queryEntry.getKey());
-
-                    if (attributes.containsKey(attributeKey)) {
-
-                        val authnAttributeValues = CollectionUtils.toCollection(attributes.get(attributeKey));
-
-                        return authnAttributeValues.stream().anyMatch(value -> {
-                            val attributeValue = value.toString();
-                            return queryEntry.getValue()
-                                .stream()
-                                .map(queryValue -> digestIdentifier(queryValue.toString()))
-                                .anyMatch(attributeValue::equalsIgnoreCase);
-                        });
+                return digestedQueryAttributes.entrySet().stream().anyMatch(queryEntry -> {
+                    if (attributes.containsKey(queryEntry.getKey())) {
+                        val authnAttributeValues = CollectionUtils.toCollection(attributes.get(queryEntry.getKey()));
+                        return authnAttributeValues
+                            .stream()
+                            .map(value -> normalizeAttributeValue(value.toString()))
+                            .anyMatch(queryEntry.getValue()::contains);
                     }
                     return false;
                 });
@@ -254,6 +327,33 @@ public abstract class AbstractTicketRegistry implements TicketRegistry {
         });
     }
 
+    /**
+     * Digest the names and values of the query attributes once per query,
+     * so they can be compared against digested ticket attributes.
+     *
+     * @param queryAttributes the query attributes
+     * @return the digested attribute names, linked to their digested and normalized values
+     */
+    protected Map<String, Set<String>> digestQueryAttributes(final Map<String, List<Object>> queryAttributes) {
+        return queryAttributes.entrySet()
+            .stream()
+            .collect(Collectors.toMap(entry -> digestIdentifier(entry.getKey()),
+                entry -> entry.getValue()
+                    .stream()
+                    .map(queryValue -> normalizeAttributeValue(digestIdentifier(queryValue.toString())))
+                    .collect(Collectors.toSet())));
+    }
+
+    /**
+     * Normalize attribute values for comparison, which is done without regard to case.
+     *
+     * @param value the value
+     * @return the normalized value
+     */
+    protected static String normalizeAttributeValue(final String value) {
+        return value.toLowerCase(Locale.ENGLISH);
+    }
+
     protected long deleteSingleTicket(final Ticket ticket) {
         return 0;
     }
@@ -0,0 +1,175 @@
+package org.apereo.cas.ticket.registry;
+
+import org.apereo.cas.ticket.ServiceAwareTicket;
+import org.apereo.cas.ticket.ServiceTicket;
+import org.apereo.cas.ticket.Ticket;
+import org.apereo.cas.ticket.TicketGrantingTicket;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import org.apache.commons.lang3.StringUtils;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Stream;
+
+/**
+ * This is {@link AbstractTicketRegistryCounters} that translates tickets
+ * into the set of counter keys that are tracked for each ticket, and leaves
+ * the storage of counters to subclasses.
+ *
+ * @author Misagh Moayyed
+ * @since 7.2.0
+ */
+@Slf4j
+public abstract class AbstractTicketRegistryCounters implements TicketRegistryCounters {
+    protected static final String KEY_TICKETS = "tickets";
+
+    protected static final String KEY_SESSIONS = "sessions";
+
+    protected static final String KEY_SERVICE_TICKETS = "service-tickets";
+
+    protected static final String KEY_PREFIX_TYPE = "type:";
+
+    protected static final String KEY_PREFIX_PRINCIPAL = "principal:";
+
+    protected static final String KEY_PREFIX_SERVICE = "service:";
+
+    @Override
+    public void ticketAdded(final Ticket ticket) {
+        if (ticket != null) {
+            increment(toDeltas(getCounterKeys(ticket), 1));
+        }
+    }
+
+    @Override
+    public void ticketRemoved(final Ticket ticket) {
+        if (ticket != null) {
+            increment(toDeltas(getCounterKeys(ticket), -1));
+        }
+    }
+
+    @Override
+    public long countSessions() {
+        return getCount(KEY_SESSIONS);
+    }
+
+    @Override
+    public long countServiceTickets() {
+        return getCount(KEY_SERVICE_TICKETS);
+    }
+
+    @Override
+    public long countTickets() {
+        return getCount(KEY_TICKETS);
+    }
+
+    @Override
+    public long countSessionsFor(final String principalId) {
+        return StringUtils.isBlank(principalId) ? 0 : getCount(getPrincipalKey(principalId));
+    }
+
+    @Override
+    public long countTicketsFor(final String serviceId) {
+        return StringUtils.isBlank(serviceId) ? 0 : getCount(getCounterKey(KEY_PREFIX_SERVICE, serviceId));
+    }
+
+    /**
+     * Counters are not replaced with the counts collected from the given tickets.
+     * Instead, the difference between collected counts and the counters as they were
+     * before tickets were collected is applied as an increment, so that tickets added or removed
+     * while tickets are collected, by this or any other CAS server node, are not lost.
+     *
+     * @param tickets the tickets
+     */
+    @Override
+    public void reconcile(final Stream<? extends Ticket> tickets) {
+        val corrections = new HashMap<String, Long>();
+        getCounts().forEach((key, count) -> corrections.merge(key, -count, Long::sum));
+        tickets
+            .filter(Objects::nonNull)
+            .forEach(ticket -> getCounterKeys(ticket).forEach(key -> corrections.merge(key, 1L, Long::sum)));
+        corrections.values().removeIf(delta -> delta == 0);
+        LOGGER.debug("Reconciled ticket registry counters with [{}] correction(s)", corrections.size());
+        if (!corrections.isEmpty()) {
+            increment(corrections);
+        }
+    }
+
+    /**
+     * Collect the counter keys that track the given ticket.
+     *
+     * @param ticket the ticket
+     * @return the counter keys
+     */
+    protected Collection<String> getCounterKeys(final Ticket ticket) {
+        val keys = new ArrayList<String>(List.of(KEY_TICKETS, KEY_PREFIX_TYPE + ticket.getPrefix()));
+        if (ticket instanceof final TicketGrantingTicket tgt) {
+            keys.add(KEY_SESSIONS);
+            if (tgt.getAuthentication() != null) {
+                keys.add(getPrincipalKey(tgt.getAuthentication().getPrincipal().getId()));
+            }
+        }
+        if (ticket instanceof ServiceTicket) {
+            keys.add(KEY_SERVICE_TICKETS);
+        }
+        if (ticket instanceof final ServiceAwareTicket sat && sat.getService() != null) {
+            keys.add(getCounterKey(KEY_PREFIX_SERVICE, sat.getService().getId()));
+        }
+        return keys;
+    }
+
+    /**
+     * Build the counter key for the given principal.
+     * Principal ids are compared without regard to case.
+     *
+     * @param principalId the principal id
+     * @return the counter key
+     */
+    protected String getPrincipalKey(final String principalId) {
+        return getCounterKey(KEY_PREFIX_PRINCIPAL, principalId.toLowerCase(Locale.ENGLISH));
+    }
+
+    /**
+     * Build the counter key for the given identifier.
+     *
+     * @param prefix     the prefix
+     * @param identifier the identifier
+     * @return the counter key
+     */
+    protected String getCounterKey(final String prefix, final String identifier) {
+        return prefix + identifier;
+    }
+
+    /**
+     * Increment the counters linked to the given keys by their delta.
+     * Counters that drop to zero may be removed.
+     *
+     * @param deltas the deltas, keyed by counter key
+     */
+    protected abstract void increment(Map<String, Long> deltas);
+
+    /**
+     * Gets the current count for the given counter key.
+     *
+     * @param key the key
+     * @return the count
+     */
+    protected abstract long getCount(String key);
+
+    /**
+     * Gets all current counts, keyed by counter key.
+     *
+     * @return the counts
+     */
+    protected abstract Map<String, Long> getCounts();
+
+    private static Map<String, Long> toDeltas(final Collection<String> keys, final long delta) {
+        val deltas = new HashMap<String, Long>(keys.size());
+        keys.forEach(key -> deltas.merge(key, delta, Long::sum));
+        return deltas;
+    }
+}
@@ -0,0 +1,172 @@
+package org.apereo.cas.ticket.registry;
+
+import org.apereo.cas.logout.LogoutManager;
+import org.apereo.cas.logout.slo.SingleLogoutExecutionRequest;
+import org.apereo.cas.ticket.Ticket;
+import org.apereo.cas.ticket.TicketGrantingTicket;
+import org.apereo.cas.ticket.proxy.ProxyGrantingTicket;
+import org.apereo.cas.util.LoggingUtils;
+import org.apereo.cas.util.lock.LockRepository;
+import com.google.common.collect.Iterators;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import java.time.Clock;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+
+/**
+ * This is {@link BatchingTicketRegistryCleaner}. Expired tickets are requested
+ * from the ticket registry, allowing the registry to filter tickets in the underlying storage,
+ * and processed in batches. Single logout operations for expired ticket-granting tickets are
+ * carried out concurrently on virtual threads, bounded by the configured concurrency.
+ * Each expired ticket-granting ticket is removed along with its descendants while its lock is held,
+ * and all other tickets in each batch are removed from the registry via a single bulk operation.
+ *
+ * @author Misagh Moayyed
+ * @since 7.2.0
+ */
+@Slf4j
+@Getter
+public class BatchingTicketRegistryCleaner extends DefaultTicketRegistryCleaner {
+    private final TicketRegistryCleanerStatistics statistics = new TicketRegistryCleanerStatistics();
+
+    private final int batchSize;
+
+    private final int maxConcurrency;
+
+    public BatchingTicketRegistryCleaner(final LockRepository lockRepository,
+                                         final LogoutManager logoutManager,
+                                         final TicketRegistry ticketRegistry,
+                                         final int batchSize,
+                                         final int maxConcurrency) {
+        super(lockRepository, logoutManager, ticketRegistry);
+        this.batchSize = Math.max(batchSize, 1);
+        this.maxConcurrency = Math.max(maxConcurrency, 1);
+    }
+
+    @Override
+    protected int cleanInternal() {
+        val startedAt = Instant.now(Clock.systemUTC());
+        var ticketsDeleted = 0;
+        try (val expiredTickets = ticketRegistry.getExpiredTickets();
+             val executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            val permits = new Semaphore(maxConcurrency);
+            val iterator = expiredTickets
+                .filter(Objects::nonNull)
+                .filter(Ticket::isExpired)
+                .map(Ticket.class::cast)
+                .iterator();
+            val batches = Iterators.partition(iterator, batchSize);
+            while (batches.hasNext()) {
+                ticketsDeleted += cleanBatch(batches.next(), executor, permits);
+            }
+        }
+        statistics.recordRun(ticketsDeleted, startedAt);
+        LOGGER.info("[{}] expired tickets removed in [{}] ms", ticketsDeleted, statistics.getLastDurationInMillis().get());
+        return ticketsDeleted;
+    }
+
+    /**
+     * Clean a batch of expired tickets.
+     *
+     * @param tickets  the tickets
+     * @param executor the executor
+     * @param permits  the permits
+     * @return the number of tickets removed
+     */
+    protected int cleanBatch(final List<Ticket> tickets, final ExecutorService executor, final Semaphore permits) {
+        LOGGER.debug("Cleaning up a batch of [{}] expired ticket(s)", tickets.size());
+        val ticketIds = ConcurrentHashMap.<String>newKeySet(tickets.size());
+        val tasks = new ArrayList<Future<Integer>>();
+        for (val ticket : tickets) {
+            if (ticket instanceof ProxyGrantingTicket) {
+                tasks.add(submit(executor, permits, () -> cleanTicket(ticket)));
+            } else if (ticket instanceof final TicketGrantingTicket tgt) {
+                tasks.add(submit(executor, permits, () -> logout(tgt)));
+            } else {
+                ticketIds.add(ticket.getId());
+            }
+        }
+        var count = tasks.stream().mapToInt(BatchingTicketRegistryCleaner::waitFor).sum();
+        try {
+            count += ticketRegistry.deleteTickets(ticketIds);
+        } catch (final Throwable e) {
+            LoggingUtils.error(LOGGER, e);
+        }
+        statistics.recordBatch();
+        return count;
+    }
+
+    /**
+     * Perform single logout for the ticket-granting ticket and remove the ticket
+     * and its descendants via a single bulk operation, all under lock, so that the ticket
+     * cannot be updated and saved again once single logout has started. Descendants include
+     * service tickets, proxy-granting tickets and the proxy tickets issued by those proxy-granting tickets.
+     *
+     * @param ticket the ticket
+     * @return the number of tickets removed
+     */
+    protected int logout(final TicketGrantingTicket ticket) {
+        return lockRepository.execute(ticket.getId(), () -> {
+            try {
+                LOGGER.debug("Cleaning up expired ticket-granting ticket [{}]", ticket.getId());
+                val request = SingleLogoutExecutionRequest.builder()
+                    .ticketGrantingTicket(ticket)
+                    .build();
+                logoutManager.performLogout(request);
+            } catch (final Throwable e) {
+                LoggingUtils.error(LOGGER, e);
+            }
+            try {
+                val ticketIds = new LinkedHashSet<String>();
+                ticketIds.add(ticket.getId());
+                ticketIds.addAll(ticket.getServices().keySet());
+                ticketIds.addAll(ticket.getProxyGrantingTickets().keySet());
+                ticket.getProxyGrantingTickets().keySet()
+                    .stream()
+                    .map(proxyGrantingTicketId -> ticketRegistry.getTicket(proxyGrantingTicketId, pgt -> true))
+                    .filter(ProxyGrantingTicket.class::isInstance)
+                    .map(ProxyGrantingTicket.class::cast)
+                    .forEach(proxyGrantingTicket -> ticketIds.addAll(proxyGrantingTicket.getServices().keySet()));
+                return ticketRegistry.deleteTickets(ticketIds);
+            } catch (final Throwable e) {
+                LoggingUtils.error(LOGGER, e);
+                return 0;
+            }
+        }).orElse(0);
+    }
+
+    private static Future<Integer> submit(final ExecutorService executor, final Semaphore permits,
+                                          final Callable<Integer> task) {
+        return executor.submit(() -> {
+            permits.acquire();
+            try {
+                return task.call();
+            } finally {
+                permits.release();
+            }
+        });
+    }
+
+    private static int waitFor(final Future<Integer> future) {
+        try {
+            return future.get();
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            LoggingUtils.error(LOGGER, e);
+        } catch (final Exception e) {
+            LoggingUtils.error(LOGGER, e);
+        }
+        return 0;
+    }
+}
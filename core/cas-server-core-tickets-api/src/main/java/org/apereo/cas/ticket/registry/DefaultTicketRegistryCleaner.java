@@ -22,11 +22,11 @@ import java.util.Objects;
 @RequiredArgsConstructor
 @Transactional(transactionManager = "ticketTransactionManager")
 public class DefaultTicketRegistryCleaner implements TicketRegistryCleaner {
-    private final LockRepository lockRepository;
+    protected final LockRepository lockRepository;
 
-    private final LogoutManager logoutManager;
+    protected final LogoutManager logoutManager;
 
-    private final TicketRegistry ticketRegistry;
+    protected final TicketRegistry ticketRegistry;
 
     @Override
     public int clean() {
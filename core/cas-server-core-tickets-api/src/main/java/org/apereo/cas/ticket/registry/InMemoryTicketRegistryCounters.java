@@ -0,0 +1,35 @@
+package org.apereo.cas.ticket.registry;
+
+import lombok.val;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * This is {@link InMemoryTicketRegistryCounters} that keeps
+ * ticket registry counters in memory, suitable for ticket registries
+ * whose contents are owned by the CAS server node itself.
+ *
+ * @author Misagh Moayyed
+ * @since 7.2.0
+ */
+public class InMemoryTicketRegistryCounters extends AbstractTicketRegistryCounters {
+    private final Map<String, Long> counters = new ConcurrentHashMap<>();
+
+    @Override
+    protected void increment(final Map<String, Long> deltas) {
+        deltas.forEach((key, delta) -> counters.merge(key, delta, (count, change) -> {
+            val result = count + change;
+            return result == 0 ? null : result;
+        }));
+    }
+
+    @Override
+    protected long getCount(final String key) {
+        return Math.max(counters.getOrDefault(key, 0L), 0);
+    }
+
+    @Override
+    protected Map<String, Long> getCounts() {
+        return Map.copyOf(counters);
+    }
+}
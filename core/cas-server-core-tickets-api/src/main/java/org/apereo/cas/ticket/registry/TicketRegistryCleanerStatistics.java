@@ -0,0 +1,74 @@
+package org.apereo.cas.ticket.registry;
+
+import lombok.Getter;
+import lombok.ToString;
+import lombok.val;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * This is {@link TicketRegistryCleanerStatistics} that tracks
+ * the throughput and lag of the ticket registry cleaner.
+ *
+ * @author Misagh Moayyed
+ * @since 7.2.0
+ */
+@Getter
+@ToString
+public class TicketRegistryCleanerStatistics {
+    private final LongAdder totalCleanedTickets = new LongAdder();
+
+    private final LongAdder totalBatches = new LongAdder();
+
+    private final AtomicLong lastCleanedTickets = new AtomicLong();
+
+    private final AtomicLong lastDurationInMillis = new AtomicLong();
+
+    private final AtomicReference<Instant> lastCompletedAt = new AtomicReference<>();
+
+    /**
+     * Record a batch of tickets that were processed by the cleaner.
+     */
+    public void recordBatch() {
+        totalBatches.increment();
+    }
+
+    /**
+     * Record a completed cleaner run.
+     *
+     * @param cleanedTickets the cleaned tickets
+     * @param startedAt      the started at
+     */
+    public void recordRun(final long cleanedTickets, final Instant startedAt) {
+        val now = Instant.now(Clock.systemUTC());
+        totalCleanedTickets.add(cleanedTickets);
+        lastCleanedTickets.set(cleanedTickets);
+        lastDurationInMillis.set(Duration.between(startedAt, now).toMillis());
+        lastCompletedAt.set(now);
+    }
+
+    /**
+     * Number of tickets cleaned per second during the last run.
+     *
+     * @return the throughput
+     */
+    public double getThroughput() {
+        val duration = lastDurationInMillis.get();
+        return duration > 0 ? lastCleanedTickets.get() * 1000D / duration : lastCleanedTickets.get();
+    }
+
+    /**
+     * Number of seconds elapsed since the cleaner last completed a run,
+     * or {@code -1} if the cleaner has never completed a run.
+     *
+     * @return the lag in seconds
+     */
+    public long getLagInSeconds() {
+        val completedAt = lastCompletedAt.get();
+        return completedAt == null ? -1 : Duration.between(completedAt, Instant.now(Clock.systemUTC())).toSeconds();
+    }
+}
@@ -0,0 +1,233 @@
+package org.apereo.cas.ticket.serialization;
+
+import org.apereo.cas.ticket.InvalidTicketException;
+import org.apereo.cas.ticket.Ticket;
+import org.apereo.cas.util.function.FunctionUtils;
+import org.apereo.cas.util.serialization.BaseJacksonSerializer;
+
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileGenerator;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * This is {@link CompactTicketSerializationManager}, which serializes tickets into a versioned binary format
+ * that is encoded as a Base64 string, so that it can be stored wherever the JSON format is stored today.
+ * <p>
+ * Each serialized ticket starts with a format version byte, followed by a flags byte and the payload.
+ * The payload is the ticket in <a href="https://github.com/FasterXML/smile-format-specification">Smile</a> format,
+ * produced by the same Jackson configuration as the JSON serializer for the ticket type, with repeated
+ * field names and short string values (such as type names and attribute names) written once and back-referenced.
+ * Payloads above the compression threshold are deflated against a preset dictionary of type and field names
+ * that are common to most tickets, so those are shared across tickets rather than repeated in each one.
+ * <p>
+ * Content that is not in this format is handed off to the JSON serializers, so tickets serialized in either format
+ * can be read back. The preset dictionary is part of the format; changing it requires a new format version.
+ *
+ * @author Misagh Moayyed
+ * @since 7.2.0
+ */
+@Slf4j
+public class CompactTicketSerializationManager extends DefaultTicketStringSerializationManager {
+    /**
+     * Current format version.
+     */
+    static final byte FORMAT_VERSION = 1;
+
+    private static final int FLAG_COMPRESSED = 0x01;
+
+    private static final int HEADER_LENGTH = 2;
+
+    private static final SmileFactory SMILE_FACTORY = SmileFactory.builder()
+        .enable(SmileGenerator.Feature.CHECK_SHARED_STRING_VALUES)
+        .build();
+
+    private static final byte[] DICTIONARY = String.join(",",
+        "java.util.ArrayList", "java.util.LinkedHashMap", "java.util.HashMap", "java.util.HashSet",
+        "java.util.concurrent.ConcurrentHashMap", "java.time.ZonedDateTime",
+        "org.apereo.cas.ticket.TicketGrantingTicketImpl", "org.apereo.cas.ticket.ServiceTicketImpl",
+        "org.apereo.cas.ticket.expiration.TicketGrantingTicketExpirationPolicy",
+        "org.apereo.cas.ticket.expiration.HardTimeoutExpirationPolicy",
+        "org.apereo.cas.ticket.expiration.MultiTimeUseOrTimeoutExpirationPolicy",
+        "org.apereo.cas.ticket.expiration.RememberMeDelegatingExpirationPolicy",
+        "org.apereo.cas.authentication.DefaultAuthentication",
+        "org.apereo.cas.authentication.DefaultAuthenticationHandlerExecutionResult",
+        "org.apereo.cas.authentication.principal.SimplePrincipal",
+        "org.apereo.cas.authentication.principal.SimpleWebApplicationServiceImpl",
+        "org.apereo.cas.authentication.credential.BasicIdentifiableCredential",
+        "org.apereo.cas.authentication.credential.UsernamePasswordCredential",
+        "org.apereo.cas.authentication.metadata.BasicCredentialMetadata",
+        "authenticationDate", "principal", "attributes", "credentials", "successes", "failures", "warnings",
+        "handlerName", "credentialMetadata", "credentialClass", "authenticationMethod",
+        "successfulAuthenticationHandlers", "credentialType", "isFromNewLogin", "longTermAuthenticationRequestTokenUsed",
+        "expirationPolicy", "creationTime", "lastTimeUsed", "previousTimeUsed", "countOfUses",
+        "ticketGrantingTicket", "services", "descendantTickets", "proxyGrantingTickets", "originalUrl", "format",
+        "timeToLive", "timeToIdle", "maxTimeToLiveInSeconds", "timeToKillInSeconds", "timeToKillInMilliSeconds",
+        "TGT-", "ST-").getBytes(StandardCharsets.UTF_8);
+
+    private final TicketSerializationExecutionPlan ticketSerializationExecutionPlan;
+
+    private final int compressionThreshold;
+
+    private final Map<Class<?>, ObjectWriter> writers = new ConcurrentHashMap<>();
+
+    private final Map<Class<?>, ObjectReader> readers = new ConcurrentHashMap<>();
+
+    public CompactTicketSerializationManager(final TicketSerializationExecutionPlan ticketSerializationExecutionPlan,
+                                             final int compressionThreshold) {
+        super(ticketSerializationExecutionPlan);
+        this.ticketSerializationExecutionPlan = ticketSerializationExecutionPlan;
+        this.compressionThreshold = compressionThreshold;
+    }
+
+    @Override
+    public String serializeTicket(final Ticket ticket) {
+        if (ticketSerializationExecutionPlan.getTicketSerializer(ticket) instanceof final BaseJacksonSerializer<Ticket> serializer) {
+            val writer = writers.computeIfAbsent(serializer.getTypeToSerialize(),
+                type -> serializer.getObjectMapper().writerFor(type));
+            val payload = FunctionUtils.doUnchecked(() -> {
+                try (val output = new ByteArrayOutputStream();
+                     val generator = SMILE_FACTORY.createGenerator(output)) {
+                    writer.writeValue(generator, ticket);
+                    generator.flush();
+                    return output.toByteArray();
+                }
+            });
+            return encode(payload);
+        }
+        LOGGER.trace("Ticket [{}] cannot be serialized in compact format and will be serialized as JSON", ticket.getId());
+        return super.serializeTicket(ticket);
+    }
+
+    @Override
+    public <T extends Ticket> T deserializeTicket(final String ticketContent, final Class<T> clazz) {
+        if (!isCompactFormat(ticketContent)) {
+            return super.deserializeTicket(ticketContent, clazz);
+        }
+        if (!(ticketSerializationExecutionPlan.getTicketSerializer(clazz) instanceof final BaseJacksonSerializer<Ticket> serializer)) {
+            throw new IllegalArgumentException("Unable to find compact ticket deserializer for " + clazz.getSimpleName());
+        }
+        val reader = readers.computeIfAbsent(serializer.getTypeToSerialize(),
+            type -> serializer.getObjectMapper().readerFor(type));
+        val payload = decode(ticketContent);
+        val ticket = readTicket(reader, payload);
+        if (ticket == null) {
+            throw new InvalidTicketException(clazz.getName());
+        }
+        if (!clazz.isAssignableFrom(ticket.getClass())) {
+            throw new ClassCastException("Ticket [" + ticket.getId()
+                                         + " is of type " + ticket.getClass()
+                                         + " when we were expecting " + clazz);
+        }
+        return clazz.cast(ticket);
+    }
+
+    /**
+     * Whether the given content is in compact format.
+     * Base64 content always begins with a quantum of 4 characters
+     * which is enough to recover the format version byte.
+     *
+     * @param ticketContent the ticket content
+     * @return true/false
+     */
+    static boolean isCompactFormat(final String ticketContent) {
+        if (ticketContent == null || ticketContent.length() < 4 || ticketContent.charAt(0) == '{') {
+            return false;
+        }
+        try {
+            return Base64.getDecoder().decode(ticketContent.substring(0, 4))[0] == FORMAT_VERSION;
+        } catch (final IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+    private static Ticket readTicket(final ObjectReader reader, final byte[] payload) {
+        try (val parser = SMILE_FACTORY.createParser(payload)) {
+            return reader.readValue(parser);
+        } catch (final Exception e) {
+            LOGGER.error("Cannot read compact ticket content into type [{}]: [{}]", reader.getValueType(), e.getMessage());
+            LOGGER.debug(e.getMessage(), e);
+            return null;
+        }
+    }
+
+    private String encode(final byte[] payload) {
+        var flags = 0;
+        var body = payload;
+        if (payload.length > compressionThreshold) {
+            val compressed = deflate(payload);
+            if (compressed.length < payload.length) {
+                body = compressed;
+                flags |= FLAG_COMPRESSED;
+            }
+        }
+        val result = new byte[HEADER_LENGTH + body.length];
+        result[0] = FORMAT_VERSION;
+        result[1] = (byte) flags;
+        System.arraycopy(body, 0, result, HEADER_LENGTH, body.length);
+        LOGGER.trace("Serialized ticket payload of [{}] byte(s) into [{}] byte(s)", payload.length, result.length);
+        return Base64.getEncoder().encodeToString(result);
+    }
+
+    private static byte[] decode(final String ticketContent) {
+        val content = Base64.getDecoder().decode(ticketContent);
+        if ((content[1] & FLAG_COMPRESSED) == FLAG_COMPRESSED) {
+            return inflate(content);
+        }
+        return Arrays.copyOfRange(content, HEADER_LENGTH, content.length);
+    }
+
+    private static byte[] deflate(final byte[] payload) {
+        val deflater = new Deflater(Deflater.BEST_SPEED);
+        try {
+            deflater.setDictionary(DICTIONARY);
+            deflater.setInput(payload);
+            deflater.finish();
+            val output = new ByteArrayOutputStream(payload.length / 2);
+            val buffer = new byte[1024];
+            while (!deflater.finished()) {
+                val count = deflater.deflate(buffer);
+                output.write(buffer, 0, count);
+            }
+            return output.toByteArray();
+        } finally {
+            deflater.end();
+        }
+    }
+
+    private static byte[] inflate(final byte[] content) {
+        val inflater = new Inflater();
+        try {
+            inflater.setInput(content, HEADER_LENGTH, content.length - HEADER_LENGTH);
+            val output = new ByteArrayOutputStream(content.length * 3);
+            val buffer = new byte[1024];
+            while (!inflater.finished()) {
+                val count = inflater.inflate(buffer);
+                if (count == 0 && inflater.needsDictionary()) {
+                    inflater.setDictionary(DICTIONARY);
+                } else if (count == 0 && inflater.needsInput()) {
+                    throw new IllegalArgumentException("Compressed ticket content is truncated");
+                } else {
+                    output.write(buffer, 0, count);
+                }
+            }
+            return output.toByteArray();
+        } catch (final DataFormatException e) {
+            throw new IllegalArgumentException("Compressed ticket content is malformed", e);
+        } finally {
+            inflater.end();
+        }
+    }
+}
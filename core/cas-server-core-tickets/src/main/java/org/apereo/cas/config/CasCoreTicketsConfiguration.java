@@ -34,7 +34,9 @@ import org.apereo.cas.ticket.proxy.ProxyGrantingTicketFactory;
 import org.apereo.cas.ticket.proxy.ProxyTicketFactory;
 import org.apereo.cas.ticket.registry.DefaultTicketRegistry;
 import org.apereo.cas.ticket.registry.DefaultTicketRegistrySupport;
+import org.apereo.cas.ticket.registry.InMemoryTicketRegistryCounters;
 import org.apereo.cas.ticket.registry.TicketRegistry;
+import org.apereo.cas.ticket.registry.TicketRegistryCounters;
 import org.apereo.cas.ticket.registry.TicketRegistrySupport;
 import org.apereo.cas.ticket.registry.pubsub.DefaultQueueableTicketRegistryMessageReceiver;
 import org.apereo.cas.ticket.registry.pubsub.QueueableTicketRegistry;
@@ -189,13 +191,27 @@ class CasCoreTicketsConfiguration {
             final TicketSerializationManager ticketSerializationManager,
             @Qualifier(LogoutManager.DEFAULT_BEAN_NAME)
             final ObjectProvider<LogoutManager> logoutManager,
+            @Qualifier(TicketRegistryCounters.BEAN_NAME)
+            final TicketRegistryCounters ticketRegistryCounters,
             final CasConfigurationProperties casProperties) {
             LOGGER.info("Runtime memory is used as the persistence storage for retrieving and managing tickets. "
                         + "Tickets that are issued during runtime will be LOST when the web server is restarted. This MAY impact SSO functionality.");
             val mem = casProperties.getTicket().getRegistry().getInMemory();
             val storageMap = new ConcurrentHashMap<String, Ticket>(mem.getInitialCapacity(), mem.getLoadFactor(), mem.getConcurrency());
-            return new DefaultTicketRegistry(defaultTicketRegistryCipherExecutor, ticketSerializationManager, ticketCatalog,
+            val registry = new DefaultTicketRegistry(defaultTicketRegistryCipherExecutor, ticketSerializationManager, ticketCatalog,
                 storageMap, messageQueueTicketRegistryPublisher, messageQueueTicketRegistryIdentifier);
+            registry.setTicketRegistryCounters(ticketRegistryCounters);
+            registry.setIndexSessionAttributes(mem.isIndexSessionAttributes());
+            return registry;
+        }
+
+        @ConditionalOnMissingBean(name = TicketRegistryCounters.BEAN_NAME)
+        @Bean
+        @RefreshScope(proxyMode = ScopedProxyMode.DEFAULT)
+        public TicketRegistryCounters ticketRegistryCounters(final CasConfigurationProperties casProperties) {
+            return casProperties.getTicket().getRegistry().getCounters().isEnabled()
+                ? new InMemoryTicketRegistryCounters()
+                : TicketRegistryCounters.noOp();
         }
 
         @Bean
@@ -2,10 +2,14 @@ package org.apereo.cas.config;
 
 import org.apereo.cas.configuration.CasConfigurationProperties;
 import org.apereo.cas.configuration.features.CasFeatureModule;
+import org.apereo.cas.configuration.model.core.ticket.registry.TicketRegistryCleanerProperties;
 import org.apereo.cas.logout.LogoutManager;
+import org.apereo.cas.ticket.registry.AbstractTicketRegistry;
+import org.apereo.cas.ticket.registry.BatchingTicketRegistryCleaner;
 import org.apereo.cas.ticket.registry.DefaultTicketRegistryCleaner;
 import org.apereo.cas.ticket.registry.TicketRegistry;
 import org.apereo.cas.ticket.registry.TicketRegistryCleaner;
+import org.apereo.cas.ticket.registry.TicketRegistryCounters;
 import org.apereo.cas.util.function.FunctionUtils;
 import org.apereo.cas.util.lock.LockRepository;
 import org.apereo.cas.util.spring.beans.BeanCondition;
@@ -14,6 +18,7 @@ import org.apereo.cas.util.spring.boot.ConditionalOnFeatureEnabled;
 import org.apereo.cas.util.spring.boot.ConditionalOnMatchingHostname;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import lombok.val;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
@@ -53,6 +58,11 @@ class CasCoreTicketsSchedulingConfiguration {
         @Qualifier(LockRepository.BEAN_NAME) final LockRepository lockRepository,
         @Qualifier(LogoutManager.DEFAULT_BEAN_NAME) final LogoutManager logoutManager,
         @Qualifier(TicketRegistry.BEAN_NAME) final TicketRegistry ticketRegistry) {
+        val cleaner = casProperties.getTicket().getRegistry().getCleaner();
+        if (cleaner.getMode() == TicketRegistryCleanerProperties.CleanerModes.BATCH) {
+            return new BatchingTicketRegistryCleaner(lockRepository, logoutManager,
+                ticketRegistry, cleaner.getBatchSize(), cleaner.getMaxConcurrency());
+        }
         return new DefaultTicketRegistryCleaner(lockRepository, logoutManager, ticketRegistry);
     }
 
@@ -77,6 +87,61 @@ class CasCoreTicketsSchedulingConfiguration {
             .get();
     }
 
+    @ConditionalOnMissingBean(name = "ticketRegistryCountersReconciliationScheduler")
+    @ConditionalOnMatchingHostname(name = "cas.ticket.registry.counters.schedule.enabled-on-host")
+    @Bean
+    @RefreshScope(proxyMode = ScopedProxyMode.DEFAULT)
+    @Lazy(false)
+    public Runnable ticketRegistryCountersReconciliationScheduler(
+        final ConfigurableApplicationContext applicationContext,
+        @Qualifier(LockRepository.BEAN_NAME) final LockRepository lockRepository,
+        @Qualifier(TicketRegistry.BEAN_NAME) final TicketRegistry ticketRegistry) {
+        return BeanSupplier.of(Runnable.class)
+            .when(BeanCondition.on("cas.ticket.registry.counters.enabled").isTrue()
+                .given(applicationContext.getEnvironment()))
+            .and(BeanCondition.on("cas.ticket.registry.counters.schedule.enabled").isTrue()
+                .evenIfMissing().given(applicationContext.getEnvironment()))
+            .and(() -> ticketRegistry instanceof final AbstractTicketRegistry registry
+                && registry.getTicketRegistryCounters().isEnabled())
+            .supply(() -> new TicketRegistryCountersReconciliationScheduler(lockRepository,
+                ((AbstractTicketRegistry) ticketRegistry).getTicketRegistryCounters(), ticketRegistry))
+            .otherwiseProxy(__ -> LOGGER.debug("Ticket registry counters are not used by the ticket registry and will not be reconciled"))
+            .get();
+    }
+
+    /**
+     * Periodically reconciles the ticket registry counters with the contents
+     * of the ticket registry, to correct drift caused by tickets that are removed
+     * by the underlying storage without going through the registry. Only scheduled
+     * for ticket registries that maintain counters, so that registries that count
+     * tickets by querying the underlying storage are not streamed in full.
+     */
+    @RequiredArgsConstructor
+    static class TicketRegistryCountersReconciliationScheduler implements Runnable {
+        private static final String LOCK_KEY = "ticketRegistryCountersReconciliation";
+
+        private final LockRepository lockRepository;
+
+        private final TicketRegistryCounters ticketRegistryCounters;
+
+        private final TicketRegistry ticketRegistry;
+
+        @Scheduled(
+            cron = "${cas.ticket.registry.counters.schedule.cron-expression:}",
+            zone = "${cas.ticket.registry.counters.schedule.cron-time-zone:}",
+            initialDelayString = "${cas.ticket.registry.counters.schedule.start-delay:PT1M}",
+            fixedDelayString = "${cas.ticket.registry.counters.schedule.repeat-interval:PT15M}")
+        @Override
+        public void run() {
+            FunctionUtils.doAndHandle(__ -> lockRepository.execute(LOCK_KEY, () -> {
+                try (val tickets = ticketRegistry.stream()) {
+                    ticketRegistryCounters.reconcile(tickets);
+                }
+                LOGGER.debug("Reconciled ticket registry counters with the ticket registry");
+                return Boolean.TRUE;
+            }));
+        }
+    }
 
     /**
      * The Ticket registry cleaner scheduler. Because the cleaner itself is marked
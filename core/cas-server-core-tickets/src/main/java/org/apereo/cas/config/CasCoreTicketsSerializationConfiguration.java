@@ -2,6 +2,8 @@ package org.apereo.cas.config;
 
 import org.apereo.cas.configuration.CasConfigurationProperties;
 import org.apereo.cas.configuration.features.CasFeatureModule;
+import org.apereo.cas.configuration.model.core.ticket.registry.TicketRegistryCoreProperties;
+import org.apereo.cas.ticket.serialization.CompactTicketSerializationManager;
 import org.apereo.cas.ticket.serialization.DefaultTicketSerializationExecutionPlan;
 import org.apereo.cas.ticket.serialization.DefaultTicketStringSerializationManager;
 import org.apereo.cas.ticket.serialization.TicketSerializationExecutionPlan;
@@ -61,7 +63,12 @@ class CasCoreTicketsSerializationConfiguration {
         @ConditionalOnMissingBean(name = TicketSerializationManager.BEAN_NAME)
         @RefreshScope(proxyMode = ScopedProxyMode.DEFAULT)
         public TicketSerializationManager ticketSerializationManager(
+            final CasConfigurationProperties casProperties,
             @Qualifier("ticketSerializationExecutionPlan") final TicketSerializationExecutionPlan ticketSerializationExecutionPlan) {
+            val core = casProperties.getTicket().getRegistry().getCore();
+            if (core.getSerializationFormat() == TicketRegistryCoreProperties.TicketSerializationFormats.COMPACT) {
+                return new CompactTicketSerializationManager(ticketSerializationExecutionPlan, core.getCompressionThreshold());
+            }
             return new DefaultTicketStringSerializationManager(ticketSerializationExecutionPlan);
         }
     }
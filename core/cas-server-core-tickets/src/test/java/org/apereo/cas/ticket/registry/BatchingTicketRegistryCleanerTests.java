@@ -0,0 +1,171 @@
+package org.apereo.cas.ticket.registry;
+
+import org.apereo.cas.authentication.CoreAuthenticationTestUtils;
+import org.apereo.cas.logout.LogoutManager;
+import org.apereo.cas.mock.MockTicketGrantingTicket;
+import org.apereo.cas.services.RegisteredServiceTestUtils;
+import org.apereo.cas.test.CasTestExtension;
+import org.apereo.cas.ticket.DefaultTicketCatalog;
+import org.apereo.cas.ticket.ProxyGrantingTicketIssuerTicket;
+import org.apereo.cas.ticket.TicketGrantingTicketImpl;
+import org.apereo.cas.ticket.expiration.HardTimeoutExpirationPolicy;
+import org.apereo.cas.ticket.expiration.NeverExpiresExpirationPolicy;
+import org.apereo.cas.ticket.proxy.ProxyTicket;
+import org.apereo.cas.ticket.serialization.TicketSerializationManager;
+import org.apereo.cas.ticket.tracking.TicketTrackingPolicy;
+import org.apereo.cas.util.DefaultUniqueTicketIdGenerator;
+import org.apereo.cas.util.lock.LockRepository;
+import lombok.val;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * This is {@link BatchingTicketRegistryCleanerTests}.
+ *
+ * @author Misagh Moayyed
+ * @since 7.2.0
+ */
+@Tag("Tickets")
+@ExtendWith(CasTestExtension.class)
+@SpringBootTest(classes = BaseTicketRegistryTests.SharedTestConfiguration.class)
+class BatchingTicketRegistryCleanerTests {
+    @Autowired
+    @Qualifier(TicketTrackingPolicy.BEAN_NAME_SERVICE_TICKET_TRACKING)
+    private TicketTrackingPolicy serviceTicketSessionTrackingPolicy;
+
+    @Test
+    void verifyExpiredTicketsInBatches() throws Throwable {
+        val logoutManager = mock(LogoutManager.class);
+        val ticketRegistry = newTicketRegistry();
+        val tickets = IntStream.range(0, 10)
+            .mapToObj(i -> {
+                val tgt = new MockTicketGrantingTicket("casuser" + i);
+                tgt.setExpirationPolicy(new HardTimeoutExpirationPolicy(1));
+                return tgt;
+            })
+            .toList();
+        for (val tgt : tickets) {
+            ticketRegistry.addTicket(tgt);
+        }
+        val active = new MockTicketGrantingTicket("casuser");
+        ticketRegistry.addTicket(active);
+        tickets.forEach(MockTicketGrantingTicket::markTicketExpired);
+
+        val cleaner = new BatchingTicketRegistryCleaner(LockRepository.noOp(), logoutManager, ticketRegistry, 3, 2);
+        assertEquals(tickets.size(), cleaner.clean());
+        assertEquals(1, ticketRegistry.sessionCount());
+        assertNotNull(ticketRegistry.getTicket(active.getId()));
+        verify(logoutManager, times(tickets.size())).performLogout(any());
+
+        val statistics = cleaner.getStatistics();
+        assertEquals(tickets.size(), statistics.getTotalCleanedTickets().sum());
+        assertEquals(4, statistics.getTotalBatches().sum());
+        assertTrue(statistics.getLagInSeconds() >= 0);
+        assertTrue(statistics.getThroughput() > 0);
+    }
+
+    @Test
+    void verifyTicketGrantingTicketRemovedUnderLock() throws Throwable {
+        val ticketRegistry = spy(newTicketRegistry());
+        val tgt = new MockTicketGrantingTicket("casuser");
+        tgt.setExpirationPolicy(new HardTimeoutExpirationPolicy(1));
+        ticketRegistry.addTicket(tgt);
+        tgt.markTicketExpired();
+
+        val locked = new AtomicBoolean();
+        val lockRepository = new LockRepository() {
+            @Override
+            public <T> Optional<T> execute(final Object lockKey, final Supplier<T> consumer) {
+                locked.set(true);
+                try {
+                    return Optional.ofNullable(consumer.get());
+                } finally {
+                    locked.set(false);
+                }
+            }
+        };
+        val deletedUnderLock = new AtomicBoolean();
+        doAnswer(invocation -> {
+            if (((Collection<String>) invocation.getArgument(0)).contains(tgt.getId())) {
+                deletedUnderLock.set(locked.get());
+            }
+            return invocation.callRealMethod();
+        }).when(ticketRegistry).deleteTickets(anyCollection());
+
+        val cleaner = new BatchingTicketRegistryCleaner(lockRepository, mock(LogoutManager.class), ticketRegistry, 10, 1);
+        assertEquals(1, cleaner.clean());
+        assertTrue(deletedUnderLock.get());
+        assertNull(ticketRegistry.getTicket(tgt.getId()));
+    }
+
+    @Test
+    void verifyProxyTicketsRemovedWithTicketGrantingTicket() throws Throwable {
+        val ticketRegistry = spy(newTicketRegistry());
+        val identifiers = BaseTicketRegistryTests.TestTicketIdentifiers.generate();
+        val tgt = new TicketGrantingTicketImpl(identifiers.ticketGrantingTicketId(),
+            CoreAuthenticationTestUtils.getAuthentication(), new HardTimeoutExpirationPolicy(1));
+        val serviceTicket = (ProxyGrantingTicketIssuerTicket) tgt.grantServiceTicket(identifiers.serviceTicketId(),
+            RegisteredServiceTestUtils.getService(), NeverExpiresExpirationPolicy.INSTANCE, false, serviceTicketSessionTrackingPolicy);
+        val pgt = serviceTicket.grantProxyGrantingTicket(identifiers.proxyGrantingTicketId(),
+            tgt.getAuthentication(), NeverExpiresExpirationPolicy.INSTANCE);
+        val proxyTicket = pgt.grantProxyTicket(new DefaultUniqueTicketIdGenerator().getNewTicketId(ProxyTicket.PROXY_TICKET_PREFIX),
+            RegisteredServiceTestUtils.getService(), NeverExpiresExpirationPolicy.INSTANCE, serviceTicketSessionTrackingPolicy);
+        for (val ticket : List.of(tgt, serviceTicket, pgt, proxyTicket)) {
+            ticketRegistry.addTicket(ticket);
+        }
+        tgt.markTicketExpired();
+
+        val removedTogether = new AtomicBoolean();
+        doAnswer(invocation -> {
+            val ticketIds = (Collection<String>) invocation.getArgument(0);
+            if (ticketIds.contains(tgt.getId())) {
+                removedTogether.set(ticketIds.containsAll(List.of(serviceTicket.getId(), pgt.getId(), proxyTicket.getId())));
+            }
+            return invocation.callRealMethod();
+        }).when(ticketRegistry).deleteTickets(anyCollection());
+
+        val cleaner = new BatchingTicketRegistryCleaner(LockRepository.noOp(), mock(LogoutManager.class), ticketRegistry, 10, 1);
+        cleaner.clean();
+        assertTrue(removedTogether.get());
+        assertNull(ticketRegistry.getTicket(proxyTicket.getId()));
+    }
+
+    @Test
+    void verifyLogoutFail() throws Throwable {
+        val logoutManager = mock(LogoutManager.class);
+        when(logoutManager.performLogout(any())).thenThrow(IllegalArgumentException.class);
+        val ticketRegistry = newTicketRegistry();
+        val tgt = new MockTicketGrantingTicket("casuser");
+        tgt.setExpirationPolicy(new HardTimeoutExpirationPolicy(1));
+        ticketRegistry.addTicket(tgt);
+        tgt.markTicketExpired();
+        val cleaner = new BatchingTicketRegistryCleaner(LockRepository.noOp(), logoutManager, ticketRegistry, 10, 1);
+        assertEquals(1, cleaner.clean());
+        assertEquals(0, ticketRegistry.sessionCount());
+    }
+
+    @Test
+    void verifyCleanFail() throws Throwable {
+        val ticketRegistry = mock(TicketRegistry.class);
+        when(ticketRegistry.getExpiredTickets()).thenThrow(IllegalArgumentException.class);
+        val cleaner = new BatchingTicketRegistryCleaner(LockRepository.noOp(), mock(LogoutManager.class), ticketRegistry, 10, 1);
+        assertEquals(0, cleaner.clean());
+        assertEquals(-1, cleaner.getStatistics().getLagInSeconds());
+    }
+
+    private static TicketRegistry newTicketRegistry() {
+        return new DefaultTicketRegistry(mock(TicketSerializationManager.class), new DefaultTicketCatalog());
+    }
+}
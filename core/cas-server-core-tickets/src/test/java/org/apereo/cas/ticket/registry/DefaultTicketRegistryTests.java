@@ -12,6 +12,8 @@ import org.apereo.cas.util.cipher.DefaultTicketCipherExecutor;
 import lombok.val;
 import org.junit.jupiter.api.RepeatedTest;
 import org.junit.jupiter.api.Tag;
+import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -56,6 +58,52 @@ class DefaultTicketRegistryTests extends BaseTicketRegistryTests {
             .type(TicketGrantingTicket.PREFIX).build()).size());
     }
 
+    @RepeatedTest(1)
+    void verifySessionsByPrincipalIndex() throws Throwable {
+        val user = UUID.randomUUID().toString();
+        val registry = getNewTicketRegistry();
+        val tgt1 = new MockTicketGrantingTicket(user);
+        val tgt2 = new MockTicketGrantingTicket(user);
+        registry.addTicket(tgt1);
+        registry.addTicket(tgt2);
+        registry.addTicket(new MockTicketGrantingTicket(UUID.randomUUID().toString()));
+        registry.updateTicket(tgt1);
+
+        assertEquals(2, registry.countSessionsFor(user));
+        assertEquals(2, registry.countSessionsFor(user.toUpperCase()));
+        try (val results = registry.getSessionsFor(user)) {
+            assertEquals(2, results.count());
+        }
+        registry.deleteTicket(tgt1.getId());
+        assertEquals(1, registry.countSessionsFor(user));
+        registry.deleteAll();
+        assertEquals(0, registry.countSessionsFor(user));
+        try (val results = registry.getSessionsFor(user)) {
+            assertEquals(0, results.count());
+        }
+    }
+
+    @RepeatedTest(1)
+    void verifySessionsByAttributeIndex() throws Throwable {
+        val registry = new DefaultTicketRegistry(mock(TicketSerializationManager.class), new DefaultTicketCatalog());
+        registry.setIndexSessionAttributes(true);
+        val tgt1 = new MockTicketGrantingTicket("casuser", Map.of("cn", List.of("CN1", "cn2")),
+            Map.of("authn-context", List.of("mfa-example")));
+        val tgt2 = new MockTicketGrantingTicket("casuser", Map.of("cn", List.of("cn3")), Map.of());
+        registry.addTicket(tgt1);
+        registry.addTicket(tgt2);
+        registry.updateTicket(tgt1);
+
+        val queryAttributes = Map.<String, List<Object>>of("cn", List.of("cn1", "cn1000"));
+        assertEquals(List.of(tgt1), registry.getSessionsWithAttributes(queryAttributes).toList());
+        assertEquals(2, registry.getSessionsWithAttributes(Map.of("cn", List.of("cn2", "cn3"))).count());
+        assertEquals(1, registry.getSessionsWithAttributes(Map.of("authn-context", List.of("mfa-example"))).count());
+        registry.deleteTicket(tgt1.getId());
+        assertEquals(0, registry.getSessionsWithAttributes(queryAttributes).count());
+        registry.deleteAll();
+        assertEquals(0, registry.getSessionsWithAttributes(Map.of("cn", List.of("cn3"))).count());
+    }
+
     @RepeatedTest(2)
     void verifyCountForService() throws Throwable {
         val service = RegisteredServiceTestUtils.getService(UUID.randomUUID().toString());
@@ -0,0 +1,111 @@
+package org.apereo.cas.ticket.registry;
+
+import org.apereo.cas.mock.MockServiceTicket;
+import org.apereo.cas.mock.MockTicketGrantingTicket;
+import org.apereo.cas.services.RegisteredServiceTestUtils;
+import org.apereo.cas.ticket.DefaultTicketCatalog;
+import org.apereo.cas.ticket.serialization.TicketSerializationManager;
+import org.apereo.cas.util.function.FunctionUtils;
+import lombok.val;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import java.util.UUID;
+import java.util.stream.Stream;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * This is {@link InMemoryTicketRegistryCountersTests}.
+ *
+ * @author Misagh Moayyed
+ * @since 7.2.0
+ */
+@Tag("Tickets")
+class InMemoryTicketRegistryCountersTests {
+
+    @Test
+    void verifyCountersTrackRegistry() throws Throwable {
+        val registry = newTicketRegistry();
+        val user = UUID.randomUUID().toString();
+        val service = RegisteredServiceTestUtils.getService(UUID.randomUUID().toString());
+        val tgt = new MockTicketGrantingTicket(user);
+        val st = new MockServiceTicket("ST-" + UUID.randomUUID(), service, tgt);
+        registry.addTicket(tgt);
+        registry.addTicket(st);
+        registry.updateTicket(tgt);
+
+        assertEquals(1, registry.sessionCount());
+        assertEquals(1, registry.serviceTicketCount());
+        assertEquals(2, registry.countTickets());
+        assertEquals(1, registry.countSessionsFor(user.toUpperCase()));
+        assertEquals(1, registry.countTicketsFor(service));
+
+        registry.deleteTicket(st.getId());
+        assertEquals(0, registry.serviceTicketCount());
+        assertEquals(0, registry.countTicketsFor(service));
+        assertEquals(1, registry.sessionCount());
+
+        registry.deleteTicket(tgt.getId());
+        assertEquals(0, registry.sessionCount());
+        assertEquals(0, registry.countSessionsFor(user));
+        assertEquals(0, registry.countTickets());
+    }
+
+    @Test
+    void verifyReconciliation() throws Throwable {
+        val counters = new InMemoryTicketRegistryCounters();
+        val registry = newTicketRegistry(counters);
+        val user = UUID.randomUUID().toString();
+        val tgt = new MockTicketGrantingTicket(user);
+        registry.addTicket(tgt);
+        registry.getMapInstance().clear();
+        assertEquals(1, registry.sessionCount());
+
+        try (val tickets = registry.stream()) {
+            counters.reconcile(tickets);
+        }
+        assertEquals(0, registry.sessionCount());
+        assertEquals(0, registry.countSessionsFor(user));
+
+        counters.reconcile(Stream.of(tgt, new MockTicketGrantingTicket(user)));
+        assertEquals(2, counters.countSessions());
+        assertEquals(2, counters.countSessionsFor(user));
+    }
+
+    @Test
+    void verifyReconciliationKeepsChangesInFlight() throws Throwable {
+        val counters = new InMemoryTicketRegistryCounters();
+        val registry = newTicketRegistry(counters);
+        val tgt1 = new MockTicketGrantingTicket(UUID.randomUUID().toString());
+        val tgt2 = new MockTicketGrantingTicket(UUID.randomUUID().toString());
+        registry.addTicket(tgt1);
+
+        counters.reconcile(Stream.of(tgt1).peek(ticket -> FunctionUtils.doUnchecked(__ -> registry.addTicket(tgt2))));
+        assertEquals(2, registry.sessionCount());
+        assertEquals(1, registry.countSessionsFor(tgt2.getAuthentication().getPrincipal().getId()));
+
+        counters.reconcile(Stream.of(tgt1, tgt2).peek(ticket -> FunctionUtils.doUnchecked(__ -> registry.deleteTicket(tgt2.getId()))));
+        assertEquals(1, registry.sessionCount());
+        assertEquals(0, registry.countSessionsFor(tgt2.getAuthentication().getPrincipal().getId()));
+        assertEquals(1, registry.countTickets());
+    }
+
+    @Test
+    void verifyDeleteAll() throws Throwable {
+        val registry = newTicketRegistry();
+        registry.addTicket(new MockTicketGrantingTicket(UUID.randomUUID().toString()));
+        assertEquals(1, registry.deleteAll());
+        assertEquals(0, registry.sessionCount());
+        assertEquals(0, registry.countTickets());
+    }
+
+    private static DefaultTicketRegistry newTicketRegistry() {
+        return newTicketRegistry(new InMemoryTicketRegistryCounters());
+    }
+
+    private static DefaultTicketRegistry newTicketRegistry(final TicketRegistryCounters counters) {
+        val registry = new DefaultTicketRegistry(mock(TicketSerializationManager.class), new DefaultTicketCatalog());
+        registry.setTicketRegistryCounters(counters);
+        return registry;
+    }
+}
@@ -0,0 +1,108 @@
+package org.apereo.cas.ticket.serialization;
+
+import org.apereo.cas.config.CasCoreAuthenticationAutoConfiguration;
+import org.apereo.cas.config.CasCoreAutoConfiguration;
+import org.apereo.cas.config.CasCoreLogoutAutoConfiguration;
+import org.apereo.cas.config.CasCoreNotificationsAutoConfiguration;
+import org.apereo.cas.config.CasCoreScriptingAutoConfiguration;
+import org.apereo.cas.config.CasCoreServicesAutoConfiguration;
+import org.apereo.cas.config.CasCoreTicketsAutoConfiguration;
+import org.apereo.cas.config.CasCoreUtilAutoConfiguration;
+import org.apereo.cas.config.CasCoreWebAutoConfiguration;
+import org.apereo.cas.config.CasPersonDirectoryAutoConfiguration;
+import org.apereo.cas.services.RegisteredServiceTestUtils;
+import org.apereo.cas.test.CasTestExtension;
+import org.apereo.cas.ticket.InvalidTicketException;
+import org.apereo.cas.ticket.TicketFactory;
+import org.apereo.cas.ticket.TicketGrantingTicket;
+import org.apereo.cas.ticket.TicketGrantingTicketFactory;
+import org.apereo.cas.ticket.proxy.ProxyTicket;
+import org.apereo.cas.util.CollectionUtils;
+import org.apereo.cas.util.spring.boot.SpringBootTestAutoConfigurations;
+import lombok.val;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import java.util.List;
+import java.util.stream.IntStream;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * This is {@link CompactTicketSerializationManagerTests}.
+ *
+ * @author Misagh Moayyed
+ * @since 7.2.0
+ */
+@SpringBootTestAutoConfigurations
+@SpringBootTest(classes = {
+    CasCoreLogoutAutoConfiguration.class,
+    CasCoreTicketsAutoConfiguration.class,
+    CasCoreNotificationsAutoConfiguration.class,
+    CasCoreUtilAutoConfiguration.class,
+    CasCoreScriptingAutoConfiguration.class,
+    CasCoreAuthenticationAutoConfiguration.class,
+    CasPersonDirectoryAutoConfiguration.class,
+    CasCoreAutoConfiguration.class,
+    CasCoreWebAutoConfiguration.class,
+    CasCoreServicesAutoConfiguration.class
+}, properties = "cas.ticket.registry.core.serialization-format=COMPACT")
+@Tag("Tickets")
+@ExtendWith(CasTestExtension.class)
+class CompactTicketSerializationManagerTests {
+    @Autowired
+    @Qualifier(TicketSerializationManager.BEAN_NAME)
+    private TicketSerializationManager ticketSerializationManager;
+
+    @Autowired
+    @Qualifier("ticketSerializationExecutionPlan")
+    private TicketSerializationExecutionPlan ticketSerializationExecutionPlan;
+
+    @Autowired
+    @Qualifier(TicketFactory.BEAN_NAME)
+    private TicketFactory defaultTicketFactory;
+
+    private TicketGrantingTicket createTicketGrantingTicket() throws Throwable {
+        val attributes = CollectionUtils.<String, List<Object>>wrap("memberOf",
+            IntStream.range(0, 20).mapToObj(i -> "cn=group" + i + ",ou=groups,dc=example,dc=org").toList());
+        val factory = (TicketGrantingTicketFactory) defaultTicketFactory.get(TicketGrantingTicket.class);
+        return factory.create(RegisteredServiceTestUtils.getAuthentication(
+            RegisteredServiceTestUtils.getPrincipal("casuser", attributes)),
+            RegisteredServiceTestUtils.getService(), TicketGrantingTicket.class);
+    }
+
+    @Test
+    void verifyOperation() throws Throwable {
+        assertInstanceOf(CompactTicketSerializationManager.class, ticketSerializationManager);
+        val ticket = createTicketGrantingTicket();
+        val result = ticketSerializationManager.serializeTicket(ticket);
+        assertTrue(CompactTicketSerializationManager.isCompactFormat(result));
+        val deserializedTicket = ticketSerializationManager.deserializeTicket(result, TicketGrantingTicket.class);
+        assertEquals(ticket, deserializedTicket);
+        assertEquals(ticket.getAuthentication().getPrincipal().getAttributes(),
+            deserializedTicket.getAuthentication().getPrincipal().getAttributes());
+        assertThrows(InvalidTicketException.class, () -> ticketSerializationManager.deserializeTicket(result, ProxyTicket.class));
+    }
+
+    @Test
+    void verifyJsonCompatibility() throws Throwable {
+        val ticket = createTicketGrantingTicket();
+        val json = new DefaultTicketStringSerializationManager(ticketSerializationExecutionPlan).serializeTicket(ticket);
+        assertFalse(CompactTicketSerializationManager.isCompactFormat(json));
+        assertEquals(ticket, ticketSerializationManager.deserializeTicket(json, TicketGrantingTicket.class));
+        assertEquals(ticket, ticketSerializationManager.deserializeTicket(json, ticket.getClass().getName()));
+        val compact = ticketSerializationManager.serializeTicket(ticket);
+        assertTrue(compact.length() < json.length());
+    }
+
+    @Test
+    void verifyUncompressedOperation() throws Throwable {
+        val manager = new CompactTicketSerializationManager(ticketSerializationExecutionPlan, Integer.MAX_VALUE);
+        val ticket = createTicketGrantingTicket();
+        val result = manager.serializeTicket(ticket);
+        assertEquals(ticket, manager.deserializeTicket(result, TicketGrantingTicket.class));
+        assertEquals(ticket, ticketSerializationManager.deserializeTicket(result, TicketGrantingTicket.class));
+    }
+}
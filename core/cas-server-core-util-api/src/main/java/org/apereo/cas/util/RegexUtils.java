@@ -1,5 +1,7 @@
 package org.apereo.cas.util;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import lombok.experimental.UtilityClass;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
@@ -27,6 +29,20 @@ public class RegexUtils {
      */
     public static final Pattern MATCH_NOTHING_PATTERN = Pattern.compile("a^");
 
+    /**
+     * Maximum number of compiled patterns that are kept in memory.
+     */
+    public static final long PATTERN_CACHE_MAXIMUM_SIZE = 10_000;
+
+    /**
+     * Process-wide cache of compiled patterns, keyed by the pattern and its flags.
+     * Invalid patterns are cached as {@link #MATCH_NOTHING_PATTERN}.
+     */
+    private static final Cache<PatternCacheKey, Pattern> PATTERN_CACHE = Caffeine.newBuilder()
+        .maximumSize(PATTERN_CACHE_MAXIMUM_SIZE)
+        .recordStats()
+        .build();
+
     /**
      * Check to see if the specified pattern is a valid regular expression.
      *
@@ -84,12 +100,24 @@ public class RegexUtils {
             LOGGER.warn("Pattern cannot be null/blank");
             return MATCH_NOTHING_PATTERN;
         }
-        try {
-            return Pattern.compile(pattern, flags);
-        } catch (final PatternSyntaxException exception) {
-            LOGGER.debug("Pattern [{}] is not a valid regex.", pattern);
-            return MATCH_NOTHING_PATTERN;
-        }
+        return PATTERN_CACHE.get(new PatternCacheKey(pattern, flags), key -> {
+            try {
+                return Pattern.compile(key.pattern(), key.flags());
+            } catch (final PatternSyntaxException exception) {
+                LOGGER.debug("Pattern [{}] is not a valid regex.", key.pattern());
+                return MATCH_NOTHING_PATTERN;
+            }
+        });
+    }
+
+    /**
+     * Gets the process-wide cache of compiled patterns,
+     * typically to register and report cache metrics.
+     *
+     * @return the compiled pattern cache
+     */
+    public static Cache<PatternCacheKey, Pattern> getCompiledPatternCache() {
+        return PATTERN_CACHE;
     }
 
     /**
@@ -191,4 +219,13 @@ public class RegexUtils {
             return find(pattern, remoteAddr);
         }
     }
+
+    /**
+     * Cache key for compiled patterns.
+     *
+     * @param pattern the pattern
+     * @param flags   the flags
+     */
+    public record PatternCacheKey(String pattern, int flags) {
+    }
 }
@@ -33,6 +33,7 @@ import java.security.spec.RSAPublicKeySpec;
 import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
 
 /**
  * Abstract cipher to provide common operations around signing objects.
@@ -62,6 +63,10 @@ public abstract class AbstractCipherExecutor<T, R> implements CipherExecutor<T,
 
     private String signingAlgorithm;
 
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private final AtomicReference<VerificationKey> verificationKey = new AtomicReference<>();
+
     /**
      * Extract private key from resource private key.
      *
@@ -179,9 +184,13 @@ public abstract class AbstractCipherExecutor<T, R> implements CipherExecutor<T,
         try {
             val activeSigningKey = givenKey instanceof final IdentifiableKey idk ? idk.getKey() : givenKey;
             if (activeSigningKey instanceof final RSAPrivateKey privKey) {
-                val keySpec = new RSAPublicKeySpec(privKey.getModulus(), RSA_PUBLIC_KEY_EXPONENT);
-                val pubKey = KeyFactory.getInstance("RSA").generatePublic(keySpec);
-                return EncodingUtils.verifyJwsSignature(pubKey, value);
+                var publicKey = verificationKey.get();
+                if (publicKey == null || publicKey.privateKey() != privKey) {
+                    val keySpec = new RSAPublicKeySpec(privKey.getModulus(), RSA_PUBLIC_KEY_EXPONENT);
+                    publicKey = new VerificationKey(privKey, KeyFactory.getInstance("RSA").generatePublic(keySpec));
+                    verificationKey.set(publicKey);
+                }
+                return EncodingUtils.verifyJwsSignature(publicKey.publicKey(), value);
             }
             return EncodingUtils.verifyJwsSignature(activeSigningKey, value);
         } catch (final Exception e) {
@@ -201,4 +210,7 @@ public abstract class AbstractCipherExecutor<T, R> implements CipherExecutor<T,
                 ? AlgorithmIdentifiers.RSA_USING_SHA512
                 : AlgorithmIdentifiers.HMAC_SHA512);
     }
+
+    private record VerificationKey(RSAPrivateKey privateKey, PublicKey publicKey) {
+    }
 }
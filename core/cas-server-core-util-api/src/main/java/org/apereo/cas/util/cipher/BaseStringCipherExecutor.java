@@ -24,7 +24,9 @@ import java.io.Serializable;
 import java.nio.charset.StandardCharsets;
 import java.security.Key;
 import java.util.LinkedHashMap;
+import java.util.Optional;
 import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicReference;
 
 /**
  * The {@link BaseStringCipherExecutor} is the default
@@ -62,6 +64,10 @@ public abstract class BaseStringCipherExecutor extends AbstractCipherExecutor<Se
 
     private boolean initialized;
 
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private final AtomicReference<CompactCipherContext> compactCipherContext = new AtomicReference<>();
+
     protected BaseStringCipherExecutor(final String secretKeyEncryption, final String secretKeySigning,
                                        final boolean encryptionEnabled, final boolean signingEnabled,
                                        final int signingKeySize, final int encryptionKeySize) {
@@ -112,7 +118,13 @@ public abstract class BaseStringCipherExecutor extends AbstractCipherExecutor<Se
 
     @Override
     public String encode(final Serializable value, final Object[] parameters) {
-        if (strategyType == CipherOperationsStrategyType.ENCRYPT_AND_SIGN) {
+        if (strategyType == CipherOperationsStrategyType.COMPACT) {
+            val codec = getCompactCipherCodec(getEncryptionKey(), getSigningKey());
+            if (codec.isPresent()) {
+                return codec.get().encode(value.toString());
+            }
+        }
+        if (strategyType != CipherOperationsStrategyType.SIGN_AND_ENCRYPT) {
             return encryptAndSign(value, getEncryptionKey(), getSigningKey());
         }
         return signAndEncrypt(value, getEncryptionKey(), getSigningKey());
@@ -125,7 +137,13 @@ public abstract class BaseStringCipherExecutor extends AbstractCipherExecutor<Se
 
     protected String decode(final Serializable value, final Object[] parameters,
                             final Key encKey, final Key signingKey) {
-        if (strategyType == CipherOperationsStrategyType.ENCRYPT_AND_SIGN) {
+        if (strategyType == CipherOperationsStrategyType.COMPACT && value.toString().startsWith(CompactCipherCodec.PREFIX)) {
+            val codec = getCompactCipherCodec(encKey, signingKey);
+            if (codec.isPresent()) {
+                return codec.get().decode(value.toString());
+            }
+        }
+        if (strategyType != CipherOperationsStrategyType.SIGN_AND_ENCRYPT) {
             return verifyAndDecrypt(value, encKey, signingKey);
         }
         return decryptAndVerify(value, encKey, signingKey);
@@ -185,6 +203,22 @@ public abstract class BaseStringCipherExecutor extends AbstractCipherExecutor<Se
             .encrypt(value);
     }
 
+    private Optional<CompactCipherCodec> getCompactCipherCodec(final Key encryptionKey, final Key signingKey) {
+        val encryption = isEncryptionPossible(encryptionKey) ? encryptionKey : null;
+        val signing = this.signingEnabled ? signingKey : null;
+        var context = compactCipherContext.get();
+        if (context == null || context.encryptionKey() != encryption || context.signingKey() != signing) {
+            val codec = CompactCipherCodec.of(encryption, signing);
+            if (codec.isEmpty()) {
+                LOGGER.warn("Compact cipher operations for [{}] require symmetric encryption and signing keys. "
+                    + "Values will be encrypted and signed as JSON web tokens instead", getName());
+            }
+            context = new CompactCipherContext(encryption, signing, codec);
+            compactCipherContext.set(context);
+        }
+        return context.codec();
+    }
+
     private void configureSigningParameters(final String secretKeySigning) {
         var signingKeyToUse = secretKeySigning;
         if (StringUtils.isBlank(signingKeyToUse)) {
@@ -332,6 +366,17 @@ public abstract class BaseStringCipherExecutor extends AbstractCipherExecutor<Se
         /**
          * Sign the value first, and then encrypt.
          */
-        SIGN_AND_ENCRYPT
+        SIGN_AND_ENCRYPT,
+        /**
+         * Encrypt the value using AES-GCM and sign using HMAC-SHA512, and produce
+         * a compact encoding that is only meant to be consumed by CAS itself.
+         * Requires symmetric encryption and signing keys; otherwise values are
+         * encrypted and signed as JSON web tokens, as with {@link #ENCRYPT_AND_SIGN}.
+         * Values that are encrypted and signed as JSON web tokens can still be decoded.
+         */
+        COMPACT
+    }
+
+    private record CompactCipherContext(Key encryptionKey, Key signingKey, Optional<CompactCipherCodec> codec) {
     }
 }
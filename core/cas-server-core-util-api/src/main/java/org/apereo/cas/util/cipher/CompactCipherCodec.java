@@ -0,0 +1,216 @@
+package org.apereo.cas.util.cipher;
+
+import org.apereo.cas.util.EncodingUtils;
+import org.apereo.cas.util.RandomUtils;
+import org.apereo.cas.util.crypto.DecryptionException;
+import org.apereo.cas.util.crypto.IdentifiableKey;
+import org.apereo.cas.util.function.FunctionUtils;
+
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import org.apache.commons.lang3.ArrayUtils;
+
+import javax.crypto.Cipher;
+import javax.crypto.Mac;
+import javax.crypto.SecretKey;
+import javax.crypto.spec.GCMParameterSpec;
+import javax.crypto.spec.SecretKeySpec;
+
+import java.nio.charset.StandardCharsets;
+import java.security.Key;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+/**
+ * This is {@link CompactCipherCodec}. It encrypts values using AES-GCM and signs values
+ * using HMAC-SHA512, and encodes results in a compact format that is only meant to be produced
+ * and consumed by CAS itself, as opposed to compact JWE and JWS serializations
+ * that carry headers for other parties. Cipher and MAC instances are pooled for reuse, where each instance
+ * is confined to a single thread for the duration of an operation. Pools are used instead of thread-local
+ * instances since requests may be served by short-lived virtual threads. Each pool holds at most one instance
+ * per available processor; instances created beyond that under contention are discarded after use.
+ *
+ * @author Misagh Moayyed
+ * @since 7.2.0
+ */
+@Slf4j
+final class CompactCipherCodec {
+    /**
+     * Prefix of encoded values, which also identifies the format version.
+     */
+    static final String PREFIX = "c1.";
+
+    private static final String SEPARATOR = ".";
+
+    private static final String CIPHER_ALGORITHM = "AES/GCM/NoPadding";
+
+    private static final String MAC_ALGORITHM = "HmacSHA512";
+
+    private static final int GCM_IV_LENGTH = 12;
+
+    private static final int GCM_TAG_LENGTH = 128;
+
+    private static final Set<Integer> AES_KEY_LENGTHS = Set.of(16, 24, 32);
+
+    private static final SecureRandom RANDOM = RandomUtils.getNativeInstance();
+
+    private static final int POOL_SIZE = Runtime.getRuntime().availableProcessors();
+
+    private final SecretKey encryptionKey;
+
+    private final SecretKey signingKey;
+
+    private final BlockingQueue<Cipher> ciphers = new ArrayBlockingQueue<>(POOL_SIZE);
+
+    private final BlockingQueue<Mac> macs = new ArrayBlockingQueue<>(POOL_SIZE);
+
+    private CompactCipherCodec(final SecretKey encryptionKey, final SecretKey signingKey) {
+        this.encryptionKey = encryptionKey;
+        this.signingKey = signingKey;
+    }
+
+    /**
+     * Build a codec for the given keys, if the keys are symmetric.
+     * Either key may be null, in which case the corresponding operation is skipped.
+     *
+     * @param encryptionKey the encryption key
+     * @param signingKey    the signing key
+     * @return the codec, or empty if any of the keys is not symmetric
+     */
+    static Optional<CompactCipherCodec> of(final Key encryptionKey, final Key signingKey) {
+        val encryption = unwrap(encryptionKey);
+        val signing = unwrap(signingKey);
+        if (!isSymmetric(encryption) || !isSymmetric(signing)) {
+            return Optional.empty();
+        }
+        val aesKey = Optional.ofNullable(encryption)
+            .map(key -> new SecretKeySpec(toAesKey(key.getEncoded()), "AES"))
+            .orElse(null);
+        val macKey = Optional.ofNullable(signing)
+            .map(key -> new SecretKeySpec(key.getEncoded(), MAC_ALGORITHM))
+            .orElse(null);
+        return Optional.of(new CompactCipherCodec(aesKey, macKey));
+    }
+
+    private static Key unwrap(final Key key) {
+        return key instanceof final IdentifiableKey idk ? idk.getKey() : key;
+    }
+
+    private static boolean isSymmetric(final Key key) {
+        return key == null || key instanceof SecretKey && ArrayUtils.isNotEmpty(key.getEncoded());
+    }
+
+    private static byte[] toAesKey(final byte[] key) {
+        if (AES_KEY_LENGTHS.contains(key.length)) {
+            return key;
+        }
+        return FunctionUtils.doUnchecked(() -> MessageDigest.getInstance("SHA-256").digest(key));
+    }
+
+    /**
+     * Encode value.
+     *
+     * @param value the value
+     * @return the encoded value
+     */
+    String encode(final String value) {
+        var payload = value.getBytes(StandardCharsets.UTF_8);
+        if (encryptionKey != null) {
+            payload = encrypt(payload);
+        }
+        val encoded = PREFIX + EncodingUtils.encodeUrlSafeBase64(payload);
+        if (signingKey == null) {
+            return encoded;
+        }
+        return encoded + SEPARATOR + EncodingUtils.encodeUrlSafeBase64(sign(encoded));
+    }
+
+    /**
+     * Decode value.
+     *
+     * @param value the value
+     * @return the decoded value, or null if the signature cannot be verified
+     */
+    String decode(final String value) {
+        if (!value.startsWith(PREFIX)) {
+            throw new DecryptionException();
+        }
+        var encoded = value;
+        if (signingKey != null) {
+            val index = value.lastIndexOf(SEPARATOR);
+            if (index < PREFIX.length()) {
+                LOGGER.trace("Value does not carry a signature");
+                return null;
+            }
+            encoded = value.substring(0, index);
+            val signature = EncodingUtils.decodeUrlSafeBase64(value.substring(index + 1));
+            if (!MessageDigest.isEqual(sign(encoded), signature)) {
+                LOGGER.trace("Unable to verify signature of value");
+                return null;
+            }
+        }
+        var payload = EncodingUtils.decodeUrlSafeBase64(encoded.substring(PREFIX.length()));
+        if (encryptionKey != null) {
+            payload = decrypt(payload);
+        }
+        return new String(payload, StandardCharsets.UTF_8);
+    }
+
+    private byte[] encrypt(final byte[] payload) {
+        val iv = new byte[GCM_IV_LENGTH];
+        RANDOM.nextBytes(iv);
+        val cipher = borrowCipher();
+        try {
+            cipher.init(Cipher.ENCRYPT_MODE, encryptionKey, new GCMParameterSpec(GCM_TAG_LENGTH, iv));
+            return ArrayUtils.addAll(iv, cipher.doFinal(payload));
+        } catch (final Exception e) {
+            throw new IllegalArgumentException(e.getMessage(), e);
+        } finally {
+            ciphers.offer(cipher);
+        }
+    }
+
+    private byte[] decrypt(final byte[] payload) {
+        if (payload.length <= GCM_IV_LENGTH) {
+            throw new DecryptionException();
+        }
+        val cipher = borrowCipher();
+        try {
+            cipher.init(Cipher.DECRYPT_MODE, encryptionKey,
+                new GCMParameterSpec(GCM_TAG_LENGTH, Arrays.copyOfRange(payload, 0, GCM_IV_LENGTH)));
+            return cipher.doFinal(payload, GCM_IV_LENGTH, payload.length - GCM_IV_LENGTH);
+        } catch (final Exception e) {
+            throw LOGGER.isTraceEnabled() ? new DecryptionException(e) : new DecryptionException();
+        } finally {
+            ciphers.offer(cipher);
+        }
+    }
+
+    private byte[] sign(final String value) {
+        var mac = macs.poll();
+        if (mac == null) {
+            mac = FunctionUtils.doUnchecked(() -> {
+                val instance = Mac.getInstance(MAC_ALGORITHM);
+                instance.init(signingKey);
+                return instance;
+            });
+        }
+        try {
+            return mac.doFinal(value.getBytes(StandardCharsets.UTF_8));
+        } finally {
+            macs.offer(mac);
+        }
+    }
+
+    private Cipher borrowCipher() {
+        val cipher = ciphers.poll();
+        return cipher == null
+            ? FunctionUtils.doUnchecked(() -> Cipher.getInstance(CIPHER_ALGORITHM))
+            : cipher;
+    }
+}
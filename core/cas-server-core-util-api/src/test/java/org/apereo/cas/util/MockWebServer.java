@@ -13,6 +13,7 @@ import org.springframework.core.io.ByteArrayResource;
 import org.springframework.core.io.Resource;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
+import org.springframework.util.LinkedCaseInsensitiveMap;
 import javax.net.ssl.KeyManagerFactory;
 import javax.net.ssl.SSLContext;
 import javax.net.ssl.TrustManager;
@@ -28,6 +29,7 @@ import java.net.SocketException;
 import java.nio.charset.StandardCharsets;
 import java.security.KeyStore;
 import java.security.cert.X509Certificate;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.concurrent.ConcurrentSkipListSet;
@@ -254,6 +256,15 @@ public class MockWebServer implements Closeable {
         this.worker.getHeaders().putAll(headers);
     }
 
+    /**
+     * Headers received with the most recent request, matched case-insensitively.
+     *
+     * @return the request headers
+     */
+    public Map<String, String> getRequestHeaders() {
+        return this.worker.getRequestHeaders();
+    }
+
     public void responseBodySupplier(final Supplier<Resource> sup) {
         this.worker.setResource(null);
         this.worker.setResourceSupplier(sup);
@@ -312,6 +323,9 @@ public class MockWebServer implements Closeable {
         @Getter
         private final Map<String, String> headers = new HashMap<>();
 
+        @Getter
+        private volatile Map<String, String> requestHeaders = Map.of();
+
         private final ServerSocket serverSocket;
 
         @Setter
@@ -377,7 +391,7 @@ public class MockWebServer implements Closeable {
         public synchronized void run() {
             while (this.running) {
                 try (val socket = serverSocket.accept()) {
-                    val givenHeaders = new HashMap<String, String>();
+                    val givenHeaders = new LinkedCaseInsensitiveMap<String>();
                     val in = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
                     var line = StringUtils.EMPTY;
                     while ((line = in.readLine()) != null && !line.isEmpty()) {
@@ -388,6 +402,7 @@ public class MockWebServer implements Closeable {
                         }
                     }
                     LOGGER.debug("Headers are [{}]", givenHeaders);
+                    this.requestHeaders = Collections.unmodifiableMap(givenHeaders);
                     if (this.functionToExecute != null) {
                         LOGGER.trace("Executed function with result [{}]", functionToExecute.apply(socket));
                     } else {
@@ -6,6 +6,7 @@ import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
 
 import java.util.List;
+import java.util.regex.Pattern;
 import static org.junit.jupiter.api.Assertions.*;
 
 /**
@@ -33,6 +34,19 @@ class RegexUtilsTests {
         assertSame(RegexUtils.MATCH_NOTHING_PATTERN, pattern);
     }
 
+    @Test
+    void verifyCompiledPatternsAreCached() throws Throwable {
+        val first = RegexUtils.createPattern("^https://cached\\.example\\.org/.*");
+        assertSame(first, RegexUtils.createPattern("^https://cached\\.example\\.org/.*"));
+        assertNotSame(first, RegexUtils.createPattern("^https://cached\\.example\\.org/.*", 0));
+
+        val invalid = "^https://[invalid";
+        assertSame(RegexUtils.MATCH_NOTHING_PATTERN, RegexUtils.createPattern(invalid));
+        assertSame(RegexUtils.MATCH_NOTHING_PATTERN, RegexUtils.getCompiledPatternCache()
+            .getIfPresent(new RegexUtils.PatternCacheKey(invalid, Pattern.CASE_INSENSITIVE)));
+        assertTrue(RegexUtils.getCompiledPatternCache().stats().hitCount() > 0);
+    }
+
     @Test
     void verifyNullRegex() throws Throwable {
         assertFalse(RegexUtils.isValidRegex(null));
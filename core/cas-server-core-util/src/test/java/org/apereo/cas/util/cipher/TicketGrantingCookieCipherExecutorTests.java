@@ -4,6 +4,8 @@ import lombok.val;
 import org.jose4j.jwe.ContentEncryptionAlgorithmIdentifiers;
 import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
+import java.util.concurrent.Executors;
+import java.util.stream.IntStream;
 import static org.junit.jupiter.api.Assertions.*;
 
 /**
@@ -34,4 +36,55 @@ class TicketGrantingCookieCipherExecutorTests {
         val result = cipherExecutor.decode(cipherExecutor.encode("CAS Test"));
         assertEquals("CAS Test", result);
     }
+
+    @Test
+    void verifyCompactEncoding() {
+        val cipherExecutor = new TicketGrantingCookieCipherExecutor("1PbwSbnHeinpkZOSZjuSJ8yYpUrInm5aaV18J2Ar4rM",
+            "szxK-5_eJjs-aUj-64MpUZ-GPPzGLhYPLGl0wrYjYNVAGva2P0lLe6UGKGM7k8dWxsOVGutZWgvmY3l5oVPO3w",
+            ContentEncryptionAlgorithmIdentifiers.AES_128_CBC_HMAC_SHA_256, 0, 0);
+        val jwt = cipherExecutor.encode("TGT-1234567890");
+
+        cipherExecutor.setStrategyType(BaseStringCipherExecutor.CipherOperationsStrategyType.COMPACT);
+        val encoded = cipherExecutor.encode("TGT-1234567890");
+        assertTrue(encoded.startsWith(CompactCipherCodec.PREFIX));
+        assertTrue(encoded.length() < jwt.length());
+        assertNotEquals(encoded, cipherExecutor.encode("TGT-1234567890"));
+        assertEquals("TGT-1234567890", cipherExecutor.decode(encoded));
+        assertEquals("TGT-1234567890", cipherExecutor.decode(jwt));
+
+        val position = CompactCipherCodec.PREFIX.length() + 2;
+        val replacement = encoded.charAt(position) == 'A' ? 'B' : 'A';
+        val tampered = encoded.substring(0, position) + replacement + encoded.substring(position + 1);
+        assertNull(cipherExecutor.decode(tampered));
+    }
+
+    @Test
+    void verifyCompactEncodingWithoutEncryption() {
+        val cipherExecutor = new TicketGrantingCookieCipherExecutor("1PbwSbnHeinpkZOSZjuSJ8yYpUrInm5aaV18J2Ar4rM",
+            "szxK-5_eJjs-aUj-64MpUZ-GPPzGLhYPLGl0wrYjYNVAGva2P0lLe6UGKGM7k8dWxsOVGutZWgvmY3l5oVPO3w", 0, 0);
+        cipherExecutor.setEncryptionEnabled(false);
+        cipherExecutor.setStrategyType(BaseStringCipherExecutor.CipherOperationsStrategyType.COMPACT);
+        val encoded = cipherExecutor.encode("TGT-1234567890");
+        assertTrue(encoded.startsWith(CompactCipherCodec.PREFIX));
+        assertEquals("TGT-1234567890", cipherExecutor.decode(encoded));
+    }
+
+    @Test
+    void verifyCompactEncodingConcurrently() throws Throwable {
+        val cipherExecutor = new TicketGrantingCookieCipherExecutor("1PbwSbnHeinpkZOSZjuSJ8yYpUrInm5aaV18J2Ar4rM",
+            "szxK-5_eJjs-aUj-64MpUZ-GPPzGLhYPLGl0wrYjYNVAGva2P0lLe6UGKGM7k8dWxsOVGutZWgvmY3l5oVPO3w",
+            ContentEncryptionAlgorithmIdentifiers.AES_128_CBC_HMAC_SHA_256, 0, 0);
+        cipherExecutor.setStrategyType(BaseStringCipherExecutor.CipherOperationsStrategyType.COMPACT);
+        try (val executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            val results = IntStream.range(0, 500)
+                .mapToObj(i -> executor.submit(() -> {
+                    val value = "TGT-" + i;
+                    return value.equals(cipherExecutor.decode(cipherExecutor.encode(value)));
+                }))
+                .toList();
+            for (val result : results) {
+                assertTrue(result.get());
+            }
+        }
+    }
 }
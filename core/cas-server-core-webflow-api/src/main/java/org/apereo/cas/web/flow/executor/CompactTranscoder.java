@@ -0,0 +1,276 @@
+package org.apereo.cas.web.flow.executor;
+
+import org.apereo.cas.util.LoggingUtils;
+
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import org.apache.commons.lang3.ArrayUtils;
+import org.apache.commons.lang3.StringUtils;
+import org.cryptacular.bean.CipherBean;
+import org.springframework.util.ClassUtils;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InvalidClassException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamClass;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * Encodes an object by serializing it in a compact form, compressing the serialized bytes
+ * with a preset dictionary and then encrypting the result via {@link CipherBean}.
+ * <p>
+ * Types that are registered with this transcoder are written as numeric identifiers
+ * instead of class names and field descriptions, which make up most of the webflow state
+ * produced by Java serialization. Every encoded value carries a fingerprint of the registered types,
+ * covering their serializable fields, and values that are produced with a different set or shape
+ * of registered types are rejected, since registered types are always decoded using their local descriptors.
+ * Serialized state that exceeds the configured maximum size is rejected, both when
+ * it is produced and when it is received.
+ *
+ * @author Misagh Moayyed
+ * @since 7.2.0
+ */
+@Slf4j
+public class CompactTranscoder extends EncryptedTranscoder {
+    private static final byte FORMAT_VERSION = 1;
+
+    private static final int HEADER_LENGTH = 1 + Integer.BYTES;
+
+    private static final int UNREGISTERED_TYPE = 0;
+
+    private static final int REGISTERED_TYPE = 1;
+
+    private static final int BUFFER_SIZE = 4096;
+
+    private static final List<String> DEFAULT_REGISTERED_TYPES = List.of(
+        "java.lang.Boolean",
+        "java.lang.Number",
+        "java.lang.Integer",
+        "java.lang.Long",
+        "java.lang.Enum",
+        "java.util.ArrayList",
+        "java.util.LinkedList",
+        "java.util.HashMap",
+        "java.util.LinkedHashMap",
+        "java.util.TreeMap",
+        "java.util.HashSet",
+        "java.util.LinkedHashSet",
+        "java.time.Ser",
+        "org.springframework.webflow.engine.impl.FlowExecutionImpl",
+        "org.springframework.webflow.engine.impl.FlowSessionImpl",
+        "org.springframework.webflow.core.collection.LocalAttributeMap",
+        "org.springframework.binding.message.Message",
+        "org.springframework.binding.message.Severity",
+        "org.apereo.cas.web.flow.executor.ClientFlowExecutionRepository$SerializedFlowExecutionState",
+        "org.apereo.cas.authentication.credential.AbstractCredential",
+        "org.apereo.cas.authentication.credential.UsernamePasswordCredential",
+        "org.apereo.cas.authentication.credential.RememberMeUsernamePasswordCredential",
+        "org.apereo.cas.authentication.metadata.BasicCredentialMetadata",
+        "org.apereo.cas.authentication.principal.AbstractWebApplicationService",
+        "org.apereo.cas.authentication.principal.SimpleWebApplicationServiceImpl"
+    );
+
+    private static final byte[] DICTIONARY = String.join(";",
+        "org.springframework.webflow.", "org.springframework.binding.", "org.apereo.cas.authentication.",
+        "org.apereo.cas.web.flow.", "org.apereo.cas.services.", "java.util.", "java.lang.",
+        "credential", "credentialMetadata", "service", "authentication", "principal", "attributes",
+        "ticketGrantingTicketId", "registeredService", "flowScope", "viewScope", "conversationScope",
+        "flashScope", "messagesMemento", "casLoginFlow", "login", "viewLoginForm", "realSubmit",
+        "initialFlowSetup", "serviceAuthorizationCheck", "ticketGrantingTicketCheck", "originalUrl", "https://"
+    ).getBytes(StandardCharsets.UTF_8);
+
+    private final long maximumSize;
+
+    private final List<ObjectStreamClass> registeredDescriptors = new ArrayList<>();
+
+    private final Map<Class<?>, Integer> registeredTypes = new HashMap<>();
+
+    private final int fingerprint;
+
+    public CompactTranscoder(final CipherBean cipherBean, final long maximumSize,
+                             final Collection<String> additionalTypes) {
+        super(cipherBean, true);
+        this.maximumSize = maximumSize;
+        Stream.concat(DEFAULT_REGISTERED_TYPES.stream(), additionalTypes.stream())
+            .distinct()
+            .forEach(this::registerType);
+        this.fingerprint = registeredDescriptors
+            .stream()
+            .map(CompactTranscoder::describe)
+            .collect(Collectors.joining(","))
+            .hashCode();
+        LOGGER.debug("Registered [{}] type(s) with fingerprint [{}]", registeredDescriptors.size(), fingerprint);
+    }
+
+    public CompactTranscoder(final CipherBean cipherBean, final long maximumSize) {
+        this(cipherBean, maximumSize, List.of());
+    }
+
+    @Override
+    public byte[] encode(final Object o) throws IOException {
+        if (o == null) {
+            return ArrayUtils.EMPTY_BYTE_ARRAY;
+        }
+        val serialized = new ByteArrayOutputStream(BUFFER_SIZE);
+        try (val out = new CompactObjectOutputStream(serialized)) {
+            writeObjectToOutputStream(o, out);
+        }
+        if (serialized.size() > maximumSize) {
+            throw new IOException("Serialized state of %s byte(s) exceeds the maximum size of %s byte(s)"
+                .formatted(serialized.size(), maximumSize));
+        }
+        return encrypt(compress(serialized.toByteArray()));
+    }
+
+    @Override
+    @SuppressWarnings("BanSerializableRead")
+    public Object decode(final byte[] encoded) throws IOException {
+        val data = decrypt(encoded);
+        if (data == null || data.length < HEADER_LENGTH || data[0] != FORMAT_VERSION
+            || ByteBuffer.wrap(data, 1, Integer.BYTES).getInt() != fingerprint) {
+            throw new IOException("Encoded state is not produced by this transcoder or its registered types");
+        }
+        val serialized = decompress(data);
+        try (val in = new CompactObjectInputStream(new ByteArrayInputStream(serialized))) {
+            return in.readObject();
+        } catch (final Exception e) {
+            LoggingUtils.error(LOGGER, e);
+            throw new IOException("Deserialization error", e);
+        }
+    }
+
+    private static String describe(final ObjectStreamClass descriptor) {
+        val fields = Arrays.stream(descriptor.getFields())
+            .map(field -> field.getName() + ':' + field.getTypeCode() + StringUtils.defaultString(field.getTypeString()))
+            .collect(Collectors.joining(";"));
+        return descriptor.getName() + ':' + descriptor.getSerialVersionUID() + '[' + fields + ']';
+    }
+
+    private void registerType(final String typeName) {
+        try {
+            val type = ClassUtils.forName(typeName, getClass().getClassLoader());
+            val descriptor = ObjectStreamClass.lookup(type);
+            if (descriptor == null) {
+                LOGGER.warn("Type [{}] is not serializable and cannot be registered", typeName);
+                return;
+            }
+            registeredTypes.put(type, registeredDescriptors.size());
+            registeredDescriptors.add(descriptor);
+        } catch (final ClassNotFoundException | LinkageError e) {
+            LOGGER.debug("Type [{}] cannot be found and will not be registered", typeName);
+        }
+    }
+
+    private ByteArrayOutputStream compress(final byte[] serialized) {
+        val deflater = new Deflater(Deflater.BEST_SPEED);
+        try {
+            deflater.setDictionary(DICTIONARY);
+            deflater.setInput(serialized);
+            deflater.finish();
+            val output = new ByteArrayOutputStream(serialized.length / 2 + HEADER_LENGTH);
+            output.write(FORMAT_VERSION);
+            output.writeBytes(ByteBuffer.allocate(Integer.BYTES).putInt(fingerprint).array());
+            val buffer = new byte[BUFFER_SIZE];
+            while (!deflater.finished()) {
+                val count = deflater.deflate(buffer);
+                output.write(buffer, 0, count);
+            }
+            return output;
+        } finally {
+            deflater.end();
+        }
+    }
+
+    private byte[] decompress(final byte[] data) throws IOException {
+        val inflater = new Inflater();
+        try {
+            inflater.setInput(data, HEADER_LENGTH, data.length - HEADER_LENGTH);
+            val output = new ByteArrayOutputStream(BUFFER_SIZE);
+            val buffer = new byte[BUFFER_SIZE];
+            while (!inflater.finished()) {
+                val count = inflater.inflate(buffer);
+                if (count == 0) {
+                    if (inflater.needsDictionary()) {
+                        inflater.setDictionary(DICTIONARY);
+                    } else if (inflater.needsInput()) {
+                        throw new IOException("Encoded state is truncated");
+                    }
+                }
+                output.write(buffer, 0, count);
+                if (output.size() > maximumSize) {
+                    throw new IOException("Serialized state exceeds the maximum size of %s byte(s)".formatted(maximumSize));
+                }
+            }
+            return output.toByteArray();
+        } catch (final DataFormatException e) {
+            throw new IOException("Encoded state cannot be decompressed", e);
+        } finally {
+            inflater.end();
+        }
+    }
+
+    private final class CompactObjectOutputStream extends ObjectOutputStream {
+        CompactObjectOutputStream(final OutputStream out) throws IOException {
+            super(out);
+        }
+
+        @Override
+        protected void writeStreamHeader() {
+        }
+
+        @Override
+        protected void writeClassDescriptor(final ObjectStreamClass descriptor) throws IOException {
+            val identifier = registeredTypes.get(descriptor.forClass());
+            if (identifier == null) {
+                write(UNREGISTERED_TYPE);
+                super.writeClassDescriptor(descriptor);
+            } else {
+                write(REGISTERED_TYPE);
+                writeShort(identifier);
+            }
+        }
+    }
+
+    private final class CompactObjectInputStream extends ObjectInputStream {
+        CompactObjectInputStream(final InputStream in) throws IOException {
+            super(in);
+        }
+
+        @Override
+        protected void readStreamHeader() {
+        }
+
+        @Override
+        protected ObjectStreamClass readClassDescriptor() throws IOException, ClassNotFoundException {
+            val type = read();
+            if (type == REGISTERED_TYPE) {
+                val identifier = readUnsignedShort();
+                if (identifier >= registeredDescriptors.size()) {
+                    throw new InvalidClassException("Unknown registered type " + identifier);
+                }
+                return registeredDescriptors.get(identifier);
+            }
+            if (type == UNREGISTERED_TYPE) {
+                return super.readClassDescriptor();
+            }
+            throw new InvalidClassException("Unknown type descriptor " + type);
+        }
+    }
+}
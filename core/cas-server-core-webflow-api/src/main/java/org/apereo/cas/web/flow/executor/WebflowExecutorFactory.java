@@ -1,5 +1,6 @@
 package org.apereo.cas.web.flow.executor;
 
+import org.apereo.cas.configuration.model.core.web.flow.WebflowClientSessionsProperties;
 import org.apereo.cas.configuration.model.core.web.flow.WebflowProperties;
 import org.apereo.cas.configuration.support.Beans;
 import org.apereo.cas.util.crypto.CipherExecutor;
@@ -86,6 +87,10 @@ public class WebflowExecutorFactory {
 
     private Transcoder getWebflowStateTranscoder() {
         val cipherBean = new WebflowCipherBean(webflowCipherExecutor);
+        val client = webflowProperties.getSession().getClient();
+        if (client.getTranscoder() == WebflowClientSessionsProperties.TranscoderTypes.COMPACT) {
+            return new CompactTranscoder(cipherBean, client.getMaximumSize(), client.getRegisteredTypes());
+        }
         return new EncryptedTranscoder(cipherBean);
     }
 
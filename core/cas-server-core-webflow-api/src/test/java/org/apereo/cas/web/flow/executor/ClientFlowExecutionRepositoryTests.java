@@ -25,6 +25,7 @@ import org.springframework.webflow.core.collection.LocalAttributeMap;
 import org.springframework.webflow.definition.registry.FlowDefinitionLocator;
 import org.springframework.webflow.definition.registry.FlowDefinitionRegistry;
 import org.springframework.webflow.engine.builder.support.FlowBuilderServices;
+import org.springframework.webflow.engine.impl.FlowExecutionImpl;
 import org.springframework.webflow.engine.impl.FlowExecutionImplFactory;
 import org.springframework.webflow.execution.FlowExecution;
 import org.springframework.webflow.execution.FlowExecutionFactory;
@@ -57,6 +58,10 @@ class ClientFlowExecutionRepositoryTests {
     @Qualifier("flowExecutor")
     private FlowExecutor flowExecutor;
 
+    @Autowired
+    @Qualifier("flowRegistry")
+    private FlowDefinitionRegistry flowRegistry;
+
     @Test
     void verifyBadKey() throws Throwable {
         val factory = new ClientFlowExecutionRepository(mock(FlowExecutionFactory.class), mock(FlowDefinitionLocator.class), mock(Transcoder.class));
@@ -89,6 +94,30 @@ class ClientFlowExecutionRepositoryTests {
         assertEquals("lasagnaDinner", resumeResult.getOutcome().getId());
     }
 
+    @Test
+    void verifyLaunchAndResumeFlowWithCompactTranscoder() throws Throwable {
+        val transcoder = new CompactTranscoder(WebflowTestConfiguration.getCipherBean(), 64_000);
+        val impl = new FlowExecutionImplFactory();
+        val repo = WebflowTestConfiguration.getFlowExecutionRepository(transcoder, flowRegistry, impl);
+        impl.setExecutionKeyFactory(repo);
+        val executor = new FlowExecutorImpl(flowRegistry, impl, repo);
+
+        val launchResult = executor.launchExecution("test-flow", new LocalAttributeMap<>(), new MockExternalContext());
+        assertNotNull(launchResult.getPausedKey());
+        val key = ClientFlowExecutionKey.parse(launchResult.getPausedKey());
+        val execution = repo.getFlowExecution(key);
+        assertInstanceOf(FlowExecutionImpl.class, execution);
+        assertEquals("test-flow", execution.getDefinition().getId());
+        assertTrue(execution.isActive());
+
+        val context = new MockExternalContext();
+        context.setEventId("submit");
+        context.getRequestMap().put("vegan", "0");
+        val resumeResult = executor.resumeExecution(launchResult.getPausedKey(), context);
+        assertNotNull(resumeResult.getOutcome());
+        assertEquals("lasagnaDinner", resumeResult.getOutcome().getId());
+    }
+
     @TestConfiguration(value = "WebflowTestConfiguration", proxyBeanMethods = false)
     static class WebflowTestConfiguration {
         @Autowired
@@ -143,8 +172,7 @@ class ClientFlowExecutionRepositoryTests {
             return impl;
         }
 
-        @Bean
-        public Transcoder transcoder() {
+        private static AEADBlockCipherBean getCipherBean() {
             val keystoreFactory = new KeyStoreFactoryBean();
             keystoreFactory.setType("JCEKS");
             keystoreFactory.setPassword("changeit");
@@ -156,8 +184,12 @@ class ClientFlowExecutionRepositoryTests {
             cipher.setKeyStore(keystoreFactory.newInstance());
             cipher.setBlockCipherSpec(new AEADBlockCipherSpec("AES", "GCM"));
             cipher.setNonce(new RBGNonce());
+            return cipher;
+        }
 
-            return new EncryptedTranscoder(cipher);
+        @Bean
+        public Transcoder transcoder() {
+            return new EncryptedTranscoder(getCipherBean());
         }
     }
 }
@@ -0,0 +1,91 @@
+package org.apereo.cas.web.flow.executor;
+
+import org.apereo.cas.authentication.credential.UsernamePasswordCredential;
+
+import lombok.val;
+import org.cryptacular.bean.AEADBlockCipherBean;
+import org.cryptacular.bean.CipherBean;
+import org.cryptacular.bean.KeyStoreFactoryBean;
+import org.cryptacular.generator.sp80038d.RBGNonce;
+import org.cryptacular.io.FileResource;
+import org.cryptacular.spec.AEADBlockCipherSpec;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.webflow.core.collection.LocalAttributeMap;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test cases for {@link CompactTranscoder}.
+ *
+ * @author Misagh Moayyed
+ * @since 7.2.0
+ */
+@Tag("Webflow")
+class CompactTranscoderTests {
+    private CipherBean cipherBean;
+
+    private static LocalAttributeMap<Object> getFlowScope() {
+        val flowScope = new LocalAttributeMap<Object>();
+        flowScope.put("credential", new UsernamePasswordCredential("casuser", "Mellon"));
+        flowScope.put("service", "https://apereo.github.io?param=" + UUID.randomUUID());
+        flowScope.put("authenticationAttempts", 3);
+        flowScope.put("rememberMe", Boolean.TRUE);
+        flowScope.put("providers", new ArrayList<>(List.of("mfa-duo", "mfa-gauth")));
+        return flowScope;
+    }
+
+    @BeforeEach
+    void setup() throws Exception {
+        val ksFactory = new KeyStoreFactoryBean();
+        ksFactory.setResource(new FileResource(new File("src/test/resources/test-keystore.jceks")));
+        ksFactory.setType("JCEKS");
+        ksFactory.setPassword("changeit");
+
+        val aeadCipherBean = new AEADBlockCipherBean();
+        aeadCipherBean.setBlockCipherSpec(new AEADBlockCipherSpec("AES", "GCM"));
+        aeadCipherBean.setKeyStore(ksFactory.newInstance());
+        aeadCipherBean.setKeyAlias("aes128");
+        aeadCipherBean.setKeyPassword("changeit");
+        aeadCipherBean.setNonce(new RBGNonce());
+        this.cipherBean = aeadCipherBean;
+    }
+
+    @Test
+    void verifyEncodeDecode() throws Throwable {
+        val transcoder = new CompactTranscoder(cipherBean, 64_000);
+        val flowScope = getFlowScope();
+        val decoded = (LocalAttributeMap<Object>) transcoder.decode(transcoder.encode(flowScope));
+        assertEquals(flowScope.asMap(), decoded.asMap());
+        assertEquals(0, transcoder.encode(null).length);
+    }
+
+    @Test
+    void verifyCompactPayload() throws Throwable {
+        val flowScope = getFlowScope();
+        val compact = new CompactTranscoder(cipherBean, 64_000).encode(flowScope);
+        val encrypted = new EncryptedTranscoder(cipherBean).encode(flowScope);
+        assertTrue(compact.length < encrypted.length);
+    }
+
+    @Test
+    void verifyMaximumSize() throws Throwable {
+        val transcoder = new CompactTranscoder(cipherBean, 64);
+        assertThrows(IOException.class, () -> transcoder.encode(getFlowScope()));
+    }
+
+    @Test
+    void verifyRegisteredTypesMismatch() throws Throwable {
+        val transcoder = new CompactTranscoder(cipherBean, 64_000, List.of(UUID.class.getName()));
+        val encoded = transcoder.encode(getFlowScope());
+        assertThrows(IOException.class, () -> new CompactTranscoder(cipherBean, 64_000).decode(encoded));
+        assertThrows(IOException.class, () -> transcoder.decode(new EncryptedTranscoder(cipherBean).encode(getFlowScope())));
+    }
+}
@@ -17,17 +17,23 @@ import org.apereo.cas.util.spring.beans.BeanCondition;
 import org.apereo.cas.util.spring.beans.BeanSupplier;
 import org.apereo.cas.util.spring.boot.ConditionalOnFeatureEnabled;
 import org.apereo.cas.util.thread.Cleanable;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
 import lombok.RequiredArgsConstructor;
 import lombok.val;
 import org.apache.commons.lang3.StringUtils;
 import org.apereo.inspektr.audit.AuditTrailManager;
+import org.apereo.inspektr.audit.support.BatchingJdbcAuditTrailManager;
 import org.apereo.inspektr.audit.support.JdbcAuditTrailManager;
 import org.apereo.inspektr.audit.support.MaxAgeWhereClauseMatchCriteria;
 import org.apereo.inspektr.audit.support.WhereClauseMatchCriteria;
 import org.jooq.lambda.Unchecked;
 import org.springframework.beans.factory.FactoryBean;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.cloud.context.config.annotation.RefreshScope;
@@ -185,11 +191,15 @@ public class CasJdbcAuditAutoConfiguration {
             return BeanSupplier.of(AuditTrailManager.class)
                 .when(CONDITION.given(applicationContext.getEnvironment()))
                 .supply(() -> {
-                    val manager = new JdbcAuditTrailManager(inspektrAuditTransactionTemplate,
-                        new JdbcTemplate(inspektrAuditTrailDataSource), jpaAuditTrailEntityFactory);
-                    manager.setCleanupCriteria(auditCleanupCriteria);
                     val jdbc = casProperties.getAudit().getJdbc();
-                    manager.setAsynchronous(jdbc.isAsynchronous());
+                    val jdbcTemplate = new JdbcTemplate(inspektrAuditTrailDataSource);
+                    val manager = jdbc.getBatch().isEnabled()
+                        ? new BatchingJdbcAuditTrailManager(inspektrAuditTransactionTemplate,
+                            jdbcTemplate, jpaAuditTrailEntityFactory, jdbc.getBatch())
+                        : new JdbcAuditTrailManager(inspektrAuditTransactionTemplate,
+                            jdbcTemplate, jpaAuditTrailEntityFactory);
+                    manager.setCleanupCriteria(auditCleanupCriteria);
+                    manager.setAsynchronous(jdbc.isAsynchronous() && !jdbc.getBatch().isEnabled());
                     manager.setColumnLength(jdbc.getColumnLength());
                     manager.setTableName(getAuditTableNameFrom(jdbc));
                     FunctionUtils.doIfNotBlank(jdbc.getSelectSqlQueryTemplate(), manager::setSelectByDateSqlTemplate);
@@ -219,6 +229,39 @@ public class CasJdbcAuditAutoConfiguration {
         }
     }
 
+    @Configuration(value = "CasSupportJdbcAuditMetricsConfiguration", proxyBeanMethods = false)
+    @EnableConfigurationProperties(CasConfigurationProperties.class)
+    @ConditionalOnClass(MeterBinder.class)
+    static class CasSupportJdbcAuditMetricsConfiguration {
+        @Bean
+        @ConditionalOnMissingBean(name = "jdbcAuditTrailManagerMetrics")
+        public MeterBinder jdbcAuditTrailManagerMetrics(
+            @Qualifier("jdbcAuditTrailManager")
+            final ObjectProvider<AuditTrailManager> jdbcAuditTrailManager) {
+            return registry -> jdbcAuditTrailManager.stream()
+                .filter(BatchingJdbcAuditTrailManager.class::isInstance)
+                .map(BatchingJdbcAuditTrailManager.class::cast)
+                .findFirst()
+                .ifPresent(manager -> {
+                    FunctionCounter.builder("cas.audit.jdbc.written", manager, value -> value.getTotalWrittenRecords().sum())
+                        .description("Total number of audit records written to the database in batches")
+                        .register(registry);
+                    FunctionCounter.builder("cas.audit.jdbc.dropped", manager, value -> value.getTotalDroppedRecords().sum())
+                        .description("Total number of audit records dropped because the buffer was full")
+                        .register(registry);
+                    FunctionCounter.builder("cas.audit.jdbc.failed", manager, value -> value.getTotalFailedRecords().sum())
+                        .description("Total number of audit records that could not be written to the database")
+                        .register(registry);
+                    FunctionCounter.builder("cas.audit.jdbc.batches", manager, value -> value.getTotalBatches().sum())
+                        .description("Total number of batches written to the database")
+                        .register(registry);
+                    Gauge.builder("cas.audit.jdbc.queue.size", manager, BatchingJdbcAuditTrailManager::getQueueSize)
+                        .description("Number of audit records waiting in the buffer")
+                        .register(registry);
+                });
+        }
+    }
+
     @Configuration(value = "CasSupportJdbcAuditScheduleConfiguration", proxyBeanMethods = false)
     @EnableConfigurationProperties(CasConfigurationProperties.class)
     static class CasSupportJdbcAuditScheduleConfiguration {
@@ -0,0 +1,260 @@
+package org.apereo.inspektr.audit.support;
+
+import org.apereo.inspektr.audit.AuditActionContext;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import org.apereo.cas.audit.spi.entity.AuditTrailEntity;
+import org.apereo.cas.configuration.model.core.audit.AuditJdbcBatchProperties;
+import org.apereo.cas.configuration.support.Beans;
+import org.apereo.cas.jpa.JpaEntityFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.transaction.support.TransactionOperations;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * This is {@link BatchingJdbcAuditTrailManager} that buffers audit records
+ * in a bounded queue and writes them to the database in batches, using a single
+ * transaction and a batched insert statement per batch. A batch is written once it is full
+ * or once the flush interval has passed since its first record was buffered, whichever comes first.
+ * When the buffer is full, new records are either dropped immediately or the caller is blocked
+ * for a limited amount of time, per the configured overflow policy. Remaining records
+ * are written to the database when the manager is destroyed.
+ * Audit queries first write buffered records and wait for the batch that is being
+ * written in the background, so that all records recorded before the query are visible.
+ *
+ * @author Misagh Moayyed
+ * @since 7.2.0
+ */
+@Slf4j
+@Getter
+public class BatchingJdbcAuditTrailManager extends JdbcAuditTrailManager {
+    private final LongAdder totalWrittenRecords = new LongAdder();
+
+    private final LongAdder totalDroppedRecords = new LongAdder();
+
+    private final LongAdder totalFailedRecords = new LongAdder();
+
+    private final LongAdder totalBatches = new LongAdder();
+
+    @Getter(AccessLevel.NONE)
+    private final BlockingQueue<AuditActionContext> queue;
+
+    @Getter(AccessLevel.NONE)
+    private final AtomicBoolean started = new AtomicBoolean();
+
+    @Getter(AccessLevel.NONE)
+    private final AtomicBoolean stopped = new AtomicBoolean();
+
+    @Getter(AccessLevel.NONE)
+    private final AuditJdbcBatchProperties properties;
+
+    @Getter(AccessLevel.NONE)
+    private final Duration flushInterval;
+
+    @Getter(AccessLevel.NONE)
+    private final Duration maxBlockTime;
+
+    @Getter(AccessLevel.NONE)
+    private final AtomicLong bufferedRecords = new AtomicLong();
+
+    @Getter(AccessLevel.NONE)
+    private final AtomicLong completedRecords = new AtomicLong();
+
+    @Getter(AccessLevel.NONE)
+    private final ReentrantLock completionLock = new ReentrantLock();
+
+    @Getter(AccessLevel.NONE)
+    private final Condition batchCompleted = completionLock.newCondition();
+
+    @Getter(AccessLevel.NONE)
+    private volatile Thread writer;
+
+    public BatchingJdbcAuditTrailManager(final TransactionOperations transactionTemplate,
+                                         final JdbcTemplate jdbcTemplate,
+                                         final JpaEntityFactory<AuditTrailEntity> jpaAuditTrailEntityFactory,
+                                         final AuditJdbcBatchProperties properties) {
+        super(transactionTemplate, jdbcTemplate, jpaAuditTrailEntityFactory);
+        this.properties = properties;
+        this.queue = new ArrayBlockingQueue<>(Math.max(1, properties.getQueueCapacity()));
+        this.flushInterval = Beans.newDuration(properties.getFlushInterval());
+        this.maxBlockTime = Beans.newDuration(properties.getMaxBlockTime());
+    }
+
+    @Override
+    public void record(final AuditActionContext audit) {
+        if (stopped.get()) {
+            saveAuditRecord(audit);
+            return;
+        }
+        startWriterIfNecessary();
+        if (offer(audit)) {
+            bufferedRecords.incrementAndGet();
+        } else {
+            totalDroppedRecords.increment();
+            LOGGER.warn("Audit record buffer is full with [{}] records; audit record for [{}] is dropped",
+                queue.size(), audit.getActionPerformed());
+        }
+    }
+
+    @Override
+    public List<? extends AuditActionContext> getAuditRecords(final Map<WhereClauseFields, Object> whereClause) {
+        flush();
+        return super.getAuditRecords(whereClause);
+    }
+
+    @Override
+    public void destroy() {
+        if (stopped.compareAndSet(false, true)) {
+            val currentWriter = writer;
+            if (currentWriter != null) {
+                try {
+                    currentWriter.join(flushInterval.multipliedBy(2).plusSeconds(1));
+                } catch (final InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            flush();
+        }
+        super.destroy();
+    }
+
+    /**
+     * Write all buffered audit records to the database, and wait for
+     * records that are taken from the buffer and written in the background
+     * to be written as well. Records buffered after this call are not waited on.
+     */
+    public void flush() {
+        val target = bufferedRecords.get();
+        val batchSize = getBatchSize();
+        val batch = new ArrayList<AuditActionContext>(Math.min(batchSize, queue.size() + 1));
+        while (queue.drainTo(batch, batchSize) > 0) {
+            writeAndComplete(batch);
+            batch.clear();
+        }
+        awaitCompletedRecords(target);
+    }
+
+    /**
+     * Number of audit records waiting in the buffer.
+     *
+     * @return the queue size
+     */
+    public int getQueueSize() {
+        return queue.size();
+    }
+
+    protected void writeBatch(final List<AuditActionContext> records) {
+        try {
+            val parameters = records
+                .stream()
+                .map(this::getAuditRecordParameters)
+                .map(MapSqlParameterSource::new)
+                .toArray(SqlParameterSource[]::new);
+            getTransactionTemplate().executeWithoutResult(__ ->
+                getNamedParameterJdbcTemplate().batchUpdate(getInsertSql(), parameters));
+            totalWrittenRecords.add(records.size());
+            totalBatches.increment();
+            LOGGER.trace("Wrote batch of [{}] audit record(s) to the database", records.size());
+        } catch (final Exception e) {
+            totalFailedRecords.add(records.size());
+            LOGGER.error("Unable to write batch of [{}] audit record(s) to the database: [{}]", records.size(), e.getMessage());
+            LOGGER.debug(e.getMessage(), e);
+        }
+    }
+
+    private void writeAndComplete(final List<AuditActionContext> records) {
+        try {
+            writeBatch(records);
+        } finally {
+            completedRecords.addAndGet(records.size());
+            completionLock.lock();
+            try {
+                batchCompleted.signalAll();
+            } finally {
+                completionLock.unlock();
+            }
+        }
+    }
+
+    private void awaitCompletedRecords(final long target) {
+        completionLock.lock();
+        try {
+            while (completedRecords.get() < target) {
+                batchCompleted.await();
+            }
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            completionLock.unlock();
+        }
+    }
+
+    private boolean offer(final AuditActionContext audit) {
+        if (properties.getOverflowPolicy() == AuditJdbcBatchProperties.OverflowPolicies.DROP) {
+            return queue.offer(audit);
+        }
+        try {
+            return queue.offer(audit, maxBlockTime.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private void startWriterIfNecessary() {
+        if (started.compareAndSet(false, true)) {
+            writer = Thread.ofVirtual().name("jdbc-audit-writer").start(this::drainQueue);
+        }
+    }
+
+    private void drainQueue() {
+        val batchSize = getBatchSize();
+        val batch = new ArrayList<AuditActionContext>(batchSize);
+        try {
+            while (!stopped.get()) {
+                val first = queue.poll(flushInterval.toMillis(), TimeUnit.MILLISECONDS);
+                if (first != null) {
+                    batch.add(first);
+                    val deadline = System.nanoTime() + flushInterval.toNanos();
+                    queue.drainTo(batch, batchSize - batch.size());
+                    while (batch.size() < batchSize && !stopped.get()) {
+                        val remaining = deadline - System.nanoTime();
+                        val next = remaining > 0 ? queue.poll(remaining, TimeUnit.NANOSECONDS) : null;
+                        if (next == null) {
+                            break;
+                        }
+                        batch.add(next);
+                        queue.drainTo(batch, batchSize - batch.size());
+                    }
+                    writeAndComplete(batch);
+                    batch.clear();
+                }
+            }
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            if (!batch.isEmpty()) {
+                writeAndComplete(batch);
+            }
+        }
+    }
+
+    private int getBatchSize() {
+        return Math.max(1, properties.getBatchSize());
+    }
+}
@@ -3,6 +3,7 @@ package org.apereo.inspektr.audit.support;
 import org.apereo.inspektr.audit.AuditActionContext;
 import org.apereo.inspektr.audit.AuditTrailManager;
 import org.apereo.inspektr.common.web.ClientInfo;
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.Setter;
@@ -136,14 +137,20 @@ public class JdbcAuditTrailManager extends AbstractAuditTrailManager {
 
     private static final int DEFAULT_COLUMN_LENGTH = 512;
 
+    private static final MapToJsonAttributeConverter CONVERTER = new MapToJsonAttributeConverter();
+
     /**
      * Instance of TransactionTemplate to manually execute a transaction since
      * threads are not in the same transaction.
      */
+    @Getter(AccessLevel.PROTECTED)
     private final @NotNull TransactionOperations transactionTemplate;
     private final @NotNull JdbcTemplate jdbcTemplate;
     private final @NotNull JpaEntityFactory<AuditTrailEntity> jpaAuditTrailEntityFactory;
 
+    @Getter(value = AccessLevel.PROTECTED, lazy = true)
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate = new NamedParameterJdbcTemplate(jdbcTemplate);
+
     private @NotNull @Size(min = 1) String tableName = "COM_AUDIT_TRAIL";
 
     private int columnLength = DEFAULT_COLUMN_LENGTH;
@@ -163,45 +170,59 @@ public class JdbcAuditTrailManager extends AbstractAuditTrailManager {
         transactionTemplate.execute(new TransactionCallbackWithoutResult() {
             @Override
             protected void doInTransactionWithoutResult(final TransactionStatus __) {
-                val principal = auditActionContext.getPrincipal();
-                val userId = columnLength <= 0 || principal.length() <= columnLength
-                    ? principal
-                    : principal.substring(0, columnLength);
-                val resourceOperatedUpon = auditActionContext.getResourceOperatedUpon();
-                val resource = columnLength <= 0 || resourceOperatedUpon.length() <= columnLength
-                    ? resourceOperatedUpon
-                    : resourceOperatedUpon.substring(0, columnLength);
-                val actionPerformed = auditActionContext.getActionPerformed();
-                val action = columnLength <= 0 || actionPerformed.length() <= columnLength
-                    ? actionPerformed
-                    : actionPerformed.substring(0, columnLength);
+                getNamedParameterJdbcTemplate().update(getInsertSql(), getAuditRecordParameters(auditActionContext));
+            }
+        });
+    }
 
-                val sql = String.format(INSERT_SQL_TEMPLATE, tableName);
-                val clientInfo = auditActionContext.getClientInfo();
-                val locale = Optional.ofNullable(clientInfo.getLocale())
-                    .map(Locale::toLanguageTag)
-                    .orElseGet(Locale.US::toLanguageTag);
+    /**
+     * Gets insert sql statement for the audit table.
+     *
+     * @return the insert sql
+     */
+    protected String getInsertSql() {
+        return String.format(INSERT_SQL_TEMPLATE, tableName);
+    }
 
-                val parameterMap = new HashMap<String, Object>();
-                parameterMap.put(AuditTableColumns.USER.getColumnName(), userId);
-                parameterMap.put(AuditTableColumns.CLIENT_IP.getColumnName(), clientInfo.getClientIpAddress());
-                parameterMap.put(AuditTableColumns.SERVER_IP.getColumnName(), clientInfo.getServerIpAddress());
-                parameterMap.put(AuditTableColumns.RESOURCE.getColumnName(), resource);
-                parameterMap.put(AuditTableColumns.APPLIC_CD.getColumnName(), auditActionContext.getApplicationCode());
-                parameterMap.put(AuditTableColumns.DATE.getColumnName(), auditActionContext.getWhenActionWasPerformed());
-                parameterMap.put(AuditTableColumns.GEOLOCATION.getColumnName(), clientInfo.getGeoLocation());
-                parameterMap.put(AuditTableColumns.USERAGENT.getColumnName(), clientInfo.getUserAgent());
-                parameterMap.put(AuditTableColumns.LOCALE.getColumnName(), locale);
-                parameterMap.put(AuditTableColumns.ACTION.getColumnName(), action);
+    /**
+     * Gets the named parameters to insert the audit record.
+     *
+     * @param auditActionContext the audit action context
+     * @return the audit record parameters
+     */
+    protected Map<String, Object> getAuditRecordParameters(final AuditActionContext auditActionContext) {
+        val principal = auditActionContext.getPrincipal();
+        val userId = columnLength <= 0 || principal.length() <= columnLength
+            ? principal
+            : principal.substring(0, columnLength);
+        val resourceOperatedUpon = auditActionContext.getResourceOperatedUpon();
+        val resource = columnLength <= 0 || resourceOperatedUpon.length() <= columnLength
+            ? resourceOperatedUpon
+            : resourceOperatedUpon.substring(0, columnLength);
+        val actionPerformed = auditActionContext.getActionPerformed();
+        val action = columnLength <= 0 || actionPerformed.length() <= columnLength
+            ? actionPerformed
+            : actionPerformed.substring(0, columnLength);
 
-                val converter = new MapToJsonAttributeConverter();
-                parameterMap.put(AuditTableColumns.HEADERS.getColumnName(), converter.convertToDatabaseColumn(clientInfo.getHeaders()));
-                parameterMap.put(AuditTableColumns.EXTRA_INFO.getColumnName(), converter.convertToDatabaseColumn(clientInfo.getExtraInfo()));
+        val clientInfo = auditActionContext.getClientInfo();
+        val locale = Optional.ofNullable(clientInfo.getLocale())
+            .map(Locale::toLanguageTag)
+            .orElseGet(Locale.US::toLanguageTag);
 
-                val namedTemplate = new NamedParameterJdbcTemplate(jdbcTemplate);
-                namedTemplate.update(sql, parameterMap);
-            }
-        });
+        val parameterMap = new HashMap<String, Object>();
+        parameterMap.put(AuditTableColumns.USER.getColumnName(), userId);
+        parameterMap.put(AuditTableColumns.CLIENT_IP.getColumnName(), clientInfo.getClientIpAddress());
+        parameterMap.put(AuditTableColumns.SERVER_IP.getColumnName(), clientInfo.getServerIpAddress());
+        parameterMap.put(AuditTableColumns.RESOURCE.getColumnName(), resource);
+        parameterMap.put(AuditTableColumns.APPLIC_CD.getColumnName(), auditActionContext.getApplicationCode());
+        parameterMap.put(AuditTableColumns.DATE.getColumnName(), auditActionContext.getWhenActionWasPerformed());
+        parameterMap.put(AuditTableColumns.GEOLOCATION.getColumnName(), clientInfo.getGeoLocation());
+        parameterMap.put(AuditTableColumns.USERAGENT.getColumnName(), clientInfo.getUserAgent());
+        parameterMap.put(AuditTableColumns.LOCALE.getColumnName(), locale);
+        parameterMap.put(AuditTableColumns.ACTION.getColumnName(), action);
+        parameterMap.put(AuditTableColumns.HEADERS.getColumnName(), CONVERTER.convertToDatabaseColumn(clientInfo.getHeaders()));
+        parameterMap.put(AuditTableColumns.EXTRA_INFO.getColumnName(), CONVERTER.convertToDatabaseColumn(clientInfo.getExtraInfo()));
+        return parameterMap;
     }
 
     @Override
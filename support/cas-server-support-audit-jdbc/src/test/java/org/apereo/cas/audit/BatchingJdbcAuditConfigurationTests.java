@@ -0,0 +1,69 @@
+package org.apereo.cas.audit;
+
+import org.apereo.cas.audit.spi.BaseAuditConfigurationTests;
+import org.apereo.cas.config.CasHibernateJpaAutoConfiguration;
+import org.apereo.cas.config.CasJdbcAuditAutoConfiguration;
+import org.apereo.cas.configuration.CasConfigurationProperties;
+import lombok.Getter;
+import lombok.val;
+import org.apereo.inspektr.audit.AuditActionContext;
+import org.apereo.inspektr.audit.AuditTrailManager;
+import org.apereo.inspektr.common.web.ClientInfo;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.test.context.SpringBootTest;
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * This is {@link BatchingJdbcAuditConfigurationTests}.
+ *
+ * @author Misagh Moayyed
+ * @since 7.2.0
+ */
+@SpringBootTest(
+    classes = {
+        BaseAuditConfigurationTests.SharedTestConfiguration.class,
+        CasJdbcAuditAutoConfiguration.class,
+        CasHibernateJpaAutoConfiguration.class
+    },
+    properties = {
+        "cas.audit.jdbc.column-length=-1",
+        "cas.audit.jdbc.batch.enabled=true",
+        "cas.audit.jdbc.batch.batch-size=50",
+        "cas.audit.jdbc.batch.flush-interval=PT0.1S"
+    })
+@EnableConfigurationProperties(CasConfigurationProperties.class)
+@Getter
+@Tag("JDBC")
+class BatchingJdbcAuditConfigurationTests extends BaseAuditConfigurationTests {
+
+    @Autowired
+    @Qualifier("jdbcAuditTrailManager")
+    private AuditTrailManager auditTrailManager;
+
+    @Test
+    void verifyRecordsWrittenInBatches() throws Throwable {
+        val principal = UUID.randomUUID().toString();
+        val clientInfo = new ClientInfo("1.2.3.4", "1.2.3.4", UUID.randomUUID().toString(), "London")
+            .setExtraInfo(Map.of("Hello", "World"))
+            .setHeaders(Map.of("H1", "V1"));
+        IntStream.range(0, 175).forEach(i -> auditTrailManager.record(new AuditActionContext(principal,
+            "TEST-" + i, "TEST", "CAS", LocalDateTime.now(Clock.systemUTC()), clientInfo)));
+        val criteria = Map.<AuditTrailManager.WhereClauseFields, Object>of(
+            AuditTrailManager.WhereClauseFields.DATE, LocalDateTime.now(ZoneOffset.UTC).minusDays(1),
+            AuditTrailManager.WhereClauseFields.COUNT, 500L,
+            AuditTrailManager.WhereClauseFields.PRINCIPAL, principal);
+        val results = auditTrailManager.getAuditRecords(criteria);
+        assertEquals(175, results.size());
+    }
+}
@@ -0,0 +1,167 @@
+package org.apereo.inspektr.audit.support;
+
+import org.apereo.inspektr.audit.AuditActionContext;
+import org.apereo.inspektr.common.web.ClientInfo;
+import lombok.Getter;
+import lombok.val;
+import org.apereo.cas.configuration.model.core.audit.AuditJdbcBatchProperties;
+import org.apereo.cas.jpa.JpaEntityFactory;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionOperations;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * This is {@link BatchingJdbcAuditTrailManagerTests}.
+ *
+ * @author Misagh Moayyed
+ * @since 7.2.0
+ */
+@Tag("Audits")
+class BatchingJdbcAuditTrailManagerTests {
+
+    @Test
+    void verifyRecordsDroppedWhenBufferIsFull() throws Throwable {
+        val manager = new BlockingBatchingJdbcAuditTrailManager(mock(TransactionOperations.class),
+            newProperties(AuditJdbcBatchProperties.OverflowPolicies.DROP, "PT5S"));
+        manager.record(newAuditActionContext());
+        assertTrue(manager.getWriting().await(5, TimeUnit.SECONDS));
+        manager.record(newAuditActionContext());
+        manager.record(newAuditActionContext());
+        assertEquals(1, manager.getTotalDroppedRecords().sum());
+        assertEquals(1, manager.getQueueSize());
+
+        manager.getRelease().countDown();
+        manager.flush();
+        assertEquals(2, manager.getTotalWrittenRecords().sum());
+        assertEquals(2, manager.getTotalBatches().sum());
+        assertEquals(0, manager.getTotalFailedRecords().sum());
+        assertEquals(0, manager.getQueueSize());
+        manager.destroy();
+    }
+
+    @Test
+    void verifyRecordsDroppedAfterBlocking() throws Throwable {
+        val manager = new BlockingBatchingJdbcAuditTrailManager(mock(TransactionOperations.class),
+            newProperties(AuditJdbcBatchProperties.OverflowPolicies.BLOCK, "PT0.1S"));
+        manager.record(newAuditActionContext());
+        assertTrue(manager.getWriting().await(5, TimeUnit.SECONDS));
+        manager.record(newAuditActionContext());
+        val started = System.nanoTime();
+        manager.record(newAuditActionContext());
+        assertTrue(Duration.ofNanos(System.nanoTime() - started).toMillis() >= 100);
+        assertEquals(1, manager.getTotalDroppedRecords().sum());
+
+        manager.getRelease().countDown();
+        manager.flush();
+        assertEquals(2, manager.getTotalWrittenRecords().sum());
+        manager.destroy();
+    }
+
+    @Test
+    void verifyBlockedRecordsBufferedOnceSpaceIsAvailable() throws Throwable {
+        val manager = new BlockingBatchingJdbcAuditTrailManager(mock(TransactionOperations.class),
+            newProperties(AuditJdbcBatchProperties.OverflowPolicies.BLOCK, "PT10S"));
+        manager.record(newAuditActionContext());
+        assertTrue(manager.getWriting().await(5, TimeUnit.SECONDS));
+        manager.record(newAuditActionContext());
+        val blocked = Thread.ofVirtual().start(() -> manager.record(newAuditActionContext()));
+        assertFalse(blocked.join(Duration.ofMillis(200)));
+
+        manager.getRelease().countDown();
+        assertTrue(blocked.join(Duration.ofSeconds(5)));
+        manager.flush();
+        assertEquals(0, manager.getTotalDroppedRecords().sum());
+        assertEquals(3, manager.getTotalWrittenRecords().sum());
+        manager.destroy();
+    }
+
+    @Test
+    void verifyFlushWaitsForBatchInFlight() throws Throwable {
+        val manager = new BlockingBatchingJdbcAuditTrailManager(mock(TransactionOperations.class),
+            newProperties(AuditJdbcBatchProperties.OverflowPolicies.DROP, "PT5S"));
+        manager.record(newAuditActionContext());
+        assertTrue(manager.getWriting().await(5, TimeUnit.SECONDS));
+        assertEquals(0, manager.getQueueSize());
+
+        val flush = Thread.ofVirtual().start(manager::flush);
+        assertFalse(flush.join(Duration.ofMillis(200)));
+        assertEquals(0, manager.getTotalWrittenRecords().sum());
+
+        manager.getRelease().countDown();
+        assertTrue(flush.join(Duration.ofSeconds(5)));
+        assertEquals(1, manager.getTotalWrittenRecords().sum());
+        manager.destroy();
+    }
+
+    @Test
+    void verifyFailedRecords() throws Throwable {
+        val transactionTemplate = mock(TransactionOperations.class);
+        doThrow(new IllegalStateException("Failed")).when(transactionTemplate).executeWithoutResult(any());
+        val manager = new BatchingJdbcAuditTrailManager(transactionTemplate, mock(JdbcTemplate.class),
+            mock(JpaEntityFactory.class), newProperties(AuditJdbcBatchProperties.OverflowPolicies.DROP, "PT5S"));
+        manager.record(newAuditActionContext());
+        manager.flush();
+        assertEquals(1, manager.getTotalFailedRecords().sum());
+        assertEquals(0, manager.getTotalWrittenRecords().sum());
+        assertEquals(0, manager.getTotalBatches().sum());
+        manager.destroy();
+    }
+
+    private static AuditJdbcBatchProperties newProperties(final AuditJdbcBatchProperties.OverflowPolicies policy,
+                                                          final String maxBlockTime) {
+        return new AuditJdbcBatchProperties()
+            .setEnabled(true)
+            .setBatchSize(1)
+            .setQueueCapacity(1)
+            .setFlushInterval("PT0.1S")
+            .setOverflowPolicy(policy)
+            .setMaxBlockTime(maxBlockTime);
+    }
+
+    private static AuditActionContext newAuditActionContext() {
+        val clientInfo = new ClientInfo("1.2.3.4", "1.2.3.4", UUID.randomUUID().toString(), "London")
+            .setExtraInfo(Map.of("Hello", "World"))
+            .setHeaders(Map.of("H1", "V1"));
+        return new AuditActionContext(UUID.randomUUID().toString(), "TEST", "TEST", "CAS",
+            LocalDateTime.now(Clock.systemUTC()), clientInfo);
+    }
+
+    /**
+     * Holds the first batch in flight until released,
+     * so that the buffer can be filled up.
+     */
+    @Getter
+    private static final class BlockingBatchingJdbcAuditTrailManager extends BatchingJdbcAuditTrailManager {
+        private final CountDownLatch writing = new CountDownLatch(1);
+
+        private final CountDownLatch release = new CountDownLatch(1);
+
+        BlockingBatchingJdbcAuditTrailManager(final TransactionOperations transactionTemplate,
+                                              final AuditJdbcBatchProperties properties) {
+            super(transactionTemplate, mock(JdbcTemplate.class), mock(JpaEntityFactory.class), properties);
+        }
+
+        @Override
+        protected void writeBatch(final List<AuditActionContext> records) {
+            writing.countDown();
+            try {
+                release.await();
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            super.writeBatch(records);
+        }
+    }
+}
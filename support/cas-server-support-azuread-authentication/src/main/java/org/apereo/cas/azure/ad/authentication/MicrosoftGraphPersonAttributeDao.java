@@ -155,6 +155,11 @@ public class MicrosoftGraphPersonAttributeDao extends BasePersonAttributeDao {
         }
     }
 
+    @Override
+    public boolean isIndependentQuery() {
+        return true;
+    }
+
     private interface GraphApiService {
         @GET("users/{upn}")
         Call<User> getUserByUserPrincipalName(
@@ -24,4 +24,21 @@ public interface AuthenticationRequestRiskCalculator {
     AuthenticationRiskScore calculate(Authentication authentication,
                                       RegisteredService service,
                                       ClientInfo clientInfo);
+
+    /**
+     * Calculate authentication risk score using the given risk profile
+     * of the authenticated principal, which is typically shared with other calculators.
+     *
+     * @param authentication the authentication
+     * @param service        the service
+     * @param clientInfo     the client info
+     * @param profile        the risk profile of the principal
+     * @return the authentication risk score
+     */
+    default AuthenticationRiskScore calculate(final Authentication authentication,
+                                              final RegisteredService service,
+                                              final ClientInfo clientInfo,
+                                              final AuthenticationRiskProfile profile) {
+        return calculate(authentication, service, clientInfo);
+    }
 }
@@ -0,0 +1,209 @@
+package org.apereo.cas.api;
+
+import org.apereo.cas.authentication.adaptive.geo.GeoLocationRequest;
+import org.apereo.cas.support.events.dao.CasEvent;
+import org.apereo.cas.util.DateTimeUtils;
+import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+import lombok.val;
+import org.apache.commons.lang3.StringUtils;
+import java.io.Serial;
+import java.io.Serializable;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * This is {@link AuthenticationRiskProfile}. It summarizes the authentication history
+ * of a principal as the number of authentication events observed for each
+ * ip address, user agent, device fingerprint, location and hour of the day,
+ * so that risk calculators can score an authentication attempt without
+ * examining every event in the history.
+ *
+ * @author Misagh Moayyed
+ * @since 7.2.0
+ */
+@Getter
+@ToString
+@EqualsAndHashCode
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public class AuthenticationRiskProfile implements Serializable {
+    @Serial
+    private static final long serialVersionUID = -2866617542406231837L;
+
+    private static final int HOURS_PER_DAY = 24;
+
+    private static final AuthenticationRiskProfile EMPTY = new AuthenticationRiskProfile(0,
+        Map.of(), Map.of(), Map.of(), Map.of(), new long[HOURS_PER_DAY]);
+
+    private final long totalCount;
+
+    private final Map<String, Long> clientIpAddresses;
+
+    private final Map<String, Long> userAgents;
+
+    private final Map<String, Long> deviceFingerprints;
+
+    private final Map<GeoLocationRequest, Long> geoLocations;
+
+    @Getter(AccessLevel.NONE)
+    private final long[] hoursOfDay;
+
+    /**
+     * Empty profile.
+     *
+     * @return the authentication risk profile
+     */
+    public static AuthenticationRiskProfile empty() {
+        return EMPTY;
+    }
+
+    /**
+     * Summarize the given authentication events into a profile.
+     *
+     * @param events the events
+     * @return the authentication risk profile
+     */
+    public static AuthenticationRiskProfile from(final Stream<? extends CasEvent> events) {
+        val clientIpAddresses = new HashMap<String, Long>();
+        val userAgents = new HashMap<String, Long>();
+        val deviceFingerprints = new HashMap<String, Long>();
+        val geoLocations = new HashMap<GeoLocationRequest, Long>();
+        val hoursOfDay = new long[HOURS_PER_DAY];
+        val totalCount = new AtomicLong();
+        events.forEach(event -> {
+            totalCount.incrementAndGet();
+            increment(clientIpAddresses, normalize(event.getClientIpAddress()));
+            increment(userAgents, normalize(event.getAgent()));
+            increment(deviceFingerprints, normalize(event.getDeviceFingerprint()));
+            increment(geoLocations, event.getGeoLocation());
+            if (StringUtils.isNotBlank(event.getCreationTime())) {
+                val creationTime = DateTimeUtils.convertToZonedDateTime(event.getCreationTime());
+                hoursOfDay[creationTime.withZoneSameInstant(ZoneOffset.UTC).getHour()]++;
+            }
+        });
+        if (totalCount.get() == 0) {
+            return EMPTY;
+        }
+        return new AuthenticationRiskProfile(totalCount.get(), Map.copyOf(clientIpAddresses), Map.copyOf(userAgents),
+            Map.copyOf(deviceFingerprints), Map.copyOf(geoLocations), hoursOfDay);
+    }
+
+    private static <K> void increment(final Map<K, Long> counts, final K key) {
+        if (key != null) {
+            counts.merge(key, 1L, Long::sum);
+        }
+    }
+
+    private static <K> Map<K, Long> merge(final Map<K, Long> first, final Map<K, Long> second) {
+        if (first.isEmpty()) {
+            return second;
+        }
+        if (second.isEmpty()) {
+            return first;
+        }
+        val results = new HashMap<>(first);
+        second.forEach((key, count) -> results.merge(key, count, Long::sum));
+        return Map.copyOf(results);
+    }
+
+    private static String normalize(final String value) {
+        return StringUtils.isBlank(value) ? null : value.toLowerCase(Locale.ENGLISH);
+    }
+
+    /**
+     * Combine this profile with the given profile.
+     *
+     * @param profile the profile
+     * @return the authentication risk profile
+     */
+    public AuthenticationRiskProfile merge(final AuthenticationRiskProfile profile) {
+        if (profile.isEmpty()) {
+            return this;
+        }
+        if (isEmpty()) {
+            return profile;
+        }
+        val hours = Arrays.copyOf(hoursOfDay, HOURS_PER_DAY);
+        IntStream.range(0, HOURS_PER_DAY).forEach(hour -> hours[hour] += profile.hoursOfDay[hour]);
+        return new AuthenticationRiskProfile(totalCount + profile.totalCount,
+            merge(clientIpAddresses, profile.clientIpAddresses),
+            merge(userAgents, profile.userAgents),
+            merge(deviceFingerprints, profile.deviceFingerprints),
+            merge(geoLocations, profile.geoLocations),
+            hours);
+    }
+
+    public boolean isEmpty() {
+        return totalCount == 0;
+    }
+
+    /**
+     * Count events from the given client ip address, ignoring case.
+     *
+     * @param clientIpAddress the client ip address
+     * @return the count
+     */
+    public long countClientIpAddress(final String clientIpAddress) {
+        return count(clientIpAddresses, normalize(clientIpAddress));
+    }
+
+    /**
+     * Count events from the given user agent, ignoring case.
+     *
+     * @param userAgent the user agent
+     * @return the count
+     */
+    public long countUserAgent(final String userAgent) {
+        return count(userAgents, normalize(userAgent));
+    }
+
+    /**
+     * Count events from the given device fingerprint, ignoring case.
+     *
+     * @param deviceFingerprint the device fingerprint
+     * @return the count
+     */
+    public long countDeviceFingerprint(final String deviceFingerprint) {
+        return count(deviceFingerprints, normalize(deviceFingerprint));
+    }
+
+    /**
+     * Count events from the given location.
+     *
+     * @param location the location
+     * @return the count
+     */
+    public long countGeoLocation(final GeoLocationRequest location) {
+        return count(geoLocations, location);
+    }
+
+    /**
+     * Count events created between the given hours of the day in UTC, inclusive.
+     * The range wraps around midnight when the starting hour is after the ending hour.
+     *
+     * @param fromHour the starting hour
+     * @param toHour   the ending hour
+     * @return the count
+     */
+    public long countHoursOfDay(final int fromHour, final int toHour) {
+        return IntStream.range(0, HOURS_PER_DAY)
+            .filter(hour -> fromHour <= toHour
+                ? hour >= fromHour && hour <= toHour
+                : hour >= fromHour || hour <= toHour)
+            .mapToLong(hour -> hoursOfDay[hour])
+            .sum();
+    }
+
+    private static <K> long count(final Map<K, Long> counts, final K key) {
+        return key == null ? 0 : counts.getOrDefault(key, 0L);
+    }
+}
@@ -0,0 +1,35 @@
+package org.apereo.cas.api;
+
+import org.apereo.cas.support.events.dao.CasEvent;
+
+/**
+ * This is {@link AuthenticationRiskProfileRepository}. It provides the
+ * {@link AuthenticationRiskProfile} of a principal, which is then shared
+ * by all risk calculators that take part in the same risk evaluation.
+ *
+ * @author Misagh Moayyed
+ * @since 7.2.0
+ */
+public interface AuthenticationRiskProfileRepository {
+    /**
+     * Bean name.
+     */
+    String BEAN_NAME = "authenticationRiskProfileRepository";
+
+    /**
+     * Load the risk profile of the principal, summarizing
+     * its recent authentication history.
+     *
+     * @param principal the principal
+     * @return the authentication risk profile
+     */
+    AuthenticationRiskProfile load(String principal);
+
+    /**
+     * Record an authentication event that was just stored in the events repository.
+     *
+     * @param event the event
+     */
+    default void record(final CasEvent event) {
+    }
+}
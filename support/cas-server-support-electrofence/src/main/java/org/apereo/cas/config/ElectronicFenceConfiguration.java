@@ -5,6 +5,7 @@ import org.apereo.cas.api.AuthenticationRiskContingencyPlan;
 import org.apereo.cas.api.AuthenticationRiskEvaluator;
 import org.apereo.cas.api.AuthenticationRiskMitigator;
 import org.apereo.cas.api.AuthenticationRiskNotifier;
+import org.apereo.cas.api.AuthenticationRiskProfileRepository;
 import org.apereo.cas.audit.AuditActionResolvers;
 import org.apereo.cas.audit.AuditResourceResolvers;
 import org.apereo.cas.audit.AuditTrailRecordResolutionPlanConfigurer;
@@ -24,9 +25,14 @@ import org.apereo.cas.impl.notify.AuthenticationRiskSmsNotifier;
 import org.apereo.cas.impl.plans.BaseAuthenticationRiskContingencyPlan;
 import org.apereo.cas.impl.plans.BlockAuthenticationContingencyPlan;
 import org.apereo.cas.impl.plans.MultifactorAuthenticationContingencyPlan;
+import org.apereo.cas.impl.profile.CachingAuthenticationRiskProfileRepository;
+import org.apereo.cas.impl.profile.DefaultAuthenticationRiskProfileRepository;
 import org.apereo.cas.notifications.CommunicationsManager;
 import org.apereo.cas.services.ServicesManager;
 import org.apereo.cas.support.events.CasEventRepository;
+import org.apereo.cas.support.events.dao.CasEvent;
+import org.apereo.cas.support.events.ticket.CasTicketGrantingTicketCreatedEvent;
+import org.apereo.cas.util.DateTimeUtils;
 import org.apereo.cas.util.crypto.CipherExecutor;
 import org.apereo.cas.util.spring.beans.BeanCondition;
 import org.apereo.cas.util.spring.beans.BeanSupplier;
@@ -36,10 +42,12 @@ import lombok.val;
 import org.apereo.inspektr.audit.spi.AuditResourceResolver;
 import org.apereo.inspektr.audit.spi.support.DefaultAuditActionResolver;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.actuate.audit.listener.AuditApplicationEvent;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.cloud.context.config.annotation.RefreshScope;
+import org.springframework.context.ApplicationListener;
 import org.springframework.context.ConfigurableApplicationContext;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -48,6 +56,7 @@ import org.springframework.scheduling.annotation.EnableScheduling;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
 
 /**
  * This is {@link ElectronicFenceConfiguration}.
@@ -91,12 +100,50 @@ class ElectronicFenceConfiguration {
             @Qualifier(CasEventRepository.BEAN_NAME)
             final CasEventRepository eventRepository,
             final CasConfigurationProperties casProperties,
+            @Qualifier(AuthenticationRiskProfileRepository.BEAN_NAME)
+            final AuthenticationRiskProfileRepository authenticationRiskProfileRepository,
             final List<AuthenticationRequestRiskCalculator> riskCalculators) {
             val activeCalculators = new ArrayList<>(riskCalculators)
                 .stream()
                 .filter(BeanSupplier::isNotProxy)
                 .toList();
-            return new DefaultAuthenticationRiskEvaluator(activeCalculators, casProperties, eventRepository);
+            return new DefaultAuthenticationRiskEvaluator(activeCalculators, casProperties,
+                eventRepository, authenticationRiskProfileRepository);
+        }
+    }
+
+    @Configuration(value = "ElectronicFenceProfileConfiguration", proxyBeanMethods = false)
+    @EnableConfigurationProperties(CasConfigurationProperties.class)
+    static class ElectronicFenceProfileConfiguration {
+        @ConditionalOnMissingBean(name = AuthenticationRiskProfileRepository.BEAN_NAME)
+        @Bean
+        @RefreshScope(proxyMode = ScopedProxyMode.DEFAULT)
+        public AuthenticationRiskProfileRepository authenticationRiskProfileRepository(
+            @Qualifier(CasEventRepository.BEAN_NAME)
+            final CasEventRepository eventRepository,
+            final CasConfigurationProperties casProperties) {
+            if (casProperties.getAuthn().getAdaptive().getRisk().getCore().getProfile().isEnabled()) {
+                return new CachingAuthenticationRiskProfileRepository(eventRepository, casProperties);
+            }
+            return new DefaultAuthenticationRiskProfileRepository(eventRepository, casProperties);
+        }
+
+        @Bean
+        @ConditionalOnMissingBean(name = "authenticationRiskProfileEventListener")
+        public ApplicationListener<AuditApplicationEvent> authenticationRiskProfileEventListener(
+            @Qualifier(AuthenticationRiskProfileRepository.BEAN_NAME)
+            final AuthenticationRiskProfileRepository authenticationRiskProfileRepository) {
+            return event -> {
+                val auditEvent = event.getAuditEvent();
+                if (CasTicketGrantingTicketCreatedEvent.class.getName().equals(auditEvent.getType())) {
+                    val casEvent = new CasEvent()
+                        .setType(auditEvent.getType())
+                        .setPrincipalId(auditEvent.getPrincipal())
+                        .setCreationTime(DateTimeUtils.zonedDateTimeOf(auditEvent.getTimestamp()).toString());
+                    auditEvent.getData().forEach((key, value) -> casEvent.put(key, Objects.toString(value, null)));
+                    authenticationRiskProfileRepository.record(casEvent);
+                }
+            };
         }
     }
 
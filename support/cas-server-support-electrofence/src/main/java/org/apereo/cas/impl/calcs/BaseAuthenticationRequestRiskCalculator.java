@@ -1,6 +1,7 @@
 package org.apereo.cas.impl.calcs;
 
 import org.apereo.cas.api.AuthenticationRequestRiskCalculator;
+import org.apereo.cas.api.AuthenticationRiskProfile;
 import org.apereo.cas.api.AuthenticationRiskScore;
 import org.apereo.cas.authentication.Authentication;
 import org.apereo.cas.configuration.CasConfigurationProperties;
@@ -20,8 +21,6 @@ import java.math.BigDecimal;
 import java.math.RoundingMode;
 import java.time.ZoneOffset;
 import java.time.ZonedDateTime;
-import java.util.List;
-import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 /**
@@ -43,11 +42,19 @@ public abstract class BaseAuthenticationRequestRiskCalculator implements Authent
                                                    final RegisteredService service,
                                                    final ClientInfo clientInfo) {
         val principal = authentication.getPrincipal();
-        val events = getCasTicketGrantingTicketCreatedEventsFor(principal.getId()).collect(Collectors.toList());
-        if (events.isEmpty()) {
+        val profile = AuthenticationRiskProfile.from(getCasTicketGrantingTicketCreatedEventsFor(principal.getId()));
+        return calculate(authentication, service, clientInfo, profile);
+    }
+
+    @Override
+    public final AuthenticationRiskScore calculate(final Authentication authentication,
+                                                   final RegisteredService service,
+                                                   final ClientInfo clientInfo,
+                                                   final AuthenticationRiskProfile profile) {
+        if (profile.isEmpty()) {
             return AuthenticationRiskScore.highestRiskScore();
         }
-        val score = calculateScore(clientInfo, authentication, service, events);
+        val score = calculateScore(clientInfo, authentication, service, profile);
         val authenticationRiskScore = new AuthenticationRiskScore(score).withClientInfo(ClientInfoHolder.getClientInfo());
         LOGGER.debug("Calculated authentication risk score by [{}] is [{}]", getClass().getSimpleName(), authenticationRiskScore);
         return authenticationRiskScore;
@@ -56,7 +63,7 @@ public abstract class BaseAuthenticationRequestRiskCalculator implements Authent
     protected BigDecimal calculateScore(final ClientInfo clientInfo,
                                         final Authentication authentication,
                                         final RegisteredService service,
-                                        final List<? extends CasEvent> events) {
+                                        final AuthenticationRiskProfile profile) {
         return AuthenticationRiskScore.highestRiskScore().getScore();
     }
 
@@ -70,9 +77,9 @@ public abstract class BaseAuthenticationRequestRiskCalculator implements Authent
     }
 
     protected BigDecimal calculateScoreBasedOnEventsCount(final Authentication authentication,
-                                                          final List<? extends CasEvent> events,
+                                                          final AuthenticationRiskProfile profile,
                                                           final long count) {
-        val eventCount = events.size();
+        val eventCount = profile.getTotalCount();
         if (count == eventCount) {
             LOGGER.debug("Principal [{}] is assigned to the lowest risk score with attempted count of [{}]",
                 authentication.getPrincipal(), count);
@@ -1,19 +1,16 @@
 package org.apereo.cas.impl.calcs;
 
+import org.apereo.cas.api.AuthenticationRiskProfile;
 import org.apereo.cas.authentication.Authentication;
 import org.apereo.cas.configuration.CasConfigurationProperties;
 import org.apereo.cas.services.RegisteredService;
 import org.apereo.cas.support.events.CasEventRepository;
-import org.apereo.cas.support.events.dao.CasEvent;
-import org.apereo.cas.util.DateTimeUtils;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
 import org.apereo.inspektr.common.web.ClientInfo;
 import java.math.BigDecimal;
 import java.time.ZoneOffset;
 import java.time.ZonedDateTime;
-import java.time.chrono.ChronoZonedDateTime;
-import java.util.List;
 
 /**
  * This is {@link DateTimeAuthenticationRequestRiskCalculator}.
@@ -31,7 +28,7 @@ public class DateTimeAuthenticationRequestRiskCalculator extends BaseAuthenticat
 
     @Override
     protected BigDecimal calculateScore(final ClientInfo clientInfo, final Authentication authentication,
-                                        final RegisteredService service, final List<? extends CasEvent> events) {
+                                        final RegisteredService service, final AuthenticationRiskProfile profile) {
         val windowInHours = casProperties.getAuthn().getAdaptive().getRisk().getDateTime().getWindowInHours();
         val timestamp = ZonedDateTime.now(ZoneOffset.UTC);
         LOGGER.debug("Filtering authentication events for timestamp [{}]", timestamp);
@@ -39,21 +36,9 @@ public class DateTimeAuthenticationRequestRiskCalculator extends BaseAuthenticat
         val hoursFromNow = timestamp.plusHours(windowInHours).getHour();
         val hoursBeforeNow = timestamp.minusHours(windowInHours).getHour();
 
-        val count = events
-            .stream()
-            .map(time -> {
-                val dt = DateTimeUtils.convertToZonedDateTime(time.getCreationTime());
-                val instant = ChronoZonedDateTime.from(dt).toInstant();
-                val zdt = ZonedDateTime.ofInstant(instant, ZoneOffset.UTC);
-                return zdt.getHour();
-            })
-            .filter(hour -> hoursBeforeNow <= hoursFromNow
-                ? (hour >= hoursBeforeNow && hour <= hoursFromNow)
-                : (hour >= hoursBeforeNow || hour <= hoursFromNow)
-            )
-            .count();
+        val count = profile.countHoursOfDay(hoursBeforeNow, hoursFromNow);
 
         LOGGER.debug("Total authentication events found for [{}] in a [{}]h window: [{}]", timestamp, windowInHours, count);
-        return calculateScoreBasedOnEventsCount(authentication, events, count);
+        return calculateScoreBasedOnEventsCount(authentication, profile, count);
     }
 }
@@ -2,6 +2,7 @@ package org.apereo.cas.impl.engine;
 
 import org.apereo.cas.api.AuthenticationRequestRiskCalculator;
 import org.apereo.cas.api.AuthenticationRiskEvaluator;
+import org.apereo.cas.api.AuthenticationRiskProfileRepository;
 import org.apereo.cas.api.AuthenticationRiskScore;
 import org.apereo.cas.audit.AuditActionResolvers;
 import org.apereo.cas.audit.AuditResourceResolvers;
@@ -28,6 +29,7 @@ import java.util.Objects;
 
 /**
  * This is {@link DefaultAuthenticationRiskEvaluator}.
+ * The risk profile of the principal is loaded once per evaluation and is shared by all risk calculators.
  *
  * @author Misagh Moayyed
  * @since 5.1.0
@@ -40,6 +42,7 @@ public class DefaultAuthenticationRiskEvaluator implements AuthenticationRiskEva
     private final List<AuthenticationRequestRiskCalculator> calculators;
     private final CasConfigurationProperties casProperties;
     private final CasEventRepository casEventRepository;
+    private final AuthenticationRiskProfileRepository authenticationRiskProfileRepository;
 
     @Audit(action = AuditableActions.EVALUATE_RISKY_AUTHENTICATION,
         actionResolverName = AuditActionResolvers.ADAPTIVE_RISKY_AUTHENTICATION_ACTION_RESOLVER,
@@ -56,9 +59,11 @@ public class DefaultAuthenticationRiskEvaluator implements AuthenticationRiskEva
             return AuthenticationRiskScore.highestRiskScore();
         }
 
+        val profile = authenticationRiskProfileRepository.load(authentication.getPrincipal().getId());
+        LOGGER.debug("Loaded authentication risk profile [{}] to share with [{}] risk calculators", profile, calculators.size());
         val scores = calculators
             .stream()
-            .map(riskCalculator -> riskCalculator.calculate(authentication, service, clientInfo))
+            .map(riskCalculator -> riskCalculator.calculate(authentication, service, clientInfo, profile))
             .filter(Objects::nonNull)
             .toList();
 
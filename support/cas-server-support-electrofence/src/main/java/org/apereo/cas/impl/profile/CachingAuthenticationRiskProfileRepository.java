@@ -0,0 +1,113 @@
+package org.apereo.cas.impl.profile;
+
+import org.apereo.cas.api.AuthenticationRiskProfile;
+import org.apereo.cas.configuration.CasConfigurationProperties;
+import org.apereo.cas.configuration.support.Beans;
+import org.apereo.cas.support.events.CasEventRepository;
+import org.apereo.cas.support.events.dao.CasEvent;
+import org.apereo.cas.support.events.ticket.CasTicketGrantingTicketCreatedEvent;
+import org.apereo.cas.util.DateTimeUtils;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import org.apache.commons.lang3.StringUtils;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * This is {@link CachingAuthenticationRiskProfileRepository}. It keeps rolling daily
+ * risk profiles for each principal in memory. Profiles are loaded from the events repository
+ * once, are updated as authentication events are recorded by this node, and are reloaded
+ * periodically to pick up authentication events recorded by other nodes. Since profiles are kept
+ * per day, the recent history is rounded to whole days.
+ *
+ * @author Misagh Moayyed
+ * @since 7.2.0
+ */
+@Slf4j
+public class CachingAuthenticationRiskProfileRepository extends DefaultAuthenticationRiskProfileRepository {
+    private final Cache<String, DailyAuthenticationRiskProfiles> profiles;
+
+    private final Duration refreshInterval;
+
+    public CachingAuthenticationRiskProfileRepository(final CasEventRepository casEventRepository,
+                                                      final CasConfigurationProperties casProperties) {
+        super(casEventRepository, casProperties);
+        val properties = casProperties.getAuthn().getAdaptive().getRisk().getCore().getProfile();
+        this.refreshInterval = Beans.newDuration(properties.getRefreshInterval());
+        this.profiles = Caffeine.newBuilder()
+            .maximumSize(properties.getMaximumSize())
+            .build();
+    }
+
+    private static LocalDate getCreationDate(final CasEvent event) {
+        return DateTimeUtils.convertToZonedDateTime(event.getCreationTime())
+            .withZoneSameInstant(ZoneOffset.UTC)
+            .toLocalDate();
+    }
+
+    @Override
+    public AuthenticationRiskProfile load(final String principal) {
+        val cutOffDate = getRecentHistoryCutOffDate();
+        var dailyProfiles = profiles.getIfPresent(principal);
+        if (dailyProfiles == null || dailyProfiles.isExpired(refreshInterval)) {
+            LOGGER.debug("Loading authentication risk profile for [{}] since [{}]", principal, cutOffDate);
+            try (val events = getCasTicketGrantingTicketCreatedEventsFor(principal, cutOffDate)) {
+                dailyProfiles = DailyAuthenticationRiskProfiles.from(events);
+            }
+            profiles.put(principal, dailyProfiles);
+        }
+        return dailyProfiles.summarize(cutOffDate.toLocalDate());
+    }
+
+    @Override
+    public void record(final CasEvent event) {
+        if (CasTicketGrantingTicketCreatedEvent.class.getName().equals(event.getType())
+            && StringUtils.isNotBlank(event.getPrincipalId()) && StringUtils.isNotBlank(event.getCreationTime())) {
+            profiles.asMap().computeIfPresent(event.getPrincipalId(),
+                (principal, dailyProfiles) -> dailyProfiles.record(getCreationDate(event), event));
+        }
+    }
+
+    /**
+     * Remove all profiles.
+     */
+    public void clear() {
+        profiles.invalidateAll();
+    }
+
+    private record DailyAuthenticationRiskProfiles(Instant loadedAt, NavigableMap<LocalDate, AuthenticationRiskProfile> profiles) {
+        static DailyAuthenticationRiskProfiles from(final Stream<? extends CasEvent> events) {
+            val profiles = events
+                .filter(event -> StringUtils.isNotBlank(event.getCreationTime()))
+                .collect(Collectors.groupingBy(CachingAuthenticationRiskProfileRepository::getCreationDate, TreeMap::new,
+                    Collectors.collectingAndThen(Collectors.toList(), list -> AuthenticationRiskProfile.from(list.stream()))));
+            return new DailyAuthenticationRiskProfiles(Instant.now(Clock.systemUTC()), profiles);
+        }
+
+        DailyAuthenticationRiskProfiles record(final LocalDate creationDate, final CasEvent event) {
+            val results = new TreeMap<>(profiles);
+            results.merge(creationDate, AuthenticationRiskProfile.from(Stream.of(event)), AuthenticationRiskProfile::merge);
+            return new DailyAuthenticationRiskProfiles(loadedAt, results);
+        }
+
+        AuthenticationRiskProfile summarize(final LocalDate cutOffDate) {
+            return profiles.tailMap(cutOffDate, true)
+                .values()
+                .stream()
+                .reduce(AuthenticationRiskProfile.empty(), AuthenticationRiskProfile::merge);
+        }
+
+        boolean isExpired(final Duration refreshInterval) {
+            return refreshInterval.isPositive() && loadedAt.plus(refreshInterval).isBefore(Instant.now(Clock.systemUTC()));
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package org.apereo.cas.impl.profile;
+
+import org.apereo.cas.api.AuthenticationRiskProfile;
+import org.apereo.cas.api.AuthenticationRiskProfileRepository;
+import org.apereo.cas.configuration.CasConfigurationProperties;
+import org.apereo.cas.support.events.CasEventRepository;
+import org.apereo.cas.support.events.dao.CasEvent;
+import org.apereo.cas.support.events.ticket.CasTicketGrantingTicketCreatedEvent;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.stream.Stream;
+
+/**
+ * This is {@link DefaultAuthenticationRiskProfileRepository}. It summarizes the
+ * authentication history of a principal from the events repository every time
+ * a profile is requested.
+ *
+ * @author Misagh Moayyed
+ * @since 7.2.0
+ */
+@Slf4j
+@Getter
+@RequiredArgsConstructor
+public class DefaultAuthenticationRiskProfileRepository implements AuthenticationRiskProfileRepository {
+    protected final CasEventRepository casEventRepository;
+
+    protected final CasConfigurationProperties casProperties;
+
+    @Override
+    public AuthenticationRiskProfile load(final String principal) {
+        try (val events = getCasTicketGrantingTicketCreatedEventsFor(principal, getRecentHistoryCutOffDate())) {
+            return AuthenticationRiskProfile.from(events);
+        }
+    }
+
+    protected ZonedDateTime getRecentHistoryCutOffDate() {
+        return ZonedDateTime.now(ZoneOffset.UTC)
+            .minusDays(casProperties.getAuthn().getAdaptive().getRisk().getCore().getDaysInRecentHistory());
+    }
+
+    protected Stream<? extends CasEvent> getCasTicketGrantingTicketCreatedEventsFor(final String principal,
+                                                                                   final ZonedDateTime dateTime) {
+        val type = CasTicketGrantingTicketCreatedEvent.class.getName();
+        LOGGER.debug("Retrieving events of type [{}] for [{}] since [{}]", type, principal, dateTime);
+        return casEventRepository.getEventsOfTypeForPrincipal(type, principal, dateTime);
+    }
+}
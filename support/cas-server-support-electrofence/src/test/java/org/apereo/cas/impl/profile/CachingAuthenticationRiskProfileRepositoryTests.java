@@ -0,0 +1,73 @@
+package org.apereo.cas.impl.profile;
+
+import org.apereo.cas.api.AuthenticationRiskProfileRepository;
+import org.apereo.cas.authentication.CoreAuthenticationTestUtils;
+import org.apereo.cas.impl.calcs.BaseAuthenticationRequestRiskCalculatorTests;
+import org.apereo.cas.impl.mock.MockTicketGrantingTicketCreatedEventProducer;
+import org.apereo.cas.services.RegisteredServiceTestUtils;
+import lombok.val;
+import org.apereo.inspektr.common.web.ClientInfo;
+import org.apereo.inspektr.common.web.ClientInfoHolder;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.test.context.TestPropertySource;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * This is {@link CachingAuthenticationRiskProfileRepositoryTests}.
+ *
+ * @author Misagh Moayyed
+ * @since 7.2.0
+ */
+@TestPropertySource(properties = {
+    "cas.authn.adaptive.risk.ip.enabled=true",
+    "cas.authn.adaptive.risk.agent.enabled=true",
+    "cas.authn.adaptive.risk.date-time.enabled=true",
+    "cas.authn.adaptive.risk.core.profile.enabled=true"
+})
+@Tag("Authentication")
+class CachingAuthenticationRiskProfileRepositoryTests extends BaseAuthenticationRequestRiskCalculatorTests {
+    @Autowired
+    @Qualifier(AuthenticationRiskProfileRepository.BEAN_NAME)
+    private AuthenticationRiskProfileRepository authenticationRiskProfileRepository;
+
+    @Test
+    void verifyProfileMatchesHistory() {
+        val cachedProfile = new CachingAuthenticationRiskProfileRepository(casEventRepository, casProperties).load("casuser");
+        val profile = new DefaultAuthenticationRiskProfileRepository(casEventRepository, casProperties).load("casuser");
+        assertFalse(profile.isEmpty());
+        assertEquals(profile, cachedProfile);
+        assertTrue(new DefaultAuthenticationRiskProfileRepository(casEventRepository, casProperties).load("unknown").isEmpty());
+    }
+
+    @Test
+    void verifyProfileUpdatedWithRecordedEvents() throws Throwable {
+        val profile = authenticationRiskProfileRepository.load("casuser");
+        assertFalse(profile.isEmpty());
+
+        val event = MockTicketGrantingTicketCreatedEventProducer.createEvent("casuser", casEventRepository);
+        val updatedProfile = authenticationRiskProfileRepository.load("casuser");
+        assertEquals(profile.getTotalCount() + 1, updatedProfile.getTotalCount());
+        assertEquals(profile.countClientIpAddress(event.getClientIpAddress()) + 1,
+            updatedProfile.countClientIpAddress(event.getClientIpAddress()));
+        assertEquals(profile.countUserAgent(event.getAgent()) + 1, updatedProfile.countUserAgent(event.getAgent()));
+    }
+
+    @Test
+    void verifyEvaluationWithProfile() throws Throwable {
+        val authentication = CoreAuthenticationTestUtils.getAuthentication("casuser");
+        val service = RegisteredServiceTestUtils.getRegisteredService("test");
+        val request = new MockHttpServletRequest();
+        request.setRemoteAddr("107.181.69.221");
+        request.setLocalAddr("127.0.0.1");
+        request.addHeader("User-Agent", "Firefox");
+        ClientInfoHolder.setClientInfo(ClientInfo.from(request));
+        val score = authenticationRiskEvaluator.evaluate(authentication, service, ClientInfo.from(request));
+        assertFalse(score.isLowestRisk());
+        assertTrue(authenticationRiskEvaluator.evaluate(CoreAuthenticationTestUtils.getAuthentication("nobody"),
+            service, ClientInfo.from(request)).isHighestRisk());
+    }
+}
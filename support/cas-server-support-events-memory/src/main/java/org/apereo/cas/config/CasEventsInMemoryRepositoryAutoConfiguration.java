@@ -2,14 +2,13 @@ package org.apereo.cas.config;
 
 import org.apereo.cas.configuration.CasConfigurationProperties;
 import org.apereo.cas.configuration.features.CasFeatureModule;
+import org.apereo.cas.configuration.support.Beans;
 import org.apereo.cas.support.events.CasEventRepository;
 import org.apereo.cas.support.events.CasEventRepositoryFilter;
-import org.apereo.cas.support.events.dao.CasEvent;
 import org.apereo.cas.support.events.dao.InMemoryCasEventRepository;
 import org.apereo.cas.util.spring.boot.ConditionalOnFeatureEnabled;
-import com.github.benmanes.caffeine.cache.Caffeine;
-import com.github.benmanes.caffeine.cache.LoadingCache;
 import lombok.extern.slf4j.Slf4j;
+import lombok.val;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
@@ -17,7 +16,6 @@ import org.springframework.boot.context.properties.EnableConfigurationProperties
 import org.springframework.cloud.context.config.annotation.RefreshScope;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.ScopedProxyMode;
-import java.time.Duration;
 
 /**
  * This is {@link CasEventsInMemoryRepositoryAutoConfiguration}.
@@ -31,28 +29,17 @@ import java.time.Duration;
 @AutoConfiguration
 public class CasEventsInMemoryRepositoryAutoConfiguration {
 
-    private static final int INITIAL_CACHE_SIZE = 50;
-
-    private static final long MAX_CACHE_SIZE = 1_000_000;
-
-    private static final long EXPIRATION_TIME = 2;
-
     @Bean
     @RefreshScope(proxyMode = ScopedProxyMode.DEFAULT)
     public CasEventRepository casEventRepository(
+        final CasConfigurationProperties casProperties,
         @Qualifier("casEventRepositoryFilter")
         final CasEventRepositoryFilter casEventRepositoryFilter) {
-        final LoadingCache<String, CasEvent> storage = Caffeine.newBuilder()
-            .initialCapacity(INITIAL_CACHE_SIZE)
-            .maximumSize(MAX_CACHE_SIZE)
-            .recordStats()
-            .expireAfterWrite(Duration.ofHours(EXPIRATION_TIME))
-            .build(s -> {
-                LOGGER.error("Load operation of the cache is not supported.");
-                return null;
-            });
-        LOGGER.debug("Created an in-memory event repository to store CAS events for [{}] hours", EXPIRATION_TIME);
-        return new InMemoryCasEventRepository(casEventRepositoryFilter, storage);
+        val memory = casProperties.getEvents().getMemory();
+        val retentionPeriod = Beans.newDuration(memory.getRetentionPeriod());
+        LOGGER.debug("Created an in-memory event repository to store CAS events for [{}]", retentionPeriod);
+        return new InMemoryCasEventRepository(casEventRepositoryFilter, retentionPeriod,
+            Beans.newDuration(memory.getBucketDuration()), memory.getMaximumSize());
     }
 
     @ConditionalOnMissingBean(name = "casEventRepositoryFilter")
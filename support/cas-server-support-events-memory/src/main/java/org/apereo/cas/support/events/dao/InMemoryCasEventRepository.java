@@ -1,51 +1,196 @@
 package org.apereo.cas.support.events.dao;
 
 import org.apereo.cas.support.events.CasEventRepositoryFilter;
+import org.apereo.cas.util.DateTimeUtils;
 
-import com.github.benmanes.caffeine.cache.LoadingCache;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import org.apache.commons.lang3.StringUtils;
 
-import java.util.UUID;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZonedDateTime;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
 import java.util.stream.Stream;
 
 /**
- * This is {@link InMemoryCasEventRepository}.
+ * This is {@link InMemoryCasEventRepository}. Events are grouped into buckets
+ * that each cover a fixed span of time. Each bucket keeps its events ordered by creation time,
+ * and indexes them by type, by principal and by type and principal, so that queries
+ * only examine buckets and events that fall within the requested period.
+ * Expired events are removed one bucket at a time once the retention period has passed.
+ * Principals are matched regardless of case.
  *
  * @author Misagh Moayyed
  * @since 5.1.0
  */
+@Slf4j
 public class InMemoryCasEventRepository extends AbstractCasEventRepository {
-    private final LoadingCache<String, CasEvent> cache;
+    private final NavigableMap<Long, EventBucket> buckets = new ConcurrentSkipListMap<>();
+
+    private final AtomicLong sequence = new AtomicLong();
+
+    private final AtomicLong size = new AtomicLong();
+
+    private final long retentionPeriod;
+
+    private final long bucketDuration;
+
+    private final long maximumSize;
 
     public InMemoryCasEventRepository(final CasEventRepositoryFilter eventRepositoryFilter,
-                                      final LoadingCache<String, CasEvent> cache) {
+                                      final Duration retentionPeriod,
+                                      final Duration bucketDuration,
+                                      final long maximumSize) {
         super(eventRepositoryFilter);
-        this.cache = cache;
+        this.retentionPeriod = retentionPeriod.toMillis();
+        this.bucketDuration = Math.max(1, bucketDuration.toMillis());
+        this.maximumSize = maximumSize;
+    }
+
+    private static long getEventTime(final CasEvent event) {
+        if (StringUtils.isNotBlank(event.getCreationTime())) {
+            return DateTimeUtils.convertToZonedDateTime(event.getCreationTime()).toInstant().toEpochMilli();
+        }
+        if (event.getProperties().containsKey(CasEvent.FIELD_TIMESTAMP)) {
+            return event.getTimestamp();
+        }
+        return Instant.now(Clock.systemUTC()).toEpochMilli();
+    }
+
+    private static String normalize(final String principal) {
+        return StringUtils.defaultString(principal).toLowerCase(Locale.ENGLISH);
     }
 
     @Override
     public Stream<? extends CasEvent> load() {
-        return cache.asMap().values().stream();
+        return query(Long.MIN_VALUE, bucket -> bucket.events);
+    }
+
+    @Override
+    public Stream<? extends CasEvent> load(final ZonedDateTime dateTime) {
+        return query(dateTime.toInstant().toEpochMilli(), bucket -> bucket.events);
+    }
+
+    @Override
+    public Stream<? extends CasEvent> getEventsOfTypeForPrincipal(final String type, final String principal) {
+        return getEventsOfTypeForPrincipal(type, principal, Long.MIN_VALUE);
+    }
+
+    @Override
+    public Stream<? extends CasEvent> getEventsOfTypeForPrincipal(final String type, final String principal,
+                                                                  final ZonedDateTime dateTime) {
+        return getEventsOfTypeForPrincipal(type, principal, dateTime.toInstant().toEpochMilli());
+    }
+
+    @Override
+    public Stream<? extends CasEvent> getEventsOfType(final String type) {
+        return query(Long.MIN_VALUE, bucket -> bucket.eventsByType.get(type));
+    }
+
+    @Override
+    public Stream<? extends CasEvent> getEventsOfType(final String type, final ZonedDateTime dateTime) {
+        return query(dateTime.toInstant().toEpochMilli(), bucket -> bucket.eventsByType.get(type));
     }
 
     @Override
     public Stream<? extends CasEvent> getEventsForPrincipal(final String id) {
-        return cache
-            .asMap()
-            .values()
-            .stream()
-            .filter(e -> e.getPrincipalId().equalsIgnoreCase(id));
+        return query(Long.MIN_VALUE, bucket -> bucket.eventsByPrincipal.get(normalize(id)));
+    }
+
+    @Override
+    public Stream<? extends CasEvent> getEventsForPrincipal(final String id, final ZonedDateTime dateTime) {
+        return query(dateTime.toInstant().toEpochMilli(), bucket -> bucket.eventsByPrincipal.get(normalize(id)));
     }
 
     @Override
     public CasEvent saveInternal(final CasEvent event) {
         event.assignIdIfNecessary();
-        cache.put(UUID.randomUUID().toString(), event);
+        val eventTime = getEventTime(event);
+        val key = new EventKey(eventTime, sequence.incrementAndGet());
+        val bucketStart = Math.floorDiv(eventTime, bucketDuration) * bucketDuration;
+        buckets.computeIfAbsent(bucketStart, __ -> new EventBucket()).add(key, event);
+        size.incrementAndGet();
+        removeExpiredBuckets();
         return event;
     }
 
     @Override
     public void removeAll() {
-        cache.invalidateAll();
-        cache.cleanUp();
+        buckets.clear();
+        size.set(0);
+    }
+
+    private Stream<? extends CasEvent> getEventsOfTypeForPrincipal(final String type, final String principal, final long since) {
+        val key = new TypeAndPrincipal(type, normalize(principal));
+        return query(since, bucket -> bucket.eventsByTypeAndPrincipal.get(key));
+    }
+
+    private Stream<CasEvent> query(final long since, final Function<EventBucket, NavigableMap<EventKey, CasEvent>> index) {
+        removeExpiredBuckets();
+        val firstBucket = buckets.floorKey(since);
+        val candidates = firstBucket == null ? buckets : buckets.tailMap(firstBucket, true);
+        val fromKey = new EventKey(since, Long.MIN_VALUE);
+        return candidates.values()
+            .stream()
+            .map(index)
+            .filter(events -> events != null && !events.isEmpty())
+            .flatMap(events -> events.tailMap(fromKey, true).values().stream());
+    }
+
+    private void removeExpiredBuckets() {
+        val cutOff = Instant.now(Clock.systemUTC()).toEpochMilli() - retentionPeriod;
+        val expiredBefore = Math.floorDiv(cutOff, bucketDuration) * bucketDuration;
+        var oldest = buckets.firstEntry();
+        while (oldest != null && (oldest.getKey() < expiredBefore || size.get() > maximumSize)) {
+            if (buckets.remove(oldest.getKey(), oldest.getValue())) {
+                val removed = oldest.getValue().count.sum();
+                size.addAndGet(-removed);
+                LOGGER.trace("Removed [{}] event(s) in bucket starting at [{}]", removed, Instant.ofEpochMilli(oldest.getKey()));
+            }
+            oldest = buckets.firstEntry();
+        }
+    }
+
+    private record EventKey(long time, long sequence) implements Comparable<EventKey> {
+        @Override
+        public int compareTo(final EventKey other) {
+            val result = Long.compare(time, other.time);
+            return result == 0 ? Long.compare(sequence, other.sequence) : result;
+        }
+    }
+
+    private record TypeAndPrincipal(String type, String principal) {
+    }
+
+    private static final class EventBucket {
+        private final NavigableMap<EventKey, CasEvent> events = new ConcurrentSkipListMap<>();
+
+        private final Map<String, NavigableMap<EventKey, CasEvent>> eventsByType = new ConcurrentHashMap<>();
+
+        private final Map<String, NavigableMap<EventKey, CasEvent>> eventsByPrincipal = new ConcurrentHashMap<>();
+
+        private final Map<TypeAndPrincipal, NavigableMap<EventKey, CasEvent>> eventsByTypeAndPrincipal = new ConcurrentHashMap<>();
+
+        private final LongAdder count = new LongAdder();
+
+        void add(final EventKey key, final CasEvent event) {
+            val principal = normalize(event.getPrincipalId());
+            val type = StringUtils.defaultString(event.getType());
+            events.put(key, event);
+            eventsByType.computeIfAbsent(type, __ -> new ConcurrentSkipListMap<>()).put(key, event);
+            eventsByPrincipal.computeIfAbsent(principal, __ -> new ConcurrentSkipListMap<>()).put(key, event);
+            eventsByTypeAndPrincipal.computeIfAbsent(new TypeAndPrincipal(type, principal),
+                __ -> new ConcurrentSkipListMap<>()).put(key, event);
+            count.increment();
+        }
     }
 }
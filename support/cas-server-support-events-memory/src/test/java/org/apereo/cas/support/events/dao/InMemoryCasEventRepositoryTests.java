@@ -4,10 +4,13 @@ import org.apereo.cas.config.CasCoreScriptingAutoConfiguration;
 import org.apereo.cas.config.CasEventsInMemoryRepositoryAutoConfiguration;
 import org.apereo.cas.support.events.AbstractCasEventRepositoryTests;
 import org.apereo.cas.support.events.CasEventRepository;
+import org.apereo.cas.support.events.CasEventRepositoryFilter;
 import org.apereo.cas.test.CasTestExtension;
 import org.apereo.cas.util.spring.boot.SpringBootTestAutoConfigurations;
 import lombok.Getter;
+import lombok.val;
 import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.api.parallel.ResourceAccessMode;
 import org.junit.jupiter.api.parallel.ResourceLock;
@@ -15,6 +18,13 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.test.context.SpringBootTest;
 
+import java.time.Duration;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+
+import static org.junit.jupiter.api.Assertions.*;
+
 /**
  * This is {@link InMemoryCasEventRepositoryTests}.
  *
@@ -34,4 +44,61 @@ class InMemoryCasEventRepositoryTests extends AbstractCasEventRepositoryTests {
     @Autowired
     @Qualifier(CasEventRepository.BEAN_NAME)
     private CasEventRepository eventRepository;
+
+    private static CasEvent newCasEvent(final String type, final String principal, final ZonedDateTime creationTime) {
+        val event = new CasEvent();
+        event.setType(type);
+        event.setPrincipalId(principal);
+        event.setCreationTime(creationTime.format(DateTimeFormatter.ISO_ZONED_DATE_TIME));
+        event.putTimestamp(creationTime.toInstant().toEpochMilli());
+        return event;
+    }
+
+    @Test
+    void verifyRangeQueries() throws Throwable {
+        val repository = new InMemoryCasEventRepository(CasEventRepositoryFilter.noOp(),
+            Duration.ofDays(30), Duration.ofHours(1), 1000);
+        val now = ZonedDateTime.now(ZoneOffset.UTC);
+        repository.save(newCasEvent("login", "casuser", now.minusDays(3)));
+        repository.save(newCasEvent("login", "CASUser", now.minusHours(2)));
+        repository.save(newCasEvent("logout", "casuser", now.minusMinutes(5)));
+        repository.save(newCasEvent("login", "other", now.minusMinutes(1)));
+
+        val since = now.minusDays(1);
+        assertEquals(4, repository.load().count());
+        assertEquals(3, repository.load(since).count());
+        assertEquals(3, repository.getEventsForPrincipal("casuser").count());
+        assertEquals(2, repository.getEventsForPrincipal("casuser", since).count());
+        assertEquals(3, repository.getEventsOfType("login").count());
+        assertEquals(2, repository.getEventsOfType("login", since).count());
+        assertEquals(2, repository.getEventsOfTypeForPrincipal("login", "casuser").count());
+        assertEquals(1, repository.getEventsOfTypeForPrincipal("login", "casuser", since).count());
+        assertEquals(0, repository.getEventsOfTypeForPrincipal("login", "unknown", since).count());
+
+        val creationTimes = repository.load().map(CasEvent::getCreationTime).map(ZonedDateTime::parse).toList();
+        assertEquals(creationTimes.stream().sorted().toList(), creationTimes);
+    }
+
+    @Test
+    void verifyExpiredBucketsRemoved() throws Throwable {
+        val repository = new InMemoryCasEventRepository(CasEventRepositoryFilter.noOp(),
+            Duration.ofHours(2), Duration.ofMinutes(5), 1000);
+        val now = ZonedDateTime.now(ZoneOffset.UTC);
+        repository.save(newCasEvent("login", "casuser", now.minusHours(3)));
+        repository.save(newCasEvent("login", "casuser", now.minusMinutes(1)));
+        assertEquals(1, repository.load().count());
+        assertEquals(1, repository.getEventsForPrincipal("casuser").count());
+    }
+
+    @Test
+    void verifyOldestBucketRemovedWhenFull() throws Throwable {
+        val repository = new InMemoryCasEventRepository(CasEventRepositoryFilter.noOp(),
+            Duration.ofHours(2), Duration.ofMinutes(5), 2);
+        val now = ZonedDateTime.now(ZoneOffset.UTC);
+        repository.save(newCasEvent("login", "first", now.minusMinutes(30)));
+        repository.save(newCasEvent("login", "second", now.minusMinutes(15)));
+        repository.save(newCasEvent("login", "third", now.minusMinutes(1)));
+        assertEquals(2, repository.load().count());
+        assertEquals(0, repository.getEventsForPrincipal("first").count());
+    }
 }
@@ -4,18 +4,42 @@ import org.apereo.cas.redis.core.CasRedisTemplate;
 import org.apereo.cas.support.events.CasEventRepositoryFilter;
 import org.apereo.cas.support.events.dao.AbstractCasEventRepository;
 import org.apereo.cas.support.events.dao.CasEvent;
+import org.apereo.cas.util.DateTimeUtils;
 
 import lombok.Getter;
 import lombok.ToString;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.data.redis.connection.DataType;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.SessionCallback;
 
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
 import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.Locale;
 import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongFunction;
 import java.util.stream.Stream;
 
 /**
  * This is {@link RedisCasEventRepository} that stores event data into a redis database.
+ * Events are grouped into buckets that each cover a fixed span of time. Each bucket
+ * keeps its events in a hash, and indexes them using sorted sets scored by the event timestamp
+ * for all events, by type, by principal and by type and principal. Queries only examine
+ * the buckets that overlap with the requested period, and use range queries on the sorted sets
+ * to find matching events without scanning the keyspace. Buckets expire as a whole
+ * once the retention period, if any, has passed. Principals are indexed case-insensitively.
+ * <p>
+ * Events stored with the previous layout, one key per event, are moved into
+ * buckets when the repository is initialized. Once complete, a marker key is recorded
+ * so that subsequent initializations skip the migration altogether.
  *
  * @author Misagh Moayyed
  * @since 6.4.0
@@ -23,141 +47,227 @@ import java.util.stream.Stream;
 @ToString
 @Getter
 @Slf4j
-public class RedisCasEventRepository extends AbstractCasEventRepository {
+public class RedisCasEventRepository extends AbstractCasEventRepository implements InitializingBean {
     private static final String KEY_SEPARATOR = ":";
 
     private static final String CAS_PREFIX = RedisCasEventRepository.class.getSimpleName();
 
-    private final CasRedisTemplate<String, CasEvent> template;
+    private static final String BUCKETS_KEY = CAS_PREFIX + KEY_SEPARATOR + "buckets";
+
+    private static final String MIGRATION_KEY = CAS_PREFIX + KEY_SEPARATOR + "migrated";
+
+    /**
+     * Legacy keys are shaped as {@code prefix:type:principal:timestamp}, whereas bucket keys
+     * always begin with the numeric bucket after the prefix and are excluded by the pattern.
+     */
+    private static final String LEGACY_KEYS_PATTERN = CAS_PREFIX + KEY_SEPARATOR + "[^0-9]*";
+
+    private final CasRedisTemplate<String, Object> template;
 
     private final long scanCount;
 
+    private final Duration retentionPeriod;
+
+    private final long bucketDuration;
+
+    /**
+     * Instantiates a new repository.
+     *
+     * @param eventRepositoryFilter the event repository filter
+     * @param redisTemplate         the redis template
+     * @param scanCount             the scan count
+     * @param retentionPeriod       the retention period; zero keeps events indefinitely
+     * @param bucketDuration        the time span covered by each bucket
+     */
     public RedisCasEventRepository(final CasEventRepositoryFilter eventRepositoryFilter,
-                                   final CasRedisTemplate<String, CasEvent> redisTemplate,
-                                   final long scanCount) {
+                                   final CasRedisTemplate<String, Object> redisTemplate,
+                                   final long scanCount,
+                                   final Duration retentionPeriod,
+                                   final Duration bucketDuration) {
         super(eventRepositoryFilter);
         this.template = redisTemplate;
         this.scanCount = scanCount;
+        this.retentionPeriod = retentionPeriod;
+        this.bucketDuration = Math.max(1, bucketDuration.toMillis());
+    }
+
+    private static String getBucketKey(final long bucket, final String... suffixes) {
+        return CAS_PREFIX + KEY_SEPARATOR + bucket + KEY_SEPARATOR + String.join(KEY_SEPARATOR, suffixes);
+    }
+
+    private static String getEventsKey(final long bucket) {
+        return getBucketKey(bucket, "events");
+    }
+
+    private static String getAllEventsKey(final long bucket) {
+        return getBucketKey(bucket, "all");
+    }
+
+    private static String getTypeKey(final long bucket, final String type) {
+        return getBucketKey(bucket, "type", type);
+    }
+
+    private static String getPrincipalKey(final long bucket, final String principal) {
+        return getBucketKey(bucket, "principal", normalize(principal));
+    }
+
+    private static String getTypeAndPrincipalKey(final long bucket, final String type, final String principal) {
+        return getBucketKey(bucket, "type", type, "principal", normalize(principal));
+    }
+
+    private static String normalize(final String principal) {
+        return StringUtils.defaultString(principal).toLowerCase(Locale.ENGLISH);
     }
 
-    private static String getKey(final String type, final String principal, final String timestamp) {
-        return CAS_PREFIX + KEY_SEPARATOR + type + KEY_SEPARATOR + principal + KEY_SEPARATOR + timestamp;
+    private static long getEventTime(final CasEvent event) {
+        if (event.getProperties().containsKey(CasEvent.FIELD_TIMESTAMP)) {
+            return event.getTimestamp();
+        }
+        if (StringUtils.isNotBlank(event.getCreationTime())) {
+            return DateTimeUtils.convertToZonedDateTime(event.getCreationTime()).toInstant().toEpochMilli();
+        }
+        return Instant.now(Clock.systemUTC()).toEpochMilli();
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        if (Boolean.TRUE.equals(template.hasKey(MIGRATION_KEY))) {
+            LOGGER.trace("Events stored with the previous key layout are already migrated");
+            return;
+        }
+        migrateLegacyEvents();
+        template.opsForValue().set(MIGRATION_KEY, Instant.now(Clock.systemUTC()).toString());
+    }
+
+    /**
+     * Move events stored with the previous layout, one key per event, into buckets.
+     * Each legacy key is read and deleted in a single atomic operation, so that nodes
+     * that start at the same time never migrate the same event twice. Only keys that match
+     * the legacy key shape are examined.
+     *
+     * @return the number of migrated events
+     */
+    public long migrateLegacyEvents() {
+        try (val keys = template.scan(LEGACY_KEYS_PATTERN, this.scanCount)) {
+            val migrated = new AtomicLong();
+            keys
+                .filter(key -> !BUCKETS_KEY.equals(key) && !MIGRATION_KEY.equals(key))
+                .filter(key -> template.type(key) == DataType.STRING)
+                .map(key -> template.opsForValue().getAndDelete(key))
+                .filter(CasEvent.class::isInstance)
+                .map(CasEvent.class::cast)
+                .forEach(event -> {
+                    saveInternal(event);
+                    migrated.incrementAndGet();
+                });
+            if (migrated.get() > 0) {
+                LOGGER.info("Migrated [{}] event(s) stored with the previous key layout into time buckets", migrated.get());
+            }
+            return migrated.get();
+        }
     }
 
     @Override
     public void removeAll() {
-        try (val keys = getKeys("*", "*", "*")) {
+        try (val keys = template.scan(CAS_PREFIX + KEY_SEPARATOR + '*', this.scanCount)) {
             keys.forEach(template::delete);
         }
     }
 
     @Override
     public Stream<? extends CasEvent> load() {
-        try (val keys = getKeys("*", "*", "*")) {
-            return keys
-                .map(key -> this.template.boundValueOps(key).get())
-                .filter(Objects::nonNull)
-                .toList()
-                .stream();
-        }
+        return query(Long.MIN_VALUE, RedisCasEventRepository::getAllEventsKey);
     }
 
     @Override
     public Stream<? extends CasEvent> load(final ZonedDateTime dateTime) {
-        try (val keys = getKeys("*", "*", "*")) {
-            return keys
-                .map(key -> this.template.boundValueOps(key).get())
-                .filter(Objects::nonNull)
-                .filter(event -> event.getTimestamp() >= dateTime.toInstant().toEpochMilli())
-                .toList()
-                .stream();
-        }
+        return query(dateTime.toInstant().toEpochMilli(), RedisCasEventRepository::getAllEventsKey);
     }
 
     @Override
     public Stream<? extends CasEvent> getEventsOfTypeForPrincipal(final String type, final String principal) {
-        try (val keys = getKeys(type, principal, "*")) {
-            return keys
-                .map(key -> this.template.boundValueOps(key).get())
-                .filter(Objects::nonNull)
-                .toList()
-                .stream();
-        }
+        return query(Long.MIN_VALUE, bucket -> getTypeAndPrincipalKey(bucket, type, principal));
     }
 
     @Override
     public Stream<? extends CasEvent> getEventsOfTypeForPrincipal(final String type,
                                                                   final String principal,
                                                                   final ZonedDateTime dateTime) {
-        try (val keys = getKeys(type, principal, "*")) {
-            return keys
-                .map(key -> this.template.boundValueOps(key).get())
-                .filter(Objects::nonNull)
-                .filter(event -> event.getTimestamp() >= dateTime.toInstant().toEpochMilli())
-                .toList()
-                .stream();
-        }
+        return query(dateTime.toInstant().toEpochMilli(), bucket -> getTypeAndPrincipalKey(bucket, type, principal));
     }
 
     @Override
     public Stream<? extends CasEvent> getEventsOfType(final String type) {
-        try (val keys = getKeys(type, "*", "*")) {
-            return keys
-                .map(key -> this.template.boundValueOps(key).get())
-                .filter(Objects::nonNull)
-                .toList()
-                .stream();
-        }
+        return query(Long.MIN_VALUE, bucket -> getTypeKey(bucket, type));
     }
 
     @Override
     public Stream<? extends CasEvent> getEventsOfType(final String type, final ZonedDateTime dateTime) {
-        try (val keys = getKeys(type, "*", "*")) {
-            return keys
-                .map(key -> this.template.boundValueOps(key).get())
-                .filter(Objects::nonNull)
-                .filter(event -> event.getTimestamp() >= dateTime.toInstant().toEpochMilli())
-                .toList()
-                .stream();
-        }
+        return query(dateTime.toInstant().toEpochMilli(), bucket -> getTypeKey(bucket, type));
     }
 
     @Override
     public Stream<? extends CasEvent> getEventsForPrincipal(final String id) {
-        try (val keys = getKeys("*", id, "*")) {
-            return keys
-                .map(key -> this.template.boundValueOps(key).get())
-                .filter(Objects::nonNull)
-                .toList()
-                .stream();
-        }
+        return query(Long.MIN_VALUE, bucket -> getPrincipalKey(bucket, id));
     }
 
     @Override
     public Stream<? extends CasEvent> getEventsForPrincipal(final String principal, final ZonedDateTime dateTime) {
-        try (val keys = getKeys("*", principal, "*")) {
-            return keys
-                .map(key -> this.template.boundValueOps(key).get())
-                .filter(Objects::nonNull)
-                .filter(event -> event.getTimestamp() >= dateTime.toInstant().toEpochMilli())
-                .toList()
-                .stream();
-        }
+        return query(dateTime.toInstant().toEpochMilli(), bucket -> getPrincipalKey(bucket, principal));
     }
 
     @Override
     public CasEvent saveInternal(final CasEvent event) {
         event.assignIdIfNecessary();
-        val key = getKey(event.getType(), event.getPrincipalId(), String.valueOf(event.getTimestamp()));
-        LOGGER.trace("Saving event record based on key [{}]", key);
-        val ops = this.template.boundValueOps(key);
-        ops.set(event);
+        val score = getEventTime(event);
+        val bucket = Math.floorDiv(score, bucketDuration) * bucketDuration;
+        val member = UUID.randomUUID().toString();
+        val eventsKey = getEventsKey(bucket);
+        val indexKeys = List.of(getAllEventsKey(bucket), getTypeKey(bucket, event.getType()),
+            getPrincipalKey(bucket, event.getPrincipalId()), getTypeAndPrincipalKey(bucket, event.getType(), event.getPrincipalId()));
+        LOGGER.trace("Saving event record [{}] in bucket [{}]", member, bucket);
+
+        template.executePipelined(new SessionCallback<>() {
+            @Override
+            public <K, V> Object execute(final RedisOperations<K, V> operations) {
+                val ops = (RedisOperations<String, Object>) operations;
+                ops.opsForHash().put(eventsKey, member, event);
+                indexKeys.forEach(key -> ops.opsForZSet().add(key, member, score));
+                ops.opsForZSet().add(BUCKETS_KEY, String.valueOf(bucket), bucket);
+                if (retentionPeriod.isPositive()) {
+                    val expiration = Instant.ofEpochMilli(bucket + bucketDuration).plus(retentionPeriod);
+                    ops.expireAt(eventsKey, expiration);
+                    indexKeys.forEach(key -> ops.expireAt(key, expiration));
+                    val cutOff = Instant.now(Clock.systemUTC()).minus(retentionPeriod).toEpochMilli();
+                    val expiredBefore = Math.floorDiv(cutOff, bucketDuration) * bucketDuration;
+                    ops.opsForZSet().removeRangeByScore(BUCKETS_KEY, Double.NEGATIVE_INFINITY, expiredBefore - 1);
+                }
+                return null;
+            }
+        });
         return event;
     }
 
-    private Stream<String> getKeys(final String type, final String principal, final String timestamp) {
-        val key = getKey(type, principal, timestamp);
-        LOGGER.trace("Fetching records based on key [{}]", key);
-        return template.scan(key, this.scanCount);
+    private Stream<CasEvent> query(final long since, final LongFunction<String> indexKeyFunction) {
+        val buckets = template.opsForZSet().rangeByScore(BUCKETS_KEY, (double) since - bucketDuration, Double.POSITIVE_INFINITY);
+        if (buckets == null || buckets.isEmpty()) {
+            return Stream.empty();
+        }
+        return buckets
+            .stream()
+            .mapToLong(bucket -> Long.parseLong(bucket.toString()))
+            .mapToObj(bucket -> {
+                val indexKey = indexKeyFunction.apply(bucket);
+                LOGGER.trace("Fetching records based on key [{}]", indexKey);
+                val members = template.opsForZSet().rangeByScore(indexKey, since, Double.POSITIVE_INFINITY);
+                if (members == null || members.isEmpty()) {
+                    return List.<CasEvent>of();
+                }
+                return template.<Object, CasEvent>opsForHash().multiGet(getEventsKey(bucket), members);
+            })
+            .flatMap(List::stream)
+            .filter(Objects::nonNull)
+            .toList()
+            .stream();
     }
 }
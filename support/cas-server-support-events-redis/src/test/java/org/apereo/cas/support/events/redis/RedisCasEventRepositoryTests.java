@@ -3,19 +3,29 @@ package org.apereo.cas.support.events.redis;
 import org.apereo.cas.config.CasCoreWebAutoConfiguration;
 import org.apereo.cas.config.CasRedisEventsAutoConfiguration;
 import org.apereo.cas.configuration.CasConfigurationProperties;
+import org.apereo.cas.redis.core.CasRedisTemplate;
 import org.apereo.cas.support.events.AbstractCasEventRepositoryTests;
 import org.apereo.cas.support.events.CasEventRepository;
+import org.apereo.cas.support.events.CasEventRepositoryFilter;
+import org.apereo.cas.support.events.dao.CasEvent;
 import org.apereo.cas.test.CasTestExtension;
 import org.apereo.cas.util.junit.EnabledIfListeningOnPort;
 import org.apereo.cas.util.spring.boot.SpringBootTestAutoConfigurations;
 import lombok.Getter;
+import lombok.val;
 import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.autoconfigure.web.WebProperties;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.boot.test.context.SpringBootTest;
+import java.time.Duration;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.UUID;
+import static org.junit.jupiter.api.Assertions.*;
 
 /**
  * Test cases for {@link RedisCasEventRepositoryTests}.
@@ -42,4 +52,66 @@ class RedisCasEventRepositoryTests extends AbstractCasEventRepositoryTests {
     @Autowired
     @Qualifier(CasEventRepository.BEAN_NAME)
     private CasEventRepository eventRepository;
+
+    @Autowired
+    @Qualifier("redisEventTemplate")
+    private CasRedisTemplate<String, Object> redisEventTemplate;
+
+    private static CasEvent getCasEvent(final String principal) {
+        val event = new CasEvent();
+        event.setType("TestEvent");
+        event.setPrincipalId(principal);
+        event.putTimestamp(System.currentTimeMillis());
+        event.setCreationTime(ZonedDateTime.now(ZoneOffset.UTC).toString());
+        event.putEventId(UUID.randomUUID().toString());
+        return event;
+    }
+
+    @Test
+    void verifyPrincipalsIgnoreCase() {
+        eventRepository.removeAll();
+        val event = getCasEvent("CasUser");
+        eventRepository.save(event);
+        assertEquals(1, eventRepository.getEventsForPrincipal("casuser").count());
+        assertEquals(1, eventRepository.getEventsForPrincipal("CASUSER", ZonedDateTime.now(ZoneOffset.UTC).minusDays(1)).count());
+        assertEquals(1, eventRepository.getEventsOfTypeForPrincipal(event.getType(), "casUSER").count());
+        assertEquals("CasUser", eventRepository.getEventsForPrincipal("casuser").findFirst().orElseThrow().getPrincipalId());
+    }
+
+    @Test
+    void verifyLegacyEventsMigrated() {
+        eventRepository.removeAll();
+        val event = getCasEvent("LegacyUser");
+        val legacyKey = "%s:%s:%s:%s".formatted(RedisCasEventRepository.class.getSimpleName(),
+            event.getType(), event.getPrincipalId(), event.getTimestamp());
+        redisEventTemplate.boundValueOps(legacyKey).set(event);
+
+        val repository = new RedisCasEventRepository(CasEventRepositoryFilter.noOp(),
+            redisEventTemplate, 1000, Duration.ZERO, Duration.ofHours(1));
+        assertEquals(1, repository.migrateLegacyEvents());
+        assertFalse(redisEventTemplate.hasKey(legacyKey));
+        assertEquals(0, repository.migrateLegacyEvents());
+
+        val events = repository.getEventsForPrincipal("legacyuser").toList();
+        assertEquals(1, events.size());
+        assertEquals(event.getEventId(), events.getFirst().getEventId());
+        assertEquals(1, repository.getEventsOfType(event.getType(), ZonedDateTime.now(ZoneOffset.UTC).minusDays(1)).count());
+    }
+
+    @Test
+    void verifyLegacyMigrationSkippedOnceComplete() {
+        eventRepository.removeAll();
+        val repository = new RedisCasEventRepository(CasEventRepositoryFilter.noOp(),
+            redisEventTemplate, 1000, Duration.ZERO, Duration.ofHours(1));
+        repository.afterPropertiesSet();
+
+        val event = getCasEvent("LegacyUser");
+        val legacyKey = "%s:%s:%s:%s".formatted(RedisCasEventRepository.class.getSimpleName(),
+            event.getType(), event.getPrincipalId(), event.getTimestamp());
+        redisEventTemplate.boundValueOps(legacyKey).set(event);
+        repository.afterPropertiesSet();
+        assertTrue(redisEventTemplate.hasKey(legacyKey));
+        assertEquals(0, repository.getEventsForPrincipal("legacyuser").count());
+        assertEquals(1, repository.migrateLegacyEvents());
+    }
 }
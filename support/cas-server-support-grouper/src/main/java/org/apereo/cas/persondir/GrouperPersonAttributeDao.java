@@ -126,6 +126,11 @@ public class GrouperPersonAttributeDao extends BasePersonAttributeDao {
         return new GcGetGroups();
     }
 
+    @Override
+    public boolean isIndependentQuery() {
+        return true;
+    }
+
     enum GroupAttributeValueType {
         /**
          * Display extension attribute type.
@@ -2,10 +2,13 @@ package org.apereo.cas.config;
 
 import org.apereo.cas.configuration.CasConfigurationProperties;
 import org.apereo.cas.configuration.features.CasFeatureModule;
+import org.apereo.cas.configuration.model.support.hazelcast.HazelcastTicketRegistryNearCacheProperties;
+import org.apereo.cas.configuration.support.Beans;
 import org.apereo.cas.hz.HazelcastConfigurationFactory;
 import org.apereo.cas.hz.HazelcastMapCustomizer;
 import org.apereo.cas.ticket.TicketCatalog;
 import org.apereo.cas.ticket.TicketDefinition;
+import org.apereo.cas.ticket.TicketGrantingTicket;
 import org.apereo.cas.ticket.catalog.CasTicketCatalogConfigurationValuesProvider;
 import org.apereo.cas.ticket.registry.HazelcastTicketDocument;
 import org.apereo.cas.ticket.registry.HazelcastTicketRegistry;
@@ -17,9 +20,14 @@ import org.apereo.cas.ticket.serialization.TicketSerializationManager;
 import org.apereo.cas.util.CoreTicketUtils;
 import org.apereo.cas.util.spring.boot.ConditionalOnFeatureEnabled;
 import com.hazelcast.config.AttributeConfig;
+import com.hazelcast.config.EvictionConfig;
+import com.hazelcast.config.EvictionPolicy;
+import com.hazelcast.config.InMemoryFormat;
 import com.hazelcast.config.IndexConfig;
 import com.hazelcast.config.IndexType;
 import com.hazelcast.config.MapConfig;
+import com.hazelcast.config.MaxSizePolicy;
+import com.hazelcast.config.NearCacheConfig;
 import com.hazelcast.core.HazelcastInstance;
 import com.hazelcast.instance.impl.HazelcastInstanceFactory;
 import lombok.extern.slf4j.Slf4j;
@@ -98,11 +106,19 @@ public class CasHazelcastTicketRegistryAutoConfiguration {
                     mapConfig.addIndexConfig(new IndexConfig(IndexType.HASH, "id"));
                     mapConfig.addIndexConfig(new IndexConfig(IndexType.HASH, "type"));
                     mapConfig.addIndexConfig(new IndexConfig(IndexType.HASH, "principal"));
+                    mapConfig.addIndexConfig(new IndexConfig(IndexType.HASH, "principalKey"));
+                    mapConfig.addIndexConfig(new IndexConfig(IndexType.HASH, "service"));
+                    mapConfig.addIndexConfig(new IndexConfig(IndexType.HASH, "prefix"));
+                    mapConfig.addIndexConfig(new IndexConfig(IndexType.SORTED, "expirationTime"));
 
                     val attributeConfig = new AttributeConfig();
                     attributeConfig.setName("attributes");
                     attributeConfig.setExtractorClassName(MapAttributeValueExtractor.class.getName());
                     mapConfig.addAttributeConfig(attributeConfig);
+
+                    if (hz.getNearCache().isEnabled() && TicketGrantingTicket.PREFIX.equals(defn.getPrefix())) {
+                        mapConfig.setNearCacheConfig(buildNearCacheConfig(hz.getNearCache()));
+                    }
                 }
                 return config;
             })
@@ -125,6 +141,19 @@ public class CasHazelcastTicketRegistryAutoConfiguration {
         return hazelcastInstance;
     }
 
+    private static NearCacheConfig buildNearCacheConfig(final HazelcastTicketRegistryNearCacheProperties nearCache) {
+        val evictionConfig = new EvictionConfig()
+            .setEvictionPolicy(EvictionPolicy.LRU)
+            .setMaxSizePolicy(MaxSizePolicy.ENTRY_COUNT)
+            .setSize(nearCache.getMaxSize());
+        return new NearCacheConfig()
+            .setInMemoryFormat(InMemoryFormat.BINARY)
+            .setInvalidateOnChange(true)
+            .setCacheLocalEntries(true)
+            .setTimeToLiveSeconds((int) Beans.newDuration(nearCache.getTimeToLive()).toSeconds())
+            .setEvictionConfig(evictionConfig);
+    }
+
     private static String buildCreateMappingQuery(final TicketDefinition defn) {
         val builder = new StringBuilder(String.format("CREATE MAPPING IF NOT EXISTS \"%s\" ", defn.getProperties().getStorageName()));
         builder.append("TYPE IMap ");
@@ -30,12 +30,16 @@ public class HazelcastTicketDocument implements Serializable {
 
     private String principal;
 
+    private String principalKey;
+
     private String service;
 
     private Ticket ticket;
 
     private long timeToLive;
 
+    private long expirationTime;
+
     private String prefix;
 
     @Builder.Default
@@ -20,9 +20,12 @@ import lombok.extern.slf4j.Slf4j;
 import lombok.val;
 import org.apache.commons.lang3.StringUtils;
 import org.springframework.beans.factory.DisposableBean;
+import java.time.Clock;
+import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.TimeUnit;
@@ -66,17 +69,7 @@ public class HazelcastTicketRegistry extends AbstractTicketRegistry implements A
 
     @Override
     public Ticket addSingleTicket(final Ticket ticket) throws Exception {
-        var ttl = ticket.getExpirationPolicy().getTimeToLive();
-        /*
-         * Valid values are integers between 0 and Integer.MAX VALUE. Its default value is 0,
-         * which means infinite (no expiration and eviction).
-         * If it is not 0, entries are evicted regardless of the set eviction policy described below.
-         */
-        if (ttl < 0 || ttl >= Integer.MAX_VALUE) {
-            LOGGER.debug("The expiration policy of ticket [{}] is set to use a negative (i.e. infinite) ttl", ticket.getId());
-            ttl = 0L;
-        }
-
+        val ttl = getTimeToLive(ticket);
         LOGGER.debug("Adding ticket [{}] with ttl [{}s]", ticket.getId(), ttl);
         val encTicket = encodeTicket(ticket);
 
@@ -89,7 +82,9 @@ public class HazelcastTicketRegistry extends AbstractTicketRegistry implements A
                 .id(encTicket.getId())
                 .type(metadata.getImplementationClass().getName())
                 .principal(digestIdentifier(getPrincipalIdFrom(ticket)))
+                .principalKey(getPrincipalKey(getPrincipalIdFrom(ticket)))
                 .timeToLive(ttl)
+                .expirationTime(getExpirationTime(ticket))
                 .ticket(encTicket)
                 .prefix(metadata.getPrefix())
                 .service(ticket instanceof final ServiceAwareTicket sat && Objects.nonNull(sat.getService()) ? sat.getService().getId() : null)
@@ -167,6 +162,11 @@ public class HazelcastTicketRegistry extends AbstractTicketRegistry implements A
                 return results.iterator().next().getObject(0);
             }
         }
+        if (!ticketRegistryCounters.isEnabled()) {
+            val ticketMap = getTicketMapInstanceByMetadata(ticketCatalog.find(TicketGrantingTicket.PREFIX));
+            return ticketMap.keySet(Predicates.and(
+                Predicates.equal("principalKey", getPrincipalKey(principalId)), getUnexpiredPredicate())).size();
+        }
         return super.countSessionsFor(principalId);
     }
 
@@ -185,6 +185,15 @@ public class HazelcastTicketRegistry extends AbstractTicketRegistry implements A
                 })
                 .sum();
         }
+        if (!ticketRegistryCounters.isEnabled()) {
+            return ticketCatalog.findAll()
+                .stream()
+                .map(this::getTicketMapInstanceByMetadata)
+                .filter(Objects::nonNull)
+                .mapToLong(ticketMap -> ticketMap.keySet(Predicates.and(
+                    Predicates.equal("service", service.getId()), getUnexpiredPredicate())).size())
+                .sum();
+        }
         return super.countTicketsFor(service);
     }
 
@@ -198,6 +207,9 @@ public class HazelcastTicketRegistry extends AbstractTicketRegistry implements A
                 return results.iterator().next().getObject(0);
             }
         }
+        if (!ticketRegistryCounters.isEnabled()) {
+            return getTicketMapInstanceByMetadata(ticketCatalog.find(TicketGrantingTicket.PREFIX)).size();
+        }
         return super.sessionCount();
     }
 
@@ -211,6 +223,9 @@ public class HazelcastTicketRegistry extends AbstractTicketRegistry implements A
                 return results.iterator().next().getObject(0);
             }
         }
+        if (!ticketRegistryCounters.isEnabled()) {
+            return getTicketMapInstanceByMetadata(ticketCatalog.find(ServiceTicket.PREFIX)).size();
+        }
         return super.serviceTicketCount();
     }
 
@@ -257,7 +272,11 @@ public class HazelcastTicketRegistry extends AbstractTicketRegistry implements A
                     .stream();
             }
         }
-        return super.getSessionsFor(principalId);
+        val ticketMap = getTicketMapInstanceByMetadata(ticketCatalog.find(TicketGrantingTicket.PREFIX));
+        return ticketMap.values(Predicates.equal("principal", digestIdentifier(principalId)))
+            .stream()
+            .map(document -> decodeTicket(document.getTicket()))
+            .filter(ticket -> !ticket.isExpired());
     }
 
     @Override
@@ -292,6 +311,33 @@ public class HazelcastTicketRegistry extends AbstractTicketRegistry implements A
         shutdown();
     }
 
+    private static long getTimeToLive(final Ticket ticket) {
+        val ttl = ticket.getExpirationPolicy().getTimeToLive();
+        /*
+         * Valid values are integers between 0 and Integer.MAX VALUE. Its default value is 0,
+         * which means infinite (no expiration and eviction).
+         * If it is not 0, entries are evicted regardless of the set eviction policy described below.
+         */
+        if (ttl < 0 || ttl >= Integer.MAX_VALUE) {
+            LOGGER.debug("The expiration policy of ticket [{}] is set to use a negative (i.e. infinite) ttl", ticket.getId());
+            return 0L;
+        }
+        return ttl;
+    }
+
+    private static long getExpirationTime(final Ticket ticket) {
+        val expirationTime = getTicketExpirationTime(ticket);
+        return expirationTime == null ? Long.MAX_VALUE : expirationTime.toInstant().toEpochMilli();
+    }
+
+    private static com.hazelcast.query.Predicate<String, HazelcastTicketDocument> getUnexpiredPredicate() {
+        return Predicates.greaterThan("expirationTime", Instant.now(Clock.systemUTC()).toEpochMilli());
+    }
+
+    private String getPrincipalKey(final String principalId) {
+        return StringUtils.isBlank(principalId) ? principalId : digestIdentifier(principalId.toLowerCase(Locale.ENGLISH));
+    }
+
     private IMap<String, HazelcastTicketDocument> getTicketMapInstanceByMetadata(final TicketDefinition metadata) {
         val mapName = metadata.getProperties().getStorageName();
         LOGGER.debug("Locating map name [{}] for ticket definition [{}]", mapName, metadata);
@@ -4,14 +4,17 @@ import org.apereo.cas.authentication.CoreAuthenticationTestUtils;
 import org.apereo.cas.config.CasHazelcastTicketRegistryAutoConfiguration;
 import org.apereo.cas.configuration.CasConfigurationProperties;
 import org.apereo.cas.mock.MockTicketGrantingTicket;
+import org.apereo.cas.services.RegisteredServiceTestUtils;
 import org.apereo.cas.test.CasTestExtension;
 import org.apereo.cas.ticket.DefaultTicketDefinition;
+import org.apereo.cas.ticket.ServiceTicket;
 import org.apereo.cas.ticket.Ticket;
 import org.apereo.cas.ticket.TicketCatalog;
 import org.apereo.cas.ticket.TicketGrantingTicket;
 import org.apereo.cas.ticket.TicketGrantingTicketImpl;
 import org.apereo.cas.ticket.expiration.HardTimeoutExpirationPolicy;
 import org.apereo.cas.ticket.expiration.NeverExpiresExpirationPolicy;
+import org.apereo.cas.util.ServiceTicketIdGenerator;
 import org.apereo.cas.util.TicketGrantingTicketIdGenerator;
 import org.apereo.cas.util.crypto.CipherExecutor;
 import com.hazelcast.core.HazelcastInstance;
@@ -30,6 +33,7 @@ import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.context.annotation.Import;
 import org.springframework.test.context.TestPropertySource;
+import java.util.Locale;
 import java.util.UUID;
 import java.util.concurrent.TimeUnit;
 import java.util.stream.Stream;
@@ -52,6 +56,7 @@ class HazelcastTicketRegistryTests {
     @TestPropertySource(
         properties = {
             "cas.ticket.registry.hazelcast.core.enable-jet=false",
+            "cas.ticket.registry.hazelcast.near-cache.enabled=true",
             "cas.ticket.registry.hazelcast.cluster.network.port-auto-increment=false",
             "cas.ticket.registry.hazelcast.cluster.network.port=5707",
             "cas.ticket.registry.hazelcast.cluster.core.instance-name=testjetlessinstance"
@@ -60,6 +65,57 @@ class HazelcastTicketRegistryTests {
         @Autowired
         @Qualifier(TicketRegistry.BEAN_NAME)
         private TicketRegistry newTicketRegistry;
+
+        @RepeatedTest(2)
+        void verifyUpdateTicketGrantingTicket() throws Throwable {
+            val authentication = CoreAuthenticationTestUtils.getAuthentication(UUID.randomUUID().toString());
+            val tgtId = new TicketGrantingTicketIdGenerator(10, StringUtils.EMPTY).getNewTicketId(TicketGrantingTicket.PREFIX);
+            val tgt = new TicketGrantingTicketImpl(tgtId, authentication, NeverExpiresExpirationPolicy.INSTANCE);
+            newTicketRegistry.addTicket(tgt);
+            assertNotNull(newTicketRegistry.getTicket(tgtId, TicketGrantingTicket.class));
+
+            val service = RegisteredServiceTestUtils.getService(UUID.randomUUID().toString());
+            val stId = new ServiceTicketIdGenerator(10, StringUtils.EMPTY).getNewTicketId(ServiceTicket.PREFIX);
+            val st = tgt.grantServiceTicket(stId, service, NeverExpiresExpirationPolicy.INSTANCE, false, serviceTicketSessionTrackingPolicy);
+            newTicketRegistry.updateTicket(tgt);
+            newTicketRegistry.addTicket(st);
+
+            val updatedTicket = newTicketRegistry.getTicket(tgtId, TicketGrantingTicket.class);
+            assertTrue(updatedTicket.getServices().containsKey(stId));
+            assertEquals(1, newTicketRegistry.countSessionsFor(authentication.getPrincipal().getId()));
+            assertEquals(1, newTicketRegistry.getSessionsFor(authentication.getPrincipal().getId()).count());
+            assertEquals(1, newTicketRegistry.countTicketsFor(service));
+
+            newTicketRegistry.deleteTicket(tgtId);
+            assertNull(newTicketRegistry.getTicket(tgtId, TicketGrantingTicket.class));
+            assertNotNull(newTicketRegistry.updateTicket(tgt));
+            assertNotNull(newTicketRegistry.getTicket(tgtId, TicketGrantingTicket.class));
+        }
+
+        @RepeatedTest(2)
+        void verifyCountsIgnoreCaseAndSkipExpiredTickets() throws Throwable {
+            val principalId = "CasUser-" + UUID.randomUUID();
+            val authentication = CoreAuthenticationTestUtils.getAuthentication(principalId);
+            val tgtId = new TicketGrantingTicketIdGenerator(10, StringUtils.EMPTY).getNewTicketId(TicketGrantingTicket.PREFIX);
+            val tgt = new TicketGrantingTicketImpl(tgtId, authentication, NeverExpiresExpirationPolicy.INSTANCE);
+            newTicketRegistry.addTicket(tgt);
+            assertEquals(1, newTicketRegistry.countSessionsFor(principalId.toUpperCase(Locale.ENGLISH)));
+            assertEquals(1, newTicketRegistry.countSessionsFor(principalId.toLowerCase(Locale.ENGLISH)));
+
+            val service = RegisteredServiceTestUtils.getService(UUID.randomUUID().toString());
+            val stId = new ServiceTicketIdGenerator(10, StringUtils.EMPTY).getNewTicketId(ServiceTicket.PREFIX);
+            val st = tgt.grantServiceTicket(stId, service, NeverExpiresExpirationPolicy.INSTANCE, false, serviceTicketSessionTrackingPolicy);
+            newTicketRegistry.addTicket(st);
+            assertEquals(1, newTicketRegistry.countTicketsFor(service));
+
+            st.markTicketExpired();
+            newTicketRegistry.updateTicket(st);
+            assertEquals(0, newTicketRegistry.countTicketsFor(service));
+
+            tgt.markTicketExpired();
+            newTicketRegistry.updateTicket(tgt);
+            assertEquals(0, newTicketRegistry.countSessionsFor(principalId));
+        }
     }
 
     @Nested
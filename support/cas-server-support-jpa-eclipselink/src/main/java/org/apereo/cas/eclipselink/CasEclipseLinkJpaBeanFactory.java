@@ -8,7 +8,9 @@ import org.apereo.cas.jpa.JpaBeanFactory;
 
 import lombok.val;
 import org.eclipse.persistence.config.BatchWriting;
+import org.eclipse.persistence.config.HintValues;
 import org.eclipse.persistence.config.PersistenceUnitProperties;
+import org.eclipse.persistence.config.QueryHints;
 import org.eclipse.persistence.logging.SessionLog;
 import org.springframework.beans.factory.FactoryBean;
 import org.springframework.orm.jpa.JpaVendorAdapter;
@@ -58,6 +60,14 @@ public class CasEclipseLinkJpaBeanFactory implements JpaBeanFactory {
         return query.getResultStream();
     }
 
+    @Override
+    public Stream<? extends Serializable> streamQuery(final Query query, final int fetchSize) {
+        query.setHint(QueryHints.JDBC_FETCH_SIZE, fetchSize);
+        query.setHint(QueryHints.READ_ONLY, HintValues.TRUE);
+        query.setHint(QueryHints.SCROLLABLE_CURSOR, HintValues.TRUE);
+        return query.getResultStream();
+    }
+
     @Override
     public PersistenceProvider newPersistenceProvider(final AbstractJpaProperties jpa) {
         return new org.eclipse.persistence.jpa.PersistenceProvider();
@@ -106,4 +106,12 @@ public class CasHibernateJpaBeanFactory implements JpaBeanFactory {
         val hibernateQuery = query.unwrap(Query.class);
         return hibernateQuery.stream();
     }
+
+    @Override
+    public Stream<? extends Serializable> streamQuery(final jakarta.persistence.Query query, final int fetchSize) {
+        val hibernateQuery = query.unwrap(Query.class);
+        hibernateQuery.setFetchSize(fetchSize);
+        hibernateQuery.setReadOnly(true);
+        return hibernateQuery.stream();
+    }
 }
@@ -26,8 +26,12 @@ import jakarta.persistence.EntityManager;
 import jakarta.persistence.LockModeType;
 import jakarta.persistence.NoResultException;
 import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Query;
 
 import java.io.Serializable;
+import java.time.Clock;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
@@ -48,6 +52,11 @@ import java.util.stream.Stream;
 @Getter
 @Monitorable
 public class JpaTicketRegistry extends AbstractTicketRegistry {
+    /**
+     * Each chunk of identifiers is bound to two lists in the delete query,
+     * keeping the number of query parameters within common database limits.
+     */
+    private static final int DELETE_TICKETS_CHUNK_SIZE = 500;
 
     private final JpaBeanFactory jpaBeanFactory;
 
@@ -131,12 +140,7 @@ public class JpaTicketRegistry extends AbstractTicketRegistry {
             val sql = String.format("SELECT t FROM %s t", factory.getEntityName());
             val query = entityManager.createQuery(sql, factory.getType());
             query.setLockMode(casProperties.getTicket().getRegistry().getJpa().getTicketLockType());
-
-            return query
-                .getResultStream()
-                .map(factory::toTicket)
-                .map(this::decodeTicket)
-                .collect(Collectors.toList());
+            return streamTickets(query).collect(Collectors.toList());
         });
     }
 
@@ -154,22 +158,102 @@ public class JpaTicketRegistry extends AbstractTicketRegistry {
     /**
      * This method purposefully doesn't lock any rows, because the stream traversing can take an indeterminate
      * amount of time, and logging in to an application with an existing TGT will update the TGT row in the database.
+     * Ticket type and expiration filters are applied by the database, along with the requested range
+     * of results unless tickets are encoded, in which case ticket types can only be determined once decoded.
      *
      * @return streamable results
      */
     @Override
     public Stream<? extends Ticket> stream(final TicketRegistryStreamCriteria criteria) {
         val factory = getJpaTicketEntityFactory();
-        val sql = String.format("SELECT t FROM %s t", factory.getEntityName());
+        val conditions = new ArrayList<String>();
+        val definition = StringUtils.isNotBlank(criteria.getType()) ? ticketCatalog.find(criteria.getType()) : null;
+        if (StringUtils.isNotBlank(criteria.getType())) {
+            if (definition == null) {
+                return Stream.empty();
+            }
+            conditions.add("t.type = :type");
+        }
+        if (criteria.isExcludeExpired()) {
+            conditions.add("(t.expirationTime IS NULL OR t.expirationTime > :now)");
+        }
+        var sql = String.format("SELECT t FROM %s t", factory.getEntityName());
+        if (!conditions.isEmpty()) {
+            sql = sql.concat(" WHERE ").concat(String.join(" AND ", conditions));
+        }
         val query = entityManager.createQuery(sql, factory.getType());
+        if (definition != null) {
+            query.setParameter("type", getTicketTypeName(definition.getApiClass()));
+        }
+        if (criteria.isExcludeExpired()) {
+            query.setParameter("now", ZonedDateTime.now(Clock.systemUTC()));
+        }
         query.setLockMode(LockModeType.NONE);
-        return jpaBeanFactory
-            .streamQuery(query)
-            .skip(criteria.getFrom())
-            .limit(criteria.getCount())
-            .map(BaseTicketEntity.class::cast)
-            .map(factory::toTicket)
-            .map(this::decodeTicket);
+
+        val filterByPrefix = definition != null && isCipherExecutorEnabled();
+        if (filterByPrefix) {
+            return streamTickets(query)
+                .filter(ticket -> definition.getPrefix().equals(ticket.getPrefix()))
+                .skip(criteria.getFrom())
+                .limit(criteria.getCount());
+        }
+        query.setFirstResult((int) Math.min(criteria.getFrom(), Integer.MAX_VALUE));
+        if (criteria.getCount() < Integer.MAX_VALUE) {
+            query.setMaxResults((int) criteria.getCount());
+        }
+        return streamTickets(query);
+    }
+
+    /**
+     * Expired tickets are located via the expiration time recorded for each ticket, along with
+     * tickets for which no expiration time could be determined. The expiration time is the earliest of the
+     * maximum and idle expiration times of the ticket, and is recalculated every time the ticket is stored;
+     * final expiration checks are left to the cleaner.
+     *
+     * @return the expired tickets
+     */
+    @Override
+    public Stream<? extends Ticket> getExpiredTickets() {
+        val factory = getJpaTicketEntityFactory();
+        val sql = String.format("SELECT t FROM %s t WHERE t.expirationTime IS NULL OR t.expirationTime <= :now", factory.getEntityName());
+        val query = entityManager.createQuery(sql, factory.getType())
+            .setParameter("now", ZonedDateTime.now(Clock.systemUTC()));
+        query.setLockMode(LockModeType.NONE);
+        return streamTickets(query);
+    }
+
+    /**
+     * Tickets are removed in chunks, each via a single bulk delete,
+     * so that the number of query parameters stays within the limits of the database.
+     *
+     * @param ticketIds the ticket ids
+     * @return the number of tickets deleted
+     */
+    @Override
+    public int deleteTickets(final Collection<String> ticketIds) {
+        val digestedIds = ticketIds
+            .stream()
+            .filter(StringUtils::isNotBlank)
+            .map(this::digestIdentifier)
+            .distinct()
+            .toList();
+        if (digestedIds.isEmpty()) {
+            return 0;
+        }
+        val result = transactionTemplate.execute(status -> {
+            val factory = getJpaTicketEntityFactory();
+            val sql = String.format("DELETE FROM %s t WHERE t.id IN :ids OR t.parentId IN :ids", factory.getEntityName());
+            var count = 0;
+            for (var from = 0; from < digestedIds.size(); from += DELETE_TICKETS_CHUNK_SIZE) {
+                val chunk = digestedIds.subList(from, Math.min(from + DELETE_TICKETS_CHUNK_SIZE, digestedIds.size()));
+                LOGGER.trace("Creating delete query [{}] for [{}] ticket(s)", sql, chunk.size());
+                count += entityManager.createQuery(sql)
+                    .setParameter("ids", chunk)
+                    .executeUpdate();
+            }
+            return count;
+        });
+        return Objects.requireNonNull(result);
     }
 
     @Override
@@ -190,12 +274,7 @@ public class JpaTicketRegistry extends AbstractTicketRegistry {
             .setParameter("principalId", digestIdentifier(principalId))
             .setParameter("type", getTicketTypeName(TicketGrantingTicket.class));
         query.setLockMode(LockModeType.NONE);
-        return jpaBeanFactory
-            .streamQuery(query)
-            .map(BaseTicketEntity.class::cast)
-            .map(factory::toTicket)
-            .map(this::decodeTicket)
-            .filter(ticket -> !ticket.isExpired());
+        return streamTickets(query).filter(ticket -> !ticket.isExpired());
     }
 
     @Override
@@ -278,11 +357,7 @@ public class JpaTicketRegistry extends AbstractTicketRegistry {
         LOGGER.debug("Executing SQL query [{}]", sql);
         entityManager.flush();
         val query = entityManager.createNativeQuery(sql, factory.getType());
-        return jpaBeanFactory.streamQuery(query)
-            .map(BaseTicketEntity.class::cast)
-            .map(factory::toTicket)
-            .map(this::decodeTicket)
-            .filter(ticket -> !ticket.isExpired());
+        return streamTickets(query).filter(ticket -> !ticket.isExpired());
     }
 
     @Override
@@ -339,10 +414,36 @@ public class JpaTicketRegistry extends AbstractTicketRegistry {
             return getJpaTicketEntityFactory()
                 .fromTicket(encodeTicket, ticket)
                 .setPrincipalId(digestIdentifier(getPrincipalIdFrom(ticket)))
+                .setExpirationTime(getTicketExpirationTime(ticket))
                 .setAttributes(collectAndDigestTicketAttributes(ticket));
         });
     }
-    
+
+    /**
+     * Stream tickets that are produced by the given query via a database cursor.
+     * Rows are fetched from the database in chunks of the configured fetch size, and entities
+     * are detached from the persistence context once they are converted, so that memory usage remains
+     * bounded regardless of the number of rows produced by the query.
+     *
+     * @param query the query
+     * @return the stream
+     */
+    protected Stream<? extends Ticket> streamTickets(final Query query) {
+        val factory = getJpaTicketEntityFactory();
+        val fetchSize = casProperties.getTicket().getRegistry().getJpa().getFetchSize();
+        val detachEntities = entityManager.isJoinedToTransaction();
+        return jpaBeanFactory
+            .streamQuery(query, fetchSize)
+            .map(BaseTicketEntity.class::cast)
+            .map(entity -> {
+                if (detachEntities) {
+                    entityManager.detach(entity);
+                }
+                return factory.toTicket(entity);
+            })
+            .map(this::decodeTicket);
+    }
+
     protected JpaTicketEntityFactory getJpaTicketEntityFactory() {
         val jpa = casProperties.getTicket().getRegistry().getJpa();
         return new JpaTicketEntityFactory(jpa.getDialect());
@@ -58,6 +58,9 @@ public abstract class BaseTicketEntity implements Serializable {
     @Column(nullable = false, length = 512)
     private ZonedDateTime creationTime;
 
+    @Column(length = 512)
+    private ZonedDateTime expirationTime;
+
     /**
      * Sets attributes.
      *
@@ -12,11 +12,14 @@ import org.apereo.cas.services.RegisteredServiceTestUtils;
 import org.apereo.cas.support.oauth.OAuth20GrantTypes;
 import org.apereo.cas.support.oauth.OAuth20ResponseTypes;
 import org.apereo.cas.ticket.DefaultSecurityTokenTicketFactory;
+import org.apereo.cas.ticket.Ticket;
 import org.apereo.cas.ticket.TicketGrantingTicket;
 import org.apereo.cas.ticket.TicketGrantingTicketFactory;
 import org.apereo.cas.ticket.TicketGrantingTicketImpl;
 import org.apereo.cas.ticket.code.OAuth20CodeFactory;
+import org.apereo.cas.ticket.expiration.HardTimeoutExpirationPolicy;
 import org.apereo.cas.ticket.expiration.NeverExpiresExpirationPolicy;
+import org.apereo.cas.ticket.expiration.TicketGrantingTicketExpirationPolicy;
 import org.apereo.cas.util.DefaultUniqueTicketIdGenerator;
 import org.apereo.cas.util.TicketGrantingTicketIdGenerator;
 import lombok.Getter;
@@ -35,9 +38,12 @@ import org.springframework.context.annotation.Import;
 import org.springframework.test.context.TestPropertySource;
 import org.springframework.transaction.annotation.Transactional;
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
+import static org.awaitility.Awaitility.*;
 import static org.junit.jupiter.api.Assertions.*;
 
 /**
@@ -136,6 +142,48 @@ public abstract class BaseJpaTicketRegistryTests extends BaseTicketRegistryTests
         assertNull(newTicketRegistry.getTicket(oAuthCode.getId()));
     }
 
+    @RepeatedTest(2)
+    @Transactional(transactionManager = "ticketTransactionManager", readOnly = false)
+    void verifyExpiredTicketsRemovedInBulk() throws Throwable {
+        val expiredTgt = new TicketGrantingTicketImpl(TestTicketIdentifiers.generate().ticketGrantingTicketId(),
+            CoreAuthenticationTestUtils.getAuthentication(), new HardTimeoutExpirationPolicy(3600));
+        expiredTgt.markTicketExpired();
+        newTicketRegistry.addTicket(expiredTgt);
+        val activeTgt = new TicketGrantingTicketImpl(TestTicketIdentifiers.generate().ticketGrantingTicketId(),
+            CoreAuthenticationTestUtils.getAuthentication(), new HardTimeoutExpirationPolicy(3600));
+        newTicketRegistry.addTicket(activeTgt);
+
+        try (val expiredTickets = newTicketRegistry.getExpiredTickets()) {
+            val expiredIds = expiredTickets.map(Ticket::getId).toList();
+            assertTrue(expiredIds.contains(expiredTgt.getId()));
+            assertFalse(expiredIds.contains(activeTgt.getId()));
+        }
+
+        val ticketIds = Stream.generate(() -> TestTicketIdentifiers.generate().ticketGrantingTicketId())
+            .limit(COUNT * 3)
+            .collect(Collectors.toCollection(ArrayList::new));
+        ticketIds.add(expiredTgt.getId());
+        assertEquals(1, newTicketRegistry.deleteTickets(ticketIds));
+        assertNull(newTicketRegistry.getTicket(expiredTgt.getId()));
+        assertNotNull(newTicketRegistry.getTicket(activeTgt.getId()));
+    }
+
+    @RepeatedTest(1)
+    @Transactional(transactionManager = "ticketTransactionManager", readOnly = false)
+    void verifyIdleTicketGrantingTicketsExpired() throws Throwable {
+        val idleTgt = new TicketGrantingTicketImpl(TestTicketIdentifiers.generate().ticketGrantingTicketId(),
+            CoreAuthenticationTestUtils.getAuthentication(), new TicketGrantingTicketExpirationPolicy(3600, 1));
+        newTicketRegistry.addTicket(idleTgt);
+        try (val expiredTickets = newTicketRegistry.getExpiredTickets()) {
+            assertTrue(expiredTickets.noneMatch(ticket -> ticket.getId().equals(idleTgt.getId())));
+        }
+        await().atMost(5, TimeUnit.SECONDS).untilAsserted(() -> {
+            try (val expiredTickets = newTicketRegistry.getExpiredTickets()) {
+                assertTrue(expiredTickets.anyMatch(ticket -> ticket.getId().equals(idleTgt.getId())));
+            }
+        });
+    }
+
     @RepeatedTest(2)
     @Transactional(transactionManager = "ticketTransactionManager", readOnly = false)
     void verifyRegistryQuery() throws Throwable {
@@ -147,6 +195,31 @@ public abstract class BaseJpaTicketRegistryTests extends BaseTicketRegistryTests
             .count(1L).type(TicketGrantingTicket.PREFIX).decode(true).build()).size());
     }
 
+    @RepeatedTest(2)
+    @Transactional(transactionManager = "ticketTransactionManager", readOnly = false)
+    void verifyStreamWithCriteria() throws Throwable {
+        val tgt = new TicketGrantingTicketImpl(TestTicketIdentifiers.generate().ticketGrantingTicketId(),
+            CoreAuthenticationTestUtils.getAuthentication(), NeverExpiresExpirationPolicy.INSTANCE);
+        val registry = getNewTicketRegistry();
+        registry.addTicket(tgt);
+        val st = tgt.grantServiceTicket(TestTicketIdentifiers.generate().serviceTicketId(),
+            RegisteredServiceTestUtils.getService(), NeverExpiresExpirationPolicy.INSTANCE, false, serviceTicketSessionTrackingPolicy);
+        registry.addTicket(st);
+        registry.updateTicket(tgt);
+
+        try (val results = registry.stream(TicketRegistryStreamCriteria.builder()
+            .type(TicketGrantingTicket.PREFIX).excludeExpired(true).build())) {
+            assertEquals(1, results.filter(ticket -> ticket.getId().equals(tgt.getId())).count());
+        }
+        try (val results = registry.stream(TicketRegistryStreamCriteria.builder()
+            .type(TicketGrantingTicket.PREFIX).build())) {
+            assertTrue(results.allMatch(TicketGrantingTicket.class::isInstance));
+        }
+        try (val results = registry.stream(TicketRegistryStreamCriteria.builder().count(1).build())) {
+            assertEquals(1, results.count());
+        }
+    }
+
     @Import(BaseTicketRegistryTests.SharedTestConfiguration.class)
     @ImportAutoConfiguration({
         CasJpaTicketRegistryAutoConfiguration.class,
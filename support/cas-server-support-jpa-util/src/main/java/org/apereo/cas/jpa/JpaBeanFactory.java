@@ -72,4 +72,17 @@ public interface JpaBeanFactory {
      * @return the stream
      */
     Stream<? extends Serializable> streamQuery(Query query);
+
+    /**
+     * Stream query results using a database cursor, fetching
+     * rows from the database in chunks of the given size.
+     * Results are meant to be read-only and may not be tracked for changes.
+     *
+     * @param query     the query
+     * @param fetchSize the fetch size
+     * @return the stream
+     */
+    default Stream<? extends Serializable> streamQuery(final Query query, final int fetchSize) {
+        return streamQuery(query);
+    }
 }
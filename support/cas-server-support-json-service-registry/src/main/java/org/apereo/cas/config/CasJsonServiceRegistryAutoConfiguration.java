@@ -57,6 +57,7 @@ public class CasJsonServiceRegistryAutoConfiguration {
             registeredServiceReplicationStrategy,
             resourceNamingStrategy,
             Optional.ofNullable(serviceRegistryListeners.getIfAvailable()).orElseGet(ArrayList::new));
+        json.setLoadConcurrency(registry.getJson().getLoadConcurrency());
         if (registry.getJson().isWatcherEnabled()) {
             json.enableDefaultWatcherService();
         }
@@ -2,9 +2,20 @@ package org.apereo.cas.config;
 
 import org.apereo.cas.configuration.CasConfigurationProperties;
 import org.apereo.cas.configuration.features.CasFeatureModule;
+import org.apereo.cas.ticket.registry.BatchingTicketRegistryCleaner;
+import org.apereo.cas.ticket.registry.TicketRegistryCleaner;
+import org.apereo.cas.ticket.registry.TicketRegistryCleanerStatistics;
+import org.apereo.cas.util.RegexUtils;
 import org.apereo.cas.util.spring.boot.ConditionalOnFeatureEnabled;
 import io.micrometer.core.aop.TimedAspect;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
 import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -24,4 +35,41 @@ class CasMetricsConfiguration {
     public TimedAspect timedAspect(final MeterRegistry registry) {
         return new TimedAspect(registry);
     }
+
+    @Bean
+    @ConditionalOnMissingBean(name = "casRegexPatternCacheMetrics")
+    public MeterBinder casRegexPatternCacheMetrics() {
+        return registry -> CaffeineCacheMetrics.monitor(registry, RegexUtils.getCompiledPatternCache(), "casRegexPatternCache");
+    }
+
+    @Bean
+    @ConditionalOnMissingBean(name = "casTicketRegistryCleanerMetrics")
+    public MeterBinder casTicketRegistryCleanerMetrics(
+        @Qualifier(TicketRegistryCleaner.BEAN_NAME)
+        final ObjectProvider<TicketRegistryCleaner> ticketRegistryCleaner) {
+        return registry -> ticketRegistryCleaner.stream()
+            .filter(BatchingTicketRegistryCleaner.class::isInstance)
+            .map(BatchingTicketRegistryCleaner.class::cast)
+            .map(BatchingTicketRegistryCleaner::getStatistics)
+            .findFirst()
+            .ifPresent(stats -> {
+                FunctionCounter.builder("cas.ticket.registry.cleaner.removed", stats, value -> value.getTotalCleanedTickets().sum())
+                    .description("Total number of expired tickets removed by the ticket registry cleaner")
+                    .register(registry);
+                FunctionCounter.builder("cas.ticket.registry.cleaner.batches", stats, value -> value.getTotalBatches().sum())
+                    .description("Total number of batches processed by the ticket registry cleaner")
+                    .register(registry);
+                Gauge.builder("cas.ticket.registry.cleaner.throughput", stats, TicketRegistryCleanerStatistics::getThroughput)
+                    .description("Number of expired tickets removed per second during the last cleaner run")
+                    .register(registry);
+                Gauge.builder("cas.ticket.registry.cleaner.duration", stats, value -> value.getLastDurationInMillis().get())
+                    .description("Duration of the last cleaner run")
+                    .baseUnit("milliseconds")
+                    .register(registry);
+                Gauge.builder("cas.ticket.registry.cleaner.lag", stats, TicketRegistryCleanerStatistics::getLagInSeconds)
+                    .description("Number of seconds elapsed since the last completed cleaner run")
+                    .baseUnit("seconds")
+                    .register(registry);
+            });
+    }
 }
@@ -2,8 +2,12 @@ package org.apereo.cas;
 
 import org.apereo.cas.config.CasMetricsAutoConfiguration;
 import org.apereo.cas.test.CasTestExtension;
+import org.apereo.cas.util.RegexUtils;
 import org.apereo.cas.util.spring.boot.SpringBootTestAutoConfigurations;
 import io.micrometer.core.aop.TimedAspect;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import lombok.val;
 import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -27,8 +31,22 @@ class CasMetricsConfigurationTests {
     @Qualifier("timedAspect")
     private TimedAspect timedAspect;
 
+    @Autowired
+    @Qualifier("casRegexPatternCacheMetrics")
+    private MeterBinder casRegexPatternCacheMetrics;
+
     @Test
     void verifyOperation() throws Throwable {
         assertNotNull(timedAspect);
     }
+
+    @Test
+    void verifyRegexPatternCacheMetrics() throws Throwable {
+        val registry = new SimpleMeterRegistry();
+        casRegexPatternCacheMetrics.bindTo(registry);
+        RegexUtils.createPattern("^https://metrics\\.example\\.org/.*");
+        RegexUtils.createPattern("^https://metrics\\.example\\.org/.*");
+        assertNotNull(registry.find("cache.gets").tag("cache", "casRegexPatternCache").tag("result", "hit").functionCounter());
+        assertNotNull(registry.find("cache.evictions").tag("cache", "casRegexPatternCache").functionCounter());
+    }
 }
@@ -17,6 +17,7 @@ import com.mongodb.client.MongoCollection;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
 import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.tuple.Pair;
 import org.hjson.JsonValue;
 import org.hjson.Stringify;
 import org.springframework.data.domain.Limit;
@@ -28,13 +29,11 @@ import org.springframework.data.mongodb.core.query.TextCriteria;
 import org.springframework.data.mongodb.core.query.TextQuery;
 import org.springframework.data.mongodb.core.query.Update;
 import java.io.Serializable;
-import java.time.Instant;
 import java.util.Collection;
 import java.util.Date;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
-import java.util.concurrent.TimeUnit;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -63,14 +62,12 @@ public class MongoDbTicketRegistry extends AbstractTicketRegistry {
      * Makes the assumption that the CAS server date and the Mongo server date are in sync.
      */
     private static Date getExpireAt(final Ticket ticket) {
-        val expirationPolicy = ticket.getExpirationPolicy();
-        val ttl = expirationPolicy.getTimeToLive(ticket);
-        if (ttl < 1 || ttl == Long.MAX_VALUE) {
-            LOGGER.trace("Expiration date is undefined for ttl value [{}]", ttl);
+        val expirationTime = getTicketExpirationTime(ticket);
+        if (expirationTime == null) {
+            LOGGER.trace("Expiration date is undefined for ticket [{}]", ticket.getId());
             return null;
         }
-        val exp = System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(ttl);
-        return DateTimeUtils.dateOf(Instant.ofEpochMilli(exp));
+        return DateTimeUtils.dateOf(expirationTime);
     }
 
     @Override
@@ -148,9 +145,7 @@ public class MongoDbTicketRegistry extends AbstractTicketRegistry {
         return ticketCatalog.findAll()
             .stream()
             .map(this::getTicketCollectionInstanceByMetadata)
-            .map(map -> mongoTemplate.findAll(MongoDbTicketDocument.class, map))
-            .flatMap(List::stream)
-            .map(ticket -> decodeTicket(deserializeTicket(ticket.getJson(), ticket.getType())))
+            .flatMap(map -> streamTickets(new Query(), map))
             .filter(ticket -> !ticket.isExpired())
             .collect(Collectors.toSet());
     }
@@ -168,7 +163,8 @@ public class MongoDbTicketRegistry extends AbstractTicketRegistry {
             LOGGER.debug("Located ticket definition [{}] in the ticket catalog", metadata);
             val collectionName = getTicketCollectionInstanceByMetadata(metadata);
             val query = new Query(Criteria.where(MongoDbTicketDocument.FIELD_NAME_ID).is(holder.getTicketId()));
-            val update = Update.update(MongoDbTicketDocument.FIELD_NAME_JSON, holder.getJson());
+            val update = Update.update(MongoDbTicketDocument.FIELD_NAME_JSON, holder.getJson())
+                .set(MongoDbTicketDocument.FIELD_NAME_EXPIRE_AT, holder.getExpireAt());
             val result = mongoTemplate.updateFirst(query, update, collectionName);
             LOGGER.debug("Updated ticket [{}] with result [{}]", ticket, result);
             return result.getMatchedCount() > 0 ? ticket : null;
@@ -179,16 +175,80 @@ public class MongoDbTicketRegistry extends AbstractTicketRegistry {
         return null;
     }
 
+    /**
+     * Tickets are streamed from each collection via a database cursor. The ticket type
+     * narrows down the collections that are queried, and expiration filters are applied by MongoDb.
+     * The requested range of results is also applied by MongoDb, when a single collection is queried.
+     *
+     * @return streamable results
+     */
     @Override
     public Stream<Ticket> stream(final TicketRegistryStreamCriteria criteria) {
-        return ticketCatalog
+        val collections = ticketCatalog
             .findAll()
             .stream()
+            .filter(definition -> StringUtils.isBlank(criteria.getType()) || criteria.getType().equalsIgnoreCase(definition.getPrefix()))
             .map(this::getTicketCollectionInstanceByMetadata)
-            .flatMap(map -> mongoTemplate.stream(new Query(), MongoDbTicketDocument.class, map))
+            .distinct()
+            .toList();
+        val query = new Query();
+        if (criteria.isExcludeExpired()) {
+            query.addCriteria(new Criteria().orOperator(
+                Criteria.where(MongoDbTicketDocument.FIELD_NAME_EXPIRE_AT).gt(new Date()),
+                Criteria.where(MongoDbTicketDocument.FIELD_NAME_EXPIRE_AT).is(null)));
+        }
+        if (collections.size() == 1) {
+            query.skip(criteria.getFrom());
+            if (criteria.getCount() < Integer.MAX_VALUE) {
+                query.limit((int) criteria.getCount());
+            }
+            return streamTickets(query, collections.getFirst());
+        }
+        return collections
+            .stream()
+            .flatMap(map -> streamTickets(query, map))
             .skip(criteria.getFrom())
-            .limit(criteria.getCount())
-            .map(ticket -> decodeTicket(deserializeTicket(ticket.getJson(), ticket.getType())));
+            .limit(criteria.getCount());
+    }
+
+    /**
+     * Expired tickets are located via the expiration date recorded for each ticket document,
+     * along with documents for which no expiration date could be determined.
+     * Final expiration checks are left to the cleaner.
+     *
+     * @return the expired tickets
+     */
+    @Override
+    public Stream<? extends Ticket> getExpiredTickets() {
+        val criteria = new Criteria().orOperator(
+            Criteria.where(MongoDbTicketDocument.FIELD_NAME_EXPIRE_AT).lte(new Date()),
+            Criteria.where(MongoDbTicketDocument.FIELD_NAME_EXPIRE_AT).is(null));
+        return ticketCatalog
+            .findAll()
+            .stream()
+            .map(this::getTicketCollectionInstanceByMetadata)
+            .flatMap(map -> streamTickets(new Query(criteria), map));
+    }
+
+    @Override
+    public int deleteTickets(final Collection<String> ticketIds) {
+        val ticketsByCollection = ticketIds
+            .stream()
+            .filter(StringUtils::isNotBlank)
+            .map(ticketId -> Pair.of(ticketCatalog.find(ticketId), ticketId))
+            .filter(pair -> pair.getKey() != null)
+            .collect(Collectors.groupingBy(pair -> getTicketCollectionInstanceByMetadata(pair.getKey()),
+                Collectors.mapping(pair -> digestIdentifier(pair.getValue()), Collectors.toSet())));
+        return ticketsByCollection
+            .entrySet()
+            .stream()
+            .mapToInt(entry -> {
+                val query = new Query(Criteria.where(MongoDbTicketDocument.FIELD_NAME_ID).in(entry.getValue()));
+                val result = mongoTemplate.remove(query, entry.getKey());
+                LOGGER.debug("Deleted [{}] ticket(s) from collection [{}]", result.getDeletedCount(), entry.getKey());
+                return (int) result.getDeletedCount();
+            })
+            .sum();
     }
 
     @Override
@@ -221,9 +281,8 @@ public class MongoDbTicketRegistry extends AbstractTicketRegistry {
                 val query = isCipherExecutorEnabled()
                     ? new Query(Criteria.where(MongoDbTicketDocument.FIELD_NAME_PRINCIPAL).is(digestIdentifier(principalId)))
                     : TextQuery.queryText(TextCriteria.forDefaultLanguage().matchingAny(principalId)).sortByScore().with(PageRequest.of(0, PAGE_SIZE));
-                return mongoTemplate.stream(query, MongoDbTicketDocument.class, map);
+                return streamTickets(query, map);
             })
-            .map(ticket -> decodeTicket(deserializeTicket(ticket.getJson(), ticket.getType())))
             .filter(ticket -> !ticket.isExpired());
     }
 
@@ -250,9 +309,8 @@ public class MongoDbTicketRegistry extends AbstractTicketRegistry {
                 val finalCriteria = new Criteria().andOperator(criteria);
                 LOGGER.debug("Authenticated sessions query criteria is [{}]", finalCriteria.getCriteriaObject());
                 val query = new Query(finalCriteria);
-                return mongoTemplate.stream(query, MongoDbTicketDocument.class, map);
+                return streamTickets(query, map);
             })
-            .map(ticket -> decodeTicket(deserializeTicket(ticket.getJson(), ticket.getType())))
             .filter(ticket -> !ticket.isExpired());
     }
 
@@ -319,6 +377,21 @@ public class MongoDbTicketRegistry extends AbstractTicketRegistry {
             .count();
     }
 
+    /**
+     * Stream and decode tickets that match the given query from the collection via a database cursor.
+     * Documents are fetched from MongoDb in batches, so that memory usage remains bounded
+     * regardless of the number of documents matched by the query.
+     *
+     * @param query          the query
+     * @param collectionName the collection name
+     * @return the stream
+     */
+    protected Stream<Ticket> streamTickets(final Query query, final String collectionName) {
+        return mongoTemplate
+            .stream(query.cursorBatchSize(PAGE_SIZE), MongoDbTicketDocument.class, collectionName)
+            .map(document -> decodeTicket(deserializeTicket(document.getJson(), document.getType())));
+    }
+
     protected long countTicketsByTicketType(final Class<? extends Ticket> ticketType) {
         val ticketDefinitions = ticketCatalog.findTicketImplementations(ticketType);
         return ticketDefinitions
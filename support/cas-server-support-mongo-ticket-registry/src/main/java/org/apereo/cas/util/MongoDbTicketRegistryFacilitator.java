@@ -16,6 +16,7 @@ import org.springframework.data.mongodb.core.MongoOperations;
 import org.springframework.data.mongodb.core.index.Index;
 import org.springframework.data.mongodb.core.index.IndexDefinition;
 import org.springframework.data.mongodb.core.index.TextIndexDefinition;
+import org.springframework.data.mongodb.core.index.WildcardIndex;
 import java.time.Duration;
 import java.util.ArrayList;
 
@@ -40,6 +41,7 @@ public class MongoDbTicketRegistryFacilitator {
     private static final String INDEX_NAME_JSON_TYPE_ID = "IDX_JSON_TYPE_ID";
     private static final String INDEX_NAME_PRINCIPAL = "IDX_PRINCIPAL";
     private static final String INDEX_NAME_EXPIRATION = "IDX_EXPIRATION";
+    private static final String INDEX_NAME_ATTRIBUTES = "IDX_ATTRIBUTES";
 
     private final TicketCatalog ticketCatalog;
 
@@ -95,6 +97,11 @@ public class MongoDbTicketRegistryFacilitator {
                         .build();
                     expectedIndexes.add(columnsIndex);
                 }
+                if (properties.getIndexes().isEmpty() || properties.getIndexes().contains(INDEX_NAME_ATTRIBUTES)) {
+                    val attributesIndex = new WildcardIndex(MongoDbTicketDocument.FIELD_NAME_ATTRIBUTES)
+                        .named(INDEX_NAME_ATTRIBUTES);
+                    expectedIndexes.add(attributesIndex);
+                }
             }
 
 
@@ -8,6 +8,7 @@ import org.apereo.cas.ticket.Ticket;
 import org.apereo.cas.ticket.TicketCatalog;
 import org.apereo.cas.ticket.TicketGrantingTicket;
 import org.apereo.cas.ticket.TicketGrantingTicketImpl;
+import org.apereo.cas.ticket.expiration.HardTimeoutExpirationPolicy;
 import org.apereo.cas.ticket.expiration.NeverExpiresExpirationPolicy;
 import org.apereo.cas.ticket.serialization.TicketSerializationManager;
 import org.apereo.cas.util.TicketGrantingTicketIdGenerator;
@@ -25,6 +26,7 @@ import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
 import org.springframework.data.mongodb.core.MongoOperations;
 import org.springframework.scheduling.annotation.EnableScheduling;
 import org.springframework.test.context.TestPropertySource;
+import java.util.List;
 import java.util.UUID;
 import java.util.stream.Stream;
 import static org.junit.jupiter.api.Assertions.*;
@@ -116,6 +118,30 @@ class MongoDbTicketRegistryTests extends BaseTicketRegistryTests {
         assertTrue(count > 0);
     }
     
+    @RepeatedTest(2)
+    void verifyExpiredTicketsRemovedInBulk() throws Throwable {
+        val authentication = CoreAuthenticationTestUtils.getAuthentication(UUID.randomUUID().toString());
+        val undefinedExpiration = new TicketGrantingTicketImpl(TestTicketIdentifiers.generate().ticketGrantingTicketId(),
+            authentication, NeverExpiresExpirationPolicy.INSTANCE);
+        newTicketRegistry.addTicket(undefinedExpiration);
+        val active = new TicketGrantingTicketImpl(TestTicketIdentifiers.generate().ticketGrantingTicketId(),
+            authentication, new HardTimeoutExpirationPolicy(3600));
+        newTicketRegistry.addTicket(active);
+
+        try (val expiredTickets = newTicketRegistry.getExpiredTickets()) {
+            val expiredIds = expiredTickets.map(Ticket::getId).toList();
+            assertTrue(expiredIds.contains(undefinedExpiration.getId()));
+            assertFalse(expiredIds.contains(active.getId()));
+        }
+
+        val ticketIds = List.of(undefinedExpiration.getId(), active.getId(),
+            TestTicketIdentifiers.generate().ticketGrantingTicketId(), TestTicketIdentifiers.generate().serviceTicketId());
+        assertEquals(2, newTicketRegistry.deleteTickets(ticketIds));
+        assertNull(newTicketRegistry.getTicket(undefinedExpiration.getId()));
+        assertNull(newTicketRegistry.getTicket(active.getId()));
+        assertEquals(0, newTicketRegistry.deleteTickets(ticketIds));
+    }
+
     @RepeatedTest(1)
     void verifyBadTicketInCatalog() throws Throwable {
         val ticket = new MockTicketGrantingTicket("casuser");
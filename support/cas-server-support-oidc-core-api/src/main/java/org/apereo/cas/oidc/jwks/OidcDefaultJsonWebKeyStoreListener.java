@@ -1,7 +1,12 @@
 package org.apereo.cas.oidc.jwks;
 
 import org.apereo.cas.oidc.jwks.generator.OidcJsonWebKeystoreModifiedEvent;
+import org.apereo.cas.oidc.jwks.rotation.OidcJsonWebKeystoreRotatedEvent;
+import org.apereo.cas.support.events.service.CasRegisteredServiceDeletedEvent;
+import org.apereo.cas.support.events.service.CasRegisteredServiceSavedEvent;
+import org.apereo.cas.support.events.service.CasRegisteredServicesLoadedEvent;
 
+import com.github.benmanes.caffeine.cache.Cache;
 import com.github.benmanes.caffeine.cache.LoadingCache;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -9,6 +14,8 @@ import org.jose4j.jwk.JsonWebKeySet;
 
 /**
  * This is {@link OidcDefaultJsonWebKeyStoreListener}.
+ * Invalidates cached keys when the keystore changes, and the cached key set document
+ * when registered services, which may contribute their own keys, are saved, deleted or loaded.
  *
  * @author Misagh Moayyed
  * @since 6.5.0
@@ -18,9 +25,40 @@ import org.jose4j.jwk.JsonWebKeySet;
 public class OidcDefaultJsonWebKeyStoreListener implements OidcJsonWebKeyStoreListener {
     private final LoadingCache<OidcJsonWebKeyCacheKey, JsonWebKeySet> oidcJsonWebKeystoreCache;
 
+    private final Cache<String, OidcJsonWebKeySetDocument> oidcJsonWebKeySetDocumentCache;
+
     @Override
     public void handleOidcJsonWebKeystoreModifiedEvent(final OidcJsonWebKeystoreModifiedEvent event) {
         LOGGER.debug("Detected change in [{}]. Will invalidate OIDC JWKS cache...", event.getFile());
+        invalidate();
+    }
+
+    @Override
+    public void handleOidcJsonWebKeystoreRotatedEvent(final OidcJsonWebKeystoreRotatedEvent event) {
+        LOGGER.debug("Detected rotation of keys in the keystore. Will invalidate OIDC JWKS cache...");
+        invalidate();
+    }
+
+    @Override
+    public void handleRegisteredServiceSavedEvent(final CasRegisteredServiceSavedEvent event) {
+        LOGGER.debug("Detected saved service [{}]. Will invalidate OIDC JWKS document cache...", event.getRegisteredService().getName());
+        oidcJsonWebKeySetDocumentCache.invalidateAll();
+    }
+
+    @Override
+    public void handleRegisteredServiceDeletedEvent(final CasRegisteredServiceDeletedEvent event) {
+        LOGGER.debug("Detected deleted service [{}]. Will invalidate OIDC JWKS document cache...", event.getRegisteredService().getName());
+        oidcJsonWebKeySetDocumentCache.invalidateAll();
+    }
+
+    @Override
+    public void handleRegisteredServicesLoadedEvent(final CasRegisteredServicesLoadedEvent event) {
+        LOGGER.debug("Detected [{}] loaded service(s). Will invalidate OIDC JWKS document cache...", event.getServices().size());
+        oidcJsonWebKeySetDocumentCache.invalidateAll();
+    }
+
+    private void invalidate() {
         oidcJsonWebKeystoreCache.invalidateAll();
+        oidcJsonWebKeySetDocumentCache.invalidateAll();
     }
 }
@@ -0,0 +1,52 @@
+package org.apereo.cas.oidc.jwks;
+
+import org.apereo.cas.util.DigestUtils;
+import org.apereo.cas.util.EncodingUtils;
+
+import lombok.val;
+import org.apache.commons.lang3.StringUtils;
+
+import java.util.Arrays;
+
+/**
+ * This is {@link OidcJsonWebKeySetDocument}, which carries the serialized public keys
+ * of the keystore as they are presented to relying parties, along with a strong entity tag
+ * calculated from the serialized keys. Documents are produced once and are reused
+ * until the keystore is modified or rotated.
+ *
+ * @param body      the serialized keys
+ * @param entityTag the quoted entity tag of the serialized keys
+ * @author Misagh Moayyed
+ * @since 7.2.0
+ */
+public record OidcJsonWebKeySetDocument(String body, String entityTag) {
+    private static final String WEAK_ENTITY_TAG_PREFIX = "W/";
+
+    /**
+     * Build a document for the serialized keys.
+     *
+     * @param body the serialized keys
+     * @return the document
+     */
+    public static OidcJsonWebKeySetDocument of(final String body) {
+        val digest = DigestUtils.rawDigestSha256(body);
+        return new OidcJsonWebKeySetDocument(body, '"' + EncodingUtils.encodeUrlSafeBase64(digest) + '"');
+    }
+
+    /**
+     * Whether the document is unchanged compared to the entity tags given by
+     * the {@code If-None-Match} request header.
+     *
+     * @param ifNoneMatch the value of the {@code If-None-Match} request header
+     * @return true if the document is not modified
+     */
+    public boolean isNotModified(final String ifNoneMatch) {
+        if (StringUtils.isBlank(ifNoneMatch)) {
+            return false;
+        }
+        return Arrays.stream(StringUtils.split(ifNoneMatch, ','))
+            .map(String::trim)
+            .map(tag -> StringUtils.removeStart(tag, WEAK_ENTITY_TAG_PREFIX))
+            .anyMatch(tag -> "*".equals(tag) || entityTag.equals(tag));
+    }
+}
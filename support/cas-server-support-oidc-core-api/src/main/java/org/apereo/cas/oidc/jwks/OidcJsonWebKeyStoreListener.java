@@ -1,6 +1,10 @@
 package org.apereo.cas.oidc.jwks;
 
 import org.apereo.cas.oidc.jwks.generator.OidcJsonWebKeystoreModifiedEvent;
+import org.apereo.cas.oidc.jwks.rotation.OidcJsonWebKeystoreRotatedEvent;
+import org.apereo.cas.support.events.service.CasRegisteredServiceDeletedEvent;
+import org.apereo.cas.support.events.service.CasRegisteredServiceSavedEvent;
+import org.apereo.cas.support.events.service.CasRegisteredServicesLoadedEvent;
 import org.apereo.cas.util.spring.CasEventListener;
 import org.springframework.context.event.EventListener;
 import org.springframework.scheduling.annotation.Async;
@@ -21,4 +25,44 @@ public interface OidcJsonWebKeyStoreListener extends CasEventListener {
     @EventListener
     @Async
     void handleOidcJsonWebKeystoreModifiedEvent(OidcJsonWebKeystoreModifiedEvent event);
+
+    /**
+     * Handle oidc json web keystore rotated event.
+     *
+     * @param event the event
+     */
+    @EventListener
+    @Async
+    default void handleOidcJsonWebKeystoreRotatedEvent(final OidcJsonWebKeystoreRotatedEvent event) {
+    }
+
+    /**
+     * Handle registered service saved event.
+     *
+     * @param event the event
+     */
+    @EventListener
+    @Async
+    default void handleRegisteredServiceSavedEvent(final CasRegisteredServiceSavedEvent event) {
+    }
+
+    /**
+     * Handle registered service deleted event.
+     *
+     * @param event the event
+     */
+    @EventListener
+    @Async
+    default void handleRegisteredServiceDeletedEvent(final CasRegisteredServiceDeletedEvent event) {
+    }
+
+    /**
+     * Handle registered services loaded event.
+     *
+     * @param event the event
+     */
+    @EventListener
+    @Async
+    default void handleRegisteredServicesLoadedEvent(final CasRegisteredServicesLoadedEvent event) {
+    }
 }
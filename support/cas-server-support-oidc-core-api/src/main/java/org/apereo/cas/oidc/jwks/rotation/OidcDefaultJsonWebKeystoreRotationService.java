@@ -9,8 +9,10 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
 import org.apache.commons.io.IOUtils;
+import org.apereo.inspektr.common.web.ClientInfoHolder;
 import org.jooq.lambda.Unchecked;
 import org.jose4j.jwk.JsonWebKeySet;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.core.io.Resource;
 
 import java.nio.charset.StandardCharsets;
@@ -18,6 +20,8 @@ import java.util.Optional;
 
 /**
  * This is {@link OidcDefaultJsonWebKeystoreRotationService}.
+ * Once keys are rotated or revoked, an {@link OidcJsonWebKeystoreRotatedEvent} is published
+ * so that cached keys and keystore documents can be discarded.
  *
  * @author Misagh Moayyed
  * @since 6.5.0
@@ -29,6 +33,8 @@ public class OidcDefaultJsonWebKeystoreRotationService implements OidcJsonWebKey
 
     private final OidcJsonWebKeystoreGeneratorService generatorService;
 
+    private final ApplicationEventPublisher eventPublisher;
+
     @Override
     public JsonWebKeySet rotate() throws Throwable {
         return whenKeystoreResourceExists()
@@ -53,7 +59,9 @@ public class OidcDefaultJsonWebKeystoreRotationService implements OidcJsonWebKey
                 generateFutureKeys(jsonWebKeySet);
                 generateCurrentKeys(jsonWebKeySet);
 
-                return generatorService.store(jsonWebKeySet);
+                val result = generatorService.store(jsonWebKeySet);
+                publishRotatedEvent(false);
+                return result;
             }))
             .orElse(null);
     }
@@ -98,11 +106,17 @@ public class OidcDefaultJsonWebKeystoreRotationService implements OidcJsonWebKey
                     val state = JsonWebKeyLifecycleStates.getJsonWebKeyState(key);
                     return state == JsonWebKeyLifecycleStates.PREVIOUS;
                 });
-                return generatorService.store(jsonWebKeySet);
+                val result = generatorService.store(jsonWebKeySet);
+                publishRotatedEvent(true);
+                return result;
             }))
             .orElse(null);
     }
 
+    private void publishRotatedEvent(final boolean revoked) {
+        eventPublisher.publishEvent(new OidcJsonWebKeystoreRotatedEvent(this, revoked, ClientInfoHolder.getClientInfo()));
+    }
+
     private Optional<Resource> whenKeystoreResourceExists() {
         return FunctionUtils.doUnchecked(generatorService::find);
     }
@@ -0,0 +1,31 @@
+package org.apereo.cas.oidc.jwks.rotation;
+
+import org.apereo.cas.support.events.AbstractCasEvent;
+
+import lombok.Getter;
+import lombok.ToString;
+import org.apereo.inspektr.common.web.ClientInfo;
+
+import java.io.Serial;
+
+/**
+ * This is {@link OidcJsonWebKeystoreRotatedEvent}, published once keys
+ * in the keystore are rotated or revoked.
+ *
+ * @author Misagh Moayyed
+ * @since 7.2.0
+ */
+@ToString(callSuper = true)
+@Getter
+public class OidcJsonWebKeystoreRotatedEvent extends AbstractCasEvent {
+
+    @Serial
+    private static final long serialVersionUID = -3318414580743921530L;
+
+    private final boolean revoked;
+
+    public OidcJsonWebKeystoreRotatedEvent(final Object source, final boolean revoked, final ClientInfo clientInfo) {
+        super(source, clientInfo);
+        this.revoked = revoked;
+    }
+}
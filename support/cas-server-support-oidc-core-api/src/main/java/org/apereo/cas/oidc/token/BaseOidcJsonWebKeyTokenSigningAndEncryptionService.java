@@ -10,6 +10,8 @@ import org.apereo.cas.support.oauth.services.OAuthRegisteredService;
 import org.apereo.cas.ticket.BaseTokenSigningAndEncryptionService;
 import org.apereo.cas.util.EncodingUtils;
 import org.apereo.cas.util.function.FunctionUtils;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import com.github.benmanes.caffeine.cache.LoadingCache;
 import com.nimbusds.jwt.EncryptedJWT;
 import com.nimbusds.jwt.JWTParser;
@@ -29,6 +31,10 @@ import java.util.Optional;
 
 /**
  * This is {@link BaseOidcJsonWebKeyTokenSigningAndEncryptionService}.
+ * Signing and encryption keys resolved for each issuer and client application are remembered,
+ * along with the keystore they were found in, so that producing tokens does not need to search
+ * the keystore each time. A resolved key is discarded once its keystore is reloaded, rotated or invalidated
+ * in the keystore caches.
  *
  * @author Misagh Moayyed
  * @since 6.1.0
@@ -36,6 +42,8 @@ import java.util.Optional;
 @Slf4j
 @RequiredArgsConstructor(access = AccessLevel.PROTECTED)
 public abstract class BaseOidcJsonWebKeyTokenSigningAndEncryptionService extends BaseTokenSigningAndEncryptionService {
+    private static final int RESOLVED_KEYS_MAXIMUM_SIZE = 10_000;
+
     protected final LoadingCache<OidcJsonWebKeyCacheKey, JsonWebKeySet> defaultJsonWebKeystoreCache;
 
     protected final LoadingCache<OidcJsonWebKeyCacheKey, Optional<JsonWebKeySet>> serviceJsonWebKeystoreCache;
@@ -44,6 +52,10 @@ public abstract class BaseOidcJsonWebKeyTokenSigningAndEncryptionService extends
 
     protected final CasConfigurationProperties casProperties;
 
+    private final Cache<ResolvedJsonWebKeyCacheKey, ResolvedJsonWebKey> resolvedJsonWebKeys = Caffeine.newBuilder()
+        .maximumSize(RESOLVED_KEYS_MAXIMUM_SIZE)
+        .build();
+
     @Override
     public String encode(final OAuthRegisteredService registeredService, final JwtClaims claims) {
         return FunctionUtils.doUnchecked(() -> {
@@ -93,9 +105,21 @@ public abstract class BaseOidcJsonWebKeyTokenSigningAndEncryptionService extends
             .stream()
             .findFirst();
         val iss = issuerService.determineIssuer(servicePassed);
+        val keyId = servicePassed.map(OidcRegisteredService::getJwksKeyId).orElse(StringUtils.EMPTY);
+        val resolvedKeyCacheKey = new ResolvedJsonWebKeyCacheKey(iss, keyId, OidcJsonWebKeyUsage.SIGNING);
+        val resolvedKey = resolvedJsonWebKeys.getIfPresent(resolvedKeyCacheKey);
+        if (resolvedKey != null) {
+            val jwks = defaultJsonWebKeystoreCache.get(resolvedKey.keystoreCacheKey());
+            if (jwks == resolvedKey.keystore()) {
+                return resolvedKey.key();
+            }
+        }
         LOGGER.trace("Using issuer [{}] to locate JWK signing key", iss);
-        val jwks = defaultJsonWebKeystoreCache.get(new OidcJsonWebKeyCacheKey(iss, OidcJsonWebKeyUsage.SIGNING));
-        return getJsonWebKeySigningKeyFrom(jwks, registeredService);
+        val keystoreCacheKey = new OidcJsonWebKeyCacheKey(iss, OidcJsonWebKeyUsage.SIGNING);
+        val jwks = defaultJsonWebKeystoreCache.get(keystoreCacheKey);
+        val signingKey = getJsonWebKeySigningKeyFrom(jwks, registeredService);
+        resolvedJsonWebKeys.put(resolvedKeyCacheKey, new ResolvedJsonWebKey(keystoreCacheKey, jwks, signingKey));
+        return signingKey;
     }
 
     protected PublicJsonWebKey getJsonWebKeySigningKeyFrom(final JsonWebKeySet jwks,
@@ -126,7 +150,17 @@ public abstract class BaseOidcJsonWebKeyTokenSigningAndEncryptionService extends
     protected PublicJsonWebKey getJsonWebKeyForEncryption(final OAuthRegisteredService registeredService) {
         LOGGER.debug("Service [{}] is set to encrypt tokens", registeredService);
         val oidcService = (OidcRegisteredService) registeredService;
-        val jwks = serviceJsonWebKeystoreCache.get(new OidcJsonWebKeyCacheKey(registeredService, OidcJsonWebKeyUsage.ENCRYPTION));
+        val resolvedKeyCacheKey = new ResolvedJsonWebKeyCacheKey(registeredService.getServiceId(),
+            registeredService.getClientId(), OidcJsonWebKeyUsage.ENCRYPTION);
+        val resolvedKey = resolvedJsonWebKeys.getIfPresent(resolvedKeyCacheKey);
+        if (resolvedKey != null) {
+            val jwks = serviceJsonWebKeystoreCache.get(resolvedKey.keystoreCacheKey());
+            if (jwks != null && jwks.orElse(null) == resolvedKey.keystore()) {
+                return resolvedKey.key();
+            }
+        }
+        val keystoreCacheKey = new OidcJsonWebKeyCacheKey(registeredService, OidcJsonWebKeyUsage.ENCRYPTION);
+        val jwks = serviceJsonWebKeystoreCache.get(keystoreCacheKey);
         if (jwks.isEmpty()) {
             val message = "Service %s with client id %s is configured to encrypt tokens, yet no JSON web key is available to handle encryption"
                 .formatted(registeredService.getServiceId(), registeredService.getClientId());
@@ -144,6 +178,14 @@ public abstract class BaseOidcJsonWebKeyTokenSigningAndEncryptionService extends
             .orElseThrow(() -> new IllegalArgumentException("Cannot locate current JSON web key for encryption"));
         LOGGER.debug("Found JSON web key to encrypt the token: [{}]", jsonWebKey);
         Objects.requireNonNull(jsonWebKey.getKey(), "JSON web key used to encrypt the token has no associated public key");
-        return (PublicJsonWebKey) jsonWebKey;
+        val encryptionKey = (PublicJsonWebKey) jsonWebKey;
+        resolvedJsonWebKeys.put(resolvedKeyCacheKey, new ResolvedJsonWebKey(keystoreCacheKey, jwks.get(), encryptionKey));
+        return encryptionKey;
+    }
+
+    private record ResolvedJsonWebKeyCacheKey(String owner, String qualifier, OidcJsonWebKeyUsage usage) {
+    }
+
+    private record ResolvedJsonWebKey(OidcJsonWebKeyCacheKey keystoreCacheKey, JsonWebKeySet keystore, PublicJsonWebKey key) {
     }
 }
@@ -1,7 +1,9 @@
 package org.apereo.cas.oidc.web.controllers.jwks;
 
+import org.apereo.cas.configuration.support.Beans;
 import org.apereo.cas.oidc.OidcConfigurationContext;
 import org.apereo.cas.oidc.OidcConstants;
+import org.apereo.cas.oidc.jwks.OidcJsonWebKeySetDocument;
 import org.apereo.cas.oidc.jwks.OidcJsonWebKeyStoreUtils;
 import org.apereo.cas.oidc.jwks.generator.OidcJsonWebKeystoreGeneratorService;
 import org.apereo.cas.oidc.jwks.rotation.OidcJsonWebKeystoreRotationService;
@@ -11,6 +13,7 @@ import org.apereo.cas.support.oauth.OAuth20Constants;
 import org.apereo.cas.support.oauth.util.OAuth20Utils;
 import org.apereo.cas.util.LoggingUtils;
 import org.apereo.cas.util.spring.SpringExpressionLanguageValueResolver;
+import com.github.benmanes.caffeine.cache.Cache;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import lombok.extern.slf4j.Slf4j;
@@ -18,9 +21,12 @@ import lombok.val;
 import org.apache.commons.io.IOUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.text.StringEscapeUtils;
+import org.jooq.lambda.Unchecked;
 import org.jose4j.jwk.JsonWebKey;
 import org.jose4j.jwk.JsonWebKeySet;
 import org.pac4j.jee.context.JEEContext;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
@@ -29,10 +35,16 @@ import org.springframework.web.bind.annotation.RequestParam;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import java.nio.charset.StandardCharsets;
+import java.util.Locale;
 import java.util.Optional;
 
 /**
  * This is {@link OidcJwksEndpointController}.
+ * The collection of keys is serialized once for each requested key state and is reused
+ * until the keystore is modified or rotated, registered services are saved, deleted or loaded,
+ * or the cache expires. Responses carry a strong entity tag
+ * to support conditional requests, and allow relying parties to cache keys no longer than
+ * the keystore cache expiration or the key rotation schedule, whichever is shorter.
  *
  * @author Misagh Moayyed
  * @since 5.0.0
@@ -41,10 +53,30 @@ import java.util.Optional;
 public class OidcJwksEndpointController extends BaseOidcController {
     private final OidcJsonWebKeystoreGeneratorService oidcJsonWebKeystoreGeneratorService;
 
+    private final Cache<String, OidcJsonWebKeySetDocument> oidcJsonWebKeySetDocumentCache;
+
+    private final CacheControl cacheControl;
+
     public OidcJwksEndpointController(final OidcConfigurationContext configurationContext,
-                                      final OidcJsonWebKeystoreGeneratorService oidcJsonWebKeystoreGeneratorService) {
+                                      final OidcJsonWebKeystoreGeneratorService oidcJsonWebKeystoreGeneratorService,
+                                      final Cache<String, OidcJsonWebKeySetDocument> oidcJsonWebKeySetDocumentCache) {
         super(configurationContext);
         this.oidcJsonWebKeystoreGeneratorService = oidcJsonWebKeystoreGeneratorService;
+        this.oidcJsonWebKeySetDocumentCache = oidcJsonWebKeySetDocumentCache;
+        this.cacheControl = buildCacheControl(configurationContext);
+    }
+
+    private static CacheControl buildCacheControl(final OidcConfigurationContext configurationContext) {
+        val jwks = configurationContext.getCasProperties().getAuthn().getOidc().getJwks();
+        var maxAge = Beans.newDuration(jwks.getCore().getJwksCacheExpiration());
+        val schedule = jwks.getRotation().getSchedule();
+        if (schedule.isEnabled() && StringUtils.isNotBlank(schedule.getRepeatInterval())) {
+            val rotation = Beans.newDuration(schedule.getRepeatInterval());
+            if (rotation.compareTo(maxAge) < 0) {
+                maxAge = rotation;
+            }
+        }
+        return maxAge.isPositive() ? CacheControl.maxAge(maxAge).cachePublic() : CacheControl.noCache();
     }
 
     /**
@@ -70,36 +102,52 @@ public class OidcJwksEndpointController extends BaseOidcController {
             return new ResponseEntity<>(body, HttpStatus.BAD_REQUEST);
         }
         try {
-            val resource = oidcJsonWebKeystoreGeneratorService.generate();
-            val jsonJwks = IOUtils.toString(resource.getInputStream(), StandardCharsets.UTF_8);
-            val jsonWebKeySet = new JsonWebKeySet(jsonJwks);
-
-            val servicesManager = getConfigurationContext().getServicesManager();
-            servicesManager.getAllServicesOfType(OidcRegisteredService.class)
-                .stream()
-                .filter(service -> {
-                    val serviceJwks = SpringExpressionLanguageValueResolver.getInstance().resolve(service.getJwks());
-                    return StringUtils.isNotBlank(serviceJwks);
-                })
-                .forEach(service -> {
-                    val set = OidcJsonWebKeyStoreUtils.getJsonWebKeySet(service,
-                        getConfigurationContext().getApplicationContext(), Optional.empty());
-                    set.ifPresent(keys -> keys.getJsonWebKeys().forEach(jsonWebKeySet::addJsonWebKey));
-                });
-
-            if (StringUtils.isNotBlank(state)) {
-                jsonWebKeySet.getJsonWebKeys()
-                    .removeIf(key -> {
-                        val st = OidcJsonWebKeystoreRotationService.JsonWebKeyLifecycleStates.getJsonWebKeyState(key).name();
-                        return !state.equalsIgnoreCase(st);
-                    });
+            val documentKey = StringUtils.defaultString(state).toLowerCase(Locale.ENGLISH);
+            val document = oidcJsonWebKeySetDocumentCache.get(documentKey, Unchecked.function(this::buildJsonWebKeySetDocument));
+            val ifNoneMatch = request.getHeader(HttpHeaders.IF_NONE_MATCH);
+            if (document.isNotModified(ifNoneMatch)) {
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(document.entityTag())
+                    .cacheControl(cacheControl)
+                    .build();
             }
-            val body = jsonWebKeySet.toJson(JsonWebKey.OutputControlLevel.PUBLIC_ONLY);
             response.setContentType(MediaType.APPLICATION_JSON_VALUE);
-            return new ResponseEntity<>(body, HttpStatus.OK);
+            return ResponseEntity.ok()
+                .eTag(document.entityTag())
+                .cacheControl(cacheControl)
+                .body(document.body());
         } catch (final Throwable e) {
             LoggingUtils.error(LOGGER, e);
             return new ResponseEntity<>(StringEscapeUtils.escapeHtml4(e.getMessage()), HttpStatus.BAD_REQUEST);
         }
     }
+
+    private OidcJsonWebKeySetDocument buildJsonWebKeySetDocument(final String state) throws Throwable {
+        val resource = oidcJsonWebKeystoreGeneratorService.generate();
+        val jsonJwks = IOUtils.toString(resource.getInputStream(), StandardCharsets.UTF_8);
+        val jsonWebKeySet = new JsonWebKeySet(jsonJwks);
+
+        val servicesManager = getConfigurationContext().getServicesManager();
+        servicesManager.getAllServicesOfType(OidcRegisteredService.class)
+            .stream()
+            .filter(service -> {
+                val serviceJwks = SpringExpressionLanguageValueResolver.getInstance().resolve(service.getJwks());
+                return StringUtils.isNotBlank(serviceJwks);
+            })
+            .forEach(service -> {
+                val set = OidcJsonWebKeyStoreUtils.getJsonWebKeySet(service,
+                    getConfigurationContext().getApplicationContext(), Optional.empty());
+                set.ifPresent(keys -> keys.getJsonWebKeys().forEach(jsonWebKeySet::addJsonWebKey));
+            });
+
+        if (StringUtils.isNotBlank(state)) {
+            jsonWebKeySet.getJsonWebKeys()
+                .removeIf(key -> {
+                    val st = OidcJsonWebKeystoreRotationService.JsonWebKeyLifecycleStates.getJsonWebKeyState(key).name();
+                    return !state.equalsIgnoreCase(st);
+                });
+        }
+        LOGGER.trace("Serializing keys in state [{}] from keystore [{}]", StringUtils.defaultIfBlank(state, "any"), resource);
+        return OidcJsonWebKeySetDocument.of(jsonWebKeySet.toJson(JsonWebKey.OutputControlLevel.PUBLIC_ONLY));
+    }
 }
@@ -11,6 +11,7 @@ import org.apereo.cas.oidc.OidcConstants;
 import org.apereo.cas.oidc.discovery.OidcServerDiscoverySettings;
 import org.apereo.cas.oidc.discovery.webfinger.OidcWebFingerDiscoveryService;
 import org.apereo.cas.oidc.issuer.OidcIssuerService;
+import org.apereo.cas.oidc.jwks.OidcJsonWebKeySetDocument;
 import org.apereo.cas.oidc.jwks.generator.OidcJsonWebKeystoreGeneratorService;
 import org.apereo.cas.oidc.jwks.rotation.OidcJsonWebKeystoreRotationService;
 import org.apereo.cas.oidc.token.ciba.CibaTokenDeliveryHandler;
@@ -45,6 +46,7 @@ import org.apereo.cas.web.CasWebSecurityConfigurer;
 import org.apereo.cas.web.SecurityLogicInterceptor;
 import org.apereo.cas.web.UrlValidator;
 import org.apereo.cas.web.support.ArgumentExtractor;
+import com.github.benmanes.caffeine.cache.Cache;
 import com.google.errorprone.annotations.CanIgnoreReturnValue;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
@@ -416,9 +418,12 @@ class OidcEndpointsConfiguration {
         public OidcJwksEndpointController oidcJwksController(
             @Qualifier("oidcJsonWebKeystoreGeneratorService")
             final OidcJsonWebKeystoreGeneratorService oidcJsonWebKeystoreGeneratorService,
+            @Qualifier("oidcJsonWebKeySetDocumentCache")
+            final Cache<String, OidcJsonWebKeySetDocument> oidcJsonWebKeySetDocumentCache,
             @Qualifier(OidcConfigurationContext.BEAN_NAME)
             final OidcConfigurationContext oidcConfigurationContext) {
-            return new OidcJwksEndpointController(oidcConfigurationContext, oidcJsonWebKeystoreGeneratorService);
+            return new OidcJwksEndpointController(oidcConfigurationContext,
+                oidcJsonWebKeystoreGeneratorService, oidcJsonWebKeySetDocumentCache);
         }
 
         @RefreshScope(proxyMode = ScopedProxyMode.DEFAULT)
@@ -6,6 +6,7 @@ import org.apereo.cas.configuration.support.Beans;
 import org.apereo.cas.oidc.jwks.OidcDefaultJsonWebKeyStoreListener;
 import org.apereo.cas.oidc.jwks.OidcDefaultJsonWebKeystoreCacheLoader;
 import org.apereo.cas.oidc.jwks.OidcJsonWebKeyCacheKey;
+import org.apereo.cas.oidc.jwks.OidcJsonWebKeySetDocument;
 import org.apereo.cas.oidc.jwks.OidcJsonWebKeyStoreListener;
 import org.apereo.cas.oidc.jwks.generator.OidcDefaultJsonWebKeystoreGeneratorService;
 import org.apereo.cas.oidc.jwks.generator.OidcGroovyJsonWebKeystoreGeneratorService;
@@ -19,6 +20,7 @@ import org.apereo.cas.util.spring.beans.BeanSupplier;
 import org.apereo.cas.util.spring.boot.ConditionalOnFeatureEnabled;
 import org.apereo.cas.util.spring.boot.ConditionalOnMissingGraalVMNativeImage;
 
+import com.github.benmanes.caffeine.cache.Cache;
 import com.github.benmanes.caffeine.cache.CacheLoader;
 import com.github.benmanes.caffeine.cache.Caffeine;
 import com.github.benmanes.caffeine.cache.LoadingCache;
@@ -61,9 +63,10 @@ class OidcJwksConfiguration {
         public OidcJsonWebKeystoreRotationService oidcJsonWebKeystoreRotationService(
             @Qualifier("oidcJsonWebKeystoreGeneratorService")
             final OidcJsonWebKeystoreGeneratorService oidcJsonWebKeystoreGeneratorService,
+            final ConfigurableApplicationContext applicationContext,
             final CasConfigurationProperties casProperties) {
             val oidc = casProperties.getAuthn().getOidc();
-            return new OidcDefaultJsonWebKeystoreRotationService(oidc, oidcJsonWebKeystoreGeneratorService);
+            return new OidcDefaultJsonWebKeystoreRotationService(oidc, oidcJsonWebKeystoreGeneratorService, applicationContext);
         }
 
         @ConditionalOnMissingBean(name = "oidcJsonWebKeystoreRotationScheduler")
@@ -152,8 +155,23 @@ class OidcJwksConfiguration {
         @Lazy(false)
         public OidcJsonWebKeyStoreListener oidcJsonWebKeyStoreListener(
             @Qualifier("oidcDefaultJsonWebKeystoreCache")
-            final LoadingCache<OidcJsonWebKeyCacheKey, JsonWebKeySet> oidcDefaultJsonWebKeystoreCache) {
-            return new OidcDefaultJsonWebKeyStoreListener(oidcDefaultJsonWebKeystoreCache);
+            final LoadingCache<OidcJsonWebKeyCacheKey, JsonWebKeySet> oidcDefaultJsonWebKeystoreCache,
+            @Qualifier("oidcJsonWebKeySetDocumentCache")
+            final Cache<String, OidcJsonWebKeySetDocument> oidcJsonWebKeySetDocumentCache) {
+            return new OidcDefaultJsonWebKeyStoreListener(oidcDefaultJsonWebKeystoreCache, oidcJsonWebKeySetDocumentCache);
+        }
+
+        @Bean
+        @ConditionalOnMissingBean(name = "oidcJsonWebKeySetDocumentCache")
+        @RefreshScope(proxyMode = ScopedProxyMode.DEFAULT)
+        public Cache<String, OidcJsonWebKeySetDocument> oidcJsonWebKeySetDocumentCache(
+            final CasConfigurationProperties casProperties) {
+            val oidc = casProperties.getAuthn().getOidc();
+            val expiration = Beans.newDuration(oidc.getJwks().getCore().getJwksCacheExpiration());
+            return Caffeine.newBuilder()
+                .maximumSize(10)
+                .expireAfterWrite(expiration)
+                .build();
         }
 
         @Bean
@@ -2,14 +2,23 @@ package org.apereo.cas.oidc.jwks;
 
 import org.apereo.cas.oidc.AbstractOidcTests;
 import org.apereo.cas.oidc.jwks.generator.OidcJsonWebKeystoreModifiedEvent;
+import org.apereo.cas.oidc.jwks.rotation.OidcJsonWebKeystoreRotatedEvent;
+import org.apereo.cas.support.events.service.CasRegisteredServiceDeletedEvent;
+import org.apereo.cas.support.events.service.CasRegisteredServiceSavedEvent;
+import org.apereo.cas.support.events.service.CasRegisteredServicesLoadedEvent;
 
+import com.github.benmanes.caffeine.cache.Cache;
 import lombok.val;
+import org.apache.commons.lang3.StringUtils;
+import org.apereo.inspektr.common.web.ClientInfoHolder;
 import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.context.ConfigurableApplicationContext;
 
 import java.io.File;
+import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -24,6 +33,10 @@ class OidcDefaultJsonWebKeyStoreListenerTests extends AbstractOidcTests {
     @Autowired
     private ConfigurableApplicationContext realApplicationContext;
 
+    @Autowired
+    @Qualifier("oidcJsonWebKeySetDocumentCache")
+    private Cache<String, OidcJsonWebKeySetDocument> oidcJsonWebKeySetDocumentCache;
+
     @Test
     void verifyOperation() throws Throwable {
         val cacheKey = new OidcJsonWebKeyCacheKey(casProperties.getAuthn().getOidc().getCore().getIssuer(), OidcJsonWebKeyUsage.SIGNING);
@@ -36,4 +49,34 @@ class OidcDefaultJsonWebKeyStoreListenerTests extends AbstractOidcTests {
         val newKeys = oidcDefaultJsonWebKeystoreCache.getIfPresent(cacheKey);
         assertNull(newKeys);
     }
+
+    @Test
+    void verifyRotation() throws Throwable {
+        val cacheKey = new OidcJsonWebKeyCacheKey(casProperties.getAuthn().getOidc().getCore().getIssuer(), OidcJsonWebKeyUsage.SIGNING);
+        assertNotNull(oidcDefaultJsonWebKeystoreCache.get(cacheKey));
+        realApplicationContext.publishEvent(new OidcJsonWebKeystoreRotatedEvent(this, false, null));
+        Thread.sleep(2000);
+        assertNull(oidcDefaultJsonWebKeystoreCache.getIfPresent(cacheKey));
+    }
+
+    @Test
+    void verifyRegisteredServiceChanges() throws Throwable {
+        val service = getOidcRegisteredService();
+        val clientInfo = ClientInfoHolder.getClientInfo();
+
+        oidcJsonWebKeySetDocumentCache.put(StringUtils.EMPTY, OidcJsonWebKeySetDocument.of("{}"));
+        realApplicationContext.publishEvent(new CasRegisteredServiceSavedEvent(this, service, clientInfo));
+        Thread.sleep(2000);
+        assertNull(oidcJsonWebKeySetDocumentCache.getIfPresent(StringUtils.EMPTY));
+
+        oidcJsonWebKeySetDocumentCache.put(StringUtils.EMPTY, OidcJsonWebKeySetDocument.of("{}"));
+        realApplicationContext.publishEvent(new CasRegisteredServiceDeletedEvent(this, service, clientInfo));
+        Thread.sleep(2000);
+        assertNull(oidcJsonWebKeySetDocumentCache.getIfPresent(StringUtils.EMPTY));
+
+        oidcJsonWebKeySetDocumentCache.put(StringUtils.EMPTY, OidcJsonWebKeySetDocument.of("{}"));
+        realApplicationContext.publishEvent(new CasRegisteredServicesLoadedEvent(this, List.of(service), clientInfo));
+        Thread.sleep(2000);
+        assertNull(oidcJsonWebKeySetDocumentCache.getIfPresent(StringUtils.EMPTY));
+    }
 }
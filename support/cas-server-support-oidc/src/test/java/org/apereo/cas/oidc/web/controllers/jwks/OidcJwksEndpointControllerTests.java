@@ -9,6 +9,7 @@ import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.mock.web.MockHttpServletResponse;
 
@@ -41,6 +42,24 @@ class OidcJwksEndpointControllerTests extends AbstractOidcTests {
         assertTrue(result.getStatusCode().is2xxSuccessful());
     }
 
+    @Test
+    void verifyNotModified() throws Throwable {
+        val state = OidcJsonWebKeystoreRotationService.JsonWebKeyLifecycleStates.CURRENT.name().toLowerCase(Locale.ENGLISH);
+        val result = oidcJwksEndpointController.handleRequestInternal(getHttpRequestForEndpoint(OidcConstants.JWKS_URL),
+            new MockHttpServletResponse(), state);
+        assertEquals(HttpStatus.OK, result.getStatusCode());
+        val entityTag = result.getHeaders().getETag();
+        assertNotNull(entityTag);
+        assertNotNull(result.getHeaders().getCacheControl());
+
+        val request = getHttpRequestForEndpoint(OidcConstants.JWKS_URL);
+        request.addHeader(HttpHeaders.IF_NONE_MATCH, entityTag);
+        val cached = oidcJwksEndpointController.handleRequestInternal(request, new MockHttpServletResponse(), state);
+        assertEquals(HttpStatus.NOT_MODIFIED, cached.getStatusCode());
+        assertEquals(entityTag, cached.getHeaders().getETag());
+        assertNull(cached.getBody());
+    }
+
     @Test
     void verifyBadEndpointRequest() throws Throwable {
         val request = getHttpRequestForEndpoint("unknown/issuer");
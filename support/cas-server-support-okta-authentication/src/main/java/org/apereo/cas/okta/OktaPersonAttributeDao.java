@@ -107,4 +107,9 @@ public class OktaPersonAttributeDao extends BasePersonAttributeDao {
         }
         return people;
     }
+
+    @Override
+    public boolean isIndependentQuery() {
+        return true;
+    }
 }
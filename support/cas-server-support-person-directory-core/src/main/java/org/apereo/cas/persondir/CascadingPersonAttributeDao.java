@@ -8,11 +8,14 @@ import org.apereo.cas.authentication.principal.merger.ReplacingAttributeAdder;
 import lombok.Getter;
 import lombok.Setter;
 import lombok.val;
+import org.jooq.lambda.Unchecked;
+import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.Callable;
 
 
 /**
@@ -31,6 +34,10 @@ import java.util.Set;
  * called and the first that returns a result is used as the seed to the remaining child DAOs.  This is the default
  * to support legacy behavior.</li>
  * </ul>
+ * Since every child DAO is queried with the results of the previous ones, child DAOs are always
+ * queried in order. When parallel execution is turned on, a child DAO is queried
+ * concurrently for each person found so far, on virtual threads that do not carry over
+ * thread-bound state of the calling thread such as the current request context.
  *
  * @author Eric Dalquist
  * @since 7.1.0
@@ -73,23 +80,18 @@ public class CascadingPersonAttributeDao extends AbstractAggregatingDefaultQuery
             return null;
         }
 
-        Set<PersonAttributes> mergedPeopleResults = null;
-        for (val person : resultPeople) {
-            val queryAttributes = new LinkedHashMap<String, List<Object>>();
-            val userName = person.getName();
-            if (userName != null) {
-                val userNameMap = this.toSeedMap(userName);
-                queryAttributes.putAll(userNameMap);
-            }
-
-            val personAttributes = person.getAttributes();
-            queryAttributes.putAll(personAttributes);
+        val queries = resultPeople
+            .stream()
+            .map(person -> buildQueryAttributes(seed, person))
+            .map(queryAttributes -> (Callable<Set<PersonAttributes>>)
+                () -> currentlyConsidering.getPeopleWithMultivaluedAttributes(queryAttributes, filter, resultPeople))
+            .toList();
+        val queryResults = parallelExecution && queries.size() > 1
+            ? executeInParallel(Collections.nCopies(queries.size(), currentlyConsidering), queries)
+            : queries.stream().map(Unchecked.function(query -> query.call())).toList();
 
-            if (this.addOriginalAttributesToQuery) {
-                queryAttributes.putAll(seed);
-            }
-
-            val newResults = currentlyConsidering.getPeopleWithMultivaluedAttributes(queryAttributes, filter, resultPeople);
+        Set<PersonAttributes> mergedPeopleResults = null;
+        for (val newResults : queryResults) {
             if (newResults != null) {
                 if (mergedPeopleResults == null) {
                     mergedPeopleResults = new LinkedHashSet<>(newResults);
@@ -101,4 +103,21 @@ public class CascadingPersonAttributeDao extends AbstractAggregatingDefaultQuery
 
         return mergedPeopleResults;
     }
+
+    private Map<String, List<Object>> buildQueryAttributes(final Map<String, List<Object>> seed, final PersonAttributes person) {
+        val queryAttributes = new LinkedHashMap<String, List<Object>>();
+        val userName = person.getName();
+        if (userName != null) {
+            val userNameMap = this.toSeedMap(userName);
+            queryAttributes.putAll(userNameMap);
+        }
+
+        val personAttributes = person.getAttributes();
+        queryAttributes.putAll(personAttributes);
+
+        if (this.addOriginalAttributesToQuery) {
+            queryAttributes.putAll(seed);
+        }
+        return queryAttributes;
+    }
 }
@@ -99,4 +99,9 @@ public class RestfulPersonAttributeDao extends BasePersonAttributeDao {
         }
         return people;
     }
+
+    @Override
+    public boolean isIndependentQuery() {
+        return true;
+    }
 }
@@ -5,17 +5,22 @@ import org.apereo.cas.authentication.attribute.SimplePersonAttributes;
 import org.apereo.cas.authentication.principal.attribute.PersonAttributeDao;
 import org.apereo.cas.authentication.principal.attribute.PersonAttributeDaoFilter;
 import org.apereo.cas.authentication.principal.attribute.PersonAttributes;
+import org.apereo.cas.util.function.FunctionUtils;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import lombok.Getter;
 import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
 import org.aopalliance.intercept.MethodInvocation;
 import org.apache.commons.lang3.ArrayUtils;
+import org.springframework.beans.factory.DisposableBean;
 import org.springframework.beans.factory.InitializingBean;
 import jakarta.annotation.Nonnull;
 import java.io.Serializable;
 import java.lang.reflect.AccessibleObject;
 import java.lang.reflect.Method;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashSet;
@@ -23,17 +28,29 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.LongAdder;
 
 /**
  * A configurable caching implementation of {@link PersonAttributeDao}
  * which caches results from a wrapped {@link PersonAttributeDao}.
+ * <p>
+ * Concurrent cache misses for the same key are coalesced, so that only one query is passed
+ * to the wrapped {@link PersonAttributeDao} while all others wait for its results.
+ * Empty results may be kept in a separate cache with their own expiration policy,
+ * and cached results that are still in use may be reloaded in the background before they expire.
  *
  * @author dgrimwood@unicon.net
  * @author Eric Dalquist
  * @since 7.1.0
  */
 @Slf4j
-public class CachingPersonAttributeDaoImpl extends AbstractDefaultAttributePersonAttributeDao implements InitializingBean {
+public class CachingPersonAttributeDaoImpl extends AbstractDefaultAttributePersonAttributeDao implements InitializingBean, DisposableBean {
     protected static final Set<PersonAttributes> NULL_RESULTS_OBJECT;
 
     static {
@@ -70,10 +87,43 @@ public class CachingPersonAttributeDaoImpl extends AbstractDefaultAttributePerso
     @Setter
     private Set<PersonAttributes> nullResultsObject = NULL_RESULTS_OBJECT;
 
+    /*
+     * The cache to store empty query results in, if any, when they should expire
+     * independently of regular results.
+     */
     @Getter
-    private long queries;
+    @Setter
+    private Map<Serializable, Set<PersonAttributes>> negativeResultsCache;
+
+    /*
+     * Reload cached results that are still in use in the background once they reach this age.
+     */
     @Getter
-    private long misses;
+    @Setter
+    private Duration refreshAheadTime;
+
+    /*
+     * Maximum number of cached results tracked for background reloads.
+     */
+    @Getter
+    @Setter
+    private long maximumCacheSize = 10_000;
+
+    private final LongAdder queries = new LongAdder();
+
+    private final LongAdder misses = new LongAdder();
+
+    private final LongAdder coalescedQueries = new LongAdder();
+
+    private final LongAdder negativeHits = new LongAdder();
+
+    private final LongAdder refreshes = new LongAdder();
+
+    private final ConcurrentMap<Serializable, CompletableFuture<Set<PersonAttributes>>> inFlightQueries = new ConcurrentHashMap<>();
+
+    private final ExecutorService refreshExecutor = Executors.newVirtualThreadPerTaskExecutor();
+
+    private Cache<Serializable, Boolean> freshResults;
 
     @Override
     public void afterPropertiesSet() {
@@ -83,6 +133,17 @@ public class CachingPersonAttributeDaoImpl extends AbstractDefaultAttributePerso
             var usernameAttribute = usernameAttributeProvider.getUsernameAttribute();
             cacheKeyGenerator.setDefaultAttributeName(usernameAttribute);
         }
+        if (refreshAheadTime != null && refreshAheadTime.isPositive()) {
+            freshResults = Caffeine.newBuilder()
+                .maximumSize(maximumCacheSize)
+                .expireAfterWrite(refreshAheadTime)
+                .build();
+        }
+    }
+
+    @Override
+    public void destroy() {
+        refreshExecutor.shutdownNow();
     }
 
     @Override
@@ -91,32 +152,132 @@ public class CachingPersonAttributeDaoImpl extends AbstractDefaultAttributePerso
                                                                     final Set<PersonAttributes> resultPeople) {
         var methodInvocation = new PersonAttributeDaoMethodInvocation(seed);
         var cacheKey = cacheKeyGenerator.generateKey(methodInvocation);
+        if (cacheKey == null) {
+            return cachedPersonAttributesDao.getPeopleWithMultivaluedAttributes(seed, filter, resultPeople);
+        }
 
-        if (cacheKey != null) {
-            var cacheResults = userInfoCache.get(cacheKey);
-            if (cacheResults != null) {
-                if (nullResultsObject.equals(cacheResults)) {
-                    cacheResults = null;
-                }
-                LOGGER.debug("Retrieved query from cache for key=[{}], results=[{}]", cacheKey, cacheResults);
-                this.queries++;
-                return cacheResults;
+        queries.increment();
+        var cacheResults = userInfoCache.get(cacheKey);
+        if (cacheResults != null) {
+            refreshIfNecessary(cacheKey, seed, filter, resultPeople);
+            if (nullResultsObject.equals(cacheResults)) {
+                cacheResults = null;
             }
+            LOGGER.debug("Retrieved query from cache for key=[{}], results=[{}]", cacheKey, cacheResults);
+            return cacheResults;
         }
+        if (negativeResultsCache != null) {
+            val negativeResults = negativeResultsCache.get(cacheKey);
+            if (negativeResults != null) {
+                negativeHits.increment();
+                LOGGER.debug("Retrieved empty query results from cache for key=[{}]", cacheKey);
+                return nullResultsObject.equals(negativeResults) ? null : negativeResults;
+            }
+        }
+        misses.increment();
+        return fetchAndCache(cacheKey, seed, filter, resultPeople);
+    }
+
+    /**
+     * Total number of queries, either served from the cache or passed to the underlying attribute repository.
+     *
+     * @return the queries
+     */
+    public long getQueries() {
+        return queries.sum();
+    }
 
-        var queryResults = cachedPersonAttributesDao.getPeopleWithMultivaluedAttributes(seed, filter, resultPeople);
+    /**
+     * Total number of queries that were not found in the cache.
+     *
+     * @return the misses
+     */
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    /**
+     * Total number of cache misses that waited for the results of an identical query already in progress,
+     * instead of contacting the underlying attribute repository.
+     *
+     * @return the coalesced queries
+     */
+    public long getCoalescedQueries() {
+        return coalescedQueries.sum();
+    }
 
-        if (cacheKey != null) {
-            if (queryResults != null) {
-                userInfoCache.put(cacheKey, queryResults);
-            } else if (cacheNullResults) {
-                userInfoCache.put(cacheKey, nullResultsObject);
+    /**
+     * Total number of queries served from the cache of empty results.
+     *
+     * @return the negative hits
+     */
+    public long getNegativeHits() {
+        return negativeHits.sum();
+    }
+
+    /**
+     * Total number of cached results reloaded in the background before they expired.
+     *
+     * @return the refreshes
+     */
+    public long getRefreshes() {
+        return refreshes.sum();
+    }
+
+    private Set<PersonAttributes> fetchAndCache(final Serializable cacheKey, final Map<String, List<Object>> seed,
+                                                final PersonAttributeDaoFilter filter, final Set<PersonAttributes> resultPeople) {
+        val query = new CompletableFuture<Set<PersonAttributes>>();
+        val inFlightQuery = inFlightQueries.putIfAbsent(cacheKey, query);
+        if (inFlightQuery != null) {
+            coalescedQueries.increment();
+            LOGGER.debug("Waiting for query in progress for key=[{}]", cacheKey);
+            try {
+                return inFlightQuery.join();
+            } catch (final CompletionException e) {
+                throw e.getCause() instanceof RuntimeException cause ? cause : e;
+            }
+        }
+        try {
+            val queryResults = cachedPersonAttributesDao.getPeopleWithMultivaluedAttributes(seed, filter, resultPeople);
+            cacheQueryResults(cacheKey, queryResults);
+            query.complete(queryResults);
+            return queryResults;
+        } catch (final Throwable e) {
+            query.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlightQueries.remove(cacheKey, query);
+        }
+    }
+
+    private void cacheQueryResults(final Serializable cacheKey, final Set<PersonAttributes> queryResults) {
+        if (negativeResultsCache != null && (queryResults == null || queryResults.isEmpty())) {
+            negativeResultsCache.put(cacheKey, queryResults == null ? nullResultsObject : queryResults);
+            userInfoCache.remove(cacheKey);
+            return;
+        }
+        if (queryResults != null) {
+            userInfoCache.put(cacheKey, queryResults);
+            if (freshResults != null) {
+                freshResults.put(cacheKey, Boolean.TRUE);
             }
-            this.queries++;
-            this.misses++;
+        } else if (cacheNullResults) {
+            userInfoCache.put(cacheKey, nullResultsObject);
+        } else {
+            userInfoCache.remove(cacheKey);
         }
+    }
 
-        return queryResults;
+    private void refreshIfNecessary(final Serializable cacheKey, final Map<String, List<Object>> seed,
+                                    final PersonAttributeDaoFilter filter, final Set<PersonAttributes> resultPeople) {
+        if (freshResults != null && !inFlightQueries.containsKey(cacheKey)
+            && freshResults.asMap().putIfAbsent(cacheKey, Boolean.TRUE) == null) {
+            LOGGER.debug("Reloading cached query results in the background for key=[{}]", cacheKey);
+            refreshes.increment();
+            refreshExecutor.execute(() -> FunctionUtils.doAndHandle(__ -> {
+                fetchAndCache(cacheKey, seed, filter, resultPeople);
+            }));
+        }
     }
 
     /**
@@ -138,6 +299,12 @@ public class CachingPersonAttributeDaoImpl extends AbstractDefaultAttributePerso
         val methodInvocation = new PersonAttributeDaoMethodInvocation(seed);
         val cacheKey = cacheKeyGenerator.generateKey(methodInvocation);
         userInfoCache.remove(cacheKey);
+        if (negativeResultsCache != null) {
+            negativeResultsCache.remove(cacheKey);
+        }
+        if (freshResults != null) {
+            freshResults.invalidate(cacheKey);
+        }
     }
 
     @Override
@@ -158,6 +325,11 @@ public class CachingPersonAttributeDaoImpl extends AbstractDefaultAttributePerso
         return cachedPersonAttributesDao.getAvailableQueryAttributes(filter);
     }
 
+    @Override
+    public boolean isIndependentQuery() {
+        return cachedPersonAttributesDao.isIndependentQuery();
+    }
+
     private static class PersonAttributeDaoMethodInvocation implements MethodInvocation {
         private static final Method METHOD;
 
@@ -2,6 +2,7 @@ package org.apereo.cas.persondir;
 
 import org.apereo.cas.authentication.attribute.ComplexPersonAttributeDao;
 import org.apereo.cas.authentication.attribute.SimpleUsernameAttributeProvider;
+import org.apereo.cas.authentication.principal.attribute.PersonAttributeDao;
 import org.apereo.cas.authentication.principal.attribute.PersonAttributes;
 import org.apereo.cas.persondir.cache.AttributeBasedCacheKeyGenerator;
 import org.apereo.cas.persondir.cache.CachingPersonAttributeDaoImpl;
@@ -11,13 +12,22 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
 import java.io.Serializable;
+import java.time.Duration;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import static org.awaitility.Awaitility.*;
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
 
 /**
  * This is {@link CachingPersonAttributeDaoTests}.
@@ -309,4 +319,91 @@ class CachingPersonAttributeDaoTests {
         assertEquals(0, cacheMap.size());
 
     }
+
+    @Test
+    void verifyConcurrentMissesAreCoalesced() throws Exception {
+        val started = new CountDownLatch(1);
+        val release = new CountDownLatch(1);
+        val repository = mock(PersonAttributeDao.class);
+        when(repository.getPeopleWithMultivaluedAttributes(anyMap(), any(), any())).thenAnswer(args -> {
+            started.countDown();
+            release.await();
+            return stubDao.getPeopleWithMultivaluedAttributes(args.getArgument(0), args.getArgument(1), args.getArgument(2));
+        });
+
+        val dao = new CachingPersonAttributeDaoImpl();
+        dao.setCachedPersonAttributesDao(repository);
+        dao.setUsernameAttributeProvider(new SimpleUsernameAttributeProvider(DEFAULT_ATTR));
+        dao.setUserInfoCache(new ConcurrentHashMap<>());
+        dao.afterPropertiesSet();
+
+        try (val executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            val first = executor.submit(() -> dao.getPerson("edalquist"));
+            assertTrue(started.await(5, TimeUnit.SECONDS));
+            val others = IntStream.range(0, 10)
+                .mapToObj(i -> executor.submit(() -> dao.getPerson("edalquist")))
+                .toList();
+            await().atMost(Duration.ofSeconds(5)).until(() -> dao.getCoalescedQueries() == others.size());
+            release.countDown();
+            validateUser1(first.get().getAttributes());
+            for (val result : others) {
+                validateUser1(result.get().getAttributes());
+            }
+        }
+        verify(repository, times(1)).getPeopleWithMultivaluedAttributes(anyMap(), any(), any());
+        assertEquals(11, dao.getMisses());
+    }
+
+    @Test
+    void verifyEmptyResultsCachedSeparately() throws Exception {
+        val cacheMap = new HashMap<Serializable, Set<PersonAttributes>>();
+        val negativeCacheMap = new HashMap<Serializable, Set<PersonAttributes>>();
+
+        val dao = new CachingPersonAttributeDaoImpl();
+        dao.setCachedPersonAttributesDao(stubDao);
+        dao.setUsernameAttributeProvider(new SimpleUsernameAttributeProvider(DEFAULT_ATTR));
+        dao.setUserInfoCache(cacheMap);
+        dao.setNegativeResultsCache(negativeCacheMap);
+        dao.afterPropertiesSet();
+
+        assertNull(dao.getPerson("nobody"));
+        assertNull(dao.getPerson("nobody"));
+        assertEquals(0, cacheMap.size());
+        assertEquals(1, negativeCacheMap.size());
+        assertEquals(1, dao.getMisses());
+        assertEquals(1, dao.getNegativeHits());
+
+        validateUser1(dao.getPerson("edalquist").getAttributes());
+        assertEquals(1, cacheMap.size());
+        assertEquals(1, negativeCacheMap.size());
+
+        dao.removeUserAttributes("nobody");
+        assertEquals(0, negativeCacheMap.size());
+    }
+
+    @Test
+    void verifyRefreshAhead() throws Exception {
+        val repository = mock(PersonAttributeDao.class);
+        when(repository.getPeopleWithMultivaluedAttributes(anyMap(), any(), any())).thenAnswer(args ->
+            stubDao.getPeopleWithMultivaluedAttributes(args.getArgument(0), args.getArgument(1), args.getArgument(2)));
+
+        val dao = new CachingPersonAttributeDaoImpl();
+        dao.setCachedPersonAttributesDao(repository);
+        dao.setUsernameAttributeProvider(new SimpleUsernameAttributeProvider(DEFAULT_ATTR));
+        dao.setUserInfoCache(new ConcurrentHashMap<>());
+        dao.setRefreshAheadTime(Duration.ofMillis(100));
+        dao.afterPropertiesSet();
+
+        validateUser1(dao.getPerson("edalquist").getAttributes());
+        validateUser1(dao.getPerson("edalquist").getAttributes());
+        assertEquals(0, dao.getRefreshes());
+
+        Thread.sleep(200);
+        validateUser1(dao.getPerson("edalquist").getAttributes());
+        assertEquals(1, dao.getRefreshes());
+        await().atMost(Duration.ofSeconds(5)).untilAsserted(() ->
+            verify(repository, times(2)).getPeopleWithMultivaluedAttributes(anyMap(), any(), any()));
+        assertEquals(1, dao.getMisses());
+        dao.destroy();
+    }
 }
@@ -15,6 +15,7 @@ import org.apereo.cas.authentication.principal.resolvers.PersonDirectoryPrincipa
 import org.apereo.cas.configuration.CasConfigurationProperties;
 import org.apereo.cas.configuration.features.CasFeatureModule;
 import org.apereo.cas.configuration.model.core.authentication.PrincipalAttributesCoreProperties;
+import org.apereo.cas.configuration.support.Beans;
 import org.apereo.cas.persondir.CascadingPersonAttributeDao;
 import org.apereo.cas.persondir.DefaultAttributeRepositoryResolver;
 import org.apereo.cas.persondir.DefaultPersonDirectoryAttributeRepositoryPlan;
@@ -27,13 +28,19 @@ import org.apereo.cas.util.function.FunctionUtils;
 import org.apereo.cas.util.spring.boot.ConditionalOnFeatureEnabled;
 import org.apereo.cas.web.report.CasPersonDirectoryEndpoint;
 import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
+import org.springframework.aop.scope.ScopedObject;
 import org.springframework.beans.factory.InitializingBean;
 import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.actuate.autoconfigure.endpoint.condition.ConditionalOnAvailableEndpoint;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.cloud.context.config.annotation.RefreshScope;
@@ -43,6 +50,7 @@ import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Lazy;
 import org.springframework.context.annotation.ScopedProxyMode;
 import org.springframework.core.annotation.AnnotationAwareOrderComparator;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
@@ -50,6 +58,7 @@ import java.util.Locale;
 import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.TimeUnit;
+import java.util.function.ToLongFunction;
 import java.util.stream.Collectors;
 
 /**
@@ -180,11 +189,23 @@ class CasPersonDirectoryConfiguration {
 
             val impl = new CachingPersonAttributeDaoImpl();
             impl.setCacheNullResults(false);
+            val timeUnit = TimeUnit.valueOf(props.getExpirationTimeUnit().toUpperCase(Locale.ENGLISH));
             val userinfoCache = Caffeine.newBuilder()
                 .maximumSize(props.getMaximumCacheSize())
-                .expireAfterWrite(props.getExpirationTime(), TimeUnit.valueOf(props.getExpirationTimeUnit().toUpperCase(Locale.ENGLISH)))
+                .expireAfterWrite(props.getExpirationTime(), timeUnit)
                 .build();
             impl.setUserInfoCache((Map) userinfoCache.asMap());
+            if (props.getNegativeExpirationTime() > 0) {
+                val negativeResultsCache = Caffeine.newBuilder()
+                    .maximumSize(props.getMaximumCacheSize())
+                    .expireAfterWrite(props.getNegativeExpirationTime(), timeUnit)
+                    .build();
+                impl.setNegativeResultsCache((Map) negativeResultsCache.asMap());
+            }
+            if (props.getRefreshAheadTime() > 0) {
+                impl.setRefreshAheadTime(Duration.of(props.getRefreshAheadTime(), timeUnit.toChronoUnit()));
+                impl.setMaximumCacheSize(props.getMaximumCacheSize());
+            }
             impl.setCachedPersonAttributesDao(aggregatingAttributeRepository);
             LOGGER.trace("Configured cache expiration policy for attribute sources to be [{}] minute(s)", props.getExpirationTime());
             return impl;
@@ -214,6 +235,8 @@ class CasPersonDirectoryConfiguration {
 
             val properties = casProperties.getAuthn().getAttributeRepository();
             aggregate.setRequireAll(properties.getCore().isRequireAllRepositorySources());
+            aggregate.setParallelExecution(properties.getCore().isParallelExecution());
+            aggregate.setSourceTimeout(Beans.newDuration(properties.getCore().getSourceTimeout()));
             if (list.isEmpty()) {
                 LOGGER.debug("No attribute repository sources are available/defined to merge together.");
             } else {
@@ -243,4 +266,52 @@ class CasPersonDirectoryConfiguration {
             }).accept(null);
         }
     }
+
+    @Configuration(value = "CasPersonDirectoryAttributeRepositoryMetricsConfiguration", proxyBeanMethods = false)
+    @ConditionalOnClass(MeterBinder.class)
+    static class CasPersonDirectoryAttributeRepositoryMetricsConfiguration {
+        private static Optional<CachingPersonAttributeDaoImpl> getCachingAttributeRepository(
+            final ObjectProvider<PersonAttributeDao> cachingAttributeRepository) {
+            return cachingAttributeRepository.stream()
+                .map(repository -> repository instanceof final ScopedObject scopedObject ? scopedObject.getTargetObject() : repository)
+                .filter(CachingPersonAttributeDaoImpl.class::isInstance)
+                .map(CachingPersonAttributeDaoImpl.class::cast)
+                .findFirst();
+        }
+
+        private static void registerCounter(final MeterRegistry registry, final String name, final String description,
+                                            final Tags tags, final ObjectProvider<PersonAttributeDao> cachingAttributeRepository,
+                                            final ToLongFunction<CachingPersonAttributeDaoImpl> function) {
+            FunctionCounter.builder(name, cachingAttributeRepository,
+                    provider -> getCachingAttributeRepository(provider).map(function::applyAsLong).orElse(0L))
+                .description(description)
+                .tags(tags)
+                .register(registry);
+        }
+
+        @Bean
+        @ConditionalOnMissingBean(name = "cachingAttributeRepositoryMetrics")
+        public MeterBinder cachingAttributeRepositoryMetrics(
+            @Qualifier("cachingAttributeRepository")
+            final ObjectProvider<PersonAttributeDao> cachingAttributeRepository) {
+            return registry -> getCachingAttributeRepository(cachingAttributeRepository).ifPresent(repository -> {
+                val tags = Tags.of("repository", String.join(",", repository.getCachedPersonAttributesDao().getId()));
+                registerCounter(registry, "cas.person.directory.cache.queries",
+                    "Total number of attribute repository queries", tags,
+                    cachingAttributeRepository, CachingPersonAttributeDaoImpl::getQueries);
+                registerCounter(registry, "cas.person.directory.cache.misses",
+                    "Total number of attribute repository queries not found in the cache", tags,
+                    cachingAttributeRepository, CachingPersonAttributeDaoImpl::getMisses);
+                registerCounter(registry, "cas.person.directory.cache.coalesced",
+                    "Total number of attribute repository queries that waited for an identical query in progress", tags,
+                    cachingAttributeRepository, CachingPersonAttributeDaoImpl::getCoalescedQueries);
+                registerCounter(registry, "cas.person.directory.cache.negative.hits",
+                    "Total number of attribute repository queries served from the cache of empty results", tags,
+                    cachingAttributeRepository, CachingPersonAttributeDaoImpl::getNegativeHits);
+                registerCounter(registry, "cas.person.directory.cache.refreshes",
+                    "Total number of cached attribute repository results reloaded in the background", tags,
+                    cachingAttributeRepository, CachingPersonAttributeDaoImpl::getRefreshes);
+            });
+        }
+    }
 }
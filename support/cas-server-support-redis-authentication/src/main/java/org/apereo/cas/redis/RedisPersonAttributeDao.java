@@ -64,5 +64,9 @@ public class RedisPersonAttributeDao extends BasePersonAttributeDao {
         }
         return people;
     }
-}
 
+    @Override
+    public boolean isIndependentQuery() {
+        return true;
+    }
+}
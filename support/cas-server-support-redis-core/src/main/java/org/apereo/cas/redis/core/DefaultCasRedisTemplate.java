@@ -45,13 +45,14 @@ public class DefaultCasRedisTemplate<K, V> extends RedisTemplate<K, V> implement
         val scanOptions = ScanOptions.scanOptions().match(pattern);
         val connection = Objects.requireNonNull(getConnectionFactory()).getConnection();
         val cursor = connection.keyCommands().scan(scanOptions.build());
-        return StreamSupport
+        try (val stream = StreamSupport
             .stream(Spliterators.spliteratorUnknownSize(cursor, Spliterator.ORDERED), false)
             .onClose(() -> {
                 IOUtils.closeQuietly(cursor);
                 connection.close();
-            })
-            .count();
+            })) {
+            return stream.count();
+        }
     }
     
     @Override
@@ -14,7 +14,9 @@ import org.apereo.cas.ticket.registry.DefaultTicketRegistry;
 import org.apereo.cas.ticket.registry.RedisTicketDocument;
 import org.apereo.cas.ticket.registry.RedisTicketRegistry;
 import org.apereo.cas.ticket.registry.RedisTicketRegistryCacheEndpoint;
+import org.apereo.cas.ticket.registry.RedisTicketRegistryCounters;
 import org.apereo.cas.ticket.registry.TicketRegistry;
+import org.apereo.cas.ticket.registry.TicketRegistryCounters;
 import org.apereo.cas.ticket.registry.key.DefaultRedisKeyGenerator;
 import org.apereo.cas.ticket.registry.key.RedisKeyGenerator;
 import org.apereo.cas.ticket.registry.key.RedisKeyGeneratorFactory;
@@ -240,6 +242,21 @@ public class CasRedisTicketRegistryAutoConfiguration {
             return factory;
         }
 
+        @Bean
+        @RefreshScope(proxyMode = ScopedProxyMode.DEFAULT)
+        public TicketRegistryCounters ticketRegistryCounters(
+            @Qualifier("casRedisTemplates")
+            final RedisTicketRegistry.CasRedisTemplates casRedisTemplates,
+            final ConfigurableApplicationContext applicationContext,
+            final CasConfigurationProperties casProperties) {
+            return BeanSupplier.of(TicketRegistryCounters.class)
+                .when(CONDITION.given(applicationContext.getEnvironment()))
+                .and(BeanCondition.on("cas.ticket.registry.counters.enabled").isTrue().given(applicationContext.getEnvironment()))
+                .supply(() -> new RedisTicketRegistryCounters(casRedisTemplates.getSessionsRedisTemplate()))
+                .otherwise(TicketRegistryCounters::noOp)
+                .get();
+        }
+
         @Bean
         @RefreshScope(proxyMode = ScopedProxyMode.DEFAULT)
         public TicketRegistry ticketRegistry(
@@ -257,6 +274,8 @@ public class CasRedisTicketRegistryAutoConfiguration {
             final ObjectProvider<Cache<String, Ticket>> redisTicketRegistryCache,
             @Qualifier("redisTicketRegistryMessagePublisher")
             final ObjectProvider<RedisTicketRegistryMessagePublisher> redisTicketRegistryMessagePublisher,
+            @Qualifier(TicketRegistryCounters.BEAN_NAME)
+            final TicketRegistryCounters ticketRegistryCounters,
             final ConfigurableApplicationContext applicationContext,
             final CasConfigurationProperties casProperties) {
             return BeanSupplier.of(TicketRegistry.class)
@@ -276,9 +295,11 @@ public class CasRedisTicketRegistryAutoConfiguration {
                         keySpaceConfig.addKeyspaceSettings(keyspaceSettings);
                     }
                     val adapter = new RedisKeyValueAdapter(casRedisTemplates.getTicketsRedisTemplate(), redisMappingContext);
-                    return new RedisTicketRegistry(cipher, ticketSerializationManager, ticketCatalog,
+                    val registry = new RedisTicketRegistry(cipher, ticketSerializationManager, ticketCatalog,
                         casRedisTemplates, redisTicketRegistryCache, redisTicketRegistryMessagePublisher,
                         searchCommands, redisKeyGeneratorFactory, adapter, casProperties);
+                    registry.setTicketRegistryCounters(ticketRegistryCounters);
+                    return registry;
                 }))
                 .otherwise(() -> new DefaultTicketRegistry(ticketSerializationManager, ticketCatalog))
                 .get();
@@ -6,13 +6,13 @@ import org.apereo.cas.configuration.CasConfigurationProperties;
 import org.apereo.cas.monitor.Monitorable;
 import org.apereo.cas.redis.core.CasRedisTemplate;
 import org.apereo.cas.ticket.AuthenticationAwareTicket;
-import org.apereo.cas.ticket.IdleExpirationPolicy;
 import org.apereo.cas.ticket.ServiceAwareTicket;
 import org.apereo.cas.ticket.ServiceTicket;
 import org.apereo.cas.ticket.Ticket;
 import org.apereo.cas.ticket.TicketCatalog;
 import org.apereo.cas.ticket.TicketGrantingTicket;
 import org.apereo.cas.ticket.UniqueTicketIdGenerator;
+import org.apereo.cas.ticket.proxy.ProxyGrantingTicket;
 import org.apereo.cas.ticket.registry.key.RedisKeyGenerator;
 import org.apereo.cas.ticket.registry.key.RedisKeyGeneratorFactory;
 import org.apereo.cas.ticket.registry.pub.RedisTicketRegistryMessagePublisher;
@@ -31,22 +31,25 @@ import lombok.Data;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
-import org.apache.commons.lang3.BooleanUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.hjson.JsonValue;
 import org.hjson.Stringify;
 import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.RedisKeyValueAdapter;
+import org.springframework.data.redis.core.RedisOperations;
 import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.SessionCallback;
 import org.springframework.data.redis.core.convert.RedisData;
 import java.io.Serializable;
 import java.net.URI;
 import java.nio.charset.StandardCharsets;
 import java.time.Clock;
 import java.time.Instant;
+import java.time.ZonedDateTime;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
@@ -127,47 +130,94 @@ public class RedisTicketRegistry extends AbstractTicketRegistry implements Clean
             }
         });
         clean();
+        ticketRegistryCounters.reconcile(Stream.empty());
         return size.get();
     }
 
+    /**
+     * Remove the ticket-granting ticket along with its service tickets
+     * and its principal session entry in a single pipelined round-trip.
+     * Ticket-granting tickets that are linked to proxy-granting tickets
+     * and proxy-granting tickets themselves are handled by the parent
+     * since removing them requires updates to other tickets.
+     *
+     * @param ticket the ticket
+     * @return the number of tickets removed
+     * @throws Exception the exception
+     */
     @Override
-    public long deleteSingleTicket(final Ticket ticket) {
-        val redisKeyGenerator = redisKeyGeneratorFactory.getRedisKeyGenerator(ticket.getPrefix()).orElseThrow();
-        val redisTicketsKey = redisKeyGenerator.forPrefixAndId(ticket.getPrefix(), digestIdentifier(ticket.getId()));
-        val count = Stream.of(redisTicketsKey)
-            .mapToInt(id -> BooleanUtils.toBoolean(casRedisTemplates.getTicketsRedisTemplate().delete(id)) ? 1 : 0)
-            .sum();
-
-        if (ticket instanceof TicketGrantingTicket) {
-            redisKeyGeneratorFactory.getRedisKeyGenerator(Principal.class.getName())
-                .ifPresent(principalGenerator -> {
-                    val userId = digestIdentifier(getPrincipalIdFrom(ticket));
-                    if (StringUtils.isNotBlank(userId)) {
-                        val digestedId = digestIdentifier(ticket.getId());
-                        val redisPrincipalKey = principalGenerator.forId(userId);
-                        val ops = casRedisTemplates.getSessionsRedisTemplate().boundZSetOps(redisPrincipalKey);
-                        ops.remove(digestedId);
-                    }
-                });
+    public int deleteTicket(final Ticket ticket) throws Exception {
+        if (ticket instanceof final TicketGrantingTicket tgt && !(ticket instanceof ProxyGrantingTicket)
+            && tgt.getProxyGrantingTickets().isEmpty()) {
+            val tickets = new ArrayList<Ticket>();
+            tgt.getServices().keySet()
+                .stream()
+                .map(this::getTicket)
+                .filter(Objects::nonNull)
+                .forEach(tickets::add);
+            tickets.add(tgt);
+            LOGGER.debug("Removing ticket [{}] and [{}] child ticket(s) from the registry.", tgt, tickets.size() - 1);
+            return Long.valueOf(deleteTicketsFromRedis(tickets)).intValue();
         }
+        return super.deleteTicket(ticket);
+    }
 
-        ticketCache.ifAvailable(cache -> cache.invalidate(redisKeyGenerator.rawKey(redisTicketsKey)));
-        messagePublisher.ifAvailable(publisher -> publisher.delete(ticket));
-        return count;
+    @Override
+    public long deleteSingleTicket(final Ticket ticket) {
+        return deleteTicketsFromRedis(List.of(ticket));
+    }
+
+    /**
+     * Remove the given tickets with a single multi-key delete command.
+     * Principal session entries tracked for ticket-granting tickets are left to expire
+     * based on their score, and removal messages are not published to other nodes,
+     * given the tickets are already expired and no longer usable. Ticket registry counters
+     * are corrected by the next reconciliation pass.
+     *
+     * @param ticketIds the ticket ids
+     * @return the number of tickets removed
+     */
+    @Override
+    public int deleteTickets(final Collection<String> ticketIds) {
+        val redisKeys = new HashMap<String, RedisKeyGenerator>();
+        ticketIds
+            .stream()
+            .filter(ticketId -> StringUtils.contains(ticketId, UniqueTicketIdGenerator.SEPARATOR))
+            .forEach(ticketId -> {
+                val ticketPrefix = StringUtils.substring(ticketId, 0, ticketId.indexOf(UniqueTicketIdGenerator.SEPARATOR));
+                redisKeyGeneratorFactory.getRedisKeyGenerator(ticketPrefix).ifPresent(generator ->
+                    redisKeys.put(generator.forPrefixAndId(ticketPrefix, digestIdentifier(ticketId)), generator));
+            });
+        if (redisKeys.isEmpty()) {
+            return 0;
+        }
+        val count = Objects.requireNonNull(casRedisTemplates.getTicketsRedisTemplate().delete(redisKeys.keySet()));
+        ticketCache.ifAvailable(cache -> redisKeys.forEach((key, generator) -> cache.invalidate(generator.rawKey(key))));
+        LOGGER.debug("Deleted [{}] ticket(s) from [{}] key(s)", count, redisKeys.size());
+        return count.intValue();
     }
 
     @Override
     public List<? extends Ticket> addTicket(final Stream<? extends Ticket> toSave) {
-        return (List) casRedisTemplates.getTicketsRedisTemplate().executePipelined((RedisCallback) connection -> {
-            toSave.parallel().forEach(this::addSingleTicket);
-            return null;
-        });
+        val tickets = toSave.filter(Objects::nonNull).map(Ticket.class::cast).toList();
+        LOGGER.debug("Adding [{}] ticket(s)", tickets.size());
+        val created = addOrUpdateTickets(tickets);
+        for (var i = 0; i < tickets.size(); i++) {
+            val ticket = tickets.get(i);
+            if (created.get(i)) {
+                ticketRegistryCounters.ticketAdded(ticket);
+            }
+            messagePublisher.ifAvailable(publisher -> publisher.add(ticket));
+        }
+        return tickets;
     }
 
     @Override
     public Ticket addSingleTicket(final Ticket ticket) {
         LOGGER.debug("Adding ticket [{}]", ticket);
-        addOrUpdateTicket(ticket);
+        if (addOrUpdateTickets(List.of(ticket)).getFirst()) {
+            ticketRegistryCounters.ticketAdded(ticket);
+        }
         messagePublisher.ifAvailable(publisher -> publisher.add(ticket));
         return ticket;
     }
@@ -176,7 +226,7 @@ public class RedisTicketRegistry extends AbstractTicketRegistry implements Clean
     public Ticket updateTicket(final Ticket ticket) {
         FunctionUtils.doIfNotNull(ticket, __ -> {
             LOGGER.debug("Updating ticket [{}]", ticket);
-            addOrUpdateTicket(ticket);
+            addOrUpdateTickets(List.of(ticket));
             messagePublisher.ifAvailable(p -> p.update(ticket));
         });
         return ticket;
@@ -253,13 +303,36 @@ public class RedisTicketRegistry extends AbstractTicketRegistry implements Clean
             .orElseGet(Stream::empty);
     }
 
+    /**
+     * When ticket registry counters are enabled, sessions are counted from the principal
+     * session entries whose score, that is the expiration instant of the ticket-granting ticket,
+     * is not yet reached. Entries of tickets that are expired and removed by Redis are thus not counted,
+     * without having to fetch the tickets.
+     *
+     * @param principalId the principal id
+     * @return the count
+     */
     @Override
     public long countSessionsFor(final String principalId) {
+        if (ticketRegistryCounters.isEnabled()) {
+            return redisKeyGeneratorFactory.getRedisKeyGenerator(Principal.class.getName())
+                .map(generator -> {
+                    val redisPrincipalKey = generator.forId(digestIdentifier(principalId));
+                    val now = Instant.now(Clock.systemUTC()).getEpochSecond();
+                    val count = casRedisTemplates.getSessionsRedisTemplate().opsForZSet()
+                        .count(redisPrincipalKey, Long.valueOf(now).doubleValue(), Double.POSITIVE_INFINITY);
+                    return Objects.requireNonNullElse(count, 0L);
+                })
+                .orElseGet(() -> getSessionsFor(principalId).count());
+        }
         return getSessionsFor(principalId).count();
     }
 
     @Override
     public long sessionCount() {
+        if (ticketRegistryCounters.isEnabled()) {
+            return ticketRegistryCounters.countSessions();
+        }
         val redisKeyGenerator = redisKeyGeneratorFactory.getRedisKeyGenerator(TicketGrantingTicket.PREFIX).orElseThrow();
         val redisTicketsKey = redisKeyGenerator.forPrefixAndId(redisKeyGenerator.getPrefix(), "*");
 
@@ -271,6 +344,9 @@ public class RedisTicketRegistry extends AbstractTicketRegistry implements Clean
 
     @Override
     public long serviceTicketCount() {
+        if (ticketRegistryCounters.isEnabled()) {
+            return ticketRegistryCounters.countServiceTickets();
+        }
         val redisTicketsKey = redisKeyGeneratorFactory.getRedisKeyGenerator(ServiceTicket.PREFIX)
             .orElseThrow().forPrefixAndId(ServiceTicket.PREFIX, "*");
         val options = ScanOptions.scanOptions().match(redisTicketsKey).build();
@@ -311,6 +387,9 @@ public class RedisTicketRegistry extends AbstractTicketRegistry implements Clean
 
     @Override
     public long countTicketsFor(final Service service) {
+        if (ticketRegistryCounters.isEnabled()) {
+            return ticketRegistryCounters.countTicketsFor(service.getId());
+        }
         return redisModuleCommands
             .map(command -> {
                 val originalUrl = URI.create(service.getOriginalUrl());
@@ -335,6 +414,9 @@ public class RedisTicketRegistry extends AbstractTicketRegistry implements Clean
 
     @Override
     public long countTickets() {
+        if (ticketRegistryCounters.isEnabled()) {
+            return ticketRegistryCounters.countTickets();
+        }
         val redisKeyGenerator = redisKeyGeneratorFactory.getRedisKeyGenerator(TicketGrantingTicket.PREFIX).orElseThrow();
         val redisTicketsKey = redisKeyGenerator.forPrefixAndId("*", "*");
         return casRedisTemplates.getTicketsRedisTemplate().count(redisTicketsKey);
@@ -381,8 +463,9 @@ public class RedisTicketRegistry extends AbstractTicketRegistry implements Clean
                     .collect(Collectors.toList());
             }
         }
-        val keys = fetchKeysForTickets(redisTicketsKey);
-        return (queryCriteria.getCount() > 0 ? keys.limit(queryCriteria.getCount()) : keys).collect(Collectors.toList());
+        try (val keys = fetchKeysForTickets(redisTicketsKey)) {
+            return (queryCriteria.getCount() > 0 ? keys.limit(queryCriteria.getCount()) : keys).collect(Collectors.toList());
+        }
     }
 
     @Override
@@ -398,8 +481,14 @@ public class RedisTicketRegistry extends AbstractTicketRegistry implements Clean
     }
 
     private Stream<String> fetchKeysForTickets(final String key) {
-        LOGGER.debug("Loading keys for pattern [{}]", key);
-        return Objects.requireNonNull(casRedisTemplates.getTicketsRedisTemplate().keys(key)).parallelStream();
+        LOGGER.debug("Scanning keys for pattern [{}]", key);
+        var options = ScanOptions.scanOptions().match(key);
+        val scanCount = casProperties.getTicket().getRegistry().getRedis().getScanCount();
+        if (scanCount > 0) {
+            options = options.count(scanCount);
+        }
+        val cursor = casRedisTemplates.getTicketsRedisTemplate().scan(options.build());
+        return cursor.stream().distinct();
     }
 
     protected RedisTicketDocument buildTicketAsDocument(final Ticket ticket) {
@@ -475,30 +564,118 @@ public class RedisTicketRegistry extends AbstractTicketRegistry implements Clean
         return null;
     }
 
-    private void addOrUpdateTicket(final Ticket ticket) {
+    /**
+     * Write the given tickets, their expiration and principal session entries
+     * in a single pipelined round-trip. Both the tickets and sessions templates
+     * are backed by the same connection factory, and so commands issued by either
+     * template within the session callback share the pipelined connection.
+     * Ticket documents are written as hashes that are readable by the key-value adapter,
+     * without going through the adapter that would otherwise open its own pipeline per ticket.
+     * Existing keys are removed first so that the leading pipeline results map back to the tickets
+     * in order, and tell whether each ticket was newly created or replaced an existing ticket.
+     *
+     * @param tickets the tickets
+     * @return whether each ticket, in order, was newly created
+     */
+    private List<Boolean> addOrUpdateTickets(final List<? extends Ticket> tickets) {
+        val entries = tickets.parallelStream().map(this::buildTicketEntry).toList();
+        val trackPrincipals = redisKeyGeneratorFactory.getRedisKeyGenerator(Principal.class.getName()).isPresent();
+        val results = casRedisTemplates.getTicketsRedisTemplate().executePipelined(new SessionCallback<>() {
+            @Override
+            public <K, V> Object execute(final RedisOperations<K, V> operations) {
+                casRedisTemplates.getTicketsRedisTemplate().execute((RedisCallback<Object>) connection -> {
+                    entries.forEach(entry -> connection.keyCommands().del(entry.redisKey().getBytes(StandardCharsets.UTF_8)));
+                    return null;
+                });
+                entries.forEach(entry -> {
+                    casRedisTemplates.getTicketsRedisTemplate().execute((RedisCallback<Object>) connection -> {
+                        connection.hashCommands().hMSet(entry.redisKey().getBytes(StandardCharsets.UTF_8),
+                            entry.redisData().getBucket().rawMap());
+                        return null;
+                    });
+                    configureTicketExpirationInstant(entry.ticket(), entry.redisKey());
+                    if (trackPrincipals) {
+                        trackAuthenticationPrincipal(entry.ticket());
+                    }
+                });
+                return null;
+            }
+        });
+        ticketCache.ifAvailable(cache -> entries.forEach(entry -> cache.put(entry.digestedId(), entry.ticket())));
+        val created = new ArrayList<Boolean>(entries.size());
+        for (var i = 0; i < entries.size(); i++) {
+            created.add(i >= results.size() || !(results.get(i) instanceof final Long removed) || removed == 0);
+        }
+        return created;
+    }
+
+    private RedisTicketEntry buildTicketEntry(final Ticket ticket) {
         val digestedId = digestIdentifier(ticket.getId());
         val redisKeyGenerator = redisKeyGeneratorFactory.getRedisKeyGenerator(ticket.getPrefix()).orElseThrow();
-        val redisKeyPattern = redisKeyGenerator.forPrefixAndId(ticket.getPrefix(), digestedId);
-
-        val timeout = RedisKeyGenerator.getTicketExpirationInSeconds(ticket);
+        val redisKey = redisKeyGenerator.forPrefixAndId(ticket.getPrefix(), digestedId);
         val ticketDocument = buildTicketAsDocument(ticket);
-
-        val valueOps = casRedisTemplates.getTicketsRedisTemplate().boundValueOps(redisKeyPattern);
-        valueOps.set(ticketDocument, timeout, TimeUnit.SECONDS);
-
-        val keyspace = redisKeyGenerator.getKeyspace();
         val redisDataItem = new RedisData();
         redisKeyValueAdapter.getConverter().write(ticketDocument, redisDataItem);
-        redisDataItem.setKeyspace(keyspace);
+        redisDataItem.setKeyspace(redisKeyGenerator.getKeyspace());
+        return new RedisTicketEntry(ticket, digestedId, redisKey, redisDataItem);
+    }
 
-        redisKeyValueAdapter.put(ticketDocument.ticketId(), redisDataItem, keyspace);
-        configureTicketExpirationInstant(ticket, redisKeyPattern);
-        ticketCache.ifAvailable(cache -> cache.put(digestedId, ticket));
+    /**
+     * Remove the given tickets and the principal session entries of ticket-granting tickets
+     * in a single pipelined round-trip. Key deletions are issued first so that
+     * the leading pipeline results map back to the tickets in order.
+     *
+     * @param tickets the tickets
+     * @return the number of tickets removed
+     */
+    private long deleteTicketsFromRedis(final List<? extends Ticket> tickets) {
+        val redisKeys = tickets
+            .stream()
+            .map(ticket -> redisKeyGeneratorFactory.getRedisKeyGenerator(ticket.getPrefix()).orElseThrow()
+                .forPrefixAndId(ticket.getPrefix(), digestIdentifier(ticket.getId())))
+            .toList();
+        val principalGenerator = redisKeyGeneratorFactory.getRedisKeyGenerator(Principal.class.getName());
+        val results = casRedisTemplates.getTicketsRedisTemplate().executePipelined(new SessionCallback<>() {
+            @Override
+            public <K, V> Object execute(final RedisOperations<K, V> operations) {
+                redisKeys.forEach(redisKey -> casRedisTemplates.getTicketsRedisTemplate().delete(redisKey));
+                principalGenerator.ifPresent(generator -> tickets
+                    .stream()
+                    .filter(TicketGrantingTicket.class::isInstance)
+                    .forEach(ticket -> {
+                        val userId = digestIdentifier(getPrincipalIdFrom(ticket));
+                        if (StringUtils.isNotBlank(userId)) {
+                            val redisPrincipalKey = generator.forId(userId);
+                            casRedisTemplates.getSessionsRedisTemplate().opsForZSet().remove(redisPrincipalKey, digestIdentifier(ticket.getId()));
+                        }
+                    }));
+                return null;
+            }
+        });
 
-        redisKeyGeneratorFactory.getRedisKeyGenerator(Principal.class.getName())
-            .ifPresent(generator -> trackAuthenticationPrincipal(ticket));
+        var count = 0L;
+        for (var i = 0; i < tickets.size(); i++) {
+            val ticket = tickets.get(i);
+            if (i < results.size() && results.get(i) instanceof final Long removed && removed > 0) {
+                ticketRegistryCounters.ticketRemoved(ticket);
+                count++;
+            }
+            val redisKey = redisKeys.get(i);
+            val redisKeyGenerator = redisKeyGeneratorFactory.getRedisKeyGenerator(ticket.getPrefix()).orElseThrow();
+            ticketCache.ifAvailable(cache -> cache.invalidate(redisKeyGenerator.rawKey(redisKey)));
+            messagePublisher.ifAvailable(publisher -> publisher.delete(ticket));
+        }
+        return count;
     }
 
+    /**
+     * Record the ticket-granting ticket in the principal session entries, scored by
+     * the instant at which the ticket key expires, which is refreshed every time the ticket is stored.
+     * The entries themselves are kept for the maximum lifetime of the ticket, so that
+     * entries of other sessions for the same principal that expire later are not dropped.
+     *
+     * @param ticket the ticket
+     */
     protected void trackAuthenticationPrincipal(final Ticket ticket) {
         val userId = digestIdentifier(getPrincipalIdFrom(ticket));
         if (StringUtils.isNotBlank(userId) && ticket instanceof TicketGrantingTicket) {
@@ -511,28 +688,30 @@ public class RedisTicketRegistry extends AbstractTicketRegistry implements Clean
             } else {
                 ops.removeRangeByScore(0, Long.valueOf(now.getEpochSecond()).doubleValue() + 1);
             }
-            val timeout = RedisKeyGenerator.getTicketExpirationInSeconds(ticket);
-            val digestedId = digestIdentifier(ticket.getId());
-            ops.add(digestedId, Long.valueOf(now.getEpochSecond() + timeout).doubleValue());
-
-            if (ticket.getExpirationPolicy() instanceof final IdleExpirationPolicy iep) {
-                ops.expireAt(iep.getIdleExpirationTime(ticket).toInstant());
-            } else {
-                ops.expire(timeout, TimeUnit.SECONDS);
-            }
+            val expirationInstant = getTicketExpirationInstant(ticket);
+            ops.add(digestIdentifier(ticket.getId()), Long.valueOf(expirationInstant.getEpochSecond()).doubleValue());
+            ops.expire(RedisKeyGenerator.getTicketExpirationInSeconds(ticket), TimeUnit.SECONDS);
         }
     }
 
     protected void configureTicketExpirationInstant(final Ticket ticket, final String redisKeyPattern) {
-        if (ticket.getExpirationPolicy() instanceof final IdleExpirationPolicy iep) {
-            val expirationInstant = iep.getIdleExpirationTime(ticket).toInstant();
-            casRedisTemplates.getTicketsRedisTemplate().expireAt(redisKeyPattern, expirationInstant);
-            LOGGER.debug("Ticket [{}] will expire at [{}]", ticket.getId(), expirationInstant);
-        } else {
-            val timeoutSeconds = RedisKeyGenerator.getTicketExpirationInSeconds(ticket);
-            casRedisTemplates.getTicketsRedisTemplate().expire(redisKeyPattern, timeoutSeconds, TimeUnit.SECONDS);
-            LOGGER.debug("Ticket [{}] will expire in [{}] second(s)", ticket.getId(), timeoutSeconds);
-        }
+        val expirationInstant = getTicketExpirationInstant(ticket);
+        casRedisTemplates.getTicketsRedisTemplate().expireAt(redisKeyPattern, expirationInstant);
+        LOGGER.debug("Ticket [{}] will expire at [{}]", ticket.getId(), expirationInstant);
+    }
+
+    /**
+     * Calculate the instant at which the ticket key expires. The same instant is used
+     * to score the principal session entry of the ticket, so that sessions are no longer counted once
+     * the ticket expires, whether because of its maximum lifetime or because it was left idle.
+     *
+     * @param ticket the ticket
+     * @return the expiration instant
+     */
+    protected static Instant getTicketExpirationInstant(final Ticket ticket) {
+        return Optional.ofNullable(getTicketExpirationTime(ticket))
+            .map(ZonedDateTime::toInstant)
+            .orElseGet(() -> Instant.now(Clock.systemUTC()).plusSeconds(RedisKeyGenerator.getTicketExpirationInSeconds(ticket)));
     }
 
     private void createIndexesIfNecessary() {
@@ -563,6 +742,9 @@ public class RedisTicketRegistry extends AbstractTicketRegistry implements Clean
                 }));
     }
 
+    private record RedisTicketEntry(Ticket ticket, String digestedId, String redisKey, RedisData redisData) {
+    }
+
     @Data
     public static class CasRedisTemplates {
         private final CasRedisTemplate<String, RedisTicketDocument> ticketsRedisTemplate;
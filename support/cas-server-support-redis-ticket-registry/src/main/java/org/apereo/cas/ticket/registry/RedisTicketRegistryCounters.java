@@ -0,0 +1,100 @@
+package org.apereo.cas.ticket.registry;
+
+import org.apereo.cas.redis.core.CasRedisTemplate;
+import org.apereo.cas.ticket.Ticket;
+import org.apereo.cas.util.DigestUtils;
+import lombok.RequiredArgsConstructor;
+import lombok.val;
+import org.apache.commons.lang3.math.NumberUtils;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.core.RedisCallback;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * This is {@link RedisTicketRegistryCounters} that keeps ticket registry counters
+ * as fields of a single Redis hash, shared by all CAS server nodes. Counters are updated
+ * atomically via a script that issues {@code HINCRBY} for every counter in a single round-trip,
+ * and removes counters that drop to zero. Reconciliation applies corrections through the same
+ * script, so the hash is never removed or rewritten while other nodes update or read counters.
+ * Principal and service identifiers are digested before they are used as hash fields.
+ * Sessions are not counted per principal, since the ticket registry counts them from the
+ * principal session entries that expire along with ticket-granting tickets.
+ *
+ * @author Misagh Moayyed
+ * @since 7.2.0
+ */
+@RequiredArgsConstructor
+public class RedisTicketRegistryCounters extends AbstractTicketRegistryCounters {
+    /**
+     * Redis key for the hash that holds the counters.
+     */
+    public static final String COUNTERS_KEY = "CAS_TICKET_REGISTRY_COUNTERS";
+
+    private static final byte[] COUNTERS_KEY_BYTES = COUNTERS_KEY.getBytes(StandardCharsets.UTF_8);
+
+    private static final byte[] SCRIPT_INCREMENT_COUNTERS = """
+        for i = 1, #ARGV, 2 do
+            if redis.call('HINCRBY', KEYS[1], ARGV[i], ARGV[i + 1]) == 0 then
+                redis.call('HDEL', KEYS[1], ARGV[i])
+            end
+        end
+        return 0
+        """.getBytes(StandardCharsets.UTF_8);
+
+    private final CasRedisTemplate<String, String> redisTemplate;
+
+    @Override
+    protected void increment(final Map<String, Long> deltas) {
+        val keysAndArgs = new ArrayList<byte[]>(deltas.size() * 2 + 1);
+        keysAndArgs.add(COUNTERS_KEY_BYTES);
+        deltas.forEach((key, delta) -> {
+            keysAndArgs.add(toBytes(key));
+            keysAndArgs.add(toBytes(String.valueOf(delta)));
+        });
+        redisTemplate.execute((RedisCallback<Object>) connection ->
+            connection.scriptingCommands().eval(SCRIPT_INCREMENT_COUNTERS, ReturnType.INTEGER, 1,
+                keysAndArgs.toArray(byte[][]::new)));
+    }
+
+    @Override
+    protected long getCount(final String key) {
+        val result = redisTemplate.execute((RedisCallback<byte[]>) connection ->
+            connection.hashCommands().hGet(COUNTERS_KEY_BYTES, toBytes(key)));
+        return result == null ? 0 : Math.max(toLong(result), 0);
+    }
+
+    @Override
+    protected Map<String, Long> getCounts() {
+        val results = redisTemplate.execute((RedisCallback<Map<byte[], byte[]>>) connection ->
+            connection.hashCommands().hGetAll(COUNTERS_KEY_BYTES));
+        val counts = new HashMap<String, Long>();
+        Objects.requireNonNullElse(results, Map.<byte[], byte[]>of()).forEach((key, value) ->
+            counts.put(new String(key, StandardCharsets.UTF_8), toLong(value)));
+        return counts;
+    }
+
+    @Override
+    protected Collection<String> getCounterKeys(final Ticket ticket) {
+        val keys = super.getCounterKeys(ticket);
+        keys.removeIf(key -> key.startsWith(KEY_PREFIX_PRINCIPAL));
+        return keys;
+    }
+
+    @Override
+    protected String getCounterKey(final String prefix, final String identifier) {
+        return prefix + DigestUtils.sha256(identifier);
+    }
+
+    private static long toLong(final byte[] value) {
+        return NumberUtils.toLong(new String(value, StandardCharsets.UTF_8));
+    }
+
+    private static byte[] toBytes(final String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+}
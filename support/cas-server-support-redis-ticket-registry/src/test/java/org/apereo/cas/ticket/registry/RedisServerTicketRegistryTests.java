@@ -17,6 +17,7 @@ import org.apereo.cas.ticket.TicketGrantingTicket;
 import org.apereo.cas.ticket.TicketGrantingTicketImpl;
 import org.apereo.cas.ticket.expiration.HardTimeoutExpirationPolicy;
 import org.apereo.cas.ticket.expiration.NeverExpiresExpirationPolicy;
+import org.apereo.cas.ticket.expiration.TicketGrantingTicketExpirationPolicy;
 import org.apereo.cas.ticket.expiration.TimeoutExpirationPolicy;
 import org.apereo.cas.ticket.proxy.ProxyGrantingTicket;
 import org.apereo.cas.ticket.proxy.ProxyTicket;
@@ -47,6 +48,7 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.mock.web.MockHttpServletRequest;
 import org.springframework.test.context.TestPropertySource;
 import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 import java.util.concurrent.TimeUnit;
@@ -249,6 +251,61 @@ class RedisServerTicketRegistryTests {
             assertTrue(totalCount > 0);
         }
 
+        @RepeatedTest(2)
+        void verifyBulkAddAndDeleteSessions() throws Throwable {
+            val authentication = CoreAuthenticationTestUtils.getAuthentication(UUID.randomUUID().toString());
+            val ticketGrantingTicketToAdd = Stream.generate(() -> {
+                val tgtId = new TicketGrantingTicketIdGenerator(10, StringUtils.EMPTY)
+                    .getNewTicketId(TicketGrantingTicket.PREFIX);
+                return new TicketGrantingTicketImpl(tgtId, authentication, NeverExpiresExpirationPolicy.INSTANCE);
+            }).limit(5);
+            val addedTickets = getNewTicketRegistry().addTicket(ticketGrantingTicketToAdd);
+            assertEquals(5, addedTickets.size());
+            addedTickets.forEach(ticket -> assertNotNull(getNewTicketRegistry().getTicket(ticket.getId())));
+            assertEquals(5, getNewTicketRegistry().getSessionsFor(authentication.getPrincipal().getId()).count());
+
+            addedTickets.forEach(Unchecked.consumer(ticket -> assertEquals(1, getNewTicketRegistry().deleteTicket(ticket))));
+            assertEquals(0, getNewTicketRegistry().getSessionsFor(authentication.getPrincipal().getId()).count());
+        }
+
+        @RepeatedTest(2)
+        void verifyDeleteTicketsInBulk() throws Throwable {
+            val authentication = CoreAuthenticationTestUtils.getAuthentication(UUID.randomUUID().toString());
+            val tgt1 = new TicketGrantingTicketImpl(TestTicketIdentifiers.generate().ticketGrantingTicketId(),
+                authentication, NeverExpiresExpirationPolicy.INSTANCE);
+            val tgt2 = new TicketGrantingTicketImpl(TestTicketIdentifiers.generate().ticketGrantingTicketId(),
+                authentication, NeverExpiresExpirationPolicy.INSTANCE);
+            getNewTicketRegistry().addTicket(tgt1);
+            getNewTicketRegistry().addTicket(tgt2);
+            assertNotNull(getNewTicketRegistry().getTicket(tgt1.getId()));
+
+            val ticketIds = List.of(tgt1.getId(), tgt2.getId(),
+                TestTicketIdentifiers.generate().serviceTicketId(), UUID.randomUUID().toString());
+            assertEquals(2, getNewTicketRegistry().deleteTickets(ticketIds));
+            assertNull(getNewTicketRegistry().getTicket(tgt1.getId()));
+            assertNull(getNewTicketRegistry().getTicket(tgt2.getId()));
+            assertEquals(0, getNewTicketRegistry().deleteTickets(ticketIds));
+        }
+
+        @Test
+        void verifySessionsTrackedAfterIdleDeadline() throws Throwable {
+            val authentication = CoreAuthenticationTestUtils.getAuthentication(UUID.randomUUID().toString());
+            val tgtId = new TicketGrantingTicketIdGenerator(10, StringUtils.EMPTY).getNewTicketId(TicketGrantingTicket.PREFIX);
+            val tgt = new TicketGrantingTicketImpl(tgtId, authentication, new TimeoutExpirationPolicy(2));
+            getNewTicketRegistry().addTicket(tgt);
+            for (var i = 0; i < 3; i++) {
+                Thread.sleep(1000);
+                val service = RegisteredServiceTestUtils.getService(UUID.randomUUID().toString());
+                val stId = new ServiceTicketIdGenerator(10, StringUtils.EMPTY).getNewTicketId(ServiceTicket.PREFIX);
+                val st = tgt.grantServiceTicket(stId, service, NeverExpiresExpirationPolicy.INSTANCE, false, serviceTicketSessionTrackingPolicy);
+                getNewTicketRegistry().updateTicket(tgt);
+            }
+            assertNotNull(getNewTicketRegistry().getTicket(tgtId, TicketGrantingTicket.class));
+            val sessions = getNewTicketRegistry().getSessionsFor(authentication.getPrincipal().getId()).toList();
+            assertEquals(1, sessions.size());
+            assertEquals(tgtId, sessions.getFirst().getId());
+        }
+
         private static <T> T executedTimedOperation(final String name, final Supplier<T> operation) {
             val stopwatch = new StopWatch();
             stopwatch.start();
@@ -551,4 +608,88 @@ class RedisServerTicketRegistryTests {
             }
         }
     }
+
+    @Nested
+    @SpringBootTest(
+        classes = {
+            CasRedisCoreAutoConfiguration.class,
+            CasRedisTicketRegistryAutoConfiguration.class,
+            BaseTicketRegistryTests.SharedTestConfiguration.class
+        }, properties = {
+            "cas.ticket.tgt.core.only-track-most-recent-session=false",
+            "cas.ticket.registry.counters.enabled=true",
+            "cas.ticket.registry.redis.host=localhost",
+            "cas.ticket.registry.redis.port=6379",
+            "cas.ticket.registry.redis.crypto.enabled=false"
+        })
+    @ExtendWith(CasTestExtension.class)
+    class CountersTests {
+        @Autowired
+        @Qualifier(TicketRegistry.BEAN_NAME)
+        private TicketRegistry ticketRegistry;
+
+        @Autowired
+        @Qualifier(TicketTrackingPolicy.BEAN_NAME_SERVICE_TICKET_TRACKING)
+        private TicketTrackingPolicy serviceTicketSessionTrackingPolicy;
+
+        @Test
+        void verifyTicketsCountedOnce() throws Throwable {
+            val principalId = UUID.randomUUID().toString();
+            val tgt = new TicketGrantingTicketImpl(BaseTicketRegistryTests.TestTicketIdentifiers.generate().ticketGrantingTicketId(),
+                CoreAuthenticationTestUtils.getAuthentication(principalId), NeverExpiresExpirationPolicy.INSTANCE);
+            val service = RegisteredServiceTestUtils.getService(UUID.randomUUID().toString());
+            val st = tgt.grantServiceTicket(BaseTicketRegistryTests.TestTicketIdentifiers.generate().serviceTicketId(),
+                service, NeverExpiresExpirationPolicy.INSTANCE, false, serviceTicketSessionTrackingPolicy);
+            ticketRegistry.addTicket(tgt);
+            ticketRegistry.addTicket(st);
+            ticketRegistry.addTicket(Stream.of(tgt, st));
+            assertEquals(1, ticketRegistry.countTicketsFor(service));
+            assertEquals(1, ticketRegistry.countSessionsFor(principalId));
+
+            ticketRegistry.deleteTicket(tgt.getId());
+            assertEquals(0, ticketRegistry.countTicketsFor(service));
+            assertEquals(0, ticketRegistry.countSessionsFor(principalId));
+        }
+
+        @Test
+        void verifySessionsCountedUntilExpired() throws Throwable {
+            val principalId = UUID.randomUUID().toString();
+            val tgt = new TicketGrantingTicketImpl(BaseTicketRegistryTests.TestTicketIdentifiers.generate().ticketGrantingTicketId(),
+                CoreAuthenticationTestUtils.getAuthentication(principalId), new HardTimeoutExpirationPolicy(2));
+            ticketRegistry.addTicket(tgt);
+            assertEquals(1, ticketRegistry.countSessionsFor(principalId));
+            await().atMost(5, TimeUnit.SECONDS).untilAsserted(() -> assertEquals(0, ticketRegistry.countSessionsFor(principalId)));
+        }
+
+        @Test
+        void verifyIdleSessionsCountedUntilExpired() throws Throwable {
+            val principalId = UUID.randomUUID().toString();
+            val tgt = new TicketGrantingTicketImpl(BaseTicketRegistryTests.TestTicketIdentifiers.generate().ticketGrantingTicketId(),
+                CoreAuthenticationTestUtils.getAuthentication(principalId), new TicketGrantingTicketExpirationPolicy(3600, 2));
+            ticketRegistry.addTicket(tgt);
+            assertEquals(1, ticketRegistry.countSessionsFor(principalId));
+            await().atMost(5, TimeUnit.SECONDS).untilAsserted(() -> assertEquals(0, ticketRegistry.countSessionsFor(principalId)));
+        }
+
+        @Test
+        void verifyReconciliation() throws Throwable {
+            val tgt = new TicketGrantingTicketImpl(BaseTicketRegistryTests.TestTicketIdentifiers.generate().ticketGrantingTicketId(),
+                CoreAuthenticationTestUtils.getAuthentication(UUID.randomUUID().toString()), NeverExpiresExpirationPolicy.INSTANCE);
+            val service = RegisteredServiceTestUtils.getService(UUID.randomUUID().toString());
+            val st = tgt.grantServiceTicket(BaseTicketRegistryTests.TestTicketIdentifiers.generate().serviceTicketId(),
+                service, NeverExpiresExpirationPolicy.INSTANCE, false, serviceTicketSessionTrackingPolicy);
+            ticketRegistry.addTicket(tgt);
+            ticketRegistry.addTicket(st);
+            assertEquals(1, ticketRegistry.deleteTickets(List.of(st.getId())));
+            assertEquals(1, ticketRegistry.countTicketsFor(service));
+
+            val counters = ((AbstractTicketRegistry) ticketRegistry).getTicketRegistryCounters();
+            assertInstanceOf(RedisTicketRegistryCounters.class, counters);
+            try (val tickets = ticketRegistry.stream()) {
+                counters.reconcile(tickets);
+            }
+            assertEquals(0, ticketRegistry.countTicketsFor(service));
+            assertNotNull(ticketRegistry.getTicket(tgt.getId()));
+        }
+    }
 }
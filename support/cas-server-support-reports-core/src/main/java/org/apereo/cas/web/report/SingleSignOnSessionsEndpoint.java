@@ -344,6 +344,8 @@ public class SingleSignOnSessionsEndpoint extends BaseCasRestActuatorEndpoint {
             .stream(TicketRegistryStreamCriteria.builder()
                 .count(ssoSessionsRequest.getCount())
                 .from(ssoSessionsRequest.getFrom())
+                .type(TicketGrantingTicket.PREFIX)
+                .excludeExpired(true)
                 .build())
             .filter(ticket -> ticket instanceof TicketGrantingTicket && !ticket.isExpired());
     }
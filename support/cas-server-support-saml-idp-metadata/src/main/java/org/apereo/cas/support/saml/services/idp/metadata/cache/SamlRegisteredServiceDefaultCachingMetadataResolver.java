@@ -8,6 +8,7 @@ import org.apereo.cas.support.saml.SamlException;
 import org.apereo.cas.support.saml.services.SamlRegisteredService;
 import org.apereo.cas.util.function.FunctionUtils;
 import org.apereo.cas.util.spring.SpringExpressionLanguageValueResolver;
+import com.github.benmanes.caffeine.cache.Cache;
 import com.github.benmanes.caffeine.cache.CacheLoader;
 import com.github.benmanes.caffeine.cache.Caffeine;
 import com.github.benmanes.caffeine.cache.LoadingCache;
@@ -20,12 +21,16 @@ import lombok.extern.slf4j.Slf4j;
 import lombok.val;
 import net.shibboleth.shared.resolver.CriteriaSet;
 import org.jooq.lambda.Unchecked;
+import org.opensaml.core.criterion.EntityIdCriterion;
 import org.opensaml.core.criterion.SatisfyAnyCriterion;
 import org.opensaml.saml.metadata.criteria.entity.impl.EvaluableEntityRoleEntityDescriptorCriterion;
 import org.opensaml.saml.metadata.resolver.MetadataResolver;
 import org.opensaml.saml.saml2.metadata.EntityDescriptor;
 import org.opensaml.saml.saml2.metadata.SPSSODescriptor;
 import org.springframework.util.Assert;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.Objects;
 import java.util.Optional;
 
@@ -33,6 +38,12 @@ import java.util.Optional;
  * An adaptation of metadata resolver which handles the resolution of metadata resources
  * inside a cache. It basically is a fancy wrapper around a cache, and constructs the cache
  * semantics before processing the resolution of metadata for a SAML service.
+ * <p>
+ * Services that share the same metadata source share the same cache entry, and so the same
+ * parsed metadata. Once cached metadata is older than the refresh interval, it continues to be used
+ * while it is refreshed in the background, and remains in use if the refresh fails until it expires.
+ * Entity ids are indexed by the cache entry that last resolved them, so that repeated lookups
+ * do not need to examine all cached metadata.
  *
  * @author Misagh Moayyed
  * @since 5.0.0
@@ -46,7 +57,13 @@ public class SamlRegisteredServiceDefaultCachingMetadataResolver implements Saml
     private final OpenSamlConfigBean openSamlConfigBean;
 
     private final CasConfigurationProperties casProperties;
-    
+
+    private final Cache<String, SamlRegisteredServiceCacheKey> entityIndex;
+
+    private final Cache<SamlRegisteredServiceCacheKey, Instant> refreshAttempts;
+
+    private final Duration refreshInterval;
+
     public SamlRegisteredServiceDefaultCachingMetadataResolver(
         final CasConfigurationProperties casProperties,
         final CacheLoader<SamlRegisteredServiceCacheKey, CachedMetadataResolverResult> loader,
@@ -62,6 +79,16 @@ public class SamlRegisteredServiceDefaultCachingMetadataResolver implements Saml
             .recordStats()
             .expireAfter(new SamlRegisteredServiceMetadataExpirationPolicy(metadataCacheExpiration))
             .build(loader);
+        this.entityIndex = Caffeine.newBuilder()
+            .maximumSize(core.getCacheMaximumSize())
+            .build();
+        this.refreshInterval = Beans.isInfinitelyDurable(core.getCacheRefreshInterval())
+            ? Duration.ZERO
+            : Beans.newDuration(core.getCacheRefreshInterval());
+        this.refreshAttempts = Caffeine.newBuilder()
+            .maximumSize(core.getCacheMaximumSize())
+            .expireAfterWrite(refreshInterval.isPositive() ? refreshInterval : Duration.ofMinutes(1))
+            .build();
     }
 
     private static long countResolvableEntityDescriptors(final MetadataResolutionResult result) {
@@ -102,6 +129,8 @@ public class SamlRegisteredServiceDefaultCachingMetadataResolver implements Saml
     public void invalidate() {
         LOGGER.trace("Invalidating cache, removing all metadata resolvers");
         cache.invalidateAll();
+        entityIndex.invalidateAll();
+        refreshAttempts.invalidateAll();
     }
 
     @Override
@@ -143,22 +172,26 @@ public class SamlRegisteredServiceDefaultCachingMetadataResolver implements Saml
         final CriteriaSet criteriaSet,
         final SamlRegisteredServiceCacheKey cacheKey) {
 
+        val entityId = Optional.ofNullable(criteriaSet.get(EntityIdCriterion.class)).map(EntityIdCriterion::getEntityId);
+        val indexedEntry = entityId
+            .map(entityIndex::getIfPresent)
+            .flatMap(indexedKey -> Optional.ofNullable(cache.asMap().get(indexedKey))
+                .flatMap(res -> locateCachedMetadataResolver(indexedKey, res, criteriaSet)));
+        if (indexedEntry.isPresent()) {
+            LOGGER.trace("Located cached metadata resolver for [{}] via the entity index", entityId.get());
+            return indexedEntry.get();
+        }
+
         val cachedEntry = cache
             .asMap()
-            .values()
+            .entrySet()
             .stream()
-            .filter(Objects::nonNull)
-            .map(Unchecked.function(res -> {
-                val entity = res.getMetadataResolver().resolveSingle(criteriaSet);
-                return Optional.ofNullable(entity)
-                    .map(e -> MetadataResolverCacheQueryResult.builder().result(res).entityDescriptor(Optional.of(e)).build());
-            }))
-            .filter(Optional::isPresent)
+            .filter(entry -> Objects.nonNull(entry.getValue()))
+            .map(entry -> locateCachedMetadataResolver(entry.getKey(), entry.getValue(), criteriaSet))
             .flatMap(Optional::stream)
-            .filter(MetadataResolverCacheQueryResult::isValid)
             .findFirst();
 
-        if (cachedEntry.isPresent() && cachedEntry.get().isValid()) {
+        if (cachedEntry.isPresent()) {
             return cachedEntry.get();
         }
         LOGGER.debug("Loading metadata resolver from the cache using [{}]", cacheKey.getCacheKey());
@@ -166,6 +199,8 @@ public class SamlRegisteredServiceDefaultCachingMetadataResolver implements Saml
         LOGGER.debug("Loaded and cached SAML metadata [{}] from [{}]",
             cacheResult.getMetadataResolver().getId(), service.getMetadataLocation());
         Assert.isTrue(cacheResult.isResolved(), "Metadata resolver cannot be found from the cache for " + service.getName());
+        refreshIfNecessary(cacheKey, cacheResult);
+        entityId.ifPresent(id -> entityIndex.put(id, cacheKey));
 
         return MetadataResolverCacheQueryResult
             .builder()
@@ -174,6 +209,32 @@ public class SamlRegisteredServiceDefaultCachingMetadataResolver implements Saml
             .build();
     }
 
+    private Optional<MetadataResolverCacheQueryResult> locateCachedMetadataResolver(
+        final SamlRegisteredServiceCacheKey cacheKey,
+        final CachedMetadataResolverResult cacheResult,
+        final CriteriaSet criteriaSet) {
+        val entity = FunctionUtils.doUnchecked(() -> cacheResult.getMetadataResolver().resolveSingle(criteriaSet));
+        if (entity == null || !cacheResult.isResolved()) {
+            return Optional.empty();
+        }
+        refreshIfNecessary(cacheKey, cacheResult);
+        entityIndex.put(entity.getEntityID(), cacheKey);
+        return Optional.of(MetadataResolverCacheQueryResult.builder()
+            .result(cacheResult)
+            .entityDescriptor(Optional.of(entity))
+            .build());
+    }
+
+    private void refreshIfNecessary(final SamlRegisteredServiceCacheKey cacheKey, final CachedMetadataResolverResult cacheResult) {
+        val now = Instant.now(Clock.systemUTC());
+        if (refreshInterval.isPositive() && cacheResult.getCachedInstant().plus(refreshInterval).isBefore(now)
+            && refreshAttempts.asMap().putIfAbsent(cacheKey, now) == null) {
+            LOGGER.debug("Refreshing cached SAML metadata [{}] cached at [{}] in the background",
+                cacheResult.getMetadataResolver().getId(), cacheResult.getCachedInstant());
+            cache.refresh(cacheKey);
+        }
+    }
+
     @SuperBuilder
     @Getter
     @SuppressWarnings("UnusedMethod")
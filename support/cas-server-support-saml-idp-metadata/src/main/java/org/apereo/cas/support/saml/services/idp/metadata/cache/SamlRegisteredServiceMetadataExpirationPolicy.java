@@ -63,8 +63,8 @@ public record SamlRegisteredServiceMetadataExpirationPolicy(Duration defaultExpi
         final @NonNull SamlRegisteredServiceCacheKey cacheKey,
         final @NonNull CachedMetadataResolverResult cacheResult,
         final long currentTime, final long currentDuration) {
-        LOGGER.trace("Cache expiration duration after updates is set to [{}] nanoseconds", currentDuration);
-        return currentDuration;
+        LOGGER.trace("Metadata for [{}] is refreshed; recalculating cache expiration duration", cacheKey.getRegisteredService().getName());
+        return expireAfterCreate(cacheKey, cacheResult, currentTime);
     }
 
     @Override
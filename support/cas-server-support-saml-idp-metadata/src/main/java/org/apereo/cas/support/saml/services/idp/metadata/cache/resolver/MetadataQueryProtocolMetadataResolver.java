@@ -8,7 +8,6 @@ import org.apereo.cas.support.saml.SamlException;
 import org.apereo.cas.support.saml.SamlUtils;
 import org.apereo.cas.support.saml.services.SamlRegisteredService;
 import org.apereo.cas.util.EncodingUtils;
-import org.apereo.cas.util.function.FunctionUtils;
 import org.apereo.cas.util.http.HttpClient;
 import org.apereo.cas.util.http.HttpExecutionRequest;
 import org.apereo.cas.util.http.HttpUtils;
@@ -19,6 +18,7 @@ import net.shibboleth.shared.resolver.CriteriaSet;
 import org.apache.commons.io.IOUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.hc.core5.http.HttpEntityContainer;
+import org.apache.hc.core5.http.HttpHeaders;
 import org.apache.hc.core5.http.HttpResponse;
 import org.apache.hc.core5.http.io.entity.EntityUtils;
 import org.opensaml.core.criterion.EntityIdCriterion;
@@ -26,16 +26,13 @@ import org.opensaml.saml.metadata.resolver.impl.AbstractMetadataResolver;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
 import java.io.File;
-import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
-import java.nio.file.attribute.UserDefinedFileAttributeView;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
-import java.util.stream.StreamSupport;
 
 /**
  * This is {@link MetadataQueryProtocolMetadataResolver}.
@@ -80,10 +77,8 @@ public class MetadataQueryProtocolMetadataResolver extends UrlResourceMetadataRe
         try (val output = Files.newBufferedWriter(path, StandardCharsets.UTF_8)) {
             IOUtils.write(result, output);
             output.flush();
-            StreamSupport.stream(path.getFileSystem().getFileStores().spliterator(), false)
-                .filter(store -> store.supportsFileAttributeView(UserDefinedFileAttributeView.class))
-                .forEach(store -> setFileAttribute(response, backupFile));
         }
+        storeResponseHeader(response, HttpHeaders.ETAG, backupFile);
         EntityUtils.consume(entity);
         return new InMemoryResourceMetadataResolver(backupFile, configBean);
     }
@@ -95,13 +90,9 @@ public class MetadataQueryProtocolMetadataResolver extends UrlResourceMetadataRe
         val headers = new LinkedHashMap<String, String>();
         headers.put("Content-Type", metadata.getSupportedContentType());
         headers.put("Accept", "*/*");
-        val path = backupFile.toPath();
-        FunctionUtils.doAndHandle(p -> {
-            if (Files.exists(path)) {
-                val etag = new String((byte[]) Files.getAttribute(path, "user:ETag"), StandardCharsets.UTF_8).trim();
-                headers.put("If-None-Match", etag);
-            }
-        });
+        if (backupFile.exists()) {
+            readStoredResponseHeader(backupFile, HttpHeaders.ETAG).ifPresent(etag -> headers.put(HttpHeaders.IF_NONE_MATCH, etag));
+        }
         LOGGER.trace("Fetching metadata via MDQ for [{}]", metadataLocation);
         val exec = HttpExecutionRequest.builder()
             .basicAuthPassword(metadata.getBasicAuthnPassword())
@@ -135,12 +126,4 @@ public class MetadataQueryProtocolMetadataResolver extends UrlResourceMetadataRe
             .map(location -> location.replace("{0}", EncodingUtils.urlEncode(entityId)))
             .collect(Collectors.toCollection(LinkedHashSet::new));
     }
-
-    private static void setFileAttribute(final HttpResponse response, final File backupFile) {
-        FunctionUtils.doAndHandle(t -> {
-            val path = backupFile.toPath();
-            val etag = response.getFirstHeader("ETag").getValue();
-            Files.setAttribute(path, "user:ETag", ByteBuffer.wrap(etag.getBytes(StandardCharsets.UTF_8)));
-        });
-    }
 }
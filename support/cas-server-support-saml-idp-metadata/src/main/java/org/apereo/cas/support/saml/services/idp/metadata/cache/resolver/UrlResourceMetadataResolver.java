@@ -25,20 +25,13 @@ import lombok.extern.slf4j.Slf4j;
 import lombok.val;
 import net.shibboleth.shared.resolver.CriteriaSet;
 import org.apache.commons.io.FileUtils;
-import org.apache.commons.io.IOCase;
 import org.apache.commons.io.IOUtils;
-import org.apache.commons.io.filefilter.AndFileFilter;
-import org.apache.commons.io.filefilter.CanReadFileFilter;
-import org.apache.commons.io.filefilter.CanWriteFileFilter;
-import org.apache.commons.io.filefilter.PrefixFileFilter;
-import org.apache.commons.io.filefilter.SuffixFileFilter;
-import org.apache.commons.io.filefilter.TrueFileFilter;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.hc.core5.http.HttpEntityContainer;
+import org.apache.hc.core5.http.HttpHeaders;
 import org.apache.hc.core5.http.HttpResponse;
 import org.apache.hc.core5.http.io.entity.EntityUtils;
 import org.apereo.inspektr.audit.annotation.Audit;
-import org.jooq.lambda.Unchecked;
 import org.opensaml.saml.metadata.resolver.MetadataResolver;
 import org.opensaml.saml.metadata.resolver.impl.AbstractMetadataResolver;
 import org.springframework.core.io.AbstractResource;
@@ -47,14 +40,23 @@ import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
 import java.io.File;
 import java.io.IOException;
+import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
+import java.nio.file.attribute.UserDefinedFileAttributeView;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 
 /**
  * This is {@link UrlResourceMetadataResolver}.
+ * Downloaded metadata is kept in a backup file, along with the {@code ETag} and {@code Last-Modified}
+ * response headers when the file system supports user-defined file attributes. When metadata
+ * is forcefully refreshed, these are sent back as conditional request headers, and the backup file
+ * is reused if the metadata source reports that metadata is not modified.
  *
  * @author Misagh Moayyed
  * @since 5.2.0
@@ -106,16 +108,16 @@ public class UrlResourceMetadataResolver extends BaseSamlRegisteredServiceMetada
                 val metadataResource = new UrlResource(metadataLocation);
 
                 val backupFile = getMetadataBackupFile(metadataResource, service);
-                if (backupFile.exists() && samlIdPProperties.getMetadata().getHttp().isForceMetadataRefresh()) {
-                    LOGGER.debug("CAS is configured to forcefully refresh metadata for service [{}]. Old metadata backup files "
-                        + "will now be deleted for this service.", service.getName());
-                    cleanUpExpiredBackupMetadataFilesFor(metadataResource, service);
+                val forceMetadataRefresh = samlIdPProperties.getMetadata().getHttp().isForceMetadataRefresh();
+                if (backupFile.exists() && forceMetadataRefresh) {
+                    LOGGER.debug("CAS is configured to forcefully refresh metadata for service [{}]. Metadata backup file "
+                        + "will only be reused if metadata is not modified since it was last fetched.", service.getName());
                 }
                 val canonicalPath = backupFile.getCanonicalPath();
                 LOGGER.debug("Metadata backup file for [{}] will be at [{}]", service.getName(), canonicalPath);
                 FileUtils.forceMkdirParent(backupFile);
 
-                if (backupFile.exists() && backupFile.canRead()) {
+                if (backupFile.exists() && backupFile.canRead() && !forceMetadataRefresh) {
                     try {
                         val metadataProvider = getMetadataResolverFromFile(backupFile);
                         configureAndInitializeSingleMetadataResolver(metadataProvider, service);
@@ -139,6 +141,13 @@ public class UrlResourceMetadataResolver extends BaseSamlRegisteredServiceMetada
                 response = fetchMetadata(service, metadataLocation, criteriaSet, backupFile);
                 val status = response != null ? HttpStatus.valueOf(response.getCode()) : HttpStatus.BAD_REQUEST;
                 LOGGER.debug("Received metadata response status code [{}]", status);
+                if (status == HttpStatus.NOT_MODIFIED && backupFile.exists() && backupFile.canRead()) {
+                    LOGGER.debug("Metadata at [{}] is not modified since it was last fetched. CAS will reuse the SAML2 metadata file at [{}]",
+                        metadataLocation, canonicalPath);
+                    val metadataProvider = getMetadataResolverFromFile(backupFile);
+                    configureAndInitializeSingleMetadataResolver(metadataProvider, service);
+                    return CollectionUtils.wrap(metadataProvider);
+                }
                 if (shouldHttpResponseStatusBeProcessed(status)) {
                     val metadataProvider = getMetadataResolverFromResponse(response, backupFile);
                     configureAndInitializeSingleMetadataResolver(metadataProvider, service);
@@ -202,10 +211,58 @@ public class UrlResourceMetadataResolver extends BaseSamlRegisteredServiceMetada
             IOUtils.write(result, output);
             output.flush();
         }
+        storeResponseHeader(response, HttpHeaders.ETAG, backupFile);
+        storeResponseHeader(response, HttpHeaders.LAST_MODIFIED, backupFile);
         EntityUtils.consume(entity);
         return getMetadataResolverFromFile(backupFile);
     }
 
+    /**
+     * Store the value of a response header as a user-defined attribute of the file,
+     * if the header is present and the file system supports user-defined attributes.
+     *
+     * @param response the response
+     * @param header   the header
+     * @param file     the file
+     */
+    protected static void storeResponseHeader(final HttpResponse response, final String header, final File file) {
+        try {
+            val view = Files.getFileAttributeView(file.toPath(), UserDefinedFileAttributeView.class);
+            if (view != null) {
+                val value = response.getFirstHeader(header);
+                if (value != null && StringUtils.isNotBlank(value.getValue())) {
+                    view.write(header, ByteBuffer.wrap(value.getValue().getBytes(StandardCharsets.UTF_8)));
+                } else if (view.list().contains(header)) {
+                    view.delete(header);
+                }
+            }
+        } catch (final Exception e) {
+            LOGGER.trace("Unable to store response header [{}] for [{}]: [{}]", header, file, e.getMessage());
+        }
+    }
+
+    /**
+     * Read the value of a response header previously stored as a user-defined attribute of the file.
+     *
+     * @param file   the file
+     * @param header the header
+     * @return the header value
+     */
+    protected static Optional<String> readStoredResponseHeader(final File file, final String header) {
+        try {
+            val view = Files.getFileAttributeView(file.toPath(), UserDefinedFileAttributeView.class);
+            if (view != null && view.list().contains(header)) {
+                val buffer = ByteBuffer.allocate(view.size(header));
+                view.read(header, buffer);
+                buffer.flip();
+                return Optional.of(StandardCharsets.UTF_8.decode(buffer).toString().trim()).filter(StringUtils::isNotBlank);
+            }
+        } catch (final Exception e) {
+            LOGGER.trace("Unable to read stored response header [{}] for [{}]: [{}]", header, file, e.getMessage());
+        }
+        return Optional.empty();
+    }
+
     private InMemoryResourceMetadataResolver getMetadataResolverFromFile(final File backupFile) throws Exception {
         val metadataResolver = new InMemoryResourceMetadataResolver(backupFile, configBean);
         metadataResolver.setId("RegisteredServiceMetadata-" + backupFile.getName());
@@ -217,9 +274,11 @@ public class UrlResourceMetadataResolver extends BaseSamlRegisteredServiceMetada
                                          final CriteriaSet criteriaSet,
                                          final File backupFile) {
         LOGGER.debug("Fetching metadata from [{}]", metadataLocation);
+        val headers = getConditionalRequestHeaders(backupFile);
         val exec = HttpExecutionRequest.builder()
             .method(HttpMethod.GET)
             .url(metadataLocation)
+            .headers(headers)
             .proxyUrl(service.getMetadataProxyLocation())
             .httpClient(httpClient)
             .maximumRetryAttempts(samlIdPProperties.getMetadata().getCore().getMaximumRetryAttempts())
@@ -227,6 +286,17 @@ public class UrlResourceMetadataResolver extends BaseSamlRegisteredServiceMetada
         return HttpUtils.execute(exec);
     }
 
+    protected Map<String, String> getConditionalRequestHeaders(final File backupFile) {
+        val headers = new LinkedHashMap<String, String>();
+        if (backupFile.exists()) {
+            readStoredResponseHeader(backupFile, HttpHeaders.ETAG)
+                .ifPresent(etag -> headers.put(HttpHeaders.IF_NONE_MATCH, etag));
+            readStoredResponseHeader(backupFile, HttpHeaders.LAST_MODIFIED)
+                .ifPresent(lastModified -> headers.put(HttpHeaders.IF_MODIFIED_SINCE, lastModified));
+        }
+        return headers;
+    }
+
     protected Set<String> getMetadataLocationsForService(final SamlRegisteredService service, final CriteriaSet criteriaSet) {
         return org.springframework.util.StringUtils.commaDelimitedListToSet(
             SpringExpressionLanguageValueResolver.getInstance().resolve(service.getMetadataLocation()));
@@ -256,14 +326,4 @@ public class UrlResourceMetadataResolver extends BaseSamlRegisteredServiceMetada
         LOGGER.trace("Metadata backup file for metadata location [{}] is linked to [{}]", fileName, sha);
         return sha;
     }
-
-    private void cleanUpExpiredBackupMetadataFilesFor(final AbstractResource metadataResource,
-                                                      final SamlRegisteredService service) {
-        val prefix = getBackupMetadataFilenamePrefix(metadataResource, service);
-        val backups = FileUtils.listFiles(this.metadataBackupDirectory,
-            new AndFileFilter(CollectionUtils.wrapList(new PrefixFileFilter(prefix, IOCase.INSENSITIVE),
-                new SuffixFileFilter(FILENAME_EXTENSION_XML, IOCase.INSENSITIVE),
-                CanWriteFileFilter.CAN_WRITE, CanReadFileFilter.CAN_READ)), TrueFileFilter.INSTANCE);
-        backups.forEach(Unchecked.consumer(FileUtils::forceDelete));
-    }
 }
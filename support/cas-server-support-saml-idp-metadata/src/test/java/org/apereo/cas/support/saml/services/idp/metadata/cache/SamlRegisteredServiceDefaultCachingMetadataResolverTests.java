@@ -19,7 +19,9 @@ import org.springframework.test.context.TestPropertySource;
 
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
+import java.time.Duration;
 
+import static org.awaitility.Awaitility.*;
 import static org.junit.jupiter.api.Assertions.*;
 
 /**
@@ -159,6 +161,26 @@ class SamlRegisteredServiceDefaultCachingMetadataResolverTests extends BaseSamlI
 
     }
 
+    @Test
+    void verifyMetadataRefreshedInBackground() throws Throwable {
+        val resolver = getResolver("PT5M", "PT1S");
+        val service = getSamlRegisteredService(1, ".*", "classpath:aggregate-md.xml");
+        val criteriaSet = getCriteriaFor("https://issues.shibboleth.net/shibboleth");
+        val result = resolver.resolve(service, criteriaSet);
+        assertNotNull(result);
+        assertEquals(1, resolver.getCacheStatistics().loadSuccessCount());
+
+        assertSame(result, resolver.resolve(service, criteriaSet));
+        await().pollInterval(Duration.ofMillis(250)).atMost(Duration.ofSeconds(10)).untilAsserted(() -> {
+            assertNotNull(resolver.resolve(service, criteriaSet));
+            assertTrue(resolver.getCacheStatistics().loadSuccessCount() >= 2);
+        });
+        val refreshed = resolver.resolve(service, criteriaSet);
+        assertNotSame(result, refreshed);
+        assertTrue(refreshed.getCachedInstant().isAfter(result.getCachedInstant()));
+        resolver.invalidate();
+    }
+
     @Test
     void verifyMissingMetadataInMDQ() throws Throwable {
         val criteriaSet1 = getCriteriaFor("https://shib-sp-test-preprod.dartmouth.edu/shibboleth");
@@ -201,6 +223,10 @@ class SamlRegisteredServiceDefaultCachingMetadataResolverTests extends BaseSamlI
     }
 
     private SamlRegisteredServiceDefaultCachingMetadataResolver getResolver(final String duration) {
+        return getResolver(duration, "PT12H");
+    }
+
+    private SamlRegisteredServiceDefaultCachingMetadataResolver getResolver(final String duration, final String refreshInterval) {
         val resolutionPlan = new DefaultSamlRegisteredServiceMetadataResolutionPlan();
         val props = casProperties.getAuthn().getSamlIdp();
         resolutionPlan.registerMetadataResolver(
@@ -210,7 +236,9 @@ class SamlRegisteredServiceDefaultCachingMetadataResolverTests extends BaseSamlI
         resolutionPlan.registerMetadataResolver(
             new ClasspathResourceMetadataResolver(props, openSamlConfigBean));
         val cacheLoader = new SamlRegisteredServiceMetadataResolverCacheLoader(openSamlConfigBean, httpClient, resolutionPlan);
-        casProperties.getAuthn().getSamlIdp().getMetadata().getCore().setCacheExpiration(duration);
+        casProperties.getAuthn().getSamlIdp().getMetadata().getCore()
+            .setCacheExpiration(duration)
+            .setCacheRefreshInterval(refreshInterval);
         return new SamlRegisteredServiceDefaultCachingMetadataResolver(casProperties, cacheLoader, openSamlConfigBean);
     }
 }
@@ -8,15 +8,22 @@ import org.apereo.cas.util.MockWebServer;
 import org.apereo.cas.util.RandomUtils;
 import lombok.val;
 import org.apache.commons.io.FileUtils;
+import org.apache.commons.lang3.StringUtils;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
 import org.springframework.core.io.ClassPathResource;
 import org.springframework.core.io.UrlResource;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.test.context.TestPropertySource;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.attribute.UserDefinedFileAttributeView;
+import java.util.Map;
 import java.util.UUID;
 import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.*;
 
 /**
  * This is {@link UrlResourceMetadataResolverTests}.
@@ -65,6 +72,35 @@ class UrlResourceMetadataResolverTests {
             }
         }
 
+        @Test
+        void verifyResolverWithUnmodifiedMetadata() throws Throwable {
+            val service = new SamlRegisteredService();
+            service.setName(RandomUtils.randomAlphabetic(12));
+            service.setId(RandomUtils.nextInt());
+
+            val resolver = getMetadataResolver();
+            try (val webServer = new MockWebServer(new ClassPathResource("sample-metadata.xml"))) {
+                val lastModified = "Wed, 21 Oct 2015 07:28:00 GMT";
+                webServer.headers(Map.of(HttpHeaders.ETAG, "\"v1\"", HttpHeaders.LAST_MODIFIED, lastModified));
+                webServer.start();
+                service.setMetadataLocation("http://localhost:%s".formatted(webServer.getPort()));
+                val backupFile = resolver.getMetadataBackupFile(new UrlResource(service.getMetadataLocation()), service);
+                FileUtils.deleteQuietly(backupFile);
+
+                assertFalse(resolver.resolve(service).isEmpty());
+                assertFalse(webServer.getRequestHeaders().containsKey(HttpHeaders.IF_NONE_MATCH));
+                assertFalse(webServer.getRequestHeaders().containsKey(HttpHeaders.IF_MODIFIED_SINCE));
+                assertTrue(backupFile.exists());
+                assumeTrue(Files.getFileStore(backupFile.toPath()).supportsFileAttributeView(UserDefinedFileAttributeView.class));
+
+                webServer.responseStatus(HttpStatus.NOT_MODIFIED);
+                webServer.responseBody(StringUtils.EMPTY);
+                assertFalse(resolver.resolve(service).isEmpty());
+                assertEquals("\"v1\"", webServer.getRequestHeaders().get(HttpHeaders.IF_NONE_MATCH));
+                assertEquals(lastModified, webServer.getRequestHeaders().get(HttpHeaders.IF_MODIFIED_SINCE));
+            }
+        }
+
         @Test
         void verifyResolverResolves() throws Throwable {
             val resolver = getMetadataResolver();
@@ -56,4 +56,9 @@ public class SyncopePersonAttributeDao extends BasePersonAttributeDao {
     protected List<Map<String, List<Object>>> syncopeSearch(final String username) {
         return SyncopeUtils.syncopeUserSearch(properties, username);
     }
+
+    @Override
+    public boolean isIndependentQuery() {
+        return true;
+    }
 }
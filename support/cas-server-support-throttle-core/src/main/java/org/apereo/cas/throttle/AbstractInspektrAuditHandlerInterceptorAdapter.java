@@ -1,16 +1,51 @@
 package org.apereo.cas.throttle;
 
+import org.apereo.cas.util.LoggingUtils;
+import org.apereo.cas.web.support.ThrottledSubmission;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import org.apereo.inspektr.audit.AuditActionContext;
+import org.apereo.inspektr.common.web.ClientInfoHolder;
 import jakarta.servlet.http.HttpServletRequest;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
 
 /**
  * This is {@link AbstractInspektrAuditHandlerInterceptorAdapter}.
+ * <p>
+ * Failures are located in the audit log on every request, unless the local sliding window is enabled.
+ * In that case, failures observed by this node are tracked in memory and failures recorded by other nodes
+ * are loaded from the audit log on the first request and every time the throttling scheduler releases
+ * throttled entries, so that evaluating the failure threshold does not query the audit log.
+ * Until failures are successfully loaded from the audit log, the audit log is queried on every request.
  *
  * @author Misagh Moayyed
  * @since 5.3.0
  */
+@Slf4j
 public abstract class AbstractInspektrAuditHandlerInterceptorAdapter extends AbstractThrottledSubmissionHandlerInterceptorAdapter {
+    private static final String REQUEST_ATTRIBUTE_FAILURE_RECORDED =
+        AbstractInspektrAuditHandlerInterceptorAdapter.class.getName() + ".failureRecorded";
+
+    @Getter
+    private final SlidingWindowThrottledSubmissionCounter submissionCounter;
+
+    private final AtomicBoolean reconciled = new AtomicBoolean();
+
     protected AbstractInspektrAuditHandlerInterceptorAdapter(final ThrottledSubmissionHandlerConfigurationContext configurationContext) {
         super(configurationContext);
+        val throttle = configurationContext.getCasProperties().getAuthn().getThrottle();
+        this.submissionCounter = throttle.getWindow().isEnabled()
+            ? new SlidingWindowThrottledSubmissionCounter(
+                Duration.ofSeconds(Math.max(1, throttle.getFailure().getRangeSeconds())),
+                throttle.getWindow().getMaximumKeys())
+            : null;
     }
 
     @Override
@@ -18,4 +53,83 @@ public abstract class AbstractInspektrAuditHandlerInterceptorAdapter extends Abs
         super.recordThrottle(request);
         recordAuditAction(request, ACTION_THROTTLED_LOGIN_ATTEMPT);
     }
+
+    @Override
+    public boolean exceedsThreshold(final HttpServletRequest request) {
+        val remoteAddress = ClientInfoHolder.getClientInfo().getClientIpAddress();
+        val username = getUsernameParameterFromRequest(request);
+        val failures = getSubmissionFailures(remoteAddress, username);
+        LOGGER.debug("Found [{}] failure(s) for username [{}] and remote address [{}]", failures.size(), username, remoteAddress);
+        val result = calculateFailureThresholdRateAndCompare(failures);
+        if (result) {
+            LOGGER.debug("Request from [{}] by user [{}] exceeds threshold", remoteAddress, username);
+        }
+        return result;
+    }
+
+    @Override
+    public void recordSubmissionFailure(final HttpServletRequest request) {
+        if (submissionCounter != null && request.getAttribute(REQUEST_ATTRIBUTE_FAILURE_RECORDED) == null) {
+            request.setAttribute(REQUEST_ATTRIBUTE_FAILURE_RECORDED, Boolean.TRUE);
+            val clientInfo = ClientInfoHolder.getClientInfo();
+            submissionCounter.record(clientInfo.getClientIpAddress(), getUsernameParameterFromRequest(request),
+                clientInfo.getServerIpAddress(), Instant.now(Clock.systemUTC()));
+        }
+    }
+
+    @Override
+    public void release() {
+        if (submissionCounter != null) {
+            reconcile();
+        }
+    }
+
+    @Override
+    public void clear() {
+        if (submissionCounter != null) {
+            submissionCounter.clear();
+        }
+    }
+
+    protected List<? extends ThrottledSubmission> getSubmissionFailures(final String remoteAddress, final String username) {
+        if (submissionCounter == null) {
+            return fetchSubmissionFailures(remoteAddress, username);
+        }
+        if (reconciled.compareAndSet(false, true) && !reconcile()) {
+            reconciled.set(false);
+            return fetchSubmissionFailures(remoteAddress, username);
+        }
+        return submissionCounter.getFailures(remoteAddress, username);
+    }
+
+    protected boolean reconcile() {
+        try (val failures = fetchSubmissionFailures(getFailureInRangeCutOffDate())) {
+            submissionCounter.reconcile(failures);
+            return true;
+        } catch (final Exception e) {
+            LOGGER.error("Unable to load authentication failures from the audit log into the sliding window");
+            LoggingUtils.error(LOGGER, e);
+            return false;
+        }
+    }
+
+    /**
+     * Fetch failures recorded in the audit log for the given remote address and username
+     * within the failure range, sorted by the most recent failure first.
+     *
+     * @param remoteAddress the remote address
+     * @param username      the username
+     * @return the failures
+     */
+    protected abstract List<? extends ThrottledSubmission> fetchSubmissionFailures(String remoteAddress, String username);
+
+    /**
+     * Fetch all failures recorded in the audit log since the given date.
+     * Records should be streamed from the audit log rather than loaded in full,
+     * and the stream is closed once consumed.
+     *
+     * @param cutOffDate the cut off date
+     * @return the audit records
+     */
+    protected abstract Stream<? extends AuditActionContext> fetchSubmissionFailures(LocalDateTime cutOffDate);
 }
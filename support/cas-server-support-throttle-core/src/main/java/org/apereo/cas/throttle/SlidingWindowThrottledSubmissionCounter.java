@@ -0,0 +1,206 @@
+package org.apereo.cas.throttle;
+
+import org.apereo.cas.web.support.ThrottledSubmission;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import org.apache.commons.lang3.StringUtils;
+import org.apereo.inspektr.audit.AuditActionContext;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+/**
+ * This is {@link SlidingWindowThrottledSubmissionCounter}, which keeps track of
+ * authentication failures per client address and username in memory within a sliding window.
+ * <p>
+ * Failures recorded by this node are tracked as they happen. Failures recorded by other nodes
+ * are loaded from the audit log via {@link #reconcile(Stream)}, which replaces all previously loaded
+ * failures. Audit records that were produced by this node since the counter was created are
+ * recognized by their server address and skipped, since they are already tracked locally.
+ * Older audit records, i.e. those written before a restart, are always loaded.
+ * Client addresses and usernames are compared without regard to case.
+ *
+ * @author Misagh Moayyed
+ * @since 7.2.0
+ */
+@Slf4j
+public class SlidingWindowThrottledSubmissionCounter {
+    private static final int MAX_FAILURES_PER_KEY = 64;
+
+    private final Duration range;
+
+    private final Instant createdAt = Instant.now(Clock.systemUTC());
+
+    private final Set<String> localServerAddresses = ConcurrentHashMap.newKeySet();
+
+    private final Cache<String, SubmissionWindow> windows;
+
+    @Getter
+    private volatile Instant lastReconciledAt;
+
+    public SlidingWindowThrottledSubmissionCounter(final Duration range, final long maximumKeys) {
+        this.range = range;
+        this.windows = Caffeine.newBuilder()
+            .maximumSize(maximumKeys)
+            .expireAfterAccess(range)
+            .build();
+    }
+
+    /**
+     * Record a failure observed by this node.
+     *
+     * @param clientIpAddress the client ip address
+     * @param username        the username
+     * @param serverIpAddress the server ip address
+     * @param performedAt     the instant the failure occurred
+     */
+    public void record(final String clientIpAddress, final String username,
+                       final String serverIpAddress, final Instant performedAt) {
+        if (StringUtils.isNotBlank(serverIpAddress)) {
+            localServerAddresses.add(serverIpAddress);
+        }
+        val window = windows.get(buildKey(clientIpAddress, username), __ -> new SubmissionWindow());
+        window.record(performedAt.toEpochMilli(), getCutOff());
+    }
+
+    /**
+     * Gets failures that fall within the sliding window,
+     * sorted by the most recent failure first.
+     *
+     * @param clientIpAddress the client ip address
+     * @param username        the username
+     * @return the failures
+     */
+    public List<ThrottledSubmission> getFailures(final String clientIpAddress, final String username) {
+        val key = buildKey(clientIpAddress, username);
+        val window = windows.getIfPresent(key);
+        if (window == null) {
+            return List.of();
+        }
+        return Arrays.stream(window.snapshot(getCutOff()))
+            .mapToObj(timestamp -> ThrottledSubmission.builder()
+                .key(key)
+                .username(username)
+                .clientIpAddress(clientIpAddress)
+                .value(ZonedDateTime.ofInstant(Instant.ofEpochMilli(timestamp), ZoneOffset.UTC))
+                .build())
+            .toList();
+    }
+
+    /**
+     * Replace failures recorded by other nodes with the given audit records.
+     *
+     * @param records the audit records of failures within the sliding window
+     */
+    public void reconcile(final Collection<? extends AuditActionContext> records) {
+        reconcile(records.stream());
+    }
+
+    /**
+     * Replace failures recorded by other nodes with the given audit records.
+     * Records are consumed one at a time, and only their timestamps are retained.
+     *
+     * @param records the audit records of failures within the sliding window
+     */
+    public void reconcile(final Stream<? extends AuditActionContext> records) {
+        val createdAtMillis = createdAt.toEpochMilli();
+        val remoteFailures = new HashMap<String, List<Long>>();
+        val count = new AtomicLong();
+        records.forEach(record -> {
+            count.incrementAndGet();
+            val clientInfo = record.getClientInfo();
+            val timestamp = record.getWhenActionWasPerformed().toInstant(ZoneOffset.UTC).toEpochMilli();
+            val recordedLocally = clientInfo != null && timestamp >= createdAtMillis
+                && localServerAddresses.contains(clientInfo.getServerIpAddress());
+            if (!recordedLocally) {
+                val clientIpAddress = clientInfo != null ? clientInfo.getClientIpAddress() : null;
+                remoteFailures.computeIfAbsent(buildKey(clientIpAddress, record.getPrincipal()), __ -> new ArrayList<>()).add(timestamp);
+            }
+        });
+        windows.asMap().forEach((key, window) -> {
+            if (!remoteFailures.containsKey(key)) {
+                window.replaceRemote(new long[0]);
+            }
+        });
+        remoteFailures.forEach((key, timestamps) -> {
+            val window = windows.get(key, __ -> new SubmissionWindow());
+            window.replaceRemote(timestamps.stream().mapToLong(Long::longValue).toArray());
+        });
+        lastReconciledAt = Instant.now(Clock.systemUTC());
+        LOGGER.debug("Reconciled [{}] failure(s) recorded by other nodes for [{}] key(s)", count.get(), remoteFailures.size());
+    }
+
+    /**
+     * Number of keys tracked in the sliding window.
+     *
+     * @return the size
+     */
+    public long size() {
+        windows.cleanUp();
+        return windows.estimatedSize();
+    }
+
+    /**
+     * Remove all tracked failures.
+     */
+    public void clear() {
+        windows.invalidateAll();
+    }
+
+    private long getCutOff() {
+        return Instant.now(Clock.systemUTC()).minus(range).toEpochMilli();
+    }
+
+    private static String buildKey(final String clientIpAddress, final String username) {
+        return (StringUtils.defaultString(clientIpAddress) + '|' + StringUtils.defaultString(username)).toLowerCase(Locale.ENGLISH);
+    }
+
+    private static final class SubmissionWindow {
+        private final AtomicReference<Failures> failures = new AtomicReference<>(new Failures(new long[0], new long[0]));
+
+        void record(final long timestamp, final long cutOff) {
+            failures.updateAndGet(current -> {
+                val retained = Arrays.stream(current.local()).filter(value -> value >= cutOff).toArray();
+                val from = Math.max(0, retained.length + 1 - MAX_FAILURES_PER_KEY);
+                val local = Arrays.copyOfRange(retained, from, retained.length + 1);
+                local[local.length - 1] = timestamp;
+                return new Failures(local, current.remote());
+            });
+        }
+
+        void replaceRemote(final long[] timestamps) {
+            failures.updateAndGet(current -> new Failures(current.local(), timestamps));
+        }
+
+        long[] snapshot(final long cutOff) {
+            val current = failures.get();
+            return LongStream.concat(Arrays.stream(current.local()), Arrays.stream(current.remote()))
+                .filter(timestamp -> timestamp >= cutOff)
+                .boxed()
+                .sorted(Comparator.reverseOrder())
+                .mapToLong(Long::longValue)
+                .toArray();
+        }
+    }
+
+    private record Failures(long[] local, long[] remote) {
+    }
+}
@@ -1,15 +1,21 @@
 package org.apereo.cas.web.support;
 
+import org.apereo.cas.configuration.model.support.throttle.JdbcThrottleProperties;
 import org.apereo.cas.throttle.AbstractInspektrAuditHandlerInterceptorAdapter;
 import org.apereo.cas.throttle.ThrottledSubmissionHandlerConfigurationContext;
 import org.apereo.cas.util.DateTimeUtils;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
-import org.apereo.inspektr.common.web.ClientInfoHolder;
+import org.apache.commons.lang3.StringUtils;
+import org.apereo.inspektr.audit.AuditActionContext;
+import org.apereo.inspektr.common.web.ClientInfo;
 import org.springframework.jdbc.core.JdbcOperations;
 import org.springframework.jdbc.core.RowMapper;
-import jakarta.servlet.http.HttpServletRequest;
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.UUID;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
 
 /**
  * Works in conjunction with the Inspektr Library to block attempts to dictionary attack users.
@@ -25,6 +31,10 @@ import java.util.UUID;
  */
 @Slf4j
 public class JdbcThrottledSubmissionHandlerInterceptorAdapter extends AbstractInspektrAuditHandlerInterceptorAdapter {
+    private static final String DEFAULT_AUDIT_TABLE_NAME = "COM_AUDIT_TRAIL";
+
+    private static final Pattern PATTERN_AUDIT_TABLE_NAME = Pattern.compile("\\bFROM\\s+([\\w.\"`\\[\\]]+)", Pattern.CASE_INSENSITIVE);
+
     private final JdbcOperations jdbcTemplate;
 
     public JdbcThrottledSubmissionHandlerInterceptorAdapter(
@@ -35,14 +45,10 @@ public class JdbcThrottledSubmissionHandlerInterceptorAdapter extends AbstractIn
     }
 
     @Override
-    public boolean exceedsThreshold(final HttpServletRequest request) {
+    protected List<? extends ThrottledSubmission> fetchSubmissionFailures(final String remoteAddress, final String username) {
         val throttle = getConfigurationContext().getCasProperties().getAuthn().getThrottle();
-        val clientInfo = ClientInfoHolder.getClientInfo();
-        val remoteAddress = clientInfo.getClientIpAddress();
-        val username = getUsernameParameterFromRequest(request);
-
         LOGGER.debug("Fetching failures in audit log for username [{}] and remote address [{}]", username, remoteAddress);
-        val failuresInAudits = jdbcTemplate.query(
+        return jdbcTemplate.query(
             throttle.getJdbc().getAuditQuery(),
             ps -> {
                 ps.setString(1, remoteAddress);
@@ -52,12 +58,21 @@ public class JdbcThrottledSubmissionHandlerInterceptorAdapter extends AbstractIn
                 ps.setObject(5, getFailureInRangeCutOffDate());
             },
             buildThrottledSubmissionRowMapper());
-        LOGGER.debug("Found [{}] failure(s) in audit log", failuresInAudits.size());
-        val result = calculateFailureThresholdRateAndCompare(failuresInAudits);
-        if (result) {
-            LOGGER.debug("Request from [{}] by user [{}] exceeds threshold", remoteAddress, username);
-        }
-        return result;
+    }
+
+    @Override
+    protected Stream<? extends AuditActionContext> fetchSubmissionFailures(final LocalDateTime cutOffDate) {
+        val throttle = getConfigurationContext().getCasProperties().getAuthn().getThrottle();
+        val query = getAuditQueryForAllFailures(throttle.getJdbc());
+        LOGGER.debug("Fetching all failures in audit log since [{}] via [{}]", cutOffDate, query);
+        return jdbcTemplate.queryForStream(
+            query,
+            ps -> {
+                ps.setString(1, throttle.getFailure().getCode());
+                ps.setString(2, throttle.getCore().getAppCode());
+                ps.setObject(3, cutOffDate);
+            },
+            buildAuditActionContextRowMapper());
     }
 
     @Override
@@ -65,6 +80,24 @@ public class JdbcThrottledSubmissionHandlerInterceptorAdapter extends AbstractIn
         return "JdbcThrottle";
     }
 
+    /**
+     * Gets the audit query that locates all failures since a given date.
+     * Unless defined explicitly, the query targets the table that is referenced
+     * by the audit query used to locate failures per client address and username.
+     *
+     * @param properties the properties
+     * @return the audit query
+     */
+    protected static String getAuditQueryForAllFailures(final JdbcThrottleProperties properties) {
+        if (StringUtils.isNotBlank(properties.getAuditQueryAllFailures())) {
+            return properties.getAuditQueryAllFailures();
+        }
+        val matcher = PATTERN_AUDIT_TABLE_NAME.matcher(StringUtils.defaultString(properties.getAuditQuery()));
+        return matcher.find()
+            ? StringUtils.replace(JdbcThrottleProperties.SQL_AUDIT_QUERY_ALL, DEFAULT_AUDIT_TABLE_NAME, matcher.group(1))
+            : JdbcThrottleProperties.SQL_AUDIT_QUERY_ALL;
+    }
+
     private static RowMapper<ThrottledSubmission> buildThrottledSubmissionRowMapper() {
         return (resultSet, rowNum) -> ThrottledSubmission
             .builder()
@@ -72,4 +105,14 @@ public class JdbcThrottledSubmissionHandlerInterceptorAdapter extends AbstractIn
             .value(DateTimeUtils.zonedDateTimeOf(resultSet.getTimestamp("AUD_DATE")))
             .build();
     }
+
+    private static RowMapper<AuditActionContext> buildAuditActionContextRowMapper() {
+        return (resultSet, rowNum) -> {
+            val clientInfo = new ClientInfo(resultSet.getString("AUD_CLIENT_IP"),
+                resultSet.getString("AUD_SERVER_IP"), null, null);
+            return new AuditActionContext(resultSet.getString("AUD_USER"), resultSet.getString("AUD_RESOURCE"),
+                resultSet.getString("AUD_ACTION"), resultSet.getString("APPLIC_CD"),
+                resultSet.getTimestamp("AUD_DATE").toLocalDateTime(), clientInfo);
+        };
+    }
 }
@@ -0,0 +1,75 @@
+package org.apereo.cas.web.support;
+
+import org.apereo.cas.config.CasHibernateJpaAutoConfiguration;
+import org.apereo.cas.config.CasJdbcAuditAutoConfiguration;
+import org.apereo.cas.config.CasJdbcThrottlingAutoConfiguration;
+import org.apereo.cas.configuration.model.support.throttle.JdbcThrottleProperties;
+import org.apereo.cas.test.CasTestExtension;
+import lombok.Getter;
+import lombok.val;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockHttpServletRequest;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * This is {@link JdbcSlidingWindowThrottledSubmissionHandlerInterceptorAdapterTests}.
+ *
+ * @author Misagh Moayyed
+ * @since 7.2.0
+ */
+@SpringBootTest(classes = {
+    CasJdbcThrottlingAutoConfiguration.class,
+    CasJdbcAuditAutoConfiguration.class,
+    CasHibernateJpaAutoConfiguration.class,
+    BaseThrottledSubmissionHandlerInterceptorAdapterTests.SharedTestConfiguration.class
+}, properties = {
+    "cas.authn.throttle.core.username-parameter=username",
+    "cas.authn.throttle.failure.code=AUTHENTICATION_FAILED",
+    "cas.authn.throttle.failure.range-seconds=5",
+    "cas.authn.throttle.window.enabled=true",
+    "cas.audit.jdbc.asynchronous=false"
+})
+@Getter
+@Tag("JDBC")
+@ExtendWith(CasTestExtension.class)
+class JdbcSlidingWindowThrottledSubmissionHandlerInterceptorAdapterTests extends BaseThrottledSubmissionHandlerInterceptorAdapterTests {
+
+    @Autowired
+    @Qualifier(ThrottledSubmissionHandlerInterceptor.BEAN_NAME)
+    private ThrottledSubmissionHandlerInterceptor throttle;
+
+    @Test
+    void verifyFailuresTrackedInWindow() throws Throwable {
+        val request = new MockHttpServletRequest();
+        request.setParameter("username", "casuser");
+        assertFalse(throttle.exceedsThreshold(request));
+        login("casuser", "badpassword", IP_ADDRESS);
+        login("casuser", "badpassword", IP_ADDRESS);
+        assertTrue(throttle.exceedsThreshold(request));
+        throttle.release();
+        assertTrue(throttle.exceedsThreshold(request));
+        throttle.clear();
+        assertFalse(throttle.exceedsThreshold(request));
+    }
+
+    @Test
+    void verifyAuditQueryForAllFailures() {
+        val properties = new JdbcThrottleProperties();
+        assertEquals(JdbcThrottleProperties.SQL_AUDIT_QUERY_ALL,
+            JdbcThrottledSubmissionHandlerInterceptorAdapter.getAuditQueryForAllFailures(properties));
+
+        properties.setAuditQuery("SELECT * FROM cas.MY_AUDIT_TRAIL WHERE AUD_CLIENT_IP = ? AND AUD_USER = ?");
+        val query = JdbcThrottledSubmissionHandlerInterceptorAdapter.getAuditQueryForAllFailures(properties);
+        assertTrue(query.contains("FROM cas.MY_AUDIT_TRAIL WHERE AUD_ACTION = ?"));
+        assertFalse(query.contains("COM_AUDIT_TRAIL"));
+
+        properties.setAuditQueryAllFailures("SELECT * FROM AUDITS WHERE AUD_ACTION = ? AND APPLIC_CD = ? AND AUD_DATE >= ?");
+        assertEquals(properties.getAuditQueryAllFailures(),
+            JdbcThrottledSubmissionHandlerInterceptorAdapter.getAuditQueryForAllFailures(properties));
+    }
+}
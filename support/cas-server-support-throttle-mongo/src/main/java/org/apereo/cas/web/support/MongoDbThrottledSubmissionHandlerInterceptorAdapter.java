@@ -5,14 +5,15 @@ import org.apereo.cas.throttle.ThrottledSubmissionHandlerConfigurationContext;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
 import org.apereo.inspektr.audit.AuditActionContext;
-import org.apereo.inspektr.common.web.ClientInfoHolder;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.mongodb.core.MongoOperations;
 import org.springframework.data.mongodb.core.query.Criteria;
 import org.springframework.data.mongodb.core.query.Query;
 
-import jakarta.servlet.http.HttpServletRequest;
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * Works in conjunction with a Mongo database to block attempts to dictionary attack users.
@@ -36,14 +37,11 @@ public class MongoDbThrottledSubmissionHandlerInterceptorAdapter extends Abstrac
     }
 
     @Override
-    public boolean exceedsThreshold(final HttpServletRequest request) {
-        val clientInfo = ClientInfoHolder.getClientInfo();
-        val remoteAddress = clientInfo.getClientIpAddress();
-
+    protected List<? extends ThrottledSubmission> fetchSubmissionFailures(final String remoteAddress, final String username) {
         val throttle = getConfigurationContext().getCasProperties().getAuthn().getThrottle();
         val query = new Query()
             .addCriteria(Criteria.where("clientIpAddress").is(remoteAddress)
-                .and("principal").is(getUsernameParameterFromRequest(request))
+                .and("principal").is(username)
                 .and("actionPerformed").is(throttle.getFailure().getCode())
                 .and("applicationCode").is(throttle.getCore().getAppCode())
                 .and("whenActionWasPerformed").gte(getFailureInRangeCutOffDate()));
@@ -52,11 +50,22 @@ public class MongoDbThrottledSubmissionHandlerInterceptorAdapter extends Abstrac
         query.fields().include("whenActionWasPerformed");
 
         LOGGER.debug("Executing MongoDb throttling query [{}]", query);
-        val failures = this.mongoTemplate.find(query, AuditActionContext.class, this.collectionName)
+        return this.mongoTemplate.find(query, AuditActionContext.class, this.collectionName)
             .stream()
             .map(this::toThrottledSubmission)
             .collect(Collectors.toList());
-        return calculateFailureThresholdRateAndCompare(failures);
+    }
+
+    @Override
+    protected Stream<? extends AuditActionContext> fetchSubmissionFailures(final LocalDateTime cutOffDate) {
+        val throttle = getConfigurationContext().getCasProperties().getAuthn().getThrottle();
+        val query = new Query()
+            .addCriteria(Criteria.where("actionPerformed").is(throttle.getFailure().getCode())
+                .and("applicationCode").is(throttle.getCore().getAppCode())
+                .and("whenActionWasPerformed").gte(cutOffDate));
+        query.fields().include("principal", "whenActionWasPerformed", "clientInfo");
+        LOGGER.debug("Executing MongoDb throttling query [{}]", query);
+        return this.mongoTemplate.stream(query, AuditActionContext.class, this.collectionName);
     }
 
     @Override
@@ -5,13 +5,15 @@ import org.apereo.cas.redis.core.CasRedisTemplate;
 import org.apereo.cas.throttle.AbstractInspektrAuditHandlerInterceptorAdapter;
 import org.apereo.cas.throttle.ThrottledSubmissionHandlerConfigurationContext;
 import lombok.val;
+import org.apache.commons.lang3.StringUtils;
 import org.apereo.inspektr.audit.AuditActionContext;
-import org.apereo.inspektr.common.web.ClientInfoHolder;
 import org.springframework.data.redis.core.BoundValueOperations;
-import jakarta.servlet.http.HttpServletRequest;
+import java.time.LocalDateTime;
 import java.util.Comparator;
+import java.util.List;
 import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * Works in conjunction with a redis database to
@@ -35,30 +37,32 @@ public class RedisThrottledSubmissionHandlerInterceptorAdapter extends AbstractI
     }
 
     @Override
-    public boolean exceedsThreshold(final HttpServletRequest request) {
-        val clientInfo = ClientInfoHolder.getClientInfo();
-        val remoteAddress = clientInfo.getClientIpAddress();
-        val throttle = getConfigurationContext().getCasProperties().getAuthn().getThrottle();
-        try (val keys = redisTemplate.scan(RedisAuditTrailManager.CAS_AUDIT_CONTEXT_PREFIX + '*', this.scanCount)) {
-            val username = getUsernameParameterFromRequest(request);
-            val failures = keys
-                .map((Function<String, BoundValueOperations>) redisTemplate::boundValueOps)
-                .map(BoundValueOperations::get)
-                .map(AuditActionContext.class::cast)
-                .filter(audit ->
-                    audit.getPrincipal().equalsIgnoreCase(username)
-                        && audit.getClientInfo().getClientIpAddress().equalsIgnoreCase(remoteAddress)
-                        && audit.getActionPerformed().equalsIgnoreCase(throttle.getFailure().getCode())
-                        && audit.getApplicationCode().equalsIgnoreCase(throttle.getCore().getAppCode())
-                        && audit.getWhenActionWasPerformed().isAfter(getFailureInRangeCutOffDate()))
+    protected List<? extends ThrottledSubmission> fetchSubmissionFailures(final String remoteAddress, final String username) {
+        try (val failures = fetchSubmissionFailures(getFailureInRangeCutOffDate())) {
+            return failures
+                .filter(audit -> StringUtils.equalsIgnoreCase(audit.getPrincipal(), username)
+                    && audit.getClientInfo() != null
+                    && StringUtils.equalsIgnoreCase(audit.getClientInfo().getClientIpAddress(), remoteAddress))
                 .sorted(Comparator.comparing(AuditActionContext::getWhenActionWasPerformed).reversed())
                 .limit(2)
                 .map(this::toThrottledSubmission)
                 .collect(Collectors.toList());
-            return calculateFailureThresholdRateAndCompare(failures);
         }
     }
 
+    @Override
+    protected Stream<? extends AuditActionContext> fetchSubmissionFailures(final LocalDateTime cutOffDate) {
+        val throttle = getConfigurationContext().getCasProperties().getAuthn().getThrottle();
+        return redisTemplate.scan(RedisAuditTrailManager.CAS_AUDIT_CONTEXT_PREFIX + '*', this.scanCount)
+            .map((Function<String, BoundValueOperations>) redisTemplate::boundValueOps)
+            .map(BoundValueOperations::get)
+            .filter(AuditActionContext.class::isInstance)
+            .map(AuditActionContext.class::cast)
+            .filter(audit -> audit.getActionPerformed().equalsIgnoreCase(throttle.getFailure().getCode())
+                && audit.getApplicationCode().equalsIgnoreCase(throttle.getCore().getAppCode())
+                && audit.getWhenActionWasPerformed().isAfter(cutOffDate));
+    }
+
     @Override
     public String getName() {
         return "RedisThrottle";
@@ -0,0 +1,88 @@
+package org.apereo.cas.throttle;
+
+import lombok.val;
+import org.apereo.inspektr.audit.AuditActionContext;
+import org.apereo.inspektr.common.web.ClientInfo;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.stream.Stream;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * This is {@link SlidingWindowThrottledSubmissionCounterTests}.
+ *
+ * @author Misagh Moayyed
+ * @since 7.2.0
+ */
+@Tag("AuthenticationThrottling")
+class SlidingWindowThrottledSubmissionCounterTests {
+    private static final String CLIENT_ADDRESS = "185.86.151.11";
+
+    private static final String LOCAL_SERVER_ADDRESS = "10.0.0.1";
+
+    private static final String REMOTE_SERVER_ADDRESS = "10.0.0.2";
+
+    @Test
+    void verifyLocalFailuresWithinWindow() {
+        val counter = new SlidingWindowThrottledSubmissionCounter(Duration.ofSeconds(5), 100);
+        val now = Instant.now(Clock.systemUTC());
+        counter.record(CLIENT_ADDRESS, "casuser", LOCAL_SERVER_ADDRESS, now.minusSeconds(10));
+        counter.record(CLIENT_ADDRESS, "casuser", LOCAL_SERVER_ADDRESS, now.minusSeconds(2));
+        counter.record(CLIENT_ADDRESS, "casuser", LOCAL_SERVER_ADDRESS, now.minusSeconds(1));
+        counter.record(CLIENT_ADDRESS, "other", LOCAL_SERVER_ADDRESS, now);
+
+        val failures = counter.getFailures(CLIENT_ADDRESS, "casuser");
+        assertEquals(2, failures.size());
+        assertTrue(failures.getFirst().getValue().isAfter(failures.get(1).getValue()));
+        assertTrue(counter.getFailures(CLIENT_ADDRESS, "unknown").isEmpty());
+        assertEquals(2, counter.size());
+        counter.clear();
+        assertTrue(counter.getFailures(CLIENT_ADDRESS, "casuser").isEmpty());
+    }
+
+    @Test
+    void verifyReconcileWithRemoteFailures() {
+        val counter = new SlidingWindowThrottledSubmissionCounter(Duration.ofSeconds(30), 100);
+        val now = Instant.now(Clock.systemUTC());
+        counter.record(CLIENT_ADDRESS, "casuser", LOCAL_SERVER_ADDRESS, now);
+
+        val recordedLocally = buildAuditRecord(LOCAL_SERVER_ADDRESS, now.plusMillis(5));
+        val recordedRemotely = buildAuditRecord(REMOTE_SERVER_ADDRESS, now.minusSeconds(1));
+        counter.reconcile(List.of(recordedLocally, recordedRemotely));
+        assertNotNull(counter.getLastReconciledAt());
+        assertEquals(2, counter.getFailures(CLIENT_ADDRESS, "casuser").size());
+
+        counter.reconcile(List.of(recordedLocally));
+        assertEquals(1, counter.getFailures(CLIENT_ADDRESS, "casuser").size());
+    }
+
+    @Test
+    void verifyKeysIgnoreCase() {
+        val counter = new SlidingWindowThrottledSubmissionCounter(Duration.ofSeconds(30), 100);
+        counter.record(CLIENT_ADDRESS, "CasUser", LOCAL_SERVER_ADDRESS, Instant.now(Clock.systemUTC()));
+        counter.reconcile(Stream.of(buildAuditRecord(REMOTE_SERVER_ADDRESS, Instant.now(Clock.systemUTC()).minusSeconds(1))));
+        assertEquals(2, counter.getFailures(CLIENT_ADDRESS, "CASUSER").size());
+        assertEquals(1, counter.size());
+    }
+
+    @Test
+    void verifyReconcileOnColdStart() {
+        val previousRun = buildAuditRecord(LOCAL_SERVER_ADDRESS, Instant.now(Clock.systemUTC()).minusSeconds(3));
+        val counter = new SlidingWindowThrottledSubmissionCounter(Duration.ofSeconds(30), 100);
+        counter.record("1.2.3.4", "casuser", LOCAL_SERVER_ADDRESS, Instant.now(Clock.systemUTC()));
+        counter.reconcile(List.of(previousRun));
+        assertEquals(1, counter.getFailures(CLIENT_ADDRESS, "casuser").size());
+    }
+
+    private static AuditActionContext buildAuditRecord(final String serverAddress, final Instant performedAt) {
+        val clientInfo = new ClientInfo(CLIENT_ADDRESS, serverAddress, "Firefox", "London");
+        return new AuditActionContext("casuser", "TEST", "AUTHENTICATION_FAILED", "CAS",
+            LocalDateTime.ofInstant(performedAt, ZoneOffset.UTC), clientInfo);
+    }
+}
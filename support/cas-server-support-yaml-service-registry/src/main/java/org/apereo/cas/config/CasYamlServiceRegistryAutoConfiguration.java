@@ -57,6 +57,7 @@ public class CasYamlServiceRegistryAutoConfiguration {
                 WatcherService.noOp(), applicationContext, registeredServiceReplicationStrategy,
                 resourceNamingStrategy,
                 Optional.ofNullable(serviceRegistryListeners.getIfAvailable()).orElseGet(ArrayList::new));
+            yaml.setLoadConcurrency(registry.getYaml().getLoadConcurrency());
             if (registry.getYaml().isWatcherEnabled()) {
                 yaml.enableDefaultWatcherService();
             }